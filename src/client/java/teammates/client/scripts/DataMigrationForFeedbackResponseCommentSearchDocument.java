@@ -17,6 +17,7 @@ import teammates.common.util.Const;
 import teammates.common.util.retry.MaximumRetriesExceededException;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
 
 /**
@@ -64,25 +65,32 @@ public abstract class DataMigrationForFeedbackResponseCommentSearchDocument
 
         LoopHelper loopHelper = new LoopHelper(BATCH_SIZE, "documents processed.");
 
-        List<Document> documentsToUpdate = new ArrayList<>();
+        List<FeedbackResponseCommentAttributes> commentsToUpdate = new ArrayList<>();
 
         for (FeedbackResponseCommentAttributes comment : commentsToMigrate) {
             loopHelper.recordLoop();
-            documentsToUpdate.add(new FeedbackResponseCommentSearchDocument(comment).build());
+            commentsToUpdate.add(comment);
 
-            if (documentsToUpdate.size() == BATCH_SIZE) {
-                updateAndClearDocuments(documentsToUpdate);
+            if (commentsToUpdate.size() == BATCH_SIZE) {
+                updateAndClearDocuments(commentsToUpdate);
             }
         }
-        updateAndClearDocuments(documentsToUpdate);
+        updateAndClearDocuments(commentsToUpdate);
 
     }
 
-    private void updateAndClearDocuments(List<Document> documentsToUpdate) {
-        if (documentsToUpdate.isEmpty()) {
+    private void updateAndClearDocuments(List<FeedbackResponseCommentAttributes> commentsToUpdate) {
+        if (commentsToUpdate.isEmpty()) {
             return;
         }
 
+        // the documents of a batch are built from entities loaded once for the whole batch
+        List<Document> documentsToUpdate = new ArrayList<>();
+        for (SearchDocument document : FeedbackResponseCommentSearchDocument.fromComments(commentsToUpdate)) {
+            documentsToUpdate.add(document.build());
+        }
+        commentsToUpdate.clear();
+
         println("Batch updating " + documentsToUpdate.size() + " documents...");
 
         try {
@@ -93,8 +101,6 @@ public abstract class DataMigrationForFeedbackResponseCommentSearchDocument
         } catch (MaximumRetriesExceededException e) {
             println("Batch update failed after maximum retries.");
         }
-
-        documentsToUpdate.clear();
     }
 
     /**
@@ -0,0 +1,93 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to populate the time buckets and the institute of existing {@link FeedbackSession}s.
+ *
+ * <p>Sessions are found by their time buckets on the admin sessions page, and grouped by their institute.
+ * The time buckets of a session are computed whenever it is saved, so this script saves every session,
+ * setting its institute to the institute of the first registered instructor of its course.</p>
+ */
+public class DataMigrationForFeedbackSessionTimeBucketsAndInstitute
+        extends DataMigrationForEntities<FeedbackSessionAttributes> {
+
+    private CoursesDb coursesDb = new CoursesDb();
+    private FeedbackSessionsDb feedbackSessionsDb = new FeedbackSessionsDb();
+    private Map<String, String> courseToInstituteMap = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionTimeBucketsAndInstitute().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    protected List<FeedbackSessionAttributes> getEntities() {
+        List<FeedbackSessionAttributes> sessions = new ArrayList<>();
+        for (CourseAttributes course : coursesDb.getAllCourses()) {
+            sessions.addAll(feedbackSessionsDb.getFeedbackSessionsForCourse(course.getId()));
+        }
+        return sessions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(FeedbackSessionAttributes session) {
+        // the time buckets are not visible through the attributes, so every session is saved again
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(FeedbackSessionAttributes session) {
+        println("Institute: " + getInstituteForCourse(session.getCourseId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(FeedbackSessionAttributes session) throws EntityDoesNotExistException {
+        feedbackSessionsDb.updateInstitute(session, getInstituteForCourse(session.getCourseId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+
+    private String getInstituteForCourse(String courseId) {
+        return courseToInstituteMap.computeIfAbsent(courseId, FeedbackSessionsLogic.inst()::getInstituteForCourse);
+    }
+
+}
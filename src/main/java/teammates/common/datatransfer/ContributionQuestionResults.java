@@ -0,0 +1,207 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.util.Const;
+
+/**
+ * Represents the results of one contribution question in a {@link FeedbackSessionResultsBundle}.
+ * <br> Responses are grouped by the giver's team once. The {@link TeamEvalResult} of each team
+ * is computed when first needed and then reused by every view of the results.
+ * <br> Team members are indexed by their position in the sorted member list of their team,
+ * which is also the order of {@link TeamEvalResult#studentEmails}.
+ * <br> Results stored when the responses were submitted are used instead of being recomputed,
+ * as long as they were computed for the current members of the team.
+ */
+public class ContributionQuestionResults {
+
+    private final FeedbackSessionResultsBundle bundle;
+
+    private final Set<String> teamsWithResponses = new LinkedHashSet<>();
+    private final Map<String, List<FeedbackResponseAttributes>> teamResponses = new HashMap<>();
+    private final Map<String, TeamEvalResult> storedTeamResults;
+
+    private final Map<String, TeamEvalResult> teamResults = new HashMap<>();
+    private final Map<String, Map<String, Integer>> teamMemberIndexes = new HashMap<>();
+
+    /**
+     * Creates the results of a contribution question from its responses.
+     *
+     * @param actualResponses responses to the question with identities of givers and recipients not hidden
+     */
+    public ContributionQuestionResults(FeedbackSessionResultsBundle bundle,
+            List<FeedbackResponseAttributes> actualResponses) {
+        this(bundle, actualResponses, Collections.emptyMap());
+    }
+
+    /**
+     * Creates the results of a contribution question from its responses,
+     * reusing the results stored for each team where possible.
+     *
+     * @param actualResponses responses to the question with identities of givers and recipients not hidden
+     * @param storedTeamResults stored results of the question, with team name as key
+     */
+    public ContributionQuestionResults(FeedbackSessionResultsBundle bundle,
+            List<FeedbackResponseAttributes> actualResponses, Map<String, TeamEvalResult> storedTeamResults) {
+        this.bundle = bundle;
+        this.storedTeamResults = storedTeamResults;
+
+        for (FeedbackResponseAttributes response : actualResponses) {
+            teamsWithResponses.add(bundle.getTeamNameForEmail(response.giver));
+
+            String team = bundle.emailTeamNameTable.get(response.giver);
+            if (team != null) {
+                teamResponses.computeIfAbsent(team, key -> new ArrayList<>()).add(response);
+            }
+        }
+    }
+
+    /**
+     * Returns the teams having at least one member who responded to the question,
+     * in the order of their first response.
+     */
+    public List<String> getTeamsWithResponses() {
+        return new ArrayList<>(teamsWithResponses);
+    }
+
+    public boolean hasResponsesFromTeam(String team) {
+        return teamsWithResponses.contains(team);
+    }
+
+    /**
+     * Returns the contribution results of {@code team},
+     * or null if the team is the team of instructors.
+     */
+    public TeamEvalResult getTeamResult(String team) {
+        if (Const.USER_TEAM_FOR_INSTRUCTOR.equals(team)) {
+            // contrib questions should only have responses from student teams
+            return null;
+        }
+        TeamEvalResult teamResult = teamResults.get(team);
+        if (teamResult == null) {
+            teamResult = computeTeamResult(team);
+            teamResults.put(team, teamResult);
+        }
+        return teamResult;
+    }
+
+    /**
+     * Returns the contribution results of each of {@code teams}, in the same order.
+     */
+    public Map<String, TeamEvalResult> getTeamResults(List<String> teams) {
+        Map<String, TeamEvalResult> results = new LinkedHashMap<>();
+        for (String team : teams) {
+            TeamEvalResult teamResult = getTeamResult(team);
+            if (teamResult != null) {
+                results.put(team, teamResult);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the position of {@code email} among the members of {@code team},
+     * or -1 if {@code email} is not a member of the team.
+     */
+    public int getMemberIndex(String team, String email) {
+        if (getTeamResult(team) == null) {
+            return -1;
+        }
+        Integer index = teamMemberIndexes.get(team).get(email);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns a map with student email as key and {@link StudentResultSummary} as value
+     * for all members of each of {@code teams}, ordered by team then by position in the team.
+     */
+    public Map<String, StudentResultSummary> getStudentResults(List<String> teams) {
+        Map<String, StudentResultSummary> studentResults = new LinkedHashMap<>();
+        getTeamResults(teams).forEach((team, teamResult) -> {
+            for (int i = 0; i < teamResult.studentEmails.size(); i++) {
+                StudentResultSummary summary = new StudentResultSummary();
+                summary.claimedToInstructor = teamResult.normalizedClaimed[i][i];
+                summary.perceivedToInstructor = teamResult.normalizedAveragePerceived[i];
+
+                studentResults.put(teamResult.studentEmails.get(i), summary);
+            }
+        });
+        return studentResults;
+    }
+
+    private TeamEvalResult computeTeamResult(String team) {
+        List<String> memberEmails = new ArrayList<>(bundle.rosterTeamNameMembersTable.get(team));
+        memberEmails.sort(null);
+
+        Map<String, Integer> memberIndexes = getMemberIndexes(memberEmails);
+        teamMemberIndexes.put(team, memberIndexes);
+
+        // stored results are kept up to date with every submission, so they only need to be
+        // recomputed if the members of the team have changed since they were stored
+        TeamEvalResult storedResult = storedTeamResults.get(team);
+        if (storedResult != null && memberEmails.equals(storedResult.studentEmails)) {
+            return storedResult;
+        }
+
+        int[][] submissions = getSubmissions(memberIndexes,
+                teamResponses.getOrDefault(team, Collections.emptyList()));
+        TeamEvalResult teamResult = new TeamEvalResult(submissions);
+        teamResult.studentEmails = memberEmails;
+        return teamResult;
+    }
+
+    /**
+     * Computes the contribution results of a team from the responses given by its members.
+     * Responses between students who are not both members of the team are ignored.
+     *
+     * @param sortedMemberEmails emails of the members of the team, sorted
+     * @return the results of the team, with {@link TeamEvalResult#studentEmails} set to {@code sortedMemberEmails}
+     */
+    public static TeamEvalResult computeTeamResult(List<String> sortedMemberEmails,
+            Collection<FeedbackResponseAttributes> teamResponses) {
+        TeamEvalResult teamResult =
+                new TeamEvalResult(getSubmissions(getMemberIndexes(sortedMemberEmails), teamResponses));
+        teamResult.studentEmails = new ArrayList<>(sortedMemberEmails);
+        return teamResult;
+    }
+
+    private static Map<String, Integer> getMemberIndexes(List<String> sortedMemberEmails) {
+        Map<String, Integer> memberIndexes = new HashMap<>();
+        for (int i = 0; i < sortedMemberEmails.size(); i++) {
+            memberIndexes.put(sortedMemberEmails.get(i), i);
+        }
+        return memberIndexes;
+    }
+
+    private static int[][] getSubmissions(Map<String, Integer> memberIndexes,
+            Collection<FeedbackResponseAttributes> teamResponses) {
+        // submissions[i][j] refers to the points from member i to member j
+        int teamSize = memberIndexes.size();
+        int[][] submissions = new int[teamSize][teamSize];
+        for (int[] row : submissions) {
+            Arrays.fill(row, Const.POINTS_NOT_SUBMITTED);
+        }
+        for (FeedbackResponseAttributes response : teamResponses) {
+            Integer giverIndex = memberIndexes.get(response.giver);
+            Integer recipientIndex = memberIndexes.get(response.recipient);
+            if (giverIndex == null || recipientIndex == null) {
+                continue;
+            }
+            submissions[giverIndex][recipientIndex] =
+                    ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+        }
+        return submissions;
+    }
+
+}
@@ -1,12 +1,16 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
@@ -17,6 +21,7 @@ public class CourseRoster {
 
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    Map<String, List<StudentAttributes>> studentListByTeam = new LinkedHashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
@@ -64,6 +69,30 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns the names of all teams that have at least one student in the roster.
+     */
+    public Set<String> getTeamNames() {
+        return Collections.unmodifiableSet(studentListByTeam.keySet());
+    }
+
+    /**
+     * Returns the students in the roster who are in the team specified by {@code teamName}.
+     */
+    public List<StudentAttributes> getStudentsForTeam(String teamName) {
+        List<StudentAttributes> members = studentListByTeam.get(teamName);
+        return members == null ? new ArrayList<>() : new ArrayList<>(members);
+    }
+
+    /**
+     * Returns the section of the team specified by {@code teamName},
+     * or {@link Const#DEFAULT_SECTION} if the team has no student in the roster.
+     */
+    public String getSectionForTeam(String teamName) {
+        List<StudentAttributes> members = studentListByTeam.get(teamName);
+        return members == null ? Const.DEFAULT_SECTION : members.get(0).section;
+    }
+
     private void populateStudentListByEmail(List<StudentAttributes> students) {
 
         if (students == null) {
@@ -72,6 +101,7 @@ public class CourseRoster {
 
         for (StudentAttributes s : students) {
             studentListByEmail.put(s.email, s);
+            studentListByTeam.computeIfAbsent(s.team, key -> new ArrayList<>()).add(s);
         }
     }
 
@@ -0,0 +1,31 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents one page of the responses of a query, with the token to load the page after it.
+ */
+public class FeedbackResponsesPage {
+
+    private List<FeedbackResponseAttributes> responses;
+    private String nextPageToken;
+
+    public FeedbackResponsesPage(List<FeedbackResponseAttributes> responses, String nextPageToken) {
+        this.responses = responses;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<FeedbackResponseAttributes> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Returns the token to load the next page with, or null if this is the last page.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+}
@@ -0,0 +1,59 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.Assumption;
+
+/**
+ * Represents how far each giver has answered each question of one feedback session.
+ * <br> Each cell holds the number of responses the giver has given to the question
+ * and the number of responses needed for the question to be fully answered by that giver.
+ * <br> Cells of questions that are not answerable by the giver are marked {@link #NOT_APPLICABLE}.
+ */
+public class FeedbackSessionCompletionMatrix {
+
+    public static final int NOT_APPLICABLE = -1;
+
+    private final Map<String, Integer> giverIndexByEmail = new HashMap<>();
+
+    /** Indexed by giver then by question. */
+    private final int[][] responseCounts;
+
+    /** Indexed by giver then by question. */
+    private final int[][] requiredCounts;
+
+    public FeedbackSessionCompletionMatrix(List<String> giverEmails, int[][] responseCounts, int[][] requiredCounts) {
+        Assumption.assertEquals(giverEmails.size(), responseCounts.length);
+        Assumption.assertEquals(giverEmails.size(), requiredCounts.length);
+
+        for (int i = 0; i < giverEmails.size(); i++) {
+            giverIndexByEmail.put(giverEmails.get(i), i);
+        }
+        this.responseCounts = responseCounts;
+        this.requiredCounts = requiredCounts;
+    }
+
+    /**
+     * Returns true if {@code giverEmail} has fully answered every question in the session that they can answer.
+     */
+    public boolean isSessionFullyAnsweredByGiver(String giverEmail) {
+        Integer giverIndex = giverIndexByEmail.get(giverEmail);
+        if (giverIndex == null) {
+            return true;
+        }
+        for (int questionIndex = 0; questionIndex < requiredCounts[giverIndex].length; questionIndex++) {
+            if (!isCellFullyAnswered(giverIndex, questionIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCellFullyAnswered(int giverIndex, int questionIndex) {
+        int required = requiredCounts[giverIndex][questionIndex];
+        return required == NOT_APPLICABLE || responseCounts[giverIndex][questionIndex] >= required;
+    }
+
+}
@@ -22,6 +22,8 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes.QuestionStatistics;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
@@ -53,6 +55,11 @@ public class FeedbackSessionResultsBundle {
     public CourseRoster roster;
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
     public boolean isComplete;
+    /**
+     * The token to load the next page of responses with, when the responses of a question are
+     * loaded page by page. Null if there are no more responses.
+     */
+    public String nextResponsesPageToken;
 
     /**
      * Responses with identities of giver/recipients NOT hidden.
@@ -63,8 +70,14 @@ public class FeedbackSessionResultsBundle {
     // For contribution questions.
     // Key is questionId, value is a map of student email to StudentResultSumary
     public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
-    // Key is questionId, value is a map of team name to TeamEvalResult
-    public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
+    // Key is questionId
+    private Map<String, ContributionQuestionResults> contributionQuestionResults = new HashMap<>();
+    // Key is questionId, value is a map of team name to the stored TeamEvalResult of the team
+    private Map<String, Map<String, TeamEvalResult>> storedContributionTeamResults = new HashMap<>();
+    // Key is questionId, value is the statistics of the question stored in the results summary of the session
+    private Map<String, QuestionStatistics> storedQuestionStatistics = new HashMap<>();
+    // True if the session is published but its results summary has not been built yet
+    private FeedbackSessionResultsSummaryAttributes resultsSummaryToBuild;
 
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
@@ -1747,6 +1760,95 @@ public class FeedbackSessionResultsBundle {
         return responses;
     }
 
+    /**
+     * Returns the results of the contribution question {@code question},
+     * computed from the actual responses when first requested and reused afterwards.
+     */
+    public ContributionQuestionResults getContributionQuestionResults(FeedbackQuestionAttributes question) {
+        return contributionQuestionResults.computeIfAbsent(question.getId(),
+                key -> new ContributionQuestionResults(this, getActualResponsesSortedByGqr(question),
+                        storedContributionTeamResults.getOrDefault(key, new HashMap<>())));
+    }
+
+    /**
+     * Sets the results of the contribution question with id {@code questionId} that were stored
+     * when its responses were submitted, to be reused by {@link #getContributionQuestionResults}.
+     *
+     * @param storedTeamResults stored results with team name as key
+     */
+    public void setStoredContributionTeamResults(String questionId, Map<String, TeamEvalResult> storedTeamResults) {
+        storedContributionTeamResults.put(questionId, storedTeamResults);
+    }
+
+    /**
+     * Sets the statistics of the question with id {@code questionId} that were stored in the results summary
+     * of the session, to be reused by {@link #getStoredStatisticsHtml} and {@link #getStoredStatisticsCsv}.
+     */
+    public void setStoredQuestionStatistics(String questionId, QuestionStatistics statistics) {
+        storedQuestionStatistics.put(questionId, statistics);
+    }
+
+    /**
+     * Returns true if the session is published but its results summary has no statistics to take,
+     * e.g. because its results have changed since the statistics were built.
+     */
+    public boolean isResultsSummaryMissing() {
+        return resultsSummaryToBuild != null;
+    }
+
+    /**
+     * Returns the results summary of the session whose statistics are to be built, or null if there is none.
+     */
+    public FeedbackSessionResultsSummaryAttributes getResultsSummaryToBuild() {
+        return resultsSummaryToBuild;
+    }
+
+    public void setResultsSummaryToBuild(FeedbackSessionResultsSummaryAttributes resultsSummaryToBuild) {
+        this.resultsSummaryToBuild = resultsSummaryToBuild;
+    }
+
+    /**
+     * Returns the stored statistics of {@code question} in HTML, or null if they were not computed
+     * from exactly {@code responses}.
+     */
+    public String getStoredStatisticsHtml(FeedbackQuestionAttributes question,
+                                          List<FeedbackResponseAttributes> responses) {
+        QuestionStatistics statistics = getStoredQuestionStatistics(question, responses);
+        return statistics == null ? null : statistics.getStatisticsHtml();
+    }
+
+    /**
+     * Returns the stored statistics of {@code question} in CSV, or null if they were not computed
+     * from exactly {@code responses}.
+     */
+    public String getStoredStatisticsCsv(FeedbackQuestionAttributes question,
+                                         List<FeedbackResponseAttributes> responses) {
+        QuestionStatistics statistics = getStoredQuestionStatistics(question, responses);
+        return statistics == null ? null : statistics.getStatisticsCsv();
+    }
+
+    private QuestionStatistics getStoredQuestionStatistics(FeedbackQuestionAttributes question,
+                                                           List<FeedbackResponseAttributes> responses) {
+        QuestionStatistics statistics = storedQuestionStatistics.get(question.getId());
+        // the responses read when the statistics were built may differ from the given ones, e.g. if a
+        // response was not yet seen by the query, or if the user cannot view all sections
+        boolean isComputedFromSameResponses = statistics != null && statistics.isComputedFrom(responses);
+        return isComputedFromSameResponses ? statistics : null;
+    }
+
+    /**
+     * Returns the ids of the questions with a response given or received by {@code participantEmail}.
+     */
+    public Set<String> getQuestionIdsInvolvingParticipant(String participantEmail) {
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : actualResponses) {
+            if (response.giver.equals(participantEmail) || response.recipient.equals(participantEmail)) {
+                questionIds.add(response.feedbackQuestionId);
+            }
+        }
+        return questionIds;
+    }
+
     /**
      * Returns list of unsorted responses with identities of giver/recipients NOT hidden which is used for
      * anonymous result calculation.
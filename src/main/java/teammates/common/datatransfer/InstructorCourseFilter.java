@@ -0,0 +1,38 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+
+/**
+ * The courses of a user who is an instructor, with the instructor of the user in each course.
+ * Search results are restricted to these courses.
+ * <br> Built once from the instructors of the user, and reused for all searches made for the user.
+ */
+public class InstructorCourseFilter {
+
+    private final Map<String, InstructorAttributes> courseIdInstructorMap = new LinkedHashMap<>();
+
+    public InstructorCourseFilter(List<InstructorAttributes> instructors) {
+        for (InstructorAttributes instructor : instructors) {
+            courseIdInstructorMap.put(instructor.courseId, instructor);
+        }
+    }
+
+    public Set<String> getCourseIds() {
+        return Collections.unmodifiableSet(courseIdInstructorMap.keySet());
+    }
+
+    public Map<String, InstructorAttributes> getCourseIdInstructorMap() {
+        return Collections.unmodifiableMap(courseIdInstructorMap);
+    }
+
+    public boolean isCourseIncluded(String courseId) {
+        return courseIdInstructorMap.containsKey(courseId);
+    }
+
+}
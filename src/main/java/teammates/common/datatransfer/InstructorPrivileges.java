@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -84,6 +85,28 @@ public final class InstructorPrivileges {
             Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS
     };
 
+    /**
+     * All valid privilege names, in the order of their bit positions in {@link CompiledPrivileges}.
+     */
+    private static final String[] PRIVILEGE_BIT_ORDER = new String[] {
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS
+    };
+
+    private static final Map<String, Integer> PRIVILEGE_BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRIVILEGE_BIT_ORDER.length; i++) {
+            PRIVILEGE_BITS.put(PRIVILEGE_BIT_ORDER[i], 1 << i);
+        }
+    }
+
     private static final Set<String> COURSE_LEVEL_ONLY_PRIVILEGES =
             new LinkedHashSet<>(Arrays.asList(COURSE_LEVEL_ONLY_LIST));
     private static final Set<String> SECTION_LEVEL_ONLY_PRIVILEGES =
@@ -95,12 +118,28 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /**
+     * Bit-set form of the three privilege levels, built lazily from the maps above and
+     * discarded whenever they change. Not serialized; the maps remain the stored form.
+     */
+    private transient CompiledPrivileges compiled;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
         this.sessionLevel = new LinkedHashMap<>();
     }
 
+    /**
+     * Creates a deep copy of {@code other}. The compiled form is immutable and is shared with the copy.
+     */
+    public InstructorPrivileges(InstructorPrivileges other) {
+        this.courseLevel = other.getCourseLevelPrivileges();
+        this.sectionLevel = other.getSectionLevelPrivileges();
+        this.sessionLevel = other.getSessionLevelPrivileges();
+        this.compiled = other.getCompiledPrivileges();
+    }
+
     public InstructorPrivileges(String instrRole) {
         this();
         switch (instrRole) {
@@ -162,6 +201,7 @@ public final class InstructorPrivileges {
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
+        compiled = null;
     }
 
     public Map<String, Boolean> getOverallPrivilegesForSections() {
@@ -220,6 +260,7 @@ public final class InstructorPrivileges {
             return;
         }
         this.courseLevel.put(privilegeName, isAllowed);
+        compiled = null;
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
@@ -228,6 +269,7 @@ public final class InstructorPrivileges {
         }
         this.sectionLevel.computeIfAbsent(sectionName, key -> new LinkedHashMap<>())
                          .put(privilegeName, isAllowed);
+        compiled = null;
     }
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
@@ -238,6 +280,7 @@ public final class InstructorPrivileges {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new LinkedHashMap<>())
                                           .put(privilegeName, isAllowed);
+        compiled = null;
     }
 
     public void updatePrivileges(String sectionName, Map<String, Boolean> privileges) {
@@ -255,6 +298,7 @@ public final class InstructorPrivileges {
             }
         }
         sectionLevel.put(sectionName, new LinkedHashMap<>(privileges));
+        compiled = null;
     }
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
@@ -266,6 +310,7 @@ public final class InstructorPrivileges {
         }
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<>(privileges));
+        compiled = null;
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
@@ -273,16 +318,19 @@ public final class InstructorPrivileges {
             addSectionWithDefaultPrivileges(sectionName);
             return new LinkedHashMap<>();
         });
+        compiled = null;
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
+        compiled = null;
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
+        compiled = null;
     }
 
     /**
@@ -371,6 +419,7 @@ public final class InstructorPrivileges {
             this.sectionLevel.remove(sectionName);
         }
         this.removeSessionsPrivilegesForSection(sectionName);
+        compiled = null;
     }
 
     /**
@@ -380,6 +429,7 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
+        compiled = null;
     }
 
     /**
@@ -389,50 +439,116 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
+        compiled = null;
     }
 
     private boolean isAllowedInCourseLevel(String privilegeName) {
+        return (getCompiledPrivileges().courseBits & getPrivilegeBit(privilegeName)) != 0;
+    }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+    private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
+        return (getCompiledPrivileges().getSectionBits(sectionName) & getPrivilegeBit(privilegeName)) != 0;
+    }
 
-        return this.courseLevel.getOrDefault(privilegeName, false);
+    private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
+        return (getCompiledPrivileges().getSessionBits(sectionName, sessionName) & getPrivilegeBit(privilegeName)) != 0;
     }
 
-    private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
+    private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        return (getCompiledPrivileges().getAnySectionBits(sessionName) & getPrivilegeBit(privilegeName)) != 0;
+    }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+    private static int getPrivilegeBit(String privilegeName) {
+        Integer bit = PRIVILEGE_BITS.get(privilegeName);
+        Assumption.assertNotNull(bit);
+        return bit;
+    }
 
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
+    private static int toBits(Map<String, Boolean> privileges) {
+        int bits = 0;
+        for (Map.Entry<String, Boolean> entry : privileges.entrySet()) {
+            Integer bit = PRIVILEGE_BITS.get(entry.getKey());
+            if (bit != null && Boolean.TRUE.equals(entry.getValue())) {
+                bits |= bit;
+            }
         }
+        return bits;
+    }
 
-        return this.sectionLevel.get(sectionName).getOrDefault(privilegeName, false);
+    private CompiledPrivileges getCompiledPrivileges() {
+        CompiledPrivileges current = compiled;
+        if (current == null) {
+            current = new CompiledPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiled = current;
+        }
+        return current;
     }
 
-    private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
+    /**
+     * Immutable bit-set form of the privileges with section and session overrides resolved
+     * against their fallbacks, so that each check is at most two hash lookups and a bit test.
+     */
+    private static final class CompiledPrivileges {
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+        final int courseBits;
 
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
+        /** Section name to the privileges of that section. */
+        final Map<String, Integer> sectionBits = new HashMap<>();
 
-        return this.sessionLevel.get(sectionName).get(sessionName).getOrDefault(privilegeName, false);
-    }
+        /** Section name to session name to the privileges of that session in that section. */
+        final Map<String, Map<String, Integer>> sessionBits = new HashMap<>();
 
-    private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        /** Privileges granted for a session in at least one section, for sessions with no override. */
+        final int anySectionDefaultBits;
+
+        /** Same as {@link #anySectionDefaultBits}, for sessions with at least one override. */
+        final Map<String, Integer> anySectionBits = new HashMap<>();
+
+        CompiledPrivileges(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+                Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+            courseBits = toBits(courseLevel);
+            sectionLevel.forEach((section, privileges) -> sectionBits.put(section, toBits(privileges)));
+            sessionLevel.forEach((section, sessions) -> {
+                Map<String, Integer> compiledSessions = new HashMap<>();
+                sessions.forEach((session, privileges) -> compiledSessions.put(session, toBits(privileges)));
+                sessionBits.put(section, compiledSessions);
+            });
+
+            Set<String> sections = new LinkedHashSet<>(sessionLevel.keySet());
+            sections.addAll(sectionLevel.keySet());
+            int defaultBits = 0;
+            for (String section : sections) {
+                defaultBits |= getSectionBits(section);
+            }
+            anySectionDefaultBits = defaultBits;
+
+            Set<String> overriddenSessions = new LinkedHashSet<>();
+            sessionLevel.values().forEach(sessions -> overriddenSessions.addAll(sessions.keySet()));
+            for (String session : overriddenSessions) {
+                int bits = 0;
+                for (String section : sections) {
+                    bits |= getSessionBits(section, session);
+                }
+                anySectionBits.put(session, bits);
+            }
+        }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+        int getSectionBits(String sectionName) {
+            return sectionBits.getOrDefault(sectionName, courseBits);
+        }
 
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
+        int getSessionBits(String sectionName, String sessionName) {
+            Map<String, Integer> sessions = sessionBits.get(sectionName);
+            if (sessions == null) {
+                return getSectionBits(sectionName);
             }
+            Integer bits = sessions.get(sessionName);
+            return bits == null ? getSectionBits(sectionName) : bits;
+        }
+
+        int getAnySectionBits(String sessionName) {
+            return anySectionBits.getOrDefault(sessionName, anySectionDefaultBits);
         }
-        return false;
     }
 
     /**
@@ -460,6 +576,7 @@ public final class InstructorPrivileges {
                 }
             }
         }
+        compiled = null;
     }
 
     public Map<String, Boolean> getCourseLevelPrivileges() {
@@ -0,0 +1,79 @@
+package teammates.common.datatransfer;
+
+/**
+ * Accumulates the count, total, minimum and maximum of the numerical answers received by
+ * one recipient or option, one answer at a time.
+ * <br> Answers given to oneself are also counted separately so that the average excluding
+ * self answers is available without another pass over the responses.
+ */
+public class NumericalResponseStatistics {
+
+    private int count;
+    private int countExcludingSelf;
+    private double total;
+    private double totalExcludingSelf;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds {@code answer} to the statistics.
+     *
+     * @param isSelfAnswer true if the answer was given by the recipient to itself
+     */
+    public void add(double answer, boolean isSelfAnswer) {
+        count++;
+        total += answer;
+        min = Math.min(min, answer);
+        max = Math.max(max, answer);
+
+        if (!isSelfAnswer) {
+            countExcludingSelf++;
+            totalExcludingSelf += answer;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCountExcludingSelf() {
+        return countExcludingSelf;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public double getTotalExcludingSelf() {
+        return totalExcludingSelf;
+    }
+
+    /**
+     * Returns the minimum answer, or {@link Double#POSITIVE_INFINITY} if no answer has been added.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum answer, or {@link Double#NEGATIVE_INFINITY} if no answer has been added.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the average answer, or {@link Double#NaN} if no answer has been added.
+     */
+    public double getAverage() {
+        return total / count;
+    }
+
+    /**
+     * Returns the average of the answers which are not self answers, or null if there is none.
+     */
+    public Double getAverageExcludingSelf() {
+        return countExcludingSelf == 0 ? null : totalExcludingSelf / countExcludingSelf;
+    }
+
+}
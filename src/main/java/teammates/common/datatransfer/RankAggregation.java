@@ -0,0 +1,100 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.Const;
+
+/**
+ * Aggregates the normalised ranks received by the options or recipients of a rank question.
+ * <br> Each giver's ranking is normalised once with {@link #normaliseRanks(int[])} and its ranks are
+ * added to the targets; the overall ranks of all targets are then obtained from a single sort
+ * of their average ranks.
+ */
+public class RankAggregation {
+
+    private final Map<String, List<Integer>> ranksReceived = new HashMap<>();
+    private final Map<String, Long> totalRanks = new HashMap<>();
+    private Map<String, Integer> overallRanks;
+
+    /**
+     * Returns the normalised ranks of a single ranking, in which ties are given the minimum rank
+     * of the tied positions, e.g. the normalised ranks of (1,4,1,4) are (1,3,1,3).
+     * <br> Ranks equal to {@link Const#POINTS_NOT_SUBMITTED} are left as they are.
+     */
+    public static int[] normaliseRanks(int[] ranks) {
+        List<Integer> submittedIndexes = new ArrayList<>();
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] != Const.POINTS_NOT_SUBMITTED) {
+                submittedIndexes.add(i);
+            }
+        }
+        submittedIndexes.sort(Comparator.comparingInt(index -> ranks[index]));
+
+        int[] normalisedRanks = new int[ranks.length];
+        Arrays.fill(normalisedRanks, Const.POINTS_NOT_SUBMITTED);
+        for (int position = 0; position < submittedIndexes.size(); position++) {
+            int index = submittedIndexes.get(position);
+            boolean isTiedWithPrevious = position > 0 && ranks[submittedIndexes.get(position - 1)] == ranks[index];
+            normalisedRanks[index] = isTiedWithPrevious
+                                     ? normalisedRanks[submittedIndexes.get(position - 1)]
+                                     : position + 1;
+        }
+        return normalisedRanks;
+    }
+
+    /**
+     * Adds {@code rank} to the ranks received by {@code target}.
+     */
+    public void addRank(String target, int rank) {
+        ranksReceived.computeIfAbsent(target, key -> new ArrayList<>()).add(rank);
+        totalRanks.merge(target, (long) rank, Long::sum);
+        overallRanks = null;
+    }
+
+    /**
+     * Returns the ranks received by each target, in the order they were added.
+     */
+    public Map<String, List<Integer>> getRanksReceived() {
+        return ranksReceived;
+    }
+
+    /**
+     * Returns the ranks received by {@code target}, or null if it has not received any rank.
+     */
+    public List<Integer> getRanksReceived(String target) {
+        return ranksReceived.get(target);
+    }
+
+    /**
+     * Returns the overall rank of each target, obtained by comparing the average ranks of the targets.
+     * <br> E.g. A and B received (1,2) and C received (1,2,3), so A and B have the average rank of 1.5
+     * and C's average rank is 2. The overall ranks of A, B and C are then 1, 1 and 3.
+     */
+    public Map<String, Integer> getOverallRanks() {
+        if (overallRanks != null) {
+            return overallRanks;
+        }
+
+        Map<String, Double> averageRanks = new HashMap<>();
+        totalRanks.forEach((target, total) ->
+                averageRanks.put(target, (double) total / ranksReceived.get(target).size()));
+
+        List<String> targets = new ArrayList<>(averageRanks.keySet());
+        targets.sort(Comparator.comparingDouble(averageRanks::get));
+
+        overallRanks = new HashMap<>();
+        for (int position = 0; position < targets.size(); position++) {
+            String target = targets.get(position);
+            boolean isTiedWithPrevious = position > 0
+                    && averageRanks.get(targets.get(position - 1)).equals(averageRanks.get(target));
+            overallRanks.put(target, isTiedWithPrevious ? overallRanks.get(targets.get(position - 1)) : position + 1);
+        }
+        return overallRanks;
+    }
+
+}
@@ -0,0 +1,162 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * The data transfer object for {@link ActivityLog} entities.
+ */
+public class ActivityLogAttributes extends EntityAttributes<ActivityLog> {
+
+    private Long id;
+    private ActivityLogEntry logEntry;
+    private long actionTimeTaken;
+    private String version;
+
+    ActivityLogAttributes() {
+        // attributes to be set after construction
+    }
+
+    /**
+     * Returns new builder instance with default values for optional fields.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code actionTimeTaken = logEntry.getActionTimeTaken()}</li>
+     * <li>{@code version = the current app version}</li>
+     * </ul>
+     */
+    public static Builder builder(ActivityLogEntry logEntry) {
+        return new Builder(logEntry);
+    }
+
+    public static ActivityLogAttributes valueOf(ActivityLog log) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder(log.getActionName(), log.getActionUrl(),
+                log.getLogTime().toEpochMilli())
+                .withActionResponse(log.getActionResponse())
+                .withLogId(log.getLogId())
+                .withLogMessage(log.getLogMessage())
+                .withMasqueradeUserRole(log.isMasqueradeUserRole())
+                .withUserRole(log.getUserRole())
+                .withUserName(log.getUserName())
+                .withUserGoogleId(log.getUserGoogleId())
+                .withUserEmail(log.getUserEmail())
+                .withActionTimeTaken(log.getActionTimeTaken())
+                .build();
+
+        ActivityLogAttributes logAttributes = builder(logEntry)
+                .withVersion(log.getVersion())
+                .build();
+        logAttributes.id = log.getId();
+        return logAttributes;
+    }
+
+    /**
+     * Returns the Datastore id of the log, or null if it has not been saved.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the log as shown in the admin activity log page.
+     */
+    public ActivityLogEntry getLogEntry() {
+        return logEntry;
+    }
+
+    public long getActionTimeTaken() {
+        return actionTimeTaken;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // logs are generated by the system, there is nothing to validate
+        return new ArrayList<>();
+    }
+
+    @Override
+    public ActivityLog toEntity() {
+        return new ActivityLog(logEntry.getLogId(), Instant.ofEpochMilli(logEntry.getLogTime()),
+                logEntry.getActionUrl(), logEntry.getActionName(), logEntry.getActionResponse(),
+                logEntry.getUserRole(), logEntry.isMasqueradeUserRole(), logEntry.getUserName(),
+                logEntry.getUserGoogleId(), logEntry.getUserEmail(), logEntry.getLogMessage(),
+                actionTimeTaken, version);
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityLogAttributes [logId=" + logEntry.getLogId() + ", actionName=" + logEntry.getActionName()
+               + ", logTime=" + logEntry.getLogTime() + "]";
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return logEntry.getLogId();
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Activity Log";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Activity Log";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, ActivityLogAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no additional sanitization required
+    }
+
+    /**
+     * A builder for {@link ActivityLogAttributes}.
+     */
+    public static class Builder {
+        private final ActivityLogAttributes logAttributes;
+
+        public Builder(ActivityLogEntry logEntry) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, logEntry);
+
+            logAttributes = new ActivityLogAttributes();
+            logAttributes.logEntry = logEntry;
+            logAttributes.actionTimeTaken = logEntry.getActionTimeTaken();
+            String appVersion = Config.getAppVersion();
+            logAttributes.version = appVersion == null ? Const.ActivityLog.UNKNOWN : appVersion;
+        }
+
+        public Builder withActionTimeTaken(long actionTimeTaken) {
+            logAttributes.actionTimeTaken = actionTimeTaken;
+            return this;
+        }
+
+        public Builder withVersion(String version) {
+            if (version != null) {
+                logAttributes.version = version;
+            }
+            return this;
+        }
+
+        public ActivityLogAttributes build() {
+            return logAttributes;
+        }
+    }
+}
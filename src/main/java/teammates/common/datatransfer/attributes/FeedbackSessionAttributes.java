@@ -43,6 +43,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isPublishedEmailEnabled;
     private transient Set<String> respondingInstructorList;
     private transient Set<String> respondingStudentList;
+    private transient Integer expectedRespondentsTotal;
+    private transient long expectedRespondentsTotalVersion;
+    private transient String institute;
 
     FeedbackSessionAttributes() {
         isOpeningEmailEnabled = true;
@@ -76,6 +79,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withRespondingInstructorList(fs.getRespondingInstructorList())
                 .withRespondingStudentList(fs.getRespondingStudentList())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
+                .withExpectedRespondentsTotal(fs.getExpectedRespondentsTotal())
+                .withExpectedRespondentsTotalVersion(fs.getExpectedRespondentsTotalVersion())
+                .withInstitute(fs.getInstitute())
                 .build();
     }
 
@@ -133,12 +139,14 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
 
     @Override
     public FeedbackSession toEntity() {
-        return new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
+        FeedbackSession feedbackSession = new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
                 createdTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(),
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
                 isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
                 respondingInstructorList, respondingStudentList);
+        feedbackSession.setInstitute(institute);
+        return feedbackSession;
     }
 
     @Override
@@ -571,6 +579,41 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.respondingStudentList = respondingStudentList;
     }
 
+    /**
+     * Returns the number of students and instructors expected to respond to the session,
+     * or null if it is not known without recomputing it.
+     */
+    public Integer getExpectedRespondentsTotal() {
+        return expectedRespondentsTotal;
+    }
+
+    public void setExpectedRespondentsTotal(Integer expectedRespondentsTotal) {
+        this.expectedRespondentsTotal = expectedRespondentsTotal;
+    }
+
+    /**
+     * Returns the version of the number of respondents expected when the session was read,
+     * which changes every time the number is overwritten or cleared.
+     */
+    public long getExpectedRespondentsTotalVersion() {
+        return expectedRespondentsTotalVersion;
+    }
+
+    public void setExpectedRespondentsTotalVersion(long expectedRespondentsTotalVersion) {
+        this.expectedRespondentsTotalVersion = expectedRespondentsTotalVersion;
+    }
+
+    /**
+     * Returns the institute of the course of the session, or null if it is not known.
+     */
+    public String getInstitute() {
+        return institute;
+    }
+
+    public void setInstitute(String institute) {
+        this.institute = institute;
+    }
+
     /**
      * A Builder for {@link FeedbackSessionAttributes}.
      */
@@ -689,6 +732,21 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
+        public Builder withExpectedRespondentsTotal(Integer expectedRespondentsTotal) {
+            feedbackSessionAttributes.setExpectedRespondentsTotal(expectedRespondentsTotal);
+            return this;
+        }
+
+        public Builder withExpectedRespondentsTotalVersion(long expectedRespondentsTotalVersion) {
+            feedbackSessionAttributes.setExpectedRespondentsTotalVersion(expectedRespondentsTotalVersion);
+            return this;
+        }
+
+        public Builder withInstitute(String institute) {
+            feedbackSessionAttributes.setInstitute(institute);
+            return this;
+        }
+
         public FeedbackSessionAttributes build() {
             return feedbackSessionAttributes;
         }
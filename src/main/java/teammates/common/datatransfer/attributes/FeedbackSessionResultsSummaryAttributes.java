@@ -0,0 +1,272 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.CryptoHelper;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackQuestionResultsStatistics;
+import teammates.storage.entity.FeedbackSessionResultsSummary;
+
+/**
+ * The data transfer object for {@link FeedbackSessionResultsSummary} entities.
+ */
+public class FeedbackSessionResultsSummaryAttributes extends EntityAttributes<FeedbackSessionResultsSummary> {
+
+    private String courseId;
+    private String feedbackSessionName;
+    private long generation;
+    private Long builtGeneration;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    FeedbackSessionResultsSummaryAttributes() {
+        // attributes to be set after construction
+    }
+
+    /**
+     * Returns new builder instance with default values for optional fields.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code generation = 0}</li>
+     * <li>{@code builtGeneration = null}</li>
+     * <li>{@code createdAt = current date}</li>
+     * <li>{@code updatedAt = createdAt}</li>
+     * </ul>
+     */
+    public static Builder builder(String courseId, String feedbackSessionName) {
+        return new Builder(courseId, feedbackSessionName);
+    }
+
+    public static FeedbackSessionResultsSummaryAttributes valueOf(FeedbackSessionResultsSummary summary) {
+        return builder(summary.getCourseId(), summary.getFeedbackSessionName())
+                .withGeneration(summary.getGeneration())
+                .withBuiltGeneration(summary.getBuiltGeneration())
+                .withCreatedAt(summary.getCreatedAt())
+                .withUpdatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    /**
+     * Returns the generation of the results of the session, which is incremented whenever they change.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the generation for which the statistics were last built, or null if they have never been built.
+     */
+    public Long getBuiltGeneration() {
+        return builtGeneration;
+    }
+
+    /**
+     * Returns true if the statistics have been built since the results of the session last changed.
+     */
+    public boolean isBuilt() {
+        return builtGeneration != null && builtGeneration == generation;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        addNonEmptyError(validator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionResultsSummary toEntity() {
+        return new FeedbackSessionResultsSummary(courseId, feedbackSessionName, generation, builtGeneration,
+                createdAt, updatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionResultsSummaryAttributes [courseId=" + courseId
+               + ", feedbackSessionName=" + feedbackSessionName + ", generation=" + generation
+               + ", builtGeneration=" + builtGeneration + "]";
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return FeedbackSessionResultsSummary.generateId(courseId, feedbackSessionName);
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Feedback Session Results Summary";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Feedback Session Results Summary";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, FeedbackSessionResultsSummaryAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no additional sanitization required
+    }
+
+    /**
+     * The statistics of one question, as shown to an instructor who can see all its responses.
+     */
+    public static class QuestionStatistics {
+        private long generation;
+        private int numOfResponses;
+        private String responsesFingerprint;
+        private String statisticsHtml;
+        private String statisticsCsv;
+
+        public QuestionStatistics(long generation, int numOfResponses, String responsesFingerprint,
+                String statisticsHtml, String statisticsCsv) {
+            this.generation = generation;
+            this.numOfResponses = numOfResponses;
+            this.responsesFingerprint = responsesFingerprint;
+            this.statisticsHtml = statisticsHtml;
+            this.statisticsCsv = statisticsCsv;
+        }
+
+        /**
+         * Returns the statistics computed from {@code responses} for the given generation of the summary.
+         */
+        public static QuestionStatistics computedFrom(long generation, List<FeedbackResponseAttributes> responses,
+                String statisticsHtml, String statisticsCsv) {
+            return new QuestionStatistics(generation, responses.size(), computeResponsesFingerprint(responses),
+                    statisticsHtml, statisticsCsv);
+        }
+
+        public static QuestionStatistics valueOf(FeedbackQuestionResultsStatistics statistics) {
+            return new QuestionStatistics(statistics.getGeneration(), statistics.getNumOfResponses(),
+                    statistics.getResponsesFingerprint(), statistics.getStatisticsHtml(),
+                    statistics.getStatisticsCsv());
+        }
+
+        /**
+         * Returns a hash of the ids and update times of {@code responses}, which is the same for two lists
+         * only if they hold the same versions of the same responses, in any order.
+         */
+        public static String computeResponsesFingerprint(List<FeedbackResponseAttributes> responses) {
+            String responseVersions = responses.stream()
+                    .map(response -> response.getId() + "@" + response.getUpdatedAt().toEpochMilli())
+                    .sorted()
+                    .collect(Collectors.joining("|"));
+            return CryptoHelper.computeSha256Hash(responseVersions);
+        }
+
+        public FeedbackQuestionResultsStatistics toEntity(String feedbackQuestionId, String courseId,
+                String feedbackSessionName) {
+            return new FeedbackQuestionResultsStatistics(feedbackQuestionId, courseId, feedbackSessionName,
+                    generation, numOfResponses, responsesFingerprint, statisticsHtml, statisticsCsv);
+        }
+
+        /**
+         * Returns the generation of the summary for which the statistics were built.
+         */
+        public long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Returns the number of responses the statistics were computed from.
+         */
+        public int getNumOfResponses() {
+            return numOfResponses;
+        }
+
+        /**
+         * Returns true if the statistics were computed from exactly {@code responses}.
+         */
+        public boolean isComputedFrom(List<FeedbackResponseAttributes> responses) {
+            return numOfResponses == responses.size()
+                    && responsesFingerprint != null
+                    && responsesFingerprint.equals(computeResponsesFingerprint(responses));
+        }
+
+        public String getStatisticsHtml() {
+            return statisticsHtml;
+        }
+
+        public String getStatisticsCsv() {
+            return statisticsCsv;
+        }
+    }
+
+    /**
+     * A builder for {@link FeedbackSessionResultsSummaryAttributes}.
+     */
+    public static class Builder {
+        private final FeedbackSessionResultsSummaryAttributes summaryAttributes;
+
+        public Builder(String courseId, String feedbackSessionName) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+
+            summaryAttributes = new FeedbackSessionResultsSummaryAttributes();
+            summaryAttributes.courseId = courseId;
+            summaryAttributes.feedbackSessionName = feedbackSessionName;
+            summaryAttributes.createdAt = Instant.now();
+            summaryAttributes.updatedAt = summaryAttributes.createdAt;
+        }
+
+        public Builder withGeneration(long generation) {
+            summaryAttributes.generation = generation;
+            return this;
+        }
+
+        public Builder withBuiltGeneration(Long builtGeneration) {
+            summaryAttributes.builtGeneration = builtGeneration;
+            return this;
+        }
+
+        public Builder withCreatedAt(Instant createdAt) {
+            if (createdAt != null) {
+                summaryAttributes.createdAt = createdAt;
+            }
+            return this;
+        }
+
+        public Builder withUpdatedAt(Instant updatedAt) {
+            if (updatedAt != null) {
+                summaryAttributes.updatedAt = updatedAt;
+            }
+            return this;
+        }
+
+        public FeedbackSessionResultsSummaryAttributes build() {
+            return summaryAttributes;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package teammates.common.datatransfer.attributes;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
@@ -262,6 +265,21 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
      * A Builder class for {@link InstructorAttributes}.
      */
     public static class Builder {
+
+        private static final int PRIVILEGES_CACHE_SIZE = 256;
+
+        /**
+         * Parsed privileges keyed by their JSON text. Most instructors share one of a handful of
+         * privilege settings, so this avoids re-parsing the same JSON for every instructor loaded.
+         */
+        private static final Map<String, InstructorPrivileges> PARSED_PRIVILEGES_CACHE =
+                Collections.synchronizedMap(new LinkedHashMap<String, InstructorPrivileges>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, InstructorPrivileges> eldest) {
+                        return size() > PRIVILEGES_CACHE_SIZE;
+                    }
+                });
+
         private final InstructorAttributes instructorAttributes;
 
         public Builder(String googleId, String courseId, String name, String email) {
@@ -329,7 +347,13 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         }
 
         private static InstructorPrivileges getInstructorPrivilegesFromText(String instructorPrivilegesAsText) {
-            return JsonUtils.fromJson(instructorPrivilegesAsText, InstructorPrivileges.class);
+            InstructorPrivileges parsed = PARSED_PRIVILEGES_CACHE.get(instructorPrivilegesAsText);
+            if (parsed == null) {
+                parsed = JsonUtils.fromJson(instructorPrivilegesAsText, InstructorPrivileges.class);
+                PARSED_PRIVILEGES_CACHE.put(instructorPrivilegesAsText, parsed);
+            }
+            // the cached instance is shared, so each instructor gets its own mutable copy
+            return new InstructorPrivileges(parsed);
         }
     }
 }
@@ -117,6 +117,17 @@ public class StudentAttributes extends EntityAttributes<CourseStudent> {
                            .toString();
     }
 
+    /**
+     * Returns the URL of the thumbnail of the profile picture, for the "View Photo" popover of lists of students.
+     */
+    public String getPublicProfilePictureThumbnailUrl() {
+        return Config.getAppUrl(Const.ActionURIs.STUDENT_PROFILE_PICTURE)
+                           .withStudentEmail(StringHelper.encrypt(email))
+                           .withCourseId(StringHelper.encrypt(course))
+                           .withParam(Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL, "true")
+                           .toString();
+    }
+
     public String getName() {
         return name;
     }
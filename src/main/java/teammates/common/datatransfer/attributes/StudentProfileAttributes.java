@@ -31,6 +31,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
     public String gender; // only accepts "male", "female" or "other"
     public String moreInfo;
     public String pictureKey;
+    public String thumbnailKey;
     public Instant modifiedDate;
 
     StudentProfileAttributes(String googleId) {
@@ -42,6 +43,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
         this.gender = "other";
         this.moreInfo = "";
         this.pictureKey = "";
+        this.thumbnailKey = "";
         this.modifiedDate = Instant.now();
     }
 
@@ -54,6 +56,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(sp.getNationality())
                 .withMoreInfo(sp.getMoreInfo().getValue())
                 .withPictureKey(sp.getPictureKey().getKeyString())
+                .withThumbnailKey(sp.getThumbnailKey() == null ? null : sp.getThumbnailKey().getKeyString())
                 .withModifiedDate(sp.getModifiedDate())
                 .build();
     }
@@ -75,10 +78,19 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(nationality)
                 .withMoreInfo(moreInfo)
                 .withPictureKey(pictureKey)
+                .withThumbnailKey(thumbnailKey)
                 .withModifiedDate(modifiedDate)
                 .build();
     }
 
+    /**
+     * Returns the key of the thumbnail of the picture, or the key of the picture itself
+     * if no thumbnail was made for it.
+     */
+    public String getThumbnailKeyOrPictureKey() {
+        return StringHelper.isEmpty(thumbnailKey) ? pictureKey : thumbnailKey;
+    }
+
     // branch is not fully tested here: part of StudentCourseJoinAuthenticatedAction
     public String generateUpdateMessageForStudent() {
         if (isMultipleFieldsEmpty()) {
@@ -144,8 +156,12 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
 
     @Override
     public StudentProfile toEntity() {
-        return new StudentProfile(googleId, shortName, email, institute, nationality, gender,
-                                  new Text(moreInfo), new BlobKey(this.pictureKey));
+        StudentProfile studentProfile = new StudentProfile(googleId, shortName, email, institute, nationality, gender,
+                                                           new Text(moreInfo), new BlobKey(this.pictureKey));
+        if (thumbnailKey != null) {
+            studentProfile.setThumbnailKey(new BlobKey(thumbnailKey));
+        }
+        return studentProfile;
     }
 
     @Override
@@ -233,6 +249,13 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
             return this;
         }
 
+        public Builder withThumbnailKey(String thumbnailKey) {
+            if (thumbnailKey != null) {
+                profileAttributes.thumbnailKey = thumbnailKey;
+            }
+            return this;
+        }
+
         public Builder withModifiedDate(Instant modifiedDate) {
             profileAttributes.modifiedDate = modifiedDate == null ? Instant.now() : modifiedDate;
             return this;
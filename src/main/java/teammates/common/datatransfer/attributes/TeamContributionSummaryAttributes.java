@@ -0,0 +1,188 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.TeamContributionSummary;
+
+/**
+ * The data transfer object for {@link TeamContributionSummary} entities.
+ */
+public class TeamContributionSummaryAttributes extends EntityAttributes<TeamContributionSummary> {
+
+    private String feedbackQuestionId;
+    private String courseId;
+    private String teamName;
+    private TeamEvalResult teamEvalResult;
+    private Instant updatedAt;
+
+    TeamContributionSummaryAttributes() {
+        // attributes to be set after construction
+    }
+
+    /**
+     * Returns new builder instance with default values for optional fields.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code updatedAt = current date}</li>
+     * </ul>
+     *
+     * @param teamEvalResult contribution results of the team, with {@link TeamEvalResult#studentEmails} set
+     */
+    public static Builder builder(String feedbackQuestionId, String courseId, String teamName,
+            TeamEvalResult teamEvalResult) {
+        return new Builder(feedbackQuestionId, courseId, teamName, teamEvalResult);
+    }
+
+    public static TeamContributionSummaryAttributes valueOf(TeamContributionSummary summary) {
+        return builder(summary.getFeedbackQuestionId(), summary.getCourseId(), summary.getTeamName(),
+                JsonUtils.fromJson(summary.getTeamEvalResult(), TeamEvalResult.class))
+                .withUpdatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public TeamEvalResult getTeamEvalResult() {
+        return teamEvalResult;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Returns the position of {@code email} among the members of the team, or -1 if it is not a member.
+     */
+    public int getMemberIndex(String email) {
+        return teamEvalResult.studentEmails.indexOf(email);
+    }
+
+    /**
+     * Returns true if the summary was computed for exactly the given members of the team,
+     * which must be sorted.
+     */
+    public boolean hasMembers(List<String> sortedMemberEmails) {
+        return teamEvalResult.studentEmails.equals(sortedMemberEmails);
+    }
+
+    /**
+     * Returns a copy of this summary where the points given by {@code giverEmail} to {@code recipientEmail}
+     * are replaced by {@code points}, or null if either of them is not a member of the team.
+     * <br> Only the results of this team are recomputed; see {@link TeamEvalResult}.
+     */
+    public TeamContributionSummaryAttributes withSubmission(String giverEmail, String recipientEmail, int points) {
+        int giverIndex = getMemberIndex(giverEmail);
+        int recipientIndex = getMemberIndex(recipientEmail);
+        if (giverIndex == -1 || recipientIndex == -1) {
+            return null;
+        }
+
+        int[][] submissions = new int[teamEvalResult.claimed.length][];
+        for (int i = 0; i < submissions.length; i++) {
+            submissions[i] = teamEvalResult.claimed[i].clone();
+        }
+        submissions[giverIndex][recipientIndex] = points;
+
+        TeamEvalResult updatedResult = new TeamEvalResult(submissions);
+        updatedResult.studentEmails = new ArrayList<>(teamEvalResult.studentEmails);
+        return builder(feedbackQuestionId, courseId, teamName, updatedResult).build();
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public TeamContributionSummary toEntity() {
+        return new TeamContributionSummary(feedbackQuestionId, courseId, teamName,
+                JsonUtils.toJson(teamEvalResult, TeamEvalResult.class), updatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "TeamContributionSummaryAttributes [feedbackQuestionId=" + feedbackQuestionId
+               + ", courseId=" + courseId + ", teamName=" + teamName + "]";
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return TeamContributionSummary.generateId(feedbackQuestionId, teamName);
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Team Contribution Summary";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Team Contribution Summary";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, TeamContributionSummaryAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no additional sanitization required
+    }
+
+    /**
+     * A builder for {@link TeamContributionSummaryAttributes}.
+     */
+    public static class Builder {
+        private final TeamContributionSummaryAttributes summaryAttributes;
+
+        public Builder(String feedbackQuestionId, String courseId, String teamName, TeamEvalResult teamEvalResult) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackQuestionId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, teamName);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, teamEvalResult);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, teamEvalResult.studentEmails);
+
+            summaryAttributes = new TeamContributionSummaryAttributes();
+            summaryAttributes.feedbackQuestionId = feedbackQuestionId;
+            summaryAttributes.courseId = courseId;
+            summaryAttributes.teamName = teamName;
+            summaryAttributes.teamEvalResult = teamEvalResult;
+            summaryAttributes.updatedAt = Instant.now();
+        }
+
+        public Builder withUpdatedAt(Instant updatedAt) {
+            if (updatedAt != null) {
+                summaryAttributes.updatedAt = updatedAt;
+            }
+            return this;
+        }
+
+        public TeamContributionSummaryAttributes build() {
+            return summaryAttributes;
+        }
+    }
+}
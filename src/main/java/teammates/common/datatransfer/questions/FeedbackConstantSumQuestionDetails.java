@@ -11,6 +11,7 @@ import java.util.Set;
 import java.util.TreeMap;
 
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.NumericalResponseStatistics;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -445,11 +446,11 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         StringBuilder fragments = new StringBuilder();
         List<String> options = constSumOptions;
 
-        Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
+        Map<String, ReceivedPoints> optionPoints = generateOptionPointsMapping(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
-        Map<String, List<Integer>> sortedOptionPoints = new TreeMap<>();
+        Map<String, ReceivedPoints> sortedOptionPoints = new TreeMap<>();
 
         Map<String, String> identifierMap = new HashMap<>();
 
@@ -459,11 +460,11 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
             putOptionsInSortedMap(optionPoints, options, sortedOptionPoints);
         }
 
-        sortedOptionPoints.forEach((option, points) -> {
+        sortedOptionPoints.forEach((option, receivedPoints) -> {
 
-            double average = computeAverage(points);
-            int total = computeTotal(points);
-            String pointsReceived = getListOfPointsAsString(points);
+            double average = receivedPoints.statistics.getAverage();
+            int total = (int) receivedPoints.statistics.getTotal();
+            String pointsReceived = getListOfPointsAsString(receivedPoints.points);
 
             if (distributeToRecipients) {
                 String participantIdentifier = identifierMap.get(option);
@@ -507,11 +508,11 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
 
         StringBuilder fragments = new StringBuilder();
         List<String> options = constSumOptions;
-        Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
+        Map<String, ReceivedPoints> optionPoints = generateOptionPointsMapping(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
-        Map<String, List<Integer>> sortedOptionPoints = new TreeMap<>();
+        Map<String, ReceivedPoints> sortedOptionPoints = new TreeMap<>();
 
         Map<String, String> identifierMap = new HashMap<>();
 
@@ -521,7 +522,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
             putOptionsInSortedMap(optionPoints, options, sortedOptionPoints);
         }
 
-        sortedOptionPoints.forEach((key, points) -> {
+        sortedOptionPoints.forEach((key, receivedPoints) -> {
             String option;
             if (distributeToRecipients) {
                 String participantIdentifier = identifierMap.get(key);
@@ -534,13 +535,13 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                 option = SanitizationHelper.sanitizeForCsv(key);
             }
 
-            double average = computeAverage(points);
-            double total = computeTotal(points);
+            double average = receivedPoints.statistics.getAverage();
+            double total = receivedPoints.statistics.getTotal();
 
             fragments.append(option)
                     .append(',').append(df.format(average))
                     .append(',').append(df.format(total))
-                    .append(',').append(StringHelper.join(",", points))
+                    .append(',').append(StringHelper.join(",", receivedPoints.points))
                     .append(System.lineSeparator());
 
         });
@@ -558,8 +559,8 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
      * @param sortedOptionPoints    Sorted map to contain recipient info, recipient concatenated with email used as key
      */
     private void putRecipientsInSortedMap(
-            Map<String, List<Integer>> recipientMapping, Map<String, String> identifierMap,
-            Map<String, List<Integer>> sortedOptionPoints, FeedbackSessionResultsBundle bundle) {
+            Map<String, ReceivedPoints> recipientMapping, Map<String, String> identifierMap,
+            Map<String, ReceivedPoints> sortedOptionPoints, FeedbackSessionResultsBundle bundle) {
 
         recipientMapping.forEach((participantIdentifier, value) -> {
             String name = bundle.getNameForEmail(participantIdentifier);
@@ -578,8 +579,8 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
      * @param sortedOptionPoints    Sorted map of option points
      */
     private void putOptionsInSortedMap(
-            Map<String, List<Integer>> optionPoints, List<String> optionList,
-            Map<String, List<Integer>> sortedOptionPoints) {
+            Map<String, ReceivedPoints> optionPoints, List<String> optionList,
+            Map<String, ReceivedPoints> sortedOptionPoints) {
 
         optionPoints.forEach((key, value) -> {
             String option = optionList.get(Integer.parseInt(key));
@@ -589,15 +590,15 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of points received for that option.
+     * From the feedback responses, generate a mapping of the option to the points received for that option.
      * The key of the map returned is the option name / recipient's participant identifier.
-     * The values of the map are list of points received by the key.
+     * The values of the map are the points received by the key, together with their statistics.
      * @param responses  a list of responses
      */
-    private Map<String, List<Integer>> generateOptionPointsMapping(
+    private Map<String, ReceivedPoints> generateOptionPointsMapping(
             List<FeedbackResponseAttributes> responses) {
 
-        Map<String, List<Integer>> optionPoints = new HashMap<>();
+        Map<String, ReceivedPoints> optionPoints = new HashMap<>();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackConstantSumResponseDetails frd = (FeedbackConstantSumResponseDetails) response.getResponseDetails();
 
@@ -606,27 +607,13 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                         distributeToRecipients ? response.recipient : String.valueOf(i);
 
                 int pointsReceived = frd.getAnswerList().get(i);
-                updateOptionPointsMapping(optionPoints, optionReceivingPoints, pointsReceived);
+                optionPoints.computeIfAbsent(optionReceivingPoints, option -> new ReceivedPoints())
+                        .add(pointsReceived);
             }
         }
         return optionPoints;
     }
 
-    /**
-     * Used to update the OptionPointsMapping for the option optionReceivingPoints.
-     */
-    private void updateOptionPointsMapping(
-            Map<String, List<Integer>> optionPoints,
-            String optionReceivingPoints, int pointsReceived) {
-        List<Integer> points = optionPoints.get(optionReceivingPoints);
-        if (points == null) {
-            points = new ArrayList<>();
-            optionPoints.put(optionReceivingPoints, points);
-        }
-
-        points.add(pointsReceived);
-    }
-
     /**
      * Returns the list of points as as string to display.
      */
@@ -652,18 +639,6 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return pointsReceived.toString();
     }
 
-    private int computeTotal(List<Integer> points) {
-        int total = 0;
-        for (Integer point : points) {
-            total += point;
-        }
-        return total;
-    }
-
-    private double computeAverage(List<Integer> points) {
-        return (double) computeTotal(points) / points.size();
-    }
-
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -850,4 +825,17 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return points;
     }
 
+    /**
+     * The points received by an option or recipient, with their statistics accumulated as the points are added.
+     */
+    private static class ReceivedPoints {
+        private final List<Integer> points = new ArrayList<>();
+        private final NumericalResponseStatistics statistics = new NumericalResponseStatistics();
+
+        void add(int point) {
+            points.add(point);
+            statistics.add(point, false);
+        }
+    }
+
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.ContributionQuestionResults;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
@@ -176,33 +177,17 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         String currentUserTeam = bundle.emailTeamNameTable.get(studentEmail);
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams with at least one response
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(actualResponses, bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
+        ContributionQuestionResults results = bundle.getContributionQuestionResults(question);
 
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
+        //Only teams with at least one response have results shown to students
+        TeamEvalResult currentUserTeamResults = results.hasResponsesFromTeam(currentUserTeam)
+                ? results.getTeamResult(currentUserTeam)
+                : null;
         if (currentUserTeamResults == null) {
             return "";
         }
 
-        int currentUserIndex = teamMembersEmail.get(currentUserTeam).indexOf(studentEmail);
+        int currentUserIndex = results.getMemberIndex(currentUserTeam, studentEmail);
         int selfClaim = currentUserTeamResults.claimed[currentUserIndex][currentUserIndex];
         int teamClaim = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex][currentUserIndex];
 
@@ -240,25 +225,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //List of teams visible to the instructor and in the selected section
         List<String> teamNames = getTeamNames(bundle);
 
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        //Each team's eval results, computed once per results bundle
+        ContributionQuestionResults results = bundle.getContributionQuestionResults(question);
 
         //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        Map<String, StudentResultSummary> studentResults = results.getStudentResults(teamNames);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -279,9 +250,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
-            TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            TeamEvalResult teamResult = results.getTeamResult(team);
+            int studentIndx = results.getMemberIndex(team, email);
 
             String displayName = name;
             String displayTeam = team;
@@ -329,25 +299,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //List of teams visible to the instructor and in the selected section
         List<String> teamNames = getTeamNames(bundle);
 
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        //Each team's eval results, computed once per results bundle
+        ContributionQuestionResults results = bundle.getContributionQuestionResults(question);
 
         //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        Map<String, StudentResultSummary> studentResults = results.getStudentResults(teamNames);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -371,9 +327,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
-            TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            TeamEvalResult teamResult = results.getTeamResult(team);
+            int studentIndx = results.getMemberIndex(team, email);
 
             String displayName;
             String displayTeam;
@@ -439,147 +394,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
      */
     Map<String, StudentResultSummary> getStudentResults(FeedbackSessionResultsBundle bundle,
             FeedbackQuestionAttributes question) {
-
-        List<FeedbackResponseAttributes> responses = bundle.getActualResponsesSortedByGqr(question);
-
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
-
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        return getStudentResults(teamMembersEmail, teamResults);
-    }
-
-    /**
-     * Returns A Map with student email as key and TeamEvalResult as value for the specified question.
-     */
-    Map<String, TeamEvalResult> getTeamEvalResults(FeedbackSessionResultsBundle bundle,
-            FeedbackQuestionAttributes question) {
-
-        List<FeedbackResponseAttributes> responses = bundle.getActualResponsesSortedByGqr(question);
-
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
-
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-    }
-
-    private Map<String, StudentResultSummary> getStudentResults(
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
-        Map<String, StudentResultSummary> studentResults = new LinkedHashMap<>();
-        teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
-            int i = 0;
-            for (String studentEmail : teamEmails) {
-                StudentResultSummary summary = new StudentResultSummary();
-                summary.claimedToInstructor = teamResult.normalizedClaimed[i][i];
-                summary.perceivedToInstructor = teamResult.normalizedAveragePerceived[i];
-
-                studentResults.put(studentEmail, summary);
-
-                i++;
-            }
-        });
-        return studentResults;
-    }
-
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamEvalResult.studentEmails = teamMembersEmail.get(team);
-            teamResults.put(team, teamEvalResult);
-        }
-        return teamResults;
-    }
-
-    private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
-        Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
-            //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
-            }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
-            }
-        }
-        return teamSubmissionArray;
-    }
-
-    private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            teamResponses.put(teamName, new ArrayList<FeedbackResponseAttributes>());
-        }
-        for (FeedbackResponseAttributes response : responses) {
-            String team = bundle.emailTeamNameTable.get(response.giver);
-            if (teamResponses.containsKey(team)) {
-                teamResponses.get(team).add(response);
-            }
-        }
-        return teamResponses;
-    }
-
-    private Map<String, List<String>> getTeamMembersEmail(
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<String>> teamMembersEmail = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            if (Const.USER_TEAM_FOR_INSTRUCTOR.equals(teamName)) {
-                // skip instructors team (contrib questions should only have responses from student teams)
-                continue;
-            }
-            List<String> memberEmails = new ArrayList<>(bundle.rosterTeamNameMembersTable.get(teamName));
-            memberEmails.sort(null);
-            teamMembersEmail.put(teamName, memberEmails);
-        }
-        return teamMembersEmail;
-    }
-
-    private List<String> getTeamsWithAtLeastOneResponse(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
-        List<String> teamNames = new ArrayList<>();
-        for (FeedbackResponseAttributes response : responses) {
-            String teamNameOfResponseGiver = bundle.getTeamNameForEmail(response.giver);
-            if (!teamNames.contains(teamNameOfResponseGiver)) {
-                teamNames.add(teamNameOfResponseGiver);
-            }
-        }
-        return teamNames;
+        ContributionQuestionResults results = bundle.getContributionQuestionResults(question);
+        return results.getStudentResults(results.getTeamsWithResponses());
     }
 
     private static String getNormalizedPointsListColorizedDescending(int[] subs, int index) {
@@ -3,6 +3,7 @@ package teammates.common.datatransfer.questions;
 import java.util.HashMap;
 import java.util.Map;
 
+import teammates.common.datatransfer.ContributionQuestionResults;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
 import teammates.common.datatransfer.TeamEvalResult;
@@ -86,16 +87,16 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> teamResults = getContribQnTeamEvalResult(question, feedbackSessionResultsBundle);
+        ContributionQuestionResults results = feedbackSessionResultsBundle.getContributionQuestionResults(question);
 
         // Need to get actual team name and giver/recipient emails here,
         // only for getting the responseAnswer.
         FeedbackResponseAttributes actualResponse = feedbackSessionResultsBundle.getActualResponse(response);
         String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
-        TeamEvalResult teamResult = teamResults.get(giverTeamName);
+        TeamEvalResult teamResult = results.getTeamResult(giverTeamName);
 
-        int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
-        int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
+        int giverIndex = results.getMemberIndex(giverTeamName, actualResponse.giver);
+        int recipientIndex = results.getMemberIndex(giverTeamName, actualResponse.recipient);
 
         if (giverIndex == -1 || recipientIndex == -1) {
             if (giverIndex == -1) {
@@ -136,17 +137,17 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> teamResults = getContribQnTeamEvalResult(question, feedbackSessionResultsBundle);
+        ContributionQuestionResults results = feedbackSessionResultsBundle.getContributionQuestionResults(question);
         Map<String, StudentResultSummary> stats = getContribQnStudentResultSummary(question, feedbackSessionResultsBundle);
 
         // Need to get actual team name and giver/recipient emails here,
         // only for getting the responseAnswer.
         FeedbackResponseAttributes actualResponse = feedbackSessionResultsBundle.getActualResponse(response);
         String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
-        TeamEvalResult teamResult = teamResults.get(giverTeamName);
+        TeamEvalResult teamResult = results.getTeamResult(giverTeamName);
 
-        int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
-        int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
+        int giverIndex = results.getMemberIndex(giverTeamName, actualResponse.giver);
+        int recipientIndex = results.getMemberIndex(giverTeamName, actualResponse.recipient);
 
         String responseAnswerCsv = "";
 
@@ -199,17 +200,4 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
         );
 
     }
-
-    public Map<String, TeamEvalResult> getContribQnTeamEvalResult(FeedbackQuestionAttributes question,
-            FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> contribQnStats =
-                feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.get(question.getId());
-        if (contribQnStats == null) {
-            FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
-            contribQnStats = fqcd.getTeamEvalResults(feedbackSessionResultsBundle, question);
-            feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.put(question.getId(), contribQnStats);
-        }
-
-        return contribQnStats;
-    }
 }
@@ -2,7 +2,10 @@ package teammates.common.datatransfer.questions;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -516,7 +519,8 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         StringBuilder responseSummaryFragments = new StringBuilder();
 
         MCQStatistics mcqStats = new MCQStatistics(this);
-        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(responses);
+        MultipleOptionStatistics.OptionTally tally = mcqStats.tally(responses);
+        Map<String, Integer> answerFrequency = tally.getAnswerFrequency();
         // Do not calculate weighted percentage if weights are not enabled.
         Map<String, Double> weightedPercentagePerOption =
                 hasAssignedWeights ? mcqStats.calculateWeightedPercentagePerOption(answerFrequency)
@@ -547,10 +551,8 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         // otherwise pass an empty string in it's place.
         String recipientStatsHtml = "";
         if (hasAssignedWeights) {
-            // Sort the list of responseAttributes based on recipient team and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = mcqStats.getResponseAttributesSorted(responses, bundle);
             String header = mcqStats.getRecipientStatsHeaderHtml();
-            String body = mcqStats.getPerRecipientStatsBodyHtml(sortedResponses, bundle);
+            String body = mcqStats.getPerRecipientStatsBodyHtml(tally, bundle);
 
             recipientStatsHtml = Templates.populateTemplate(
                     FormTemplates.MCQ_RESULT_RECIPIENT_STATS,
@@ -572,15 +574,15 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
         StringBuilder csv = new StringBuilder();
         MCQStatistics mcqStats = new MCQStatistics(this);
-        Map<String, Integer> answerFrequency = mcqStats.collateAnswerFrequency(responses);
+        MultipleOptionStatistics.OptionTally tally = mcqStats.tally(responses);
         // Add the Response Summary Statistics to the CSV String.
-        csv.append(mcqStats.getResponseSummaryStatsCsv(answerFrequency, responses.size()));
+        csv.append(mcqStats.getResponseSummaryStatsCsv(tally.getAnswerFrequency(), responses.size()));
 
         // If weights are assigned, add the 'Per Recipient Statistics' to the CSV string.
         if (hasAssignedWeights) {
             csv.append(System.lineSeparator())
                 .append("Per Recipient Statistics").append(System.lineSeparator())
-                .append(mcqStats.getPerRecipientResponseStatsCsv(responses, bundle));
+                .append(mcqStats.getPerRecipientResponseStatsCsv(tally, bundle));
         }
         return csv.toString();
     }
@@ -685,9 +687,22 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         protected int numOfChoices;
 
         /**
-         * Calculates the answer frequency for each option based on the received responses for a question.
+         * Returns the options selected in a response, using "Other" for an answer to the 'Other' option.
+         * An option may appear more than once. Empty answers are not counted and are left out.
          */
-        protected abstract Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses);
+        protected abstract List<String> getSelectedOptions(FeedbackResponseDetails responseDetails);
+
+        /**
+         * Counts the options selected in {@code responses} in a single pass, parsing each response once.
+         * The counts per recipient are only kept if weights are assigned, as they are not shown otherwise.
+         */
+        public OptionTally tally(List<FeedbackResponseAttributes> responses) {
+            OptionTally tally = new OptionTally();
+            for (FeedbackResponseAttributes response : responses) {
+                tally.add(response.recipient, getSelectedOptions(response.getResponseDetails()));
+            }
+            return tally;
+        }
 
         /**
          * Calculates the weighted percentage for each option.
@@ -738,23 +753,6 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return totalWeightedResponseCount;
         }
 
-        /**
-         * Returns a list of {@link FeedbackResponseAttributes} sorted by comparing recipient Team name and
-         * recipient name for each recipient email.
-         * @param unsortedResponses The list of unsorted responses that needs to be sorted.
-         * @param bundle Result bundle that is used to retrieve recipientTeamName and recipientName for each recipient.
-         */
-        public List<FeedbackResponseAttributes> getResponseAttributesSorted(
-                List<FeedbackResponseAttributes> unsortedResponses, FeedbackSessionResultsBundle bundle) {
-            List<FeedbackResponseAttributes> responses = new LinkedList<>(unsortedResponses);
-
-            responses.sort(Comparator
-                    .comparing((FeedbackResponseAttributes obj) -> bundle.getTeamNameForEmail(obj.recipient))
-                    .thenComparing(obj -> bundle.getNameForEmail(obj.recipient)));
-
-            return responses;
-        }
-
         /**
          * Generates statistics for each recipient for 'Per recipient statistics' to be used for
          * both the results page and csv files.
@@ -840,6 +838,48 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return headerBuilder.toString();
         }
 
+        // Generate Recipient Response statistics for result page.
+
+        /**
+         * Returns a HTML string which contains a sequence of "tr" tags.
+         * The "tr" tags enclose a sequence of "td" tags which have data related to a sub question.
+         * The sequence of "tr" tags are not enclosed in a "tbody" tag.
+         */
+        public String getPerRecipientStatsBodyHtml(OptionTally tally, FeedbackSessionResultsBundle bundle) {
+            StringBuilder bodyBuilder = new StringBuilder(100);
+
+            for (String recipient : tally.getRecipientsSorted(bundle)) {
+                String statsRow = getPerRecipientStatsBodyFragmentHtml(
+                        recipient, tally.getAnswerFrequencyForRecipient(recipient), bundle);
+                // Reuse Mcq result template for MSQ until there is any reason to use a separate template.
+                bodyBuilder.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
+                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow));
+            }
+
+            return bodyBuilder.toString();
+        }
+
+        /**
+         * Returns a HTML string which contains a sequence of "td" tags.
+         * The "td" tags have data related to a sub question.
+         * The sequence of "td" tags are not enclosed in a "tr" tag.
+         */
+        private String getPerRecipientStatsBodyFragmentHtml(String recipientEmail,
+                Map<String, Integer> recipientResponses, FeedbackSessionResultsBundle bundle) {
+            StringBuilder html = new StringBuilder(100);
+
+            List<String> cols = generateStatisticsForEachRecipient(recipientEmail, recipientResponses, bundle);
+
+            // Generate HTML for all <td> entries using template
+            for (String col : cols) {
+                html.append(
+                        Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT,
+                        Slots.MCQ_RECIPIENT_STAT_CELL, col));
+            }
+
+            return html.toString();
+        }
+
         /**
          * Returns a String containing the Response Summary statistics for CSV files.
          */
@@ -881,6 +921,15 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return header + System.lineSeparator() + fragments.toString();
         }
 
+        // Generate Recipient Response statistics for csv files.
+
+        /**
+         * Returns a String containing the 'Per Recipient Statistics' stats for CSV files for all recipients.
+         */
+        public String getPerRecipientResponseStatsCsv(OptionTally tally, FeedbackSessionResultsBundle bundle) {
+            return getPerRecipientResponseStatsHeaderCsv() + getPerRecipientResponseStatsBodyCsv(tally, bundle);
+        }
+
         public String getPerRecipientResponseStatsHeaderCsv() {
             StringBuilder header = new StringBuilder(100);
             DecimalFormat df = new DecimalFormat("#.##");
@@ -900,46 +949,121 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         /**
-         * Returns the 'Per Recipient' stats body part for CSV files.<br>
-         * @param responses The response attribute list should be sorted first before passing as an argument.
-         * @param bundle Feedback session results bundle
+         * Returns the 'Per Recipient' stats body part for CSV files, with recipients sorted
+         * by team name and then by name.
          */
-        protected String getPerRecipientResponseStatsBodyCsv(List<FeedbackResponseAttributes> responses,
-                FeedbackSessionResultsBundle bundle) {
+        protected String getPerRecipientResponseStatsBodyCsv(OptionTally tally, FeedbackSessionResultsBundle bundle) {
             StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
-
-            for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
-                String recipient = entry.getKey();
-                Map<String, Integer> responsesForRecipient = entry.getValue();
-                String perRecipientStats = getPerRecipientResponseStatsBodyFragmentCsv(
-                        recipient, responsesForRecipient, bundle);
-                bodyBuilder.append(perRecipientStats);
+
+            for (String recipient : tally.getRecipientsSorted(bundle)) {
+                List<String> statsForEachRecipient = generateStatisticsForEachRecipient(
+                        recipient, tally.getAnswerFrequencyForRecipient(recipient), bundle);
+                bodyBuilder.append(String.join(", ", statsForEachRecipient)).append(System.lineSeparator());
             }
 
             return bodyBuilder.toString();
-
         }
 
         /**
-         * Returns a string containing a per recipient response stats for a single recipient.
+         * Number of times each option is selected in a list of responses, in total and for each recipient.
+         * <br> Every selection is counted against the single copy of the option text held by the tally,
+         * so that the response summary and the per recipient statistics can be generated
+         * for both the results page and csv files from one pass over the responses.
          */
-        private String getPerRecipientResponseStatsBodyFragmentCsv(String recipientEmail,
-                Map<String, Integer> recipientResponses, FeedbackSessionResultsBundle bundle) {
-            StringBuilder fragments = new StringBuilder(100);
-            List<String> statsForEachRecipient = generateStatisticsForEachRecipient(
-                    recipientEmail, recipientResponses, bundle);
+        public class OptionTally {
+            // choices first, then "Other" if enabled, then other answers in order of first appearance
+            private final List<String> options = new ArrayList<>();
+            private final Map<String, Integer> optionIndexes = new HashMap<>();
+            private final int numOfKnownOptions;
+            private int[] counts;
+            private int numOfSelections;
+
+            // only the choices and "Other" are counted for each recipient, in order of first response
+            private final Map<String, int[]> perRecipientCounts = new LinkedHashMap<>();
+
+            OptionTally() {
+                for (String choice : choices) {
+                    intern(choice);
+                }
+                if (otherEnabled) {
+                    intern("Other");
+                }
+                numOfKnownOptions = options.size();
+                counts = new int[numOfKnownOptions];
+            }
 
-            // Add each column data in fragments
-            fragments.append(String.join(", ", statsForEachRecipient) + System.lineSeparator());
-            return fragments.toString();
-        }
+            private int intern(String option) {
+                Integer index = optionIndexes.get(option);
+                if (index == null) {
+                    index = options.size();
+                    options.add(option);
+                    optionIndexes.put(option, index);
+                }
+                return index;
+            }
 
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        protected abstract Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses);
+            void add(String recipient, List<String> selectedOptions) {
+                int[] recipientCounts = hasAssignedWeights
+                        ? perRecipientCounts.computeIfAbsent(recipient, key -> new int[numOfKnownOptions])
+                        : null;
+
+                for (String option : selectedOptions) {
+                    int index = intern(option);
+                    if (index >= counts.length) {
+                        counts = Arrays.copyOf(counts, options.size());
+                    }
+                    counts[index]++;
+                    numOfSelections++;
+
+                    if (recipientCounts != null && index < numOfKnownOptions) {
+                        recipientCounts[index]++;
+                    }
+                }
+            }
+
+            /**
+             * Returns the number of times each option is selected, including options with no selections.
+             */
+            public Map<String, Integer> getAnswerFrequency() {
+                Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+                for (int i = 0; i < options.size(); i++) {
+                    answerFrequency.put(options.get(i), counts[i]);
+                }
+                return answerFrequency;
+            }
+
+            /**
+             * Returns the total number of options selected over all responses.
+             */
+            public int getNumOfSelections() {
+                return numOfSelections;
+            }
+
+            /**
+             * Returns the recipients of the responses sorted by team name and then by name.
+             * Recipients that cannot be told apart keep the order of their first response.
+             */
+            public List<String> getRecipientsSorted(FeedbackSessionResultsBundle bundle) {
+                List<String> recipients = new ArrayList<>(perRecipientCounts.keySet());
+                recipients.sort(Comparator
+                        .comparing((String recipient) -> bundle.getTeamNameForEmail(recipient))
+                        .thenComparing(recipient -> bundle.getNameForEmail(recipient)));
+                return recipients;
+            }
+
+            /**
+             * Returns the number of times each choice, and "Other" if enabled,
+             * is selected in the responses to {@code recipient}.
+             */
+            public Map<String, Integer> getAnswerFrequencyForRecipient(String recipient) {
+                int[] recipientCounts = perRecipientCounts.get(recipient);
+                Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+                for (int i = 0; i < numOfKnownOptions; i++) {
+                    answerFrequency.put(options.get(i), recipientCounts[i]);
+                }
+                return answerFrequency;
+            }
+        }
 
     }
 
@@ -957,124 +1081,12 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             this.otherWeight = mcqDetails.getMcqOtherWeight();
         }
 
-        /**
-         * Calculates the answer frequency for each option based on the received responses.
-         */
-        protected Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses) {
-            Map<String, Integer> answerFrequency = new LinkedHashMap<>();
-
-            for (String option : choices) {
-                answerFrequency.put(option, 0);
-            }
-
-            if (otherEnabled) {
-                answerFrequency.put("Other", 0);
-            }
-
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackResponseDetails responseDetails = response.getResponseDetails();
-                boolean isOtherOptionAnswer =
-                        ((FeedbackMcqResponseDetails) responseDetails).isOtherOptionAnswer();
-                String key = isOtherOptionAnswer ? "Other" : responseDetails.getAnswerString();
-
-                answerFrequency.put(key, answerFrequency.getOrDefault(key, 0) + 1);
-            }
-
-            return answerFrequency;
-        }
-
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        protected Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses) {
-            Map<String, Map<String, Integer>> perRecipientResponse = new LinkedHashMap<>();
-
-            responses.forEach(response -> {
-                perRecipientResponse.computeIfAbsent(response.recipient, key -> {
-                    // construct default value for responseCount
-                    Map<String, Integer> responseCountPerOption = new LinkedHashMap<>();
-                    for (String choice : choices) {
-                        responseCountPerOption.put(choice, 0);
-                    }
-                    if (otherEnabled) {
-                        responseCountPerOption.put("Other", 0);
-                    }
-                    return responseCountPerOption;
-                });
-                perRecipientResponse.computeIfPresent(response.recipient, (key, responseCountPerOption) -> {
-                    // update responseCount here
-                    FeedbackMcqResponseDetails frd = (FeedbackMcqResponseDetails) response.getResponseDetails();
-                    boolean isOtherAnswer = frd.isOtherOptionAnswer();
-                    String answer = isOtherAnswer ? "Other" : frd.getAnswerString();
-
-                    responseCountPerOption.computeIfPresent(answer, (choice, count) -> {
-                        return ++count;
-                    });
-                    return responseCountPerOption;
-                });
-            });
-            return perRecipientResponse;
-        }
-
-        // Generate Recipient Response statistics for csv files.
-
-        /**
-         * Returns a String containing the 'Per Recipient Statistics' stats for CSV files for all recipients.
-         */
-        public String getPerRecipientResponseStatsCsv(List<FeedbackResponseAttributes> responses,
-                FeedbackSessionResultsBundle bundle) {
-            String header = getPerRecipientResponseStatsHeaderCsv();
-            // Get the response attributes sorted based on Recipient Team name and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = getResponseAttributesSorted(responses, bundle);
-            String body = getPerRecipientResponseStatsBodyCsv(sortedResponses, bundle);
-
-            return header + body;
-        }
-
-        // Generate Recipient Response statistics for result page.
-
-        /**
-         * Returns a HTML string which contains a sequence of "tr" tags.
-         * The "tr" tags enclose a sequence of "td" tags which have data related to a sub question.
-         * The sequence of "tr" tags are not enclosed in a "tbody" tag.
-         */
-        public String getPerRecipientStatsBodyHtml(List<FeedbackResponseAttributes> responses,
-                FeedbackSessionResultsBundle bundle) {
-            StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
-
-            for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
-                String recipient = entry.getKey();
-                Map<String, Integer> responsesForRecipient = entry.getValue();
-                String statsRow = getPerRecipientStatsBodyFragmentHtml(recipient, responsesForRecipient, bundle);
-                bodyBuilder.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow));
-            }
-
-            return bodyBuilder.toString();
+        @Override
+        protected List<String> getSelectedOptions(FeedbackResponseDetails responseDetails) {
+            boolean isOtherOptionAnswer = ((FeedbackMcqResponseDetails) responseDetails).isOtherOptionAnswer();
+            return Collections.singletonList(isOtherOptionAnswer ? "Other" : responseDetails.getAnswerString());
         }
 
-        /**
-         * Returns a HTML string which contains a sequence of "td" tags.
-         * The "td" tags have data related to a sub question.
-         * The sequence of "td" tags are not enclosed in a "tr" tag.
-         */
-        private String getPerRecipientStatsBodyFragmentHtml(String recipientEmail,
-                Map<String, Integer> recipientResponses, FeedbackSessionResultsBundle bundle) {
-            StringBuilder html = new StringBuilder(100);
-
-            List<String> cols = generateStatisticsForEachRecipient(recipientEmail, recipientResponses, bundle);
-
-            // Generate HTML for all <td> entries using template
-            for (String col : cols) {
-                html.append(
-                        Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_CELL, col));
-            }
-
-            return html.toString();
-        }
     }
 
 }
@@ -635,12 +635,14 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         MSQStatistics msqStats = new MSQStatistics(this);
+        MultipleOptionStatistics.OptionTally tally = msqStats.tally(responses);
 
-        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(responses);
-        int numChoicesSelected = getNumberOfResponses(answerFrequency);
-        if (numChoicesSelected == -1) {
+        // we will only show stats if there is at least one nonempty response
+        int numChoicesSelected = tally.getNumOfSelections();
+        if (numChoicesSelected == 0) {
             return "";
         }
+        Map<String, Integer> answerFrequency = tally.getAnswerFrequency();
         DecimalFormat df = new DecimalFormat("#.##");
 
         StringBuilder fragments = new StringBuilder();
@@ -673,10 +675,8 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         // otherwise pass an empty string in it's place.
         String recipientStatsHtml = "";
         if (hasAssignedWeights) {
-            // Sort responses based on recipient team and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = msqStats.getResponseAttributesSorted(responses, bundle);
             String header = msqStats.getRecipientStatsHeaderHtml();
-            String body = msqStats.getPerRecipientStatsBodyHtml(sortedResponses, bundle);
+            String body = msqStats.getPerRecipientStatsBodyHtml(tally, bundle);
 
             // Reuse Mcq result template until there is any reason to use a separate template.
             recipientStatsHtml = Templates.populateTemplate(
@@ -701,27 +701,23 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         MSQStatistics msqStats = new MSQStatistics(this);
-        Map<String, Integer> answerFrequency = msqStats.collateAnswerFrequency(responses);
-        int numChoicesSelected = getNumberOfResponses(answerFrequency);
-        if (numChoicesSelected == -1) {
+        MultipleOptionStatistics.OptionTally tally = msqStats.tally(responses);
+
+        // we will only show stats if there is at least one nonempty response
+        int numChoicesSelected = tally.getNumOfSelections();
+        if (numChoicesSelected == 0) {
             return "";
         }
         StringBuilder csv = new StringBuilder();
 
-        csv.append(msqStats.getResponseSummaryStatsCsv(answerFrequency, numChoicesSelected));
+        csv.append(msqStats.getResponseSummaryStatsCsv(tally.getAnswerFrequency(), numChoicesSelected));
 
         // Create 'Per recipient Stats' for csv if weights are enabled.
         if (hasAssignedWeights) {
-            String header = msqStats.getPerRecipientResponseStatsHeaderCsv();
-            // Get the response attributes sorted based on Recipient Team name and recipient name.
-            List<FeedbackResponseAttributes> sortedResponses = msqStats.getResponseAttributesSorted(responses, bundle);
-            String body = msqStats.getPerRecipientResponseStatsBodyCsv(sortedResponses, bundle);
-            String perRecipientStatsCsv = header + body;
-
             // Add per recipient stats to csv string
             csv.append(System.lineSeparator())
                 .append("Per Recipient Statistics").append(System.lineSeparator())
-                .append(perRecipientStatsCsv);
+                .append(msqStats.getPerRecipientResponseStatsCsv(tally, bundle));
         }
         return csv.toString();
     }
@@ -875,27 +871,6 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return maxSelectableChoices;
     }
 
-    /**
-     * Returns number of non-empty responses.<br>
-     * <p>
-     * <em>Note:</em> Response can be empty when <b>'None of the above'</b> option is selected.
-     * We don't count responses that select 'None of the above' option.</p>
-     */
-    private int getNumberOfResponses(Map<String, Integer> answerFrequency) {
-        int numChoicesSelected = 0;
-
-        for (String choice : answerFrequency.keySet()) {
-            numChoicesSelected += answerFrequency.get(choice);
-        }
-
-        // we will only show stats if there is at least one nonempty response
-        if (numChoicesSelected == 0) {
-            return -1;
-        }
-
-        return numChoicesSelected;
-    }
-
     private double divideOrReturnZero(double numerator, int denominator) {
         return (denominator == 0) ? 0 : numerator / denominator;
     }
@@ -914,133 +889,26 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             this.otherWeight = msqDetails.getMsqOtherWeight();
         }
 
-        /**
-         * Calculates the answer frequency for each option based on the received responses for a question.
-         * <p>
-         *   <strong>Note:</strong> Empty answers which denotes the <code>None of the above</code> option are ignored.
-         * </p>
-         * @param responses The list of response attributes.
-         */
-        protected Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses) {
-            Map<String, Integer> answerFrequency = new LinkedHashMap<>();
-
-            for (String option : choices) {
-                answerFrequency.put(option, 0);
-            }
-            if (otherEnabled) {
-                answerFrequency.put("Other", 0);
-            }
-
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackMsqResponseDetails responseDetails = (FeedbackMsqResponseDetails) response.getResponseDetails();
-                updateResponseCountPerOptionForResponse(responseDetails, answerFrequency);
-            }
-            return answerFrequency;
-        }
+        @Override
+        protected List<String> getSelectedOptions(FeedbackResponseDetails responseDetails) {
+            FeedbackMsqResponseDetails msqResponseDetails = (FeedbackMsqResponseDetails) responseDetails;
+            List<String> answerStrings = new ArrayList<>(msqResponseDetails.getAnswerStrings());
+            List<String> selectedOptions = new ArrayList<>();
 
-        /**
-         * Updates the number of responses per option for each response in responseCountPerOption map.
-         */
-        private void updateResponseCountPerOptionForResponse(FeedbackMsqResponseDetails responseDetails,
-                Map<String, Integer> responseCountPerOption) {
-            List<String> answerStrings = responseDetails.getAnswerStrings();
-            boolean isOtherOptionAnswer = responseDetails.isOtherOptionAnswer();
-            String otherAnswer = "";
-
-            if (isOtherOptionAnswer) {
-                responseCountPerOption.put("Other", responseCountPerOption.get("Other") + 1);
-
-                // remove other answer temporarily to calculate stats for other options
-                otherAnswer = responseDetails.getOtherFieldContent();
-                answerStrings.remove(otherAnswer);
+            if (msqResponseDetails.isOtherOptionAnswer()) {
+                selectedOptions.add("Other");
+                // the other answer is counted as "Other" instead of as an option of its own
+                answerStrings.remove(msqResponseDetails.getOtherFieldContent());
             }
 
             for (String answerString : answerStrings) {
                 // Answer string is empty when 'None of the above' option is selected,
                 // in that case, don't count that response.
-                if (answerString.isEmpty()) {
-                    continue;
+                if (!answerString.isEmpty()) {
+                    selectedOptions.add(answerString);
                 }
-                responseCountPerOption.put(answerString, responseCountPerOption.getOrDefault(answerString, 0) + 1);
-            }
-
-            // restore other answer if any
-            if (isOtherOptionAnswer) {
-                answerStrings.add(otherAnswer);
-            }
-        }
-
-        /**
-         * Returns a Map containing response counts for each option for every recipient.
-         */
-        protected Map<String, Map<String, Integer>> calculatePerRecipientResponseCount(
-                List<FeedbackResponseAttributes> responses) {
-            Map<String, Map<String, Integer>> perRecipientResponse = new LinkedHashMap<>();
-
-            responses.forEach(response -> {
-                perRecipientResponse.computeIfAbsent(response.recipient, key -> {
-                    // construct default value for responseCount
-                    Map<String, Integer> responseCountPerOption = new LinkedHashMap<>();
-                    for (String choice : choices) {
-                        responseCountPerOption.put(choice, 0);
-                    }
-                    if (otherEnabled) {
-                        responseCountPerOption.put("Other", 0);
-                    }
-                    return responseCountPerOption;
-                });
-                perRecipientResponse.computeIfPresent(response.recipient, (key, responseCountPerOption) -> {
-                    // update responseCount here
-                    FeedbackMsqResponseDetails frd = (FeedbackMsqResponseDetails) response.getResponseDetails();
-                    updateResponseCountPerOptionForResponse(frd, responseCountPerOption);
-                    return responseCountPerOption;
-                });
-            });
-            return perRecipientResponse;
-        }
-
-        /**
-         * Returns a HTML string which contains a sequence of "td" tags.
-         * The "td" tags have data related to a sub question.
-         * The sequence of "td" tags are not enclosed in a "tr" tag.
-         */
-        private String getPerRecipientStatsBodyFragmentHtml(String recipientEmail,
-                Map<String, Integer> recipientResponses, FeedbackSessionResultsBundle bundle) {
-            StringBuilder html = new StringBuilder(100);
-
-            List<String> cols = generateStatisticsForEachRecipient(recipientEmail, recipientResponses, bundle);
-
-            // Generate HTML for all <td> entries using template
-            // Reuse Mcq result template until there is any reason to use a separate template.
-            for (String col : cols) {
-                html.append(
-                        Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_CELL, col));
             }
-
-            return html.toString();
-        }
-
-        /**
-         * Returns a HTML string which contains a sequence of "tr" tags.
-         * The "tr" tags enclose a sequence of "td" tags which have data related to a sub question.
-         * The sequence of "tr" tags are not enclosed in a "tbody" tag.
-         */
-        public String getPerRecipientStatsBodyHtml(List<FeedbackResponseAttributes> responses,
-                FeedbackSessionResultsBundle bundle) {
-            StringBuilder bodyBuilder = new StringBuilder(100);
-            Map<String, Map<String, Integer>> perRecipientResponses = calculatePerRecipientResponseCount(responses);
-
-            for (Map.Entry<String, Map<String, Integer>> entry : perRecipientResponses.entrySet()) {
-                String recipient = entry.getKey();
-                Map<String, Integer> responsesForRecipient = entry.getValue();
-                String statsRow = getPerRecipientStatsBodyFragmentHtml(recipient, responsesForRecipient, bundle);
-                // Reuse Mcq result template until there is any reason to use a separate template.
-                bodyBuilder.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT,
-                        Slots.MCQ_RECIPIENT_STAT_ROW, statsRow));
-            }
-
-            return bodyBuilder.toString();
+            return selectedOptions;
         }
 
     }
@@ -5,12 +5,14 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.NumericalResponseStatistics;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -186,22 +188,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        Map<String, NumericalResponseStatistics> statistics = getStatisticsPerRecipient(responses);
 
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -214,15 +206,14 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
         StringBuilder fragmentHtml = new StringBuilder();
 
-        for (String recipient : numResponses.keySet()) {
+        statistics.forEach((recipient, recipientStatistics) -> {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
-                continue;
+                return;
             }
 
-            Double userAverageExcludingSelf = averageExcludingSelf.get(recipient);
-            String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, userAverageExcludingSelf);
+            String userAverageExcludingSelfText = getAverageExcludingSelfText(
+                    showAvgExcludingSelf, df, recipientStatistics.getAverageExcludingSelf());
 
             String recipientName = recipient.equals(Const.GENERAL_QUESTION) ? "General" : bundle.getNameForEmail(recipient);
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
@@ -231,11 +222,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
                                     fragmentTemplateToUse,
                                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                                    Slots.AVERAGE, df.format(average.get(recipient)),
-                                    Slots.MAX, df.format(max.get(recipient)),
-                                    Slots.MIN, df.format(min.get(recipient)),
+                                    Slots.AVERAGE, df.format(recipientStatistics.getAverage()),
+                                    Slots.MAX, df.format(recipientStatistics.getMax()),
+                                    Slots.MIN, df.format(recipientStatistics.getMin()),
                                     Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
-        }
+        });
 
         if (fragmentHtml.length() == 0) {
             return "";
@@ -255,21 +246,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
             List<FeedbackResponseAttributes> responses, String studentEmail,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        Map<String, NumericalResponseStatistics> statistics = getStatisticsPerRecipient(responses);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -286,11 +267,14 @@ public class FeedbackNumericalScaleQuestionDetails extends
         boolean isRecipientTypeStudent = !isRecipientTypeGeneral && !isRecipientTypeTeam;
 
         String currentUserTeam = bundle.getTeamNameForEmail(studentEmail);
-        String currentUserIdentifier = getCurrentUserIdentifier(numResponses,
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics,
                                                                 isRecipientTypeStudent, studentEmail,
                                                                 isRecipientTypeTeam, currentUserTeam);
+        boolean hasCurrentUserAtLeastTwoResponses = hasAtLeastTwoResponses(statistics, currentUserIdentifier);
+        boolean hasOthersAtLeastTwoResponses =
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients);
 
-        Set<String> recipientSet = numResponses.keySet();
+        Set<String> recipientSet = statistics.keySet();
         ArrayList<String> recipientList = new ArrayList<>();
 
         boolean hasCurrentUserReceivedAnyResponse = recipientSet.contains(currentUserIdentifier);
@@ -323,46 +307,35 @@ public class FeedbackNumericalScaleQuestionDetails extends
             boolean isRecipientGeneral = recipient.equalsIgnoreCase(Const.GENERAL_QUESTION);
 
             recipientName = getDisplayableRecipientName(isHiddenRecipient,
-                            isRecipientCurrentUser, hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
-                            isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser(
-                                                            numResponses, currentUserIdentifier, hiddenRecipients),
+                            isRecipientCurrentUser, hasCurrentUserAtLeastTwoResponses,
+                            isRecipientTypeStudent, hasOthersAtLeastTwoResponses,
                             isRecipientGeneral, bundle.getNameForEmail(recipient), currentUserTeam);
 
             recipientTeam = getDisplayableRecipientTeam(isHiddenRecipient,
                                                         isRecipientCurrentUser,
-                                                        hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                                                        hasCurrentUserAtLeastTwoResponses,
                                                         isRecipientTypeStudent,
-                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses,
-                                                                                                   currentUserIdentifier,
-                                                                                                   hiddenRecipients),
+                                                        hasOthersAtLeastTwoResponses,
                                                         bundle.getTeamNameForEmail(recipient), currentUserTeam);
 
-            Double minScore = null;
-            Double maxScore = null;
-            Double averageScore = null;
-            Double averageScoreExcludingSelf = null;
-
             boolean isRecipientDetailsAvailable = recipientName != null && recipientTeam != null;
 
             if (!isRecipientDetailsAvailable) {
                 continue;
             }
 
-            minScore = min.get(recipient);
-            maxScore = max.get(recipient);
-            averageScore = average.get(recipient);
-            averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+            NumericalResponseStatistics recipientStatistics = statistics.get(recipient);
 
-            String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
+            String averageScoreExcludingSelfText = getAverageExcludingSelfText(
+                    showAvgExcludingSelf, df, recipientStatistics.getAverageExcludingSelf());
 
             String recipientFragmentHtml = Templates.populateTemplate(
                     fragmentTemplateToUse,
                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                    Slots.AVERAGE, df.format(averageScore),
-                    Slots.MAX, df.format(maxScore),
-                    Slots.MIN, df.format(minScore),
+                    Slots.AVERAGE, df.format(recipientStatistics.getAverage()),
+                    Slots.MAX, df.format(recipientStatistics.getMax()),
+                    Slots.MIN, df.format(recipientStatistics.getMin()),
                     Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, averageScoreExcludingSelfText);
 
             fragmentHtml.append(recipientFragmentHtml);
@@ -372,9 +345,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return "";
         }
 
-        String statsTitle = getStatsTitle(
-                isRecipientTypeGeneral, isRecipientTypeTeam,
-                hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
+        String statsTitle = getStatsTitle(isRecipientTypeGeneral, isRecipientTypeTeam, hasOthersAtLeastTwoResponses);
         String templateToUse = showAvgExcludingSelf
                              ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
                              : FormTemplates.NUMSCALE_RESULT_STATS;
@@ -417,28 +388,23 @@ public class FeedbackNumericalScaleQuestionDetails extends
         return null;
     }
 
-    private String getCurrentUserIdentifier(Map<String, Integer> numResponses,
+    private String getCurrentUserIdentifier(Map<String, NumericalResponseStatistics> statistics,
             boolean isRecipientStudent, String currentUserEmail,
             boolean isRecipientTeam, String currentUserTeam) {
 
-        if (isRecipientStudent && numResponses.containsKey(currentUserEmail)
-                && numResponses.get(currentUserEmail) >= 1) {
+        if (isRecipientStudent && statistics.containsKey(currentUserEmail)) {
             return currentUserEmail;
-        } else if (isRecipientTeam && numResponses.containsKey(currentUserTeam)
-                   && numResponses.get(currentUserTeam) >= 1) {
+        } else if (isRecipientTeam && statistics.containsKey(currentUserTeam)) {
             return currentUserTeam;
         } else {
             return "";
         }
     }
 
-    private boolean hasAtLeastTwoResponses(Map<String, Integer> numResponses,
+    private boolean hasAtLeastTwoResponses(Map<String, NumericalResponseStatistics> statistics,
             String recipient) {
-        if (numResponses == null) {
-            return false;
-        }
-        Integer numOfResponses = numResponses.get(recipient);
-        return numOfResponses != null && numOfResponses >= 2;
+        NumericalResponseStatistics recipientStatistics = statistics.get(recipient);
+        return recipientStatistics != null && recipientStatistics.getCount() >= 2;
     }
 
     private String getAverageExcludingSelfText(boolean showAvgExcludingSelf, DecimalFormat df, Double averageExcludingSelf) {
@@ -458,22 +424,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return "";
         }
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        Map<String, NumericalResponseStatistics> statistics = getStatisticsPerRecipient(responses);
 
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         DecimalFormat df = new DecimalFormat();
         df.setMinimumFractionDigits(0);
@@ -485,36 +441,35 @@ public class FeedbackNumericalScaleQuestionDetails extends
                          + System.lineSeparator();
 
         StringBuilder csvBody = new StringBuilder();
-        for (String recipient : numResponses.keySet()) {
+        statistics.forEach((recipient, recipientStatistics) -> {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
-                continue;
+                return;
             }
 
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
             boolean isRecipientGeneral = recipient.equals(Const.GENERAL_QUESTION);
 
-            Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
-            String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
+            String averageScoreExcludingSelfText = getAverageExcludingSelfText(
+                    showAvgExcludingSelf, df, recipientStatistics.getAverageExcludingSelf());
 
             csvBody.append(SanitizationHelper.sanitizeForCsv(recipientTeam) + ','
                            + SanitizationHelper.sanitizeForCsv(isRecipientGeneral
                                                       ? "General"
                                                       : bundle.getNameForEmail(recipient))
                            + ','
-                           + df.format(average.get(recipient)) + ','
-                           + df.format(min.get(recipient)) + ','
-                           + df.format(max.get(recipient))
+                           + df.format(recipientStatistics.getAverage()) + ','
+                           + df.format(recipientStatistics.getMin()) + ','
+                           + df.format(recipientStatistics.getMax())
                            + (showAvgExcludingSelf ? ',' + averageScoreExcludingSelfText : "")
                            + System.lineSeparator());
-        }
+        });
 
         return csvHeader + csvBody.toString();
     }
 
     private boolean showAverageExcludingSelf(
-            FeedbackQuestionAttributes question, Map<String, Double> averageExcludingSelf) {
+            FeedbackQuestionAttributes question, Map<String, NumericalResponseStatistics> statistics) {
 
         if (question.recipientType == FeedbackParticipantType.NONE) {
             // General recipient type would not give self response
@@ -522,84 +477,39 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return false;
         }
 
-        for (Double average : averageExcludingSelf.values()) {
+        for (NumericalResponseStatistics recipientStatistics : statistics.values()) {
             // There exists at least one average score exclude self
-            if (average != null) {
+            if (recipientStatistics.getAverageExcludingSelf() != null) {
                 return true;
             }
         }
         return false;
     }
 
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
-            Map<String, Double> min, Map<String, Double> max,
-            Map<String, Double> average, Map<String, Double> averageExcludingSelf,
-            Map<String, Double> total, Map<String, Double> totalExcludingSelf,
-            Map<String, Integer> numResponses,
-            Map<String, Integer> numResponsesExcludingSelf) {
+    /**
+     * Returns the statistics of the answers received by each recipient, computed in a single pass
+     * over {@code responses}.
+     */
+    private Map<String, NumericalResponseStatistics> getStatisticsPerRecipient(
+            List<FeedbackResponseAttributes> responses) {
+        Map<String, NumericalResponseStatistics> statistics = new HashMap<>();
 
         for (FeedbackResponseAttributes response : responses) {
             FeedbackNumericalScaleResponseDetails responseDetails =
                     (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
-            double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
-
-            // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
-            numResponses.put(recipientEmail, numOfResponses);
-
-            // Compute number of responses excluding user's self response
-            numResponsesExcludingSelf.putIfAbsent(recipientEmail, 0);
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
-            if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.get(recipientEmail) + 1;
-                numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
-            }
-
-            // Compute minimum score received
-            double minScoreReceived = Math.min(answer, min.getOrDefault(recipientEmail, answer));
-            min.put(recipientEmail, minScoreReceived);
-
-            // Compute maximum score received
-            double maxScoreReceived = Math.max(answer, max.getOrDefault(recipientEmail, answer));
-            max.put(recipientEmail, maxScoreReceived);
-
-            // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
-            total.put(recipientEmail, totalScore);
-
-            // Compute total score received excluding self
-            totalExcludingSelf.putIfAbsent(recipientEmail, null);
+            boolean isSelfResponse = response.giver.equalsIgnoreCase(response.recipient);
 
-            if (!isSelfResponse) {
-                Double totalScoreExcludingSelf = totalExcludingSelf.get(recipientEmail);
-
-                // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
-            }
-
-            // Compute average score received
-            double averageReceived = total.get(recipientEmail) / numResponses.get(recipientEmail);
-            average.put(recipientEmail, averageReceived);
-
-            // Compute average score received excluding self
-            averageExcludingSelf.putIfAbsent(recipientEmail, null);
-            if (!isSelfResponse && totalExcludingSelf.get(recipientEmail) != null) {
-                double averageReceivedExcludingSelf =
-                        totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
-                averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
-            }
+            statistics.computeIfAbsent(response.recipient, recipient -> new NumericalResponseStatistics())
+                    .add(responseDetails.getAnswer(), isSelfResponse);
         }
+        return statistics;
     }
 
-    private List<String> getHiddenRecipients(
+    private Set<String> getHiddenRecipients(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
-        List<String> hiddenRecipients = new ArrayList<>(); // List of recipients to hide
+        Set<String> hiddenRecipients = new HashSet<>(); // Set of recipients to hide
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : responses) {
             if (!bundle.visibilityTable.get(response.getId())[1]
@@ -633,16 +543,17 @@ public class FeedbackNumericalScaleQuestionDetails extends
      * Return false otherwise.
      */
     private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(
-            Map<String, Integer> numResponses, String currentUserIdentifier, List<String> hiddenRecipients) {
+            Map<String, NumericalResponseStatistics> statistics, String currentUserIdentifier,
+            Set<String> hiddenRecipients) {
         boolean isAtLeastTwoResponsesOtherThanCurrentUser = false;
 
         // At least 2 responses are given to any recipient other than current user
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.keySet()) {
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            if (hasAtLeastTwoResponses(numResponses, recipient)
+            if (hasAtLeastTwoResponses(statistics, recipient)
                     && !recipient.equals(currentUserIdentifier)) {
 
                 isAtLeastTwoResponsesOtherThanCurrentUser = true;
@@ -2,7 +2,6 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +12,7 @@ import com.google.common.base.Strings;
 import com.google.common.primitives.Ints;
 
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.RankAggregation;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -316,11 +316,11 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
         StringBuilder fragments = new StringBuilder(100);
 
-        Map<String, List<Integer>> optionRanks = generateOptionRanksMapping(responses);
+        RankAggregation optionRanks = aggregateOptionRanks(responses);
 
-        Map<String, Integer> optionOverallRank = generateNormalizedOverallRankMapping(optionRanks);
+        Map<String, Integer> optionOverallRank = optionRanks.getOverallRanks();
 
-        optionRanks.forEach((option, ranks) -> {
+        optionRanks.getRanksReceived().forEach((option, ranks) -> {
 
             String ranksReceived = getListOfRanksReceivedAsString(ranks);
             String overallRank = Integer.toString(optionOverallRank.get(option));
@@ -346,11 +346,11 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         }
 
         StringBuilder fragments = new StringBuilder();
-        Map<String, List<Integer>> optionRanks = generateOptionRanksMapping(responses);
+        RankAggregation optionRanks = aggregateOptionRanks(responses);
 
-        Map<String, Integer> optionOverallRank = generateNormalizedOverallRankMapping(optionRanks);
+        Map<String, Integer> optionOverallRank = optionRanks.getOverallRanks();
 
-        optionRanks.forEach((key, ranksAssigned) -> {
+        optionRanks.getRanksReceived().forEach((key, ranksAssigned) -> {
             String option = SanitizationHelper.sanitizeForCsv(key);
             String overallRank = Integer.toString(optionOverallRank.get(key));
 
@@ -364,37 +364,30 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of
-     * ranks received for that option.
-     * The key of the map returned is the option name.
-     * The values of the map are list of ranks received by the key.
+     * From the feedback responses, aggregate the ranks received by each option.
+     * The ranking of each response is normalised before its ranks are added.
      * @param responses  a list of responses
+     * @see RankAggregation#normaliseRanks(int[]) for how ties are resolved
      */
-    private Map<String, List<Integer>> generateOptionRanksMapping(
-                                            List<FeedbackResponseAttributes> responses) {
-        Map<String, List<Integer>> optionRanks = new HashMap<>();
+    private RankAggregation aggregateOptionRanks(List<FeedbackResponseAttributes> responses) {
+        RankAggregation optionRanks = new RankAggregation();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackRankOptionsResponseDetails frd = (FeedbackRankOptionsResponseDetails) response.getResponseDetails();
 
             List<Integer> answers = frd.getAnswerList();
-            Map<String, Integer> mapOfOptionToRank = new HashMap<>();
 
             Assumption.assertEquals(answers.size(), options.size());
 
+            int[] ranksGiven = new int[options.size()];
             for (int i = 0; i < options.size(); i++) {
-                int rankReceived = answers.get(i);
-                mapOfOptionToRank.put(options.get(i), rankReceived);
+                ranksGiven[i] = answers.get(i);
             }
 
-            Map<String, Integer> normalisedRankForOption =
-                    obtainMappingToNormalisedRanksForRanking(mapOfOptionToRank, options);
+            int[] normalisedRanks = RankAggregation.normaliseRanks(ranksGiven);
 
             for (int i = 0; i < options.size(); i++) {
-                String optionReceivingRanks = options.get(i);
-                int rankReceived = normalisedRankForOption.get(optionReceivingRanks);
-
-                if (rankReceived != Const.POINTS_NOT_SUBMITTED) {
-                    updateOptionRanksMapping(optionRanks, optionReceivingRanks, rankReceived);
+                if (normalisedRanks[i] != Const.POINTS_NOT_SUBMITTED) {
+                    optionRanks.addRank(options.get(i), normalisedRanks[i]);
                 }
             }
         }
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import com.google.common.primitives.Ints;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.RankAggregation;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -260,7 +262,8 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         }
 
         List<FeedbackResponseAttributes> allResponses = bundle.getActualUnsortedResponses(question);
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(allResponses);
+        int[] normalisedRanks = getNormalisedRankForEachResponse(allResponses, false);
+        RankAggregation recipientRanks = aggregateRecipientRanks(allResponses, normalisedRanks, false);
 
         boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
                 || question.recipientType == FeedbackParticipantType.OWN_TEAM;
@@ -268,20 +271,20 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         String currentUserTeam = bundle.roster.getStudentForEmail(studentEmail).getTeam();
         String currentUserIdentifier = isRecipientTypeTeam ? currentUserTeam : studentEmail;
 
-        List<Integer> ranksReceived = recipientRanks.get(currentUserIdentifier);
+        List<Integer> ranksReceived = recipientRanks.getRanksReceived(currentUserIdentifier);
         // If response recipient is instructor, responses for current student/team will not exist.
         if (ranksReceived == null) {
             return "";
         }
 
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
+        Map<String, Integer> recipientOverallRank = recipientRanks.getOverallRanks();
 
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(allResponses);
+        RankAggregation recipientRanksExcludingSelf = aggregateRecipientRanks(allResponses,
+                getNormalisedRankForEachResponse(allResponses, true), true);
 
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
+        Map<String, Integer> recipientOverallRankExceptSelf = recipientRanksExcludingSelf.getOverallRanks();
 
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(allResponses);
+        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(allResponses, normalisedRanks);
 
         String ranksReceivedAsString = getListOfRanksReceivedAsString(ranksReceived);
         String overallRank = Integer.toString(recipientOverallRank.get(currentUserIdentifier));
@@ -330,21 +333,23 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             FeedbackSessionResultsBundle bundle) {
         StringBuilder fragments = new StringBuilder();
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
+        int[] normalisedRanks = getNormalisedRankForEachResponse(responses, false);
 
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
+        RankAggregation recipientRanks = aggregateRecipientRanks(responses, normalisedRanks, false);
 
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
+        Map<String, Integer> recipientOverallRank = recipientRanks.getOverallRanks();
 
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
+        RankAggregation recipientRanksExcludingSelf = aggregateRecipientRanks(responses,
+                getNormalisedRankForEachResponse(responses, true), true);
 
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
+        Map<String, Integer> recipientOverallRankExceptSelf = recipientRanksExcludingSelf.getOverallRanks();
+
+        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses, normalisedRanks);
 
         String fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
         String templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
 
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
+        recipientRanks.getRanksReceived().forEach((participantIdentifier, ranks) -> {
 
             String ranksReceived = getListOfRanksReceivedAsString(ranks);
             String overallRank = Integer.toString(recipientOverallRank.get(participantIdentifier));
@@ -383,18 +388,20 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
         StringBuilder fragments = new StringBuilder();
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
+        int[] normalisedRanks = getNormalisedRankForEachResponse(responses, false);
+
+        RankAggregation recipientRanks = aggregateRecipientRanks(responses, normalisedRanks, false);
 
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
+        Map<String, Integer> recipientOverallRank = recipientRanks.getOverallRanks();
 
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
+        RankAggregation recipientRanksExcludingSelf = aggregateRecipientRanks(responses,
+                getNormalisedRankForEachResponse(responses, true), true);
 
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
+        Map<String, Integer> recipientOverallRankExceptSelf = recipientRanksExcludingSelf.getOverallRanks();
 
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
+        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses, normalisedRanks);
 
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
+        recipientRanks.getRanksReceived().forEach((participantIdentifier, ranks) -> {
 
             String teamName = bundle.getTeamNameForEmail(participantIdentifier);
             String recipientName = bundle.getNameForEmail(participantIdentifier);
@@ -422,35 +429,38 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of
-     * ranks received for that option.
-     * The key of the map returned is the recipient's participant identifier.
-     * The values of the map are list of ranks received by the recipient.
+     * From the feedback responses, aggregate the ranks received by each recipient.
      * @param responses  a list of responses
+     * @param normalisedRanks  the normalised rank of each response
+     * @param isExcludingSelf  true if responses given to self are to be left out
      */
-    private Map<String, List<Integer>> generateOptionRanksMapping(List<FeedbackResponseAttributes> responses) {
-
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
-
-        Map<String, List<Integer>> optionRanks = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
-            updateOptionRanksMapping(optionRanks, response.recipient, normalisedRankOfResponse.get(response));
+    private RankAggregation aggregateRecipientRanks(List<FeedbackResponseAttributes> responses,
+            int[] normalisedRanks, boolean isExcludingSelf) {
+        RankAggregation recipientRanks = new RankAggregation();
+        for (int i = 0; i < responses.size(); i++) {
+            FeedbackResponseAttributes response = responses.get(i);
+            if (isExcludingSelf && isSelfResponse(response)) {
+                continue;
+            }
+            recipientRanks.addRank(response.recipient, normalisedRanks[i]);
         }
 
-        return optionRanks;
+        return recipientRanks;
     }
 
     /**
      * Generates a key, value mapping. Each key corresponds to a recipient and its value is the normalised self rank.
      * @param responses  a list of responses
+     * @param normalisedRanks  the normalised rank of each response, including responses given to self
      */
-    private Map<String, Integer> generateSelfRankForEachRecipient(List<FeedbackResponseAttributes> responses) {
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
+    private Map<String, Integer> generateSelfRankForEachRecipient(List<FeedbackResponseAttributes> responses,
+            int[] normalisedRanks) {
         Map<String, Integer> recipientToSelfRank = new HashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
-            if (response.recipient.equalsIgnoreCase(response.giver)) {
-                recipientToSelfRank.put(response.recipient, normalisedRankOfResponse.get(response));
+        for (int i = 0; i < responses.size(); i++) {
+            FeedbackResponseAttributes response = responses.get(i);
+            if (isSelfResponse(response)) {
+                recipientToSelfRank.put(response.recipient, normalisedRanks[i]);
             }
         }
 
@@ -458,61 +468,48 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     }
 
     /**
-     * Returns a map of response to the normalised rank by resolving ties for each giver's set of responses.
-     * @see FeedbackRankQuestionDetails#obtainMappingToNormalisedRanksForRanking(Map, List) for how ties are resolved
+     * Returns the normalised rank of each response, in the same order as {@code responses},
+     * by resolving ties for each giver's set of responses.
+     * <br> If {@code isExcludingSelf} is true, responses given to self are left out of each giver's set,
+     * and their normalised rank is {@link Const#POINTS_NOT_SUBMITTED}.
+     * @see RankAggregation#normaliseRanks(int[]) for how ties are resolved
      */
-    private Map<FeedbackResponseAttributes, Integer> getNormalisedRankForEachResponse(
-                                                            List<FeedbackResponseAttributes> responses) {
-
-        // collect each giver's responses
-        Map<String, List<FeedbackResponseAttributes>> responsesGivenByPerson = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
+    private int[] getNormalisedRankForEachResponse(List<FeedbackResponseAttributes> responses,
+            boolean isExcludingSelf) {
+
+        // collect the indexes of each giver's responses
+        Map<String, List<Integer>> responsesGivenByPerson = new HashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            FeedbackResponseAttributes response = responses.get(i);
+            if (isExcludingSelf && isSelfResponse(response)) {
+                continue;
+            }
             responsesGivenByPerson.computeIfAbsent(response.giver, key -> new ArrayList<>())
-                                  .add(response);
-        }
-
-        // generate response-responseDetails pair
-        Map<FeedbackResponseAttributes, Integer> rankOfResponse = new HashMap<>();
-        for (FeedbackResponseAttributes res : responses) {
-            FeedbackRankRecipientsResponseDetails frd = (FeedbackRankRecipientsResponseDetails) res.getResponseDetails();
-            rankOfResponse.put(res, frd.answer);
+                                  .add(i);
         }
 
         // resolve ties for each giver's responses
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = new HashMap<>();
-        responsesGivenByPerson.forEach((key, feedbackResponseAttributesList) -> {
-            normalisedRankOfResponse.putAll(obtainMappingToNormalisedRanksForRanking(rankOfResponse,
-                    feedbackResponseAttributesList));
+        int[] normalisedRankOfResponse = new int[responses.size()];
+        Arrays.fill(normalisedRankOfResponse, Const.POINTS_NOT_SUBMITTED);
+        responsesGivenByPerson.forEach((giver, indexes) -> {
+            int[] ranksGiven = new int[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                FeedbackRankRecipientsResponseDetails frd =
+                        (FeedbackRankRecipientsResponseDetails) responses.get(indexes.get(i)).getResponseDetails();
+                ranksGiven[i] = frd.answer;
+            }
+
+            int[] normalisedRanks = RankAggregation.normaliseRanks(ranksGiven);
+            for (int i = 0; i < indexes.size(); i++) {
+                normalisedRankOfResponse[indexes.get(i)] = normalisedRanks[i];
+            }
         });
 
         return normalisedRankOfResponse;
     }
 
-    /**
-     * Returns list of responses excluding responses given to self.
-     *
-     * @param responses a list of responses
-     * @return list of responses excluding self given responses
-     */
-    private List<FeedbackResponseAttributes> getResponsesExcludingSelf(List<FeedbackResponseAttributes> responses) {
-        List<FeedbackResponseAttributes> responsesExcludingSelf = new ArrayList<>();
-        for (FeedbackResponseAttributes response : responses) {
-            if (!response.giver.equalsIgnoreCase(response.recipient)) {
-                responsesExcludingSelf.add(response);
-            }
-        }
-        return responsesExcludingSelf;
-    }
-
-    /**
-     * Returns map of recipient ranks excluding self.
-     *
-     * @param responses list of all the responses for a question
-     * @return map of recipient ranks excluding self responses
-     */
-    private Map<String, List<Integer>> getRecipientRanksExcludingSelf(List<FeedbackResponseAttributes> responses) {
-        List<FeedbackResponseAttributes> responsesExcludingSelf = getResponsesExcludingSelf(responses);
-        return generateOptionRanksMapping(responsesExcludingSelf);
+    private boolean isSelfResponse(FeedbackResponseAttributes response) {
+        return response.giver.equalsIgnoreCase(response.recipient);
     }
 
     @Override
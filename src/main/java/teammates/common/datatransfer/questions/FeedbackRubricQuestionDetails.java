@@ -4,10 +4,8 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -585,8 +583,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                                                   FeedbackQuestionAttributes question, String studentEmail,
                                                   FeedbackSessionResultsBundle bundle, String view) {
 
-        List<FeedbackResponseAttributes> responsesForStatistics =
-                filterResponsesForStatistics(responses, question, studentEmail, bundle, view);
+        String recipientForStatistics = getRecipientFilterForStatistics(question, studentEmail, bundle, view);
+        RubricResponseTally tally = new RubricResponseTally(responses, recipientForStatistics, bundle);
 
         FeedbackRubricQuestionDetails fqd =
                 (FeedbackRubricQuestionDetails) question.getQuestionDetails();
@@ -620,7 +618,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             tableHeaderFragmentHtml.append(tableHeaderAverageCell).append(System.lineSeparator());
         }
 
-        int[][] responseFrequency = RubricStatistics.calculateResponseFrequency(responsesForStatistics, fqd);
+        int[][] responseFrequency = tally.responseFrequency;
         float[][] rubricStats = RubricStatistics.calculatePercentageFrequencyAndAverage(fqd, responseFrequency);
 
         StringBuilder tableBodyHtml = getQuestionResultsStatisticsBodyHtml(fqd, responseFrequency, rubricStats);
@@ -629,8 +627,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         if (isExcludingSelfOptionAvailable) {
 
-            int[][] responseFrequencyExcludingSelf =
-                    RubricStatistics.calculateResponseFrequencyExcludingSelf(responsesForStatistics, fqd);
+            int[][] responseFrequencyExcludingSelf = tally.responseFrequencyExcludingSelf;
             float[][] rubricStatsExcludingSelf = RubricStatistics.calculatePercentageFrequencyAndAverage(fqd,
                     responseFrequencyExcludingSelf);
             tableBodyExcludingSelfHtml = getQuestionResultsStatisticsBodyHtml(fqd,
@@ -643,7 +640,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         String statsTitle = "Response Summary";
 
         if ("student".equals(view)) {
-            if (responses.size() == responsesForStatistics.size()) {
+            if (responses.size() == tally.numOfResponsesForStatistics) {
                 statsTitle = "Response Summary (of visible responses)";
             } else {
                 statsTitle = "Response Summary (of received responses)";
@@ -653,12 +650,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         String recipientStatsHtml = "";
 
         if (hasAssignedWeights) {
-            List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                    getPerRecipientStatisticsSorted(responses, bundle);
             StringBuilder bodyBuilder = new StringBuilder(100);
 
-            for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
-                RubricRecipientStatistics stats = entry.getValue();
+            for (RubricRecipientStatistics stats : tally.getPerRecipientStatisticsSorted()) {
                 bodyBuilder.append(stats.getHtmlForAllSubQuestions());
             }
 
@@ -731,16 +725,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     }
 
     /**
-     * Returns a list of FeedbackResponseAttributes filtered according to view, question recipient type
-     * for the Statistics Table.
+     * Returns the recipient whose received responses are the only ones counted in the Statistics Table,
+     * according to view and question recipient type, or null if all responses are counted.
      */
-    private List<FeedbackResponseAttributes> filterResponsesForStatistics(
-            List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
+    private String getRecipientFilterForStatistics(FeedbackQuestionAttributes question,
             String studentEmail, FeedbackSessionResultsBundle bundle, String view) {
 
         boolean isViewedByStudent = "student".equals(view);
         if (!isViewedByStudent) {
-            return responses;
+            return null;
         }
 
         FeedbackParticipantType recipientType = question.getRecipientType();
@@ -750,23 +743,13 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                 || recipientType.equals(FeedbackParticipantType.SELF);
 
         if (isFilteringSkipped) {
-            return responses;
+            return null;
         }
 
         boolean isFilteringByTeams = recipientType.equals(FeedbackParticipantType.OWN_TEAM)
                 || recipientType.equals(FeedbackParticipantType.TEAMS);
 
-        List<FeedbackResponseAttributes> receivedResponses = new ArrayList<>();
-        String recipientString = isFilteringByTeams ? bundle.getTeamNameForEmail(studentEmail) : studentEmail;
-
-        for (FeedbackResponseAttributes response : responses) {
-            boolean isReceivedResponse = response.recipient.equals(recipientString);
-            if (isReceivedResponse) {
-                receivedResponses.add(response);
-            }
-        }
-
-        return receivedResponses;
+        return isFilteringByTeams ? bundle.getTeamNameForEmail(studentEmail) : studentEmail;
     }
 
     @Override
@@ -802,7 +785,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         DecimalFormat df = new DecimalFormat("#");
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        int[][] responseFrequency = RubricStatistics.calculateResponseFrequency(responses, this);
+        RubricResponseTally tally = new RubricResponseTally(responses, null, bundle);
+        int[][] responseFrequency = tally.responseFrequency;
         float[][] rubricStats = RubricStatistics.calculatePercentageFrequencyAndAverage(this,
                 responseFrequency);
 
@@ -830,42 +814,17 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         if (hasAssignedWeights) {
             csv.append(System.lineSeparator());
             csv.append(getRecipientStatsCsvHeader());
-            csv.append(getPerRecipientStatisticsCsv(responses, bundle));
+            csv.append(getPerRecipientStatisticsCsv(tally));
         }
 
         return csv.toString();
     }
 
-    public List<Map.Entry<String, RubricRecipientStatistics>> getPerRecipientStatisticsSorted(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
-        Map<String, RubricRecipientStatistics> recipientToRecipientStats = new HashMap<>();
-
-        for (FeedbackResponseAttributes response : responses) {
-            recipientToRecipientStats.computeIfAbsent(response.recipient, recipient -> {
-                String recipientTeam = bundle.getTeamNameForEmail(recipient);
-                String recipientName = bundle.getNameForEmail(recipient);
-                return new RubricRecipientStatistics(recipient, recipientName, recipientTeam);
-            })
-                .addResponseToRecipientStats(response);
-        }
-
-        List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                new LinkedList<>(recipientToRecipientStats.entrySet());
-        recipientStatsList.sort(Comparator.comparing((Map.Entry<String, RubricRecipientStatistics> obj) ->
-                obj.getValue().recipientTeam.toLowerCase())
-                .thenComparing(obj -> obj.getValue().recipientName));
-        return recipientStatsList;
-    }
-
-    public String getPerRecipientStatisticsCsv(List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle) {
+    private String getPerRecipientStatisticsCsv(RubricResponseTally tally) {
         StringBuilder csv = new StringBuilder(100);
-        List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                getPerRecipientStatisticsSorted(responses, bundle);
 
-        for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
-            csv.append(entry.getValue().getCsvForAllSubQuestions());
+        for (RubricRecipientStatistics stats : tally.getPerRecipientStatisticsSorted()) {
+            csv.append(stats.getCsvForAllSubQuestions());
         }
 
         return csv.toString();
@@ -1100,22 +1059,10 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             respondentsPerSubQuestion = new int[getNumOfRubricSubQuestions()];
         }
 
-        public void addResponseToRecipientStats(FeedbackResponseAttributes response) {
-            if (!response.recipient.equalsIgnoreCase(recipientEmail)) {
-                return;
-            }
-
-            FeedbackRubricResponseDetails rubricResponse = (FeedbackRubricResponseDetails) response.getResponseDetails();
-
-            for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
-                int choice = rubricResponse.getAnswer(i);
-
-                if (choice >= 0) {
-                    ++numOfResponsesPerSubQuestionPerChoice[i][choice];
-                    totalPerSubQuestion[i] += getRubricWeights().get(choice);
-                    respondentsPerSubQuestion[i]++;
-                }
-            }
+        void addAnswer(int subQuestion, int choice, double weight) {
+            ++numOfResponsesPerSubQuestionPerChoice[subQuestion][choice];
+            totalPerSubQuestion[subQuestion] += weight;
+            respondentsPerSubQuestion[subQuestion]++;
         }
 
         /**
@@ -1214,57 +1161,103 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     }
 
     /**
-     * Class to calculate the statistics of responses for a rubric question.
+     * Class to collect, in a single pass over the responses of a rubric question,
+     * everything the statistics tables are rendered from.
      */
-    private static class RubricStatistics {
-
-        private RubricStatistics() {
-            // utility class
-        }
+    private class RubricResponseTally {
 
         /**
-         * Returns the frequency of being selected for each choice of each sub-question
+         * The frequency of being selected for each choice of each sub-question
          * and the total number of responses for each sub-question.
          *
-         * <p>Last element in each row stores the total number of responses for the sub-question.
-         *
          * <p>e.g.<br>
          * responseFrequency[subQuestionIndex][choiceIndex]
          * -> is the number of times choiceIndex is chosen for subQuestionIndex.<br>
          * responseFrequency[subQuestionIndex][numOfRubricChoices]
          * -> is the total number of the responses for the given sub-question.
          */
-        public static int[][] calculateResponseFrequency(List<FeedbackResponseAttributes> responses,
-                                                         FeedbackRubricQuestionDetails questionDetails) {
-            int numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
-            int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
-            int responseTotalIndex = numOfRubricChoices;
+        final int[][] responseFrequency;
+        final int[][] responseFrequencyExcludingSelf;
+        int numOfResponsesForStatistics;
+
+        /** Per-recipient statistics over all responses; only collected if the question has assigned weights. */
+        private final Map<String, RubricRecipientStatistics> recipientToRecipientStats = new HashMap<>();
+
+        /**
+         * Tallies {@code responses}.
+         *
+         * @param recipientForStatistics if not null, only responses to this recipient
+         *         are counted in {@link #responseFrequency} and {@link #responseFrequencyExcludingSelf}
+         */
+        RubricResponseTally(List<FeedbackResponseAttributes> responses, String recipientForStatistics,
+                FeedbackSessionResultsBundle bundle) {
+            int numOfSubQuestions = getNumOfRubricSubQuestions();
+            int numOfChoices = getNumOfRubricChoices();
+            int responseTotalIndex = numOfChoices;
+            responseFrequency = new int[numOfSubQuestions][numOfChoices + 1];
+            responseFrequencyExcludingSelf = new int[numOfSubQuestions][numOfChoices + 1];
+
+            double[] weights = new double[numOfChoices];
+            if (hasAssignedWeights) {
+                for (int j = 0; j < numOfChoices; j++) {
+                    weights[j] = rubricWeights.get(j);
+                }
+            }
 
-            int[][] responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
-            // count frequencies
             for (FeedbackResponseAttributes response : responses) {
+                boolean isCountedForStatistics =
+                        recipientForStatistics == null || response.recipient.equals(recipientForStatistics);
+                boolean isCountedExcludingSelf = isCountedForStatistics && !response.giver.equals(response.recipient);
+                if (isCountedForStatistics) {
+                    numOfResponsesForStatistics++;
+                }
+
+                RubricRecipientStatistics recipientStats = hasAssignedWeights
+                        ? recipientToRecipientStats.computeIfAbsent(response.recipient, recipient ->
+                                new RubricRecipientStatistics(recipient, bundle.getNameForEmail(recipient),
+                                        bundle.getTeamNameForEmail(recipient)))
+                        : null;
+
                 FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
-                for (int i = 0; i < numOfRubricSubQuestions; i++) {
+                for (int i = 0; i < numOfSubQuestions; i++) {
                     int chosenChoice = frd.getAnswer(i);
-                    if (chosenChoice != -1) {
-                        responseFrequency[i][chosenChoice] += 1;
-                        responseFrequency[i][responseTotalIndex] += 1;
+                    if (chosenChoice == -1) {
+                        continue;
+                    }
+                    if (isCountedForStatistics) {
+                        responseFrequency[i][chosenChoice]++;
+                        responseFrequency[i][responseTotalIndex]++;
+                    }
+                    if (isCountedExcludingSelf) {
+                        responseFrequencyExcludingSelf[i][chosenChoice]++;
+                        responseFrequencyExcludingSelf[i][responseTotalIndex]++;
+                    }
+                    if (recipientStats != null) {
+                        recipientStats.addAnswer(i, chosenChoice, weights[chosenChoice]);
                     }
                 }
             }
-            return responseFrequency;
         }
 
         /**
-         * Returns the frequency of being selected for each choice of each sub-question
-         * and the total number of responses for each sub-question for excluding self.
+         * Returns the per-recipient statistics sorted by recipient team, then by recipient name.
          */
-        public static int[][] calculateResponseFrequencyExcludingSelf(List<FeedbackResponseAttributes> responses,
-                                                         FeedbackRubricQuestionDetails questionDetails) {
+        List<RubricRecipientStatistics> getPerRecipientStatisticsSorted() {
+            List<RubricRecipientStatistics> recipientStatsList = new ArrayList<>(recipientToRecipientStats.values());
+            recipientStatsList.sort(Comparator.comparing((RubricRecipientStatistics stats) ->
+                    stats.recipientTeam.toLowerCase())
+                    .thenComparing(stats -> stats.recipientName));
+            return recipientStatsList;
+        }
+    }
+
+    /**
+     * Class to calculate the statistics of responses for a rubric question.
+     */
+    private static class RubricStatistics {
 
-            List<FeedbackResponseAttributes> responsesExcludingSelf = responses.stream()
-                    .filter(response -> !response.giver.equals(response.recipient)).collect(Collectors.toList());
-            return calculateResponseFrequency(responsesExcludingSelf, questionDetails);
+        private RubricStatistics() {
+            // utility class
         }
 
         /**
@@ -0,0 +1,107 @@
+package teammates.common.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A query for activity logs kept in the Datastore.
+ *
+ * <p>Logs are indexed by time bucket and by search terms of the form {@code label:value},
+ * see {@link #generateTerm(String, String)}. The query matches logs in its time period which
+ * have at least one of the terms of every term group added.
+ */
+public class ActivityLogQuery {
+
+    public static final String LABEL_REQUEST = "request";
+    public static final String LABEL_RESPONSE = "response";
+    public static final String LABEL_ROLE = "role";
+    public static final String LABEL_VERSION = "version";
+
+    private List<List<String>> termGroups = new ArrayList<>();
+    private boolean isTestingDataIncluded;
+    private long startTime;
+    private long endTime;
+
+    /**
+     * Sets values for query.
+     * If startTime is null, it will be considered as 0.
+     * If endTime is null, it will be considered as the current time.
+     *
+     * @param versionsToQuery decide which versions to find logs from.
+     */
+    public ActivityLogQuery(List<String> versionsToQuery, Long startTime, Long endTime) {
+        Assumption.assertNotNull(versionsToQuery);
+
+        addTerms(LABEL_VERSION, versionsToQuery.toArray(new String[0]));
+        setTimePeriod(startTime, endTime);
+    }
+
+    /**
+     * Returns the search term for {@code value} under {@code label}. Values are matched case-insensitively.
+     */
+    public static String generateTerm(String label, String value) {
+        return label + ":" + value.trim().toLowerCase();
+    }
+
+    /**
+     * Restricts the query to logs having at least one of {@code values} under {@code label}.
+     * Does nothing if there are no values.
+     */
+    public void addTerms(String label, String... values) {
+        if (values.length == 0) {
+            return;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String value : values) {
+            terms.add(generateTerm(label, value));
+        }
+        termGroups.add(terms);
+    }
+
+    public List<List<String>> getTermGroups() {
+        return termGroups;
+    }
+
+    public boolean isTestingDataIncluded() {
+        return isTestingDataIncluded;
+    }
+
+    public void setTestingDataIncluded(boolean isTestingDataIncluded) {
+        this.isTestingDataIncluded = isTestingDataIncluded;
+    }
+
+    /**
+     * Sets time period to search for query.
+     * If startTime is null, it will be considered as 0.
+     * If endTime is null, it will be considered as the current time.
+     */
+    public void setTimePeriod(Long startTimeParam, Long endTimeParam) {
+        this.startTime = startTimeParam == null ? 0L : startTimeParam;
+        this.endTime = endTimeParam == null ? Instant.now().toEpochMilli() : endTimeParam;
+    }
+
+    /**
+     * Gets end time of the query.
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Gets start time of the query.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Moves the time period to query logs to the next period in the past with a length of timeInMillis.
+     * @param timeInMillis the length of the next period in milliseconds.
+     */
+    public void moveTimePeriodBackward(long timeInMillis) {
+        long nextEndTime = getStartTime() - 1;
+        long nextStartTime = nextEndTime - timeInMillis;
+        setTimePeriod(nextStartTime, nextEndTime);
+    }
+}
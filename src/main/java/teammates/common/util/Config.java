@@ -63,6 +63,13 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /**
+     * Whether the entities returned by Datastore queries are counted, which needs every batch of
+     * query results to be parsed. Always true on the dev server, otherwise the value of the
+     * "app.datastore.countqueryresults" in build.properties file.
+     */
+    public static final boolean COUNT_DATASTORE_QUERY_RESULTS;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -86,6 +93,8 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        COUNT_DATASTORE_QUERY_RESULTS = isDevServer()
+                || Boolean.parseBoolean(properties.getProperty("app.datastore.countqueryresults"));
     }
 
     private Config() {
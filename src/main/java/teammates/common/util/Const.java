@@ -138,6 +138,21 @@ public final class Const {
 
         public static final String DEFAULT_PROFILE_PICTURE_PATH = "/images/profile_picture_default.png";
 
+        /**
+         * Width and height of profile picture thumbnails, twice the size of the photo in the "View Photo" popover
+         * of lists of students (.profile-pic), so that it stays sharp on high density displays.
+         */
+        public static final int PROFILE_PICTURE_THUMBNAIL_SIZE = 260;
+
+        /** Image requests are frequent, so only about one in this many of them is logged. */
+        public static final int IMAGE_REQUEST_LOG_SAMPLING_RATE = 100;
+
+        /** The interval at which the request metrics aggregated by an instance are logged. */
+        public static final long REQUEST_METRICS_FLUSH_INTERVAL_MILLIS = 5 * 60 * 1000; // five minutes
+
+        /** The number of days activity logs are kept for the admin activity log page. */
+        public static final int ACTIVITY_LOG_RETENTION_DAYS = 30;
+
         public static final List<String> PAGES_REQUIRING_ORIGIN_VALIDATION = Collections.unmodifiableList(
                 Arrays.asList(
                         ActionURIs.ADMIN_ACCOUNT_DELETE,
@@ -151,6 +166,7 @@ public final class Const {
                         ActionURIs.ADMIN_EMAIL_MOVE_TO_TRASH,
                         ActionURIs.ADMIN_EMAIL_TRASH_DELETE,
                         ActionURIs.ADMIN_INSTRUCTORACCOUNT_ADD,
+                        ActionURIs.ADMIN_SEARCH_INDEX_REBUILD,
                         ActionURIs.ADMIN_STUDENT_GOOGLE_ID_RESET,
                         ActionURIs.INSTRUCTOR_COURSE_ADD,
                         ActionURIs.INSTRUCTOR_COURSE_ARCHIVE,
@@ -810,6 +826,7 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
+        public static final String FEEDBACK_RESULTS_PAGE_TOKEN = "frpagetoken";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -884,6 +901,13 @@ public final class Const {
         public static final String RESPONDENT_IS_INSTRUCTOR = "respondentisinstructor";
         public static final String RESPONDENT_IS_TO_BE_REMOVED = "respondentistoberemoved";
 
+        public static final String SEARCH_INDEX_NAME = "searchindexname";
+        public static final String SEARCH_INDEX_CURSOR = "searchindexcursor";
+        public static final String SEARCH_INDEX_REBUILD_ID = "searchindexrebuildid";
+
+        public static final String ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME = "activitylogscleanupcutofftime";
+        public static final String ACTIVITY_LOGS_CLEANUP_CURSOR = "activitylogscleanupcursor";
+
         //Parameters for checking persistence of data during Eventual Consistency
         public static final String CHECK_PERSISTENCE_COURSE = "persistencecourse";
 
@@ -894,6 +918,7 @@ public final class Const {
         public static final String PROFILE_PICTURE_HEIGHT = "pictureheight";
         public static final String PROFILE_PICTURE_WIDTH = "picturewidth";
         public static final String PROFILE_PICTURE_ROTATE = "picturerotate";
+        public static final String PROFILE_PICTURE_THUMBNAIL = "picturethumbnail";
 
         public static final String SEARCH_STUDENTS = "searchstudents";
         public static final String SEARCH_TEAMS = "searchteams";
@@ -1079,12 +1104,15 @@ public final class Const {
         public static final String PUBLIC_DOC_SERVE = "/public/getDoc";
         public static final String PUBLIC_EMAIL_FILE_SERVE = "/public/publicEmailImageServe";
         public static final String ADMIN_STUDENT_GOOGLE_ID_RESET = "/admin/adminStudentGoogleIdReset";
+        public static final String ADMIN_SEARCH_INDEX_REBUILD = "/admin/adminSearchIndexRebuild";
 
         public static final String AUTOMATED_LOG_COMPILATION = "/auto/compileLogs";
         public static final String AUTOMATED_FEEDBACK_OPENING_REMINDERS = "/auto/feedbackSessionOpeningReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_STATS_RECONCILIATION = "/auto/feedbackSessionStatsReconciliation";
+        public static final String AUTOMATED_ACTIVITY_LOGS_CLEANUP = "/auto/activityLogsCleanup";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1097,6 +1125,9 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        public static final String ACTIVITY_LOGS_CLEANUP_QUEUE_NAME = "activity-logs-cleanup-queue";
+        public static final String ACTIVITY_LOGS_CLEANUP_WORKER_URL = "/worker/activityLogsCleanup";
+
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_QUEUE_NAME = "admin-prepare-email-address-mode-queue";
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL = "/worker/adminPrepareEmailAddressMode";
 
@@ -1132,6 +1163,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL =
                 "/worker/feedbackSessionUnpublishedEmail";
 
+        public static final String FEEDBACK_SESSION_RESULTS_SUMMARY_QUEUE_NAME =
+                "feedback-session-results-summary-queue";
+        public static final String FEEDBACK_SESSION_RESULTS_SUMMARY_WORKER_URL =
+                "/worker/feedbackSessionResultsSummary";
+
         public static final String FEEDBACK_SESSION_UPDATE_RESPONDENT_QUEUE_NAME =
                 "feedback-session-update-respondent-queue";
         public static final String FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL =
@@ -1140,6 +1176,9 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEARCH_INDEX_REBUILD_QUEUE_NAME = "search-index-rebuild-queue";
+        public static final String SEARCH_INDEX_REBUILD_WORKER_URL = "/worker/searchIndexRebuild";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
@@ -1505,6 +1544,8 @@ public final class Const {
         public static final String INSTRUCTOR_STATUS_DELETED = "The Instructor status has been deleted";
         public static final String INSTRUCTOR_ACCOUNT_DELETED = "The Account has been deleted";
         public static final String INSTRUCTOR_REMOVED_FROM_COURSE = "The Instructor has been removed from the Course";
+        public static final String SEARCH_INDEX_REBUILD_SCHEDULED =
+                "The search documents of the Course are scheduled to be rebuilt";
 
         public static final String INSTRUCTOR_COURSE_EMPTY =
                 "There are no students in this course. Click <a href=\"%s\">here</a> to enroll students.";
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.nio.charset.Charset;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Mac;
@@ -34,4 +35,18 @@ public final class CryptoHelper {
         byte[] encryptedSessionId = mac.doFinal(sessionId.getBytes(charset));
         return StringHelper.byteArrayToHexString(encryptedSessionId);
     }
+
+    /**
+     * Computes the SHA-256 hash of the given string, as a hexadecimal string.
+     */
+    public static String computeSha256Hash(String input) {
+        MessageDigest digest = null;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            Assumption.fail("Algorithm specified does not exist.");
+        }
+        Charset charset = Charset.forName("UTF-8");
+        return StringHelper.byteArrayToHexString(digest.digest(input.getBytes(charset)));
+    }
 }
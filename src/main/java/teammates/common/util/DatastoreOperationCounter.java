@@ -0,0 +1,113 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the Datastore and search operations made by the current request thread,
+ * together with the number of entities or documents involved and the time spent on them.
+ *
+ * <p>Datastore operations are counted per RPC by the
+ * {@link teammates.storage.api.DatastoreRpcCountingDelegate}, and search operations per call to
+ * the search backend by the {@link teammates.storage.search.SearchManager}.
+ *
+ * <p>The counts are reset by {@link #reset()} at the start of every request, reported in the
+ * logs and in the {@link RequestMetrics} of the request, and can be asserted on in tests
+ * to keep the number of round trips of an action within a budget.
+ */
+public final class DatastoreOperationCounter {
+
+    /**
+     * The kinds of operations counted.
+     */
+    public enum Operation {
+        /** Lookup by keys; the entities counted are the keys looked up, whether they exist or not. */
+        GET,
+        /** A batch of query results, either the first one or a further one fetched with a cursor. */
+        QUERY,
+        PUT,
+        DELETE,
+        SEARCH_PUT,
+        SEARCH_QUERY,
+        SEARCH_DELETE
+    }
+
+    private static final int OPERATIONS = 0;
+    private static final int ENTITIES = 1;
+    private static final int ELAPSED_NANOS = 2;
+
+    private static final ThreadLocal<long[][]> COUNTS =
+            ThreadLocal.withInitial(() -> new long[Operation.values().length][3]);
+
+    private DatastoreOperationCounter() {
+        // utility class
+    }
+
+    /**
+     * Resets the counts of the current thread.
+     */
+    public static void reset() {
+        COUNTS.set(new long[Operation.values().length][3]);
+    }
+
+    /**
+     * Counts one operation of the current thread.
+     *
+     * @param numberOfEntities the number of entities or documents read or written by the operation
+     * @param elapsedNanos the time spent on the operation, or 0 if it was not measured
+     */
+    public static void count(Operation operation, int numberOfEntities, long elapsedNanos) {
+        long[] counts = COUNTS.get()[operation.ordinal()];
+        counts[OPERATIONS]++;
+        counts[ENTITIES] += numberOfEntities;
+        counts[ELAPSED_NANOS] += elapsedNanos;
+    }
+
+    public static int getOperationCount(Operation operation) {
+        return (int) COUNTS.get()[operation.ordinal()][OPERATIONS];
+    }
+
+    public static int getEntityCount(Operation operation) {
+        return (int) COUNTS.get()[operation.ordinal()][ENTITIES];
+    }
+
+    public static long getElapsedMillis(Operation operation) {
+        return COUNTS.get()[operation.ordinal()][ELAPSED_NANOS] / 1_000_000;
+    }
+
+    /**
+     * Returns the number of entities read by the current thread.
+     * Entities returned by queries are only included if {@link Config#COUNT_DATASTORE_QUERY_RESULTS} is set.
+     */
+    public static int getReads() {
+        return getEntityCount(Operation.GET) + getEntityCount(Operation.QUERY);
+    }
+
+    /**
+     * Returns the number of entities written or deleted by the current thread.
+     */
+    public static int getWrites() {
+        return getEntityCount(Operation.PUT) + getEntityCount(Operation.DELETE);
+    }
+
+    /**
+     * Returns the counts of the operations made by the current thread as JSON on a single line,
+     * e.g. <code>{"GET":{"operations":2,"entities":1,"elapsedMillis":0}}</code>.
+     * Operations which were not made are left out.
+     */
+    public static String toCompactJson() {
+        Map<Operation, Map<String, Long>> countsOfOperations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            long[] counts = COUNTS.get()[operation.ordinal()];
+            if (counts[OPERATIONS] == 0) {
+                continue;
+            }
+            Map<String, Long> countsOfOperation = new LinkedHashMap<>();
+            countsOfOperation.put("operations", counts[OPERATIONS]);
+            countsOfOperation.put("entities", counts[ENTITIES]);
+            countsOfOperation.put("elapsedMillis", counts[ELAPSED_NANOS] / 1_000_000);
+            countsOfOperations.put(operation, countsOfOperation);
+        }
+        return JsonUtils.toCompactJson(countsOfOperations);
+    }
+}
@@ -6,12 +6,17 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
 
 import com.google.appengine.api.blobstore.BlobInfoFactory;
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
+import com.google.appengine.api.images.ImagesService;
+import com.google.appengine.api.images.ImagesServiceFactory;
+import com.google.appengine.api.images.OutputSettings;
+import com.google.appengine.api.images.Transform;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
@@ -56,12 +61,14 @@ public final class GoogleCloudStorageHelper {
 
     /**
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
-     * with the {@code googleId} as the identifier name for the image.
+     * with the {@code googleId} as the prefix of the identifier name for the image.
+     * Every image is written to a new file, so the {@link BlobKey} of an image changes whenever it is replaced.
      *
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
+        String fileName = googleId + "/" + UUID.randomUUID();
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, fileName);
         try (GcsOutputChannel outputChannel =
                 GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
                 .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
@@ -70,7 +77,30 @@ public final class GoogleCloudStorageHelper {
         }
 
         return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + fileName).getKeyString();
+    }
+
+    /**
+     * Writes a thumbnail of the image {@code imageData} to the Google Cloud Storage,
+     * with the {@code googleId} as the prefix of the identifier name for the thumbnail.
+     * The thumbnail is resized to fit in a square of {@link Const.SystemParams#PROFILE_PICTURE_THUMBNAIL_SIZE} pixels.
+     *
+     * @return the {@link BlobKey} used as the thumbnail's identifier in Google Cloud Storage,
+     *         or an empty string if the image could not be resized
+     */
+    public static String writeThumbnailDataToGcs(String googleId, byte[] imageData) throws IOException {
+        byte[] thumbnailData;
+        try {
+            Transform resize = ImagesServiceFactory.makeResize(Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_SIZE,
+                                                               Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_SIZE);
+            OutputSettings settings = new OutputSettings(ImagesService.OutputEncoding.PNG);
+            thumbnailData = ImagesServiceFactory.getImagesService()
+                    .applyTransform(resize, ImagesServiceFactory.makeImage(imageData), settings).getImageData();
+        } catch (RuntimeException e) {
+            log.warning("Could not make thumbnail of image for " + googleId + ": " + e.getMessage());
+            return "";
+        }
+        return writeImageDataToGcs(googleId, thumbnailData);
     }
 
     /**
@@ -112,4 +112,27 @@ public final class HttpRequestHelper {
         return null;
     }
 
+    /**
+     * Returns true if the value of an If-None-Match request header matches the entity tag,
+     * i.e. the copy cached by the client is still current and a 304 Not Modified response can be sent.
+     *
+     * @param ifNoneMatch the If-None-Match header, which may list several (weak) entity tags, or null
+     * @param eTag the quoted entity tag of the current representation
+     */
+    public static boolean isETagMatched(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if ("*".equals(trimmed) || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -30,13 +30,17 @@ public final class JsonUtils {
      * Json file and also reformat the Json string in pretty-print format.
      */
     private static Gson getTeammatesGson() {
+        return getTeammatesGsonBuilder()
+                .setPrettyPrinting()
+                .create();
+    }
+
+    private static GsonBuilder getTeammatesGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .disableHtmlEscaping();
     }
 
     /**
@@ -57,6 +61,14 @@ public final class JsonUtils {
         return getTeammatesGson().toJson(src);
     }
 
+    /**
+     * Serializes the specified object into its equivalent JSON string, on a single line.
+     * Used for records which are written to the logs.
+     */
+    public static String toCompactJson(Object src) {
+        return getTeammatesGsonBuilder().create().toJson(src);
+    }
+
     /**
      * Deserializes the specified JSON string into an object of the specified type.
      *
@@ -34,6 +34,17 @@ public class LogMessageGenerator {
      */
     public String generatePageActionLogMessage(String url, Map<String, String[]> params, UserType currUser,
             AccountAttributes userAccount, StudentAttributes unregisteredStudent, String logMessage) {
+        return generatePageActionLogEntry(url, params, currUser, userAccount, unregisteredStudent, logMessage)
+                .generateLogMessage();
+    }
+
+    /**
+     * Generates the log entry for an *Action.
+     *
+     * @see #generatePageActionLogMessage(String, Map, UserType, AccountAttributes, StudentAttributes, String)
+     */
+    public ActivityLogEntry generatePageActionLogEntry(String url, Map<String, String[]> params, UserType currUser,
+            AccountAttributes userAccount, StudentAttributes unregisteredStudent, String logMessage) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         boolean isUnregisteredStudent = unregisteredStudent != null;
@@ -45,7 +56,7 @@ public class LogMessageGenerator {
         }
 
         builder.withLogMessage(logMessage);
-        return builder.build().generateLogMessage();
+        return builder.build();
     }
 
     private void updateInfoForUnregisteredStudent(Builder builder, StudentAttributes unregisteredStudent) {
@@ -83,6 +94,16 @@ public class LogMessageGenerator {
      */
     public String generateActionFailureLogMessage(String url, Map<String, String[]> params,
             Exception e, UserType currUser) {
+        return generateActionFailureLogEntry(url, params, e, currUser).generateLogMessage();
+    }
+
+    /**
+     * Generates the log entry for servlet action failure.
+     *
+     * @see #generateActionFailureLogMessage(String, Map, Exception, UserType)
+     */
+    public ActivityLogEntry generateActionFailureLogEntry(String url, Map<String, String[]> params,
+            Exception e, UserType currUser) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         String message = "<span class=\"text-danger\">Servlet Action failure in "
@@ -93,7 +114,7 @@ public class LogMessageGenerator {
 
         builder.withActionResponse(Const.ACTION_RESULT_FAILURE);
 
-        return builder.build().generateLogMessage();
+        return builder.build();
     }
 
     /**
@@ -107,11 +128,21 @@ public class LogMessageGenerator {
      */
     public String generateBasicActivityLogMessage(String url, Map<String, String[]> params, String message,
             UserType currUser) {
+        return generateBasicActivityLogEntry(url, params, message, currUser).generateLogMessage();
+    }
+
+    /**
+     * Generates a log entry with basic information.
+     *
+     * @see #generateBasicActivityLogMessage(String, Map, String, UserType)
+     */
+    public ActivityLogEntry generateBasicActivityLogEntry(String url, Map<String, String[]> params, String message,
+            UserType currUser) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         builder.withLogMessage(message);
 
-        return builder.build().generateLogMessage();
+        return builder.build();
     }
 
     /**
@@ -1,5 +1,8 @@
 package teammates.common.util;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+
 /**
  * Allows any component of the application to log messages at appropriate levels.
  */
@@ -25,6 +28,16 @@ public final class Logger {
         log.fine(msg);
     }
 
+    /**
+     * Logs a message at FINE level for about one in {@code samplingRate} calls.
+     * Used for messages of frequent requests which are not worth logging every time.
+     */
+    public void fineSampled(String msg, int samplingRate) {
+        if (log.isLoggable(Level.FINE) && ThreadLocalRandom.current().nextInt(samplingRate) == 0) {
+            log.fine(msg);
+        }
+    }
+
     /**
      * Logs a message at INFO level.
      *
@@ -0,0 +1,77 @@
+package teammates.common.util;
+
+/**
+ * The metrics of a single request handled by an action.
+ *
+ * @see RequestMetricsAggregator
+ */
+public final class RequestMetrics {
+
+    /** The status of a request which completed without an exception. */
+    public static final String STATUS_OK = "OK";
+
+    private final String actionName;
+    private final String userRole;
+    private final long latencyMillis;
+    private final int datastoreReads;
+    private final int datastoreWrites;
+    private final long responseSize;
+    private final String status;
+
+    public RequestMetrics(String actionName, String userRole, long latencyMillis, int datastoreReads,
+            int datastoreWrites, long responseSize, String status) {
+        this.actionName = actionName;
+        this.userRole = userRole;
+        this.latencyMillis = latencyMillis;
+        this.datastoreReads = datastoreReads;
+        this.datastoreWrites = datastoreWrites;
+        this.responseSize = responseSize;
+        this.status = status;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public int getDatastoreReads() {
+        return datastoreReads;
+    }
+
+    public int getDatastoreWrites() {
+        return datastoreWrites;
+    }
+
+    /**
+     * Returns the number of characters written for text responses,
+     * or the declared content length for other responses.
+     */
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    /**
+     * Returns {@link #STATUS_OK}, or the simple name of the class of the exception the request failed with.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isFailure() {
+        return !STATUS_OK.equals(status);
+    }
+
+    /**
+     * Returns the metrics as JSON on a single line.
+     */
+    public String toCompactJson() {
+        return JsonUtils.toCompactJson(this);
+    }
+}
@@ -0,0 +1,203 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aggregates the {@link RequestMetrics} of the requests handled by this instance, per action.
+ *
+ * <p>The aggregates are logged and reset once every flush interval, when the first request
+ * after the end of the interval is recorded. Latency percentiles are computed from a uniform
+ * sample of at most {@link #MAX_LATENCY_SAMPLES_PER_ACTION} latencies of each action.
+ */
+public final class RequestMetricsAggregator {
+
+    static final int MAX_LATENCY_SAMPLES_PER_ACTION = 1000;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final RequestMetricsAggregator instance =
+            new RequestMetricsAggregator(Const.SystemParams.REQUEST_METRICS_FLUSH_INTERVAL_MILLIS);
+
+    private final long flushIntervalMillis;
+    private Map<String, ActionMetrics> metricsOfActions = new TreeMap<>();
+    private long intervalStartTime = System.currentTimeMillis();
+
+    public RequestMetricsAggregator(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public static RequestMetricsAggregator inst() {
+        return instance;
+    }
+
+    /**
+     * Adds the metrics of a request, then flushes the aggregates if the flush interval has passed.
+     */
+    public void record(RequestMetrics metrics) {
+        log.fine("Request metrics: " + metrics.toCompactJson());
+
+        List<Summary> summaries = null;
+        synchronized (this) {
+            metricsOfActions.computeIfAbsent(metrics.getActionName(), ActionMetrics::new).add(metrics);
+            if (System.currentTimeMillis() - intervalStartTime >= flushIntervalMillis) {
+                summaries = flush();
+            }
+        }
+
+        if (summaries != null) {
+            for (Summary summary : summaries) {
+                log.info("Request metrics summary: " + summary.toCompactJson());
+            }
+        }
+    }
+
+    /**
+     * Returns the summaries of the actions recorded since the last flush, ordered by action name,
+     * and starts a new flush interval.
+     */
+    public synchronized List<Summary> flush() {
+        List<Summary> summaries = new ArrayList<>();
+        for (ActionMetrics actionMetrics : metricsOfActions.values()) {
+            summaries.add(actionMetrics.summarize());
+        }
+        metricsOfActions = new TreeMap<>();
+        intervalStartTime = System.currentTimeMillis();
+        return summaries;
+    }
+
+    /**
+     * The running totals of one action.
+     */
+    private static class ActionMetrics {
+        private final String actionName;
+        private final List<Long> latencySamples = new ArrayList<>();
+        private int count;
+        private int failureCount;
+        private long maxLatency;
+        private long totalDatastoreReads;
+        private long totalDatastoreWrites;
+        private long totalResponseSize;
+
+        ActionMetrics(String actionName) {
+            this.actionName = actionName;
+        }
+
+        void add(RequestMetrics metrics) {
+            count++;
+            if (metrics.isFailure()) {
+                failureCount++;
+            }
+            maxLatency = Math.max(maxLatency, metrics.getLatencyMillis());
+            totalDatastoreReads += metrics.getDatastoreReads();
+            totalDatastoreWrites += metrics.getDatastoreWrites();
+            totalResponseSize += metrics.getResponseSize();
+
+            // reservoir sampling, which keeps every latency recorded so far in the sample with equal probability
+            if (latencySamples.size() < MAX_LATENCY_SAMPLES_PER_ACTION) {
+                latencySamples.add(metrics.getLatencyMillis());
+            } else {
+                int index = ThreadLocalRandom.current().nextInt(count);
+                if (index < MAX_LATENCY_SAMPLES_PER_ACTION) {
+                    latencySamples.set(index, metrics.getLatencyMillis());
+                }
+            }
+        }
+
+        Summary summarize() {
+            Collections.sort(latencySamples);
+            return new Summary(actionName, count, failureCount, getPercentile(50), getPercentile(90), getPercentile(99),
+                    maxLatency, totalDatastoreReads / count, totalDatastoreWrites / count, totalResponseSize / count);
+        }
+
+        /**
+         * Returns the nearest-rank percentile of the sorted latency samples.
+         */
+        private long getPercentile(int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * latencySamples.size());
+            return latencySamples.get(Math.max(rank, 1) - 1);
+        }
+    }
+
+    /**
+     * The aggregated metrics of one action over a flush interval, including the requests which failed.
+     * Datastore operation counts and response size are averages per request.
+     */
+    public static class Summary {
+        private final String actionName;
+        private final int count;
+        private final int failureCount;
+        private final long latencyP50;
+        private final long latencyP90;
+        private final long latencyP99;
+        private final long latencyMax;
+        private final long averageDatastoreReads;
+        private final long averageDatastoreWrites;
+        private final long averageResponseSize;
+
+        Summary(String actionName, int count, int failureCount, long latencyP50, long latencyP90, long latencyP99,
+                long latencyMax, long averageDatastoreReads, long averageDatastoreWrites, long averageResponseSize) {
+            this.actionName = actionName;
+            this.count = count;
+            this.failureCount = failureCount;
+            this.latencyP50 = latencyP50;
+            this.latencyP90 = latencyP90;
+            this.latencyP99 = latencyP99;
+            this.latencyMax = latencyMax;
+            this.averageDatastoreReads = averageDatastoreReads;
+            this.averageDatastoreWrites = averageDatastoreWrites;
+            this.averageResponseSize = averageResponseSize;
+        }
+
+        public String getActionName() {
+            return actionName;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public long getLatencyP50() {
+            return latencyP50;
+        }
+
+        public long getLatencyP90() {
+            return latencyP90;
+        }
+
+        public long getLatencyP99() {
+            return latencyP99;
+        }
+
+        public long getLatencyMax() {
+            return latencyMax;
+        }
+
+        public long getAverageDatastoreReads() {
+            return averageDatastoreReads;
+        }
+
+        public long getAverageDatastoreWrites() {
+            return averageDatastoreWrites;
+        }
+
+        public long getAverageResponseSize() {
+            return averageResponseSize;
+        }
+
+        /**
+         * Returns the summary as JSON on a single line.
+         */
+        public String toCompactJson() {
+            return JsonUtils.toCompactJson(this);
+        }
+    }
+}
@@ -10,11 +10,20 @@ public class TaskWrapper {
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final String taskName;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, null);
+    }
+
+    /**
+     * Creates a named task. A task with the same name is added to its queue only once.
+     */
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, String taskName) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.taskName = taskName;
     }
 
     public String getQueueName() {
@@ -29,4 +38,11 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    /**
+     * Returns the name of the task, or null if the task is not named.
+     */
+    public String getTaskName() {
+        return taskName;
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.google.appengine.api.log.AppLogLine;
 
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -292,19 +293,16 @@ public class EmailGenerator {
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
 
-            for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
+            try {
+                FeedbackSessionCompletionMatrix completion = fsLogic.getFeedbackSessionCompletionMatrix(session);
+                for (StudentAttributes student : studentsForCourse) {
+                    if (!completion.isSessionFullyAnsweredByGiver(student.email)) {
                         students.add(student);
                     }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
                 }
+            } catch (EntityDoesNotExistException e) {
+                log.severe("Course " + session.getCourseId() + " does not exist or "
+                           + "session " + session.getFeedbackSessionName() + " does not exist");
             }
         }
 
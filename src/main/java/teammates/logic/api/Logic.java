@@ -12,6 +12,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import teammates.common.datatransfer.*;
 import teammates.common.datatransfer.attributes.*;
 import teammates.common.exception.*;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.*;
@@ -33,7 +34,10 @@ public class Logic {
     protected static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
+    protected static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final FeedbackSessionResultsSummariesLogic feedbackSessionResultsSummariesLogic =
+            FeedbackSessionResultsSummariesLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -145,6 +149,22 @@ public class Logic {
         profilesLogic.updateStudentProfilePicture(googleId, newPictureKey);
     }
 
+    /**
+     * Updates the picture of the profile together with the thumbnail made from it.
+     * Preconditions: <br>
+     * * All parameters are non-null.<br>
+     * * {@code googleId} represents an existing account.
+     */
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newThumbnailKey)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(googleId);
+        Assumption.assertNotNull(newPictureKey);
+        Assumption.assertNotNull(newThumbnailKey);
+
+        profilesLogic.updateStudentProfilePicture(googleId, newPictureKey, newThumbnailKey);
+    }
+
     /**
      * Deletes both instructor and student privileges.
      * Does not delete courses. Can result in orphan courses
@@ -261,6 +281,19 @@ public class Logic {
         instructorsLogic.putDocuments(instructors);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of instructors of the course.
+     * Preconditions: <br>
+     * * {@code courseId} is non-null.
+     *
+     * @param cursor the cursor returned for the previous batch, or null for the first batch
+     * @return the cursor for the next batch, or null if the documents of all instructors of the course are put
+     */
+    public String putInstructorDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(courseId);
+        return instructorsLogic.putDocumentsForCourse(courseId, cursor);
+    }
+
     /**
      * Removes document for the given Instructor.
      *
@@ -704,28 +737,26 @@ public class Logic {
     }
 
     /**
-     * Search for students. Preconditions: all parameters are non-null.
-     * @param instructors   a list of InstructorAttributes associated to a googleId,
+     * Search for students in the courses of the filter. Preconditions: all parameters are non-null.
+     * @param courseFilter  the courses of the instructors associated to a googleId,
      *                      used for filtering of search result
-     * @return Null if no match found
      */
-    public StudentSearchResultBundle searchStudents(String queryString, List<InstructorAttributes> instructors) {
+    public StudentSearchResultBundle searchStudents(String queryString, InstructorCourseFilter courseFilter) {
         Assumption.assertNotNull(queryString);
-        Assumption.assertNotNull(instructors);
-        return studentsLogic.searchStudents(queryString, instructors);
+        Assumption.assertNotNull(courseFilter);
+        return studentsLogic.searchStudents(queryString, courseFilter);
     }
 
     /**
-     * Search for teams. Preconditions: all parameters are non-null.
-     * @param instructors   a list of InstructorAttributes associated to a googleId,
+     * Search for teams in the courses of the filter. Preconditions: all parameters are non-null.
+     * @param courseFilter  the courses of the instructors associated to a googleId,
      *                      used for filtering of search result
-     * @return Null if no match found
      */
-    public StudentSearchResultBundle searchTeams(String queryString, List<InstructorAttributes> instructors) {
+    public StudentSearchResultBundle searchTeams(String queryString, InstructorCourseFilter courseFilter) {
         Assumption.assertNotNull(queryString);
-        Assumption.assertNotNull(instructors);
+        Assumption.assertNotNull(courseFilter);
         String teamQueryString = "Team:" + queryString;
-        return studentsLogic.searchTeams(teamQueryString, instructors);
+        return studentsLogic.searchTeams(teamQueryString, courseFilter);
     }
 
 
@@ -1085,6 +1116,19 @@ public class Logic {
         studentsLogic.putDocuments(students);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of students of the course.
+     * Preconditions: <br>
+     * * {@code courseId} is non-null.
+     *
+     * @param cursor the cursor returned for the previous batch, or null for the first batch
+     * @return the cursor for the next batch, or null if the documents of all students of the course are put
+     */
+    public String putStudentDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(courseId);
+        return studentsLogic.putDocumentsForCourse(courseId, cursor);
+    }
+
     /**
      * Generates students list of a course in CSV format. <br>
      * Preconditions: <br>
@@ -1185,6 +1229,29 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionDetails(fsa);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionDetails(FeedbackSessionAttributes)
+     */
+    public FeedbackSessionDetailsBundle getFeedbackSessionDetails(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getFeedbackSessionDetails(fsa);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#reconcileExpectedRespondentsTotal(FeedbackSessionAttributes)
+     */
+    public boolean reconcileExpectedRespondentsTotal(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.reconcileExpectedRespondentsTotal(fsa);
+    }
+
     /**
      * Returns a {@code List} of all feedback sessions bundled with their
      * response statistics for a instructor given by his googleId.
@@ -1463,6 +1530,34 @@ public class Logic {
         feedbackSessionsLogic.unpublishFeedbackSession(session);
     }
 
+    /**
+     * Returns the results summary of the feedback session, creating it with no statistics built
+     * if there is none. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionResultsSummaryAttributes getOrCreateFeedbackSessionResultsSummary(
+            String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+
+        return feedbackSessionResultsSummariesLogic.getOrCreateSummary(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Builds and stores the statistics of the results summary of the feedback session if it is published
+     * and they are not built for the current generation of the summary. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void buildFeedbackSessionResultsSummary(String courseId, String feedbackSessionName)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+
+        feedbackSessionResultsSummariesLogic.buildSummary(courseId, feedbackSessionName);
+    }
+
     /**
      * Deletes the feedback session but not the questions and
      * responses associated to it.
@@ -1692,39 +1787,45 @@ public class Logic {
     }
 
     /**
-     * Gets a question+response bundle for questions with responses that
-     * is visible to the instructor for a feedback session from a section within the given range
+     * Gets a page of a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session from a section.
+     * The token of the next page is in {@link FeedbackSessionResultsBundle#nextResponsesPageToken}.
      * Preconditions: <br>
-     * * All parameters are non-null.
+     * * {@code feedbackSessionName}, {@code courseId}, {@code userEmail} and {@code section} are non-null.
      */
-    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionWithinRange(
-            String feedbackSessionName, String courseId, String userEmail, String section, int range)
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            String pageToken, int pageSize)
             throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(feedbackSessionName);
         Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(userEmail);
+        Assumption.assertNotNull(section);
 
-        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorFromSectionWithinRange(
-                                        feedbackSessionName, courseId, userEmail, section, range);
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorFromSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, pageToken, pageSize);
     }
 
     /**
-     * Gets a question+response bundle for questions with responses that
-     * is visible to the instructor for a feedback session to a section within the given range
+     * Gets a page of a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session to a section.
+     * The token of the next page is in {@link FeedbackSessionResultsBundle#nextResponsesPageToken}.
      * Preconditions: <br>
-     * * All parameters are non-null.
+     * * {@code feedbackSessionName}, {@code courseId}, {@code userEmail} and {@code section} are non-null.
      */
-    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionWithinRange(
-            String feedbackSessionName, String courseId, String userEmail, String section, int range)
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            String pageToken, int pageSize)
             throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(feedbackSessionName);
         Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(userEmail);
+        Assumption.assertNotNull(section);
 
-        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorToSectionWithinRange(
-                                        feedbackSessionName, courseId, userEmail, section, range);
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorToSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, pageToken, pageSize);
     }
 
     /**
@@ -1975,6 +2076,19 @@ public class Logic {
         feedbackResponseCommentsLogic.putDocuments(comments);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of response comments of the course.
+     * Preconditions: <br>
+     * * {@code courseId} is non-null.
+     *
+     * @param cursor the cursor returned for the previous batch, or null for the first batch
+     * @return the cursor for the next batch, or null if the documents of all comments of the course are put
+     */
+    public String putFeedbackResponseCommentDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(courseId);
+        return feedbackResponseCommentsLogic.putDocumentsForCourse(courseId, cursor);
+    }
+
     /**
      * Removes document for the given comment.
      *
@@ -2037,6 +2151,38 @@ public class Logic {
         feedbackResponseCommentsLogic.deleteFeedbackResponseCommentById(commentId);
     }
 
+    /**
+     * Records an activity log to be shown in the admin activity log page.
+     *
+     * @see ActivityLogsLogic#recordActivityLog(ActivityLogAttributes)
+     */
+    public void recordActivityLog(ActivityLogAttributes log) {
+        Assumption.assertNotNull(log);
+        activityLogsLogic.recordActivityLog(log);
+    }
+
+    /**
+     * Returns the activity logs matching the query, latest first.
+     * The start of the time period of the query is moved forward if there are too many logs to read at once.
+     *
+     * @see ActivityLogsLogic#getActivityLogs(ActivityLogQuery)
+     */
+    public List<ActivityLogAttributes> getActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(query);
+        return activityLogsLogic.getActivityLogs(query);
+    }
+
+    /**
+     * Deletes a batch of the activity logs recorded before the given time, starting from {@code cursor}.
+     *
+     * @return the cursor to continue deleting from, or null if there are no more logs to delete
+     * @see ActivityLogsLogic#deleteActivityLogsBefore(Instant, String)
+     */
+    public String deleteActivityLogsBefore(Instant time, String cursor) {
+        Assumption.assertNotNull(time);
+        return activityLogsLogic.deleteActivityLogsBefore(time, cursor);
+    }
+
     /**
      * Gets an admin email by email id.
      *
@@ -1,12 +1,16 @@
 package teammates.logic.api;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.CryptoHelper;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
@@ -39,6 +43,13 @@ public class TaskQueuer {
         new TaskQueuesLogic().addDeferredTask(task, countdownTime);
     }
 
+    protected void addNamedTask(String queueName, String workerUrl, String taskName, Map<String, String> paramMap) {
+        Map<String, String[]> multisetParamMap = new HashMap<>();
+        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap, taskName);
+        new TaskQueuesLogic().addTask(task);
+    }
+
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
         new TaskQueuesLogic().addTask(task);
@@ -189,6 +200,87 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the statistics of the results summary of a published feedback session to be built
+     * for the current generation of the summary.
+     * The task is named after the summary and its generation, so that it is added only once
+     * however many times the results are viewed before it runs.
+     *
+     * @param summary the results summary of the feedback session
+     */
+    public void scheduleFeedbackSessionResultsSummaryBuilding(FeedbackSessionResultsSummaryAttributes summary) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, summary.getCourseId());
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, summary.getFeedbackSessionName());
+
+        // the creation time tells apart summaries of sessions deleted and re-created with the same name
+        String taskName = "results-summary-" + CryptoHelper.computeSha256Hash(summary.getCourseId() + "|"
+                + summary.getFeedbackSessionName() + "|" + summary.getCreatedAt().toEpochMilli() + "|"
+                + summary.getGeneration());
+        addNamedTask(TaskQueue.FEEDBACK_SESSION_RESULTS_SUMMARY_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESULTS_SUMMARY_WORKER_URL, taskName, paramMap);
+    }
+
+    /**
+     * Schedules for the search documents of all students, instructors and response comments of a course
+     * to be rebuilt, e.g. after a data migration.
+     *
+     * @param courseId the ID of the course
+     */
+    public void scheduleSearchIndexRebuildForCourse(String courseId) {
+        String rebuildId = String.valueOf(System.currentTimeMillis());
+        scheduleSearchIndexRebuildForCourse(courseId, rebuildId, Const.SearchIndex.STUDENT, null);
+    }
+
+    /**
+     * Schedules for the search documents of a course to be rebuilt from a checkpoint.
+     *
+     * <p>The task is named after the rebuild, the index and the cursor, so that a retried task
+     * does not schedule the same checkpoint twice and fork the rebuild into duplicate chains of tasks.
+     *
+     * @param courseId the ID of the course
+     * @param rebuildId the ID of the rebuild, which distinguishes the checkpoints of separate rebuilds
+     * @param searchIndex the search index to continue rebuilding
+     * @param cursor the cursor of the next batch of entities in the index, or null to start from the first
+     */
+    public void scheduleSearchIndexRebuildForCourse(String courseId, String rebuildId, String searchIndex,
+                                                    String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.SEARCH_INDEX_REBUILD_ID, rebuildId);
+        paramMap.put(ParamsNames.SEARCH_INDEX_NAME, searchIndex);
+        if (cursor != null) {
+            paramMap.put(ParamsNames.SEARCH_INDEX_CURSOR, cursor);
+        }
+
+        String taskName = "search-index-rebuild-"
+                + CryptoHelper.computeSha256Hash(courseId + "|" + rebuildId + "|" + searchIndex + "|" + cursor);
+        addNamedTask(TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, TaskQueue.SEARCH_INDEX_REBUILD_WORKER_URL,
+                taskName, paramMap);
+    }
+
+    /**
+     * Schedules for the activity logs recorded before {@code cutoffTime} to be deleted from a checkpoint.
+     *
+     * <p>The task is named after the cutoff time and the cursor, so that a retried task
+     * does not schedule the same checkpoint twice.
+     *
+     * @param cutoffTime the time before which the logs are deleted
+     * @param cursor the cursor of the next batch of logs to delete, or null to start from the first
+     */
+    public void scheduleActivityLogsCleanup(Instant cutoffTime, String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME, String.valueOf(cutoffTime.toEpochMilli()));
+        if (cursor != null) {
+            paramMap.put(ParamsNames.ACTIVITY_LOGS_CLEANUP_CURSOR, cursor);
+        }
+
+        String taskName = "activity-logs-cleanup-"
+                + CryptoHelper.computeSha256Hash(cutoffTime.toEpochMilli() + "|" + cursor);
+        addNamedTask(TaskQueue.ACTIVITY_LOGS_CLEANUP_QUEUE_NAME, TaskQueue.ACTIVITY_LOGS_CLEANUP_WORKER_URL,
+                taskName, paramMap);
+    }
+
     /**
      * Schedules for feedback session publication reminders
      * for the specified feedback session for the specified group of users.
@@ -101,6 +101,7 @@ public class BackDoorLogic extends Logic {
         processQuestionsAndPopulateMap(questions, sessionQuestionsMap);
         processResponsesAndPopulateMap(responses, sessionResponsesMap);
         processSessionsAndUpdateRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
+        processSessionsAndPopulateInstitutes(sessions, courseInstructorsMap, googleIdAccountMap);
 
         accountsDb.createEntitiesDeferred(googleIdAccountMap.values());
         coursesDb.createEntitiesDeferred(courses);
@@ -161,11 +162,13 @@ public class BackDoorLogic extends Logic {
         }
 
         Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
+        List<FeedbackResponseCommentAttributes> responseCommentsInDb = new ArrayList<>();
         for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
             FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
                     responseComment.courseId, responseComment.createdAt, responseComment.giverEmail);
-            fcDb.putDocument(fcInDb);
+            responseCommentsInDb.add(fcInDb);
         }
+        fcDb.putDocuments(responseCommentsInDb);
 
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
@@ -343,6 +346,27 @@ public class BackDoorLogic extends Logic {
         }
     }
 
+    /**
+     * Sets the institute of each session without one to the institute of a registered instructor of its course,
+     * as is done when a session is created.
+     */
+    private void processSessionsAndPopulateInstitutes(Collection<FeedbackSessionAttributes> sessions,
+            SetMultimap<String, InstructorAttributes> courseInstructorsMap,
+            Map<String, AccountAttributes> googleIdAccountMap) {
+        for (FeedbackSessionAttributes session : sessions) {
+            if (session.getInstitute() != null) {
+                continue;
+            }
+            for (InstructorAttributes instructor : courseInstructorsMap.get(session.getCourseId())) {
+                AccountAttributes account = instructor.googleId == null ? null : googleIdAccountMap.get(instructor.googleId);
+                if (account != null) {
+                    session.setInstitute(account.institute);
+                    break;
+                }
+            }
+        }
+    }
+
     private void updateRespondents(FeedbackSessionAttributes session,
             Set<InstructorAttributes> courseInstructors,
             Set<FeedbackQuestionAttributes> sessionQuestions,
@@ -592,7 +616,8 @@ public class BackDoorLogic extends Logic {
     public void uploadAndUpdateStudentProfilePicture(String googleId,
             byte[] pictureData) throws EntityDoesNotExistException, IOException {
         String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(googleId, pictureData);
-        updateStudentProfilePicture(googleId, pictureKey);
+        String thumbnailKey = GoogleCloudStorageHelper.writeThumbnailDataToGcs(googleId, pictureData);
+        updateStudentProfilePicture(googleId, pictureKey, thumbnailKey);
     }
 
     public boolean isGroupListFilePresentInGcs(String groupListKey) {
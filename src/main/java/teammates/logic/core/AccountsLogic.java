@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.List;
+import java.util.Objects;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -32,6 +33,7 @@ public final class AccountsLogic {
     private static final AccountsDb accountsDb = new AccountsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
@@ -102,12 +104,24 @@ public final class AccountsLogic {
 
     public void updateAccount(AccountAttributes account)
             throws InvalidParametersException, EntityDoesNotExistException {
-        accountsDb.updateAccount(account, false);
+        updateAccount(account, false);
     }
 
+    /**
+     * Updates the account. If its institute changes, the institute of the sessions
+     * of the courses the account is an instructor of is updated too.
+     */
     public void updateAccount(AccountAttributes account, boolean updateStudentProfile)
             throws InvalidParametersException, EntityDoesNotExistException {
+        AccountAttributes existingAccount = accountsDb.getAccount(account.googleId);
+
         accountsDb.updateAccount(account, updateStudentProfile);
+
+        if (existingAccount != null && !Objects.equals(existingAccount.institute, account.institute)) {
+            for (InstructorAttributes instructor : instructorsLogic.getInstructorsForGoogleId(account.googleId)) {
+                fsLogic.updateInstituteOfFeedbackSessionsForCourse(instructor.courseId);
+            }
+        }
     }
 
     public void joinCourseForStudent(String registrationKey, String googleId)
@@ -185,7 +199,6 @@ public final class AccountsLogic {
             student.googleId = googleId;
             studentsLogic.updateStudentCascade(instructor.email, student);
         }
-
     }
 
     private void confirmValidJoinCourseRequest(String encryptedKey, String googleId)
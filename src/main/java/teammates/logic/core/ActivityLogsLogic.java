@@ -0,0 +1,62 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Assumption;
+import teammates.storage.api.ActivityLogsDb;
+
+/**
+ * Handles operations related to the activity logs shown to the admin.
+ *
+ * @see ActivityLogAttributes
+ * @see ActivityLogsDb
+ */
+public final class ActivityLogsLogic {
+
+    private static ActivityLogsLogic instance = new ActivityLogsLogic();
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    private ActivityLogsLogic() {
+        // prevent initialization
+    }
+
+    public static ActivityLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Records the log. The log is saved asynchronously, so that the request is not held up by the write.
+     *
+     * @see ActivityLogsDb#createActivityLogAsync(ActivityLogAttributes)
+     */
+    public void recordActivityLog(ActivityLogAttributes log) {
+        Assumption.assertNotNull(log);
+        activityLogsDb.createActivityLogAsync(log);
+    }
+
+    /**
+     * Returns the logs matching the query, latest first. The number of logs read is limited; if there are more,
+     * the start of the time period of the query is moved forward to the earliest log time which is covered.
+     *
+     * @see ActivityLogsDb#getActivityLogs(ActivityLogQuery)
+     */
+    public List<ActivityLogAttributes> getActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(query);
+        return activityLogsDb.getActivityLogs(query);
+    }
+
+    /**
+     * Deletes a batch of the logs recorded before the given time, to the granularity of the time buckets of the logs.
+     *
+     * @return the cursor to continue deleting from, or null if there are no more logs to delete
+     * @see ActivityLogsDb#deleteActivityLogsBefore(Instant, String)
+     */
+    public String deleteActivityLogsBefore(Instant time, String cursor) {
+        Assumption.assertNotNull(time);
+        return activityLogsDb.deleteActivityLogsBefore(time, cursor);
+    }
+}
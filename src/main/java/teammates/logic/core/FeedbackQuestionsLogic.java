@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,10 +9,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -39,6 +42,7 @@ public final class FeedbackQuestionsLogic {
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
@@ -78,7 +82,9 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        fsLogic.clearExpectedRespondentsTotal(fqa.feedbackSessionName, fqa.courseId);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -315,11 +321,50 @@ public final class FeedbackQuestionsLogic {
         return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
     }
 
+    /**
+     * Gets the possible recipients of {@code question} for {@code giver},
+     * loading only the part of the course roster the question's recipient type needs.
+     *
+     * <p>When recipients are needed for several questions of the same course, prefer
+     * {@link #getRecipientsForQuestion(FeedbackQuestionAttributes, String, InstructorAttributes,
+     * StudentAttributes, CourseRoster)} with a roster from {@link #getRosterForRecipients(String, List)}.
+     */
     public Map<String, String> getRecipientsForQuestion(
             FeedbackQuestionAttributes question, String giver,
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
 
+        CourseRoster roster;
+        switch (question.recipientType) {
+        case TEAMS:
+            if (coursesLogic.getCourse(question.courseId) == null) {
+                throw new EntityDoesNotExistException("The course " + question.courseId + " does not exist");
+            }
+            roster = getRosterForRecipients(question.courseId, Collections.singletonList(question));
+            break;
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+            roster = new CourseRoster(studentsLogic.getStudentsForTeam(giverTeam, question.courseId), null);
+            break;
+        default:
+            roster = getRosterForRecipients(question.courseId, Collections.singletonList(question));
+            break;
+        }
+
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
+    }
+
+    /**
+     * Gets the possible recipients of {@code question} for {@code giver} from an already loaded roster.
+     *
+     * @param roster a roster of the question's course, containing at least the students and/or instructors
+     *               required by the question's recipient type (see {@link #getRosterForRecipients(String, List)})
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
         Map<String, String> recipients = new HashMap<>();
 
         FeedbackParticipantType recipientType = question.recipientType;
@@ -335,8 +380,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -344,8 +388,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -353,12 +396,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getTeamNames()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -366,16 +408,14 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
+            for (StudentAttributes student : roster.getStudentsForTeam(giverTeam)) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (StudentAttributes student : roster.getStudentsForTeam(giverTeam)) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
             }
@@ -389,6 +429,34 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    /**
+     * Loads, in at most one read each, the students and instructors of the course
+     * needed to resolve the recipients of all of {@code questions}.
+     * Parts of the roster that none of the questions need are left empty.
+     */
+    public CourseRoster getRosterForRecipients(String courseId, List<FeedbackQuestionAttributes> questions) {
+        boolean isStudentListNeeded = false;
+        boolean isInstructorListNeeded = false;
+        for (FeedbackQuestionAttributes question : questions) {
+            switch (question.recipientType) {
+            case STUDENTS:
+            case TEAMS:
+            case OWN_TEAM_MEMBERS:
+            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                isStudentListNeeded = true;
+                break;
+            case INSTRUCTORS:
+                isInstructorListNeeded = true;
+                break;
+            default:
+                break;
+            }
+        }
+        return new CourseRoster(
+                isStudentListNeeded ? studentsLogic.getStudentsForCourse(courseId) : null,
+                isInstructorListNeeded ? instructorsLogic.getInstructorsForCourse(courseId) : null);
+    }
+
     private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
             StudentAttributes studentGiver) {
         String giverTeam = defaultTeam;
@@ -422,6 +490,62 @@ public final class FeedbackQuestionsLogic {
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
     }
 
+    /**
+     * Gets how far every student in {@code roster} has answered each of {@code questions},
+     * counting {@code responses} in a single pass instead of reading the responses of each student and question.
+     * <br> A cell is fully answered under the same rule as {@link #isQuestionFullyAnsweredByUser}.
+     *
+     * @param responses all responses of the session that {@code questions} belong to
+     * @param roster a roster containing all students and instructors of the session's course
+     */
+    public FeedbackSessionCompletionMatrix getStudentCompletionMatrix(FeedbackSessionAttributes session,
+            List<FeedbackQuestionAttributes> questions, List<FeedbackResponseAttributes> responses,
+            CourseRoster roster) {
+        List<String> giverEmails = new ArrayList<>();
+        for (StudentAttributes student : roster.getStudents()) {
+            giverEmails.add(student.email);
+        }
+
+        Map<String, Integer> questionIndexById = new HashMap<>();
+        for (int j = 0; j < questions.size(); j++) {
+            questionIndexById.put(questions.get(j).getId(), j);
+        }
+
+        Map<String, Integer> giverIndexByEmail = new HashMap<>();
+        for (int i = 0; i < giverEmails.size(); i++) {
+            giverIndexByEmail.put(giverEmails.get(i), i);
+        }
+
+        int[][] responseCounts = new int[giverEmails.size()][questions.size()];
+        for (FeedbackResponseAttributes response : responses) {
+            Integer giverIndex = giverIndexByEmail.get(response.giver);
+            Integer questionIndex = questionIndexById.get(response.feedbackQuestionId);
+            if (giverIndex != null && questionIndex != null) {
+                responseCounts[giverIndex][questionIndex]++;
+            }
+        }
+
+        int[][] requiredCounts = new int[giverEmails.size()][questions.size()];
+        for (int i = 0; i < giverEmails.size(); i++) {
+            String email = giverEmails.get(i);
+            for (int j = 0; j < questions.size(); j++) {
+                FeedbackQuestionAttributes question = questions.get(j);
+                boolean isAnswerable = question.giverType == FeedbackParticipantType.STUDENTS
+                        || question.giverType == FeedbackParticipantType.TEAMS;
+                if (!isAnswerable) {
+                    requiredCounts[i][j] = FeedbackSessionCompletionMatrix.NOT_APPLICABLE;
+                } else if (question.numberOfEntitiesToGiveFeedbackTo == Const.MAX_POSSIBLE_RECIPIENTS) {
+                    requiredCounts[i][j] = getRecipientsForQuestion(question, email,
+                            roster.getInstructorForEmail(email), roster.getStudentForEmail(email), roster).size();
+                } else {
+                    requiredCounts[i][j] = question.numberOfEntitiesToGiveFeedbackTo;
+                }
+            }
+        }
+
+        return new FeedbackSessionCompletionMatrix(giverEmails, responseCounts, requiredCounts);
+    }
+
     /**
      * Updates the feedback question number, shifts other questions up/down
      * depending on the change.
@@ -532,6 +656,11 @@ public final class FeedbackQuestionsLogic {
         oldQuestion.updateValues(newAttributes);
         newAttributes.removeIrrelevantVisibilityOptions();
         fqDb.updateFeedbackQuestion(newAttributes);
+        fsrsLogic.invalidateSummary(oldQuestion.courseId, oldQuestion.feedbackSessionName);
+
+        if (oldQuestion.giverType != newAttributes.giverType) {
+            fsLogic.clearExpectedRespondentsTotal(oldQuestion.feedbackSessionName, oldQuestion.courseId);
+        }
     }
 
     public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId)
@@ -624,6 +753,8 @@ public final class FeedbackQuestionsLogic {
         }
 
         fqDb.deleteEntity(questionToDelete);
+        fsLogic.clearExpectedRespondentsTotal(feedbackSessionName, courseId);
+        fsrsLogic.invalidateSummary(courseId, feedbackSessionName);
 
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
@@ -648,10 +779,17 @@ public final class FeedbackQuestionsLogic {
             List<FeedbackQuestionAttributes> questions, String giver)
             throws EntityDoesNotExistException {
         List<FeedbackQuestionAttributes> questionsWithRecipients = new ArrayList<>();
+        if (questions.isEmpty()) {
+            return questionsWithRecipients;
+        }
+        String courseId = questions.get(0).courseId;
+        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(courseId, giver);
+        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(courseId, giver);
+        CourseRoster roster = getRosterForRecipients(courseId, questions);
         for (FeedbackQuestionAttributes question : questions) {
             int numRecipients = question.numberOfEntitiesToGiveFeedbackTo;
             if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS) {
-                numRecipients = this.getRecipientsForQuestion(question, giver)
+                numRecipients = getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster)
                         .size();
             }
             if (numRecipients > 0) {
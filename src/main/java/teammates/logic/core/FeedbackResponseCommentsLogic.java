@@ -99,6 +99,42 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
     }
 
+    /**
+     * Gets the comments of the responses given by students in {@code section},
+     * or the comments of the whole session if {@code section} is null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSessionFromSection(String courseId,
+                                                           String feedbackSessionName, String section) {
+        if (section == null) {
+            return getFeedbackResponseCommentForSession(courseId, feedbackSessionName);
+        }
+        return frcDb.getFeedbackResponseCommentsForSessionFromSection(courseId, feedbackSessionName, section);
+    }
+
+    /**
+     * Gets the comments of the responses received by students in {@code section},
+     * or the comments of the whole session if {@code section} is null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSessionToSection(String courseId,
+                                                           String feedbackSessionName, String section) {
+        if (section == null) {
+            return getFeedbackResponseCommentForSession(courseId, feedbackSessionName);
+        }
+        return frcDb.getFeedbackResponseCommentsForSessionToSection(courseId, feedbackSessionName, section);
+    }
+
+    /**
+     * Gets the comments of the responses to the question given or received by students in {@code section},
+     * or the comments of all responses to the question if {@code section} is null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForQuestionInSection(
+            String feedbackQuestionId, String section) {
+        if (section == null) {
+            return frcDb.getFeedbackResponseCommentsForQuestion(feedbackQuestionId);
+        }
+        return frcDb.getFeedbackResponseCommentsForQuestionInSection(feedbackQuestionId, section);
+    }
+
     public void updateFeedbackResponseCommentsForChangingResponseId(
             String oldResponseId, String newResponseId)
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -150,6 +186,15 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.putDocuments(comments);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of comments of the course.
+     *
+     * @see FeedbackResponseCommentsDb#putDocumentsForCourse(String, String)
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        return frcDb.putDocumentsForCourse(courseId, cursor);
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForGiver(String courseId,
                                                                                        String giverEmail) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giverEmail);
@@ -0,0 +1,143 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Decides whether feedback responses are visible to one viewer, memoizing each decision.
+ *
+ * <p>Whether a response is visible depends only on its question, the relationship between the viewer
+ * and the response's giver and recipient, and (for instructors) the giver and recipient sections.
+ * The viewer is fixed for the lifetime of the table, so each distinct combination of those is evaluated
+ * only once. A table should be discarded at the end of the request that created it.
+ */
+public final class FeedbackResponseVisibilityTable {
+
+    private static final int IS_GIVER = 1;
+    private static final int IS_RECIPIENT = 1 << 1;
+    private static final int IS_RECIPIENT_OWN_TEAM = 1 << 2;
+    private static final int IS_GIVER_IN_TEAM = 1 << 3;
+    private static final int IS_RECIPIENT_IN_TEAM = 1 << 4;
+    private static final int NUMBER_OF_RELATIONSHIPS = 1 << 5;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte VISIBLE = 1;
+    private static final byte NOT_VISIBLE = 2;
+
+    private final String userEmail;
+    private final UserRole role;
+    private final StudentAttributes student;
+    private final Set<String> studentsEmailInTeam;
+    private final InstructorAttributes instructor;
+
+    /** Question ID to the decisions for that question, indexed by relationship. */
+    private final Map<String, byte[]> decisionsByQuestion = new HashMap<>();
+
+    /** Session name to section name to whether the instructor may view the section. */
+    private final Map<String, Map<String, Boolean>> sectionPrivileges = new HashMap<>();
+
+    /**
+     * Creates a table for the given viewer.
+     *
+     * @param student the viewer as a student, or null if the viewer is not a student
+     * @param studentsEmailInTeam the emails of the viewer's team members, or null if they are not to be considered
+     * @param instructor the viewer as an instructor whose section privileges apply, or null if none apply
+     */
+    public FeedbackResponseVisibilityTable(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, InstructorAttributes instructor) {
+        this.userEmail = userEmail;
+        this.role = role;
+        this.student = student;
+        this.studentsEmailInTeam = studentsEmailInTeam;
+        this.instructor = instructor;
+    }
+
+    /**
+     * Returns true if {@code response} to {@code question} is visible to the viewer of this table.
+     */
+    public boolean isResponseVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        if (!isResponseVisibleIgnoringSections(response, question)) {
+            return false;
+        }
+        if (instructor == null) {
+            return true;
+        }
+
+        boolean isGiverSectionRestricted = !isSectionViewable(response.feedbackSessionName, response.giverSection);
+        // If instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        boolean isRecipientSectionRestricted = question.recipientType != FeedbackParticipantType.NONE
+                && !isSectionViewable(response.feedbackSessionName, response.recipientSection);
+
+        return !isGiverSectionRestricted && !isRecipientSectionRestricted;
+    }
+
+    private boolean isResponseVisibleIgnoringSections(FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes question) {
+        int relationship = getRelationship(response);
+        byte[] decisions = decisionsByQuestion.computeIfAbsent(question.getId(), id -> new byte[NUMBER_OF_RELATIONSHIPS]);
+        if (decisions[relationship] == UNKNOWN) {
+            decisions[relationship] = decide(question, relationship) ? VISIBLE : NOT_VISIBLE;
+        }
+        return decisions[relationship] == VISIBLE;
+    }
+
+    private int getRelationship(FeedbackResponseAttributes response) {
+        int relationship = 0;
+        if (response.giver.equals(userEmail)) {
+            relationship |= IS_GIVER;
+        }
+        if (response.recipient.equals(userEmail)) {
+            relationship |= IS_RECIPIENT;
+        }
+        if (student != null && response.recipient.equals(student.team)) {
+            relationship |= IS_RECIPIENT_OWN_TEAM;
+        }
+        if (studentsEmailInTeam != null && studentsEmailInTeam.contains(response.giver)) {
+            relationship |= IS_GIVER_IN_TEAM;
+        }
+        if (studentsEmailInTeam != null && studentsEmailInTeam.contains(response.recipient)) {
+            relationship |= IS_RECIPIENT_IN_TEAM;
+        }
+        return relationship;
+    }
+
+    private boolean decide(FeedbackQuestionAttributes question, int relationship) {
+        boolean isInstructor = role == UserRole.INSTRUCTOR;
+        boolean isStudent = role == UserRole.STUDENT;
+
+        if (isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || (relationship & IS_RECIPIENT) != 0 && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || (relationship & IS_GIVER) != 0
+                || isStudent && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            return true;
+        }
+        if (studentsEmailInTeam == null || !isStudent) {
+            return false;
+        }
+        boolean isGiverInTeam = (relationship & IS_GIVER_IN_TEAM) != 0;
+        return question.recipientType == FeedbackParticipantType.TEAMS
+                        && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                        && (relationship & IS_RECIPIENT_OWN_TEAM) != 0
+                || question.giverType == FeedbackParticipantType.TEAMS && isGiverInTeam
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS) && isGiverInTeam
+                || question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                        && (relationship & IS_RECIPIENT_IN_TEAM) != 0;
+    }
+
+    private boolean isSectionViewable(String feedbackSessionName, String sectionName) {
+        return sectionPrivileges.computeIfAbsent(feedbackSessionName, name -> new HashMap<>())
+                .computeIfAbsent(sectionName, name -> instructor.isAllowedForPrivilege(
+                        name, feedbackSessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
+}
@@ -9,11 +9,13 @@ import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -40,6 +42,8 @@ public final class FeedbackResponsesLogic {
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final TeamContributionSummariesLogic tcsLogic = TeamContributionSummariesLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
 
     private FeedbackResponsesLogic() {
         // prevent initialization
@@ -53,6 +57,10 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         try {
             frDb.createEntity(fra);
+            if (isContributionResponse(fra)) {
+                tcsLogic.updateSummaryForSubmittedResponse(fra);
+            }
+            fsrsLogic.invalidateSummary(fra.courseId, fra.feedbackSessionName);
         } catch (EntityAlreadyExistsException eaee) {
             FeedbackResponse existingResponse = frDb.getFeedbackResponseEntityOptimized(fra);
             try {
@@ -66,6 +74,19 @@ public final class FeedbackResponsesLogic {
     public void createFeedbackResponses(List<FeedbackResponseAttributes> fra)
             throws InvalidParametersException {
         frDb.createEntities(fra);
+
+        Set<String> contributionQuestionIds = new HashSet<>();
+        Map<String, String> sessionNameToCourseId = new HashMap<>();
+        for (FeedbackResponseAttributes response : fra) {
+            if (isContributionResponse(response)) {
+                contributionQuestionIds.add(response.feedbackQuestionId);
+            }
+            sessionNameToCourseId.put(response.feedbackSessionName, response.courseId);
+        }
+        for (String questionId : contributionQuestionIds) {
+            tcsLogic.deleteSummariesForQuestion(questionId);
+        }
+        sessionNameToCourseId.forEach((sessionName, courseId) -> fsrsLogic.invalidateSummary(courseId, sessionName));
     }
 
     public FeedbackResponseAttributes getFeedbackResponse(
@@ -136,6 +157,28 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
     }
 
+    /**
+     * Gets a page of the responses given by the section in a session.
+     *
+     * @see FeedbackResponsesDb#getFeedbackResponsesForSessionFromSectionPage
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String pageToken, int pageSize) {
+        return frDb.getFeedbackResponsesForSessionFromSectionPage(
+                feedbackSessionName, courseId, section, pageToken, pageSize);
+    }
+
+    /**
+     * Gets a page of the responses received by the section in a session.
+     *
+     * @see FeedbackResponsesDb#getFeedbackResponsesForSessionToSectionPage
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String pageToken, int pageSize) {
+        return frDb.getFeedbackResponsesForSessionToSectionPage(
+                feedbackSessionName, courseId, section, pageToken, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
@@ -257,6 +300,93 @@ public final class FeedbackResponsesLogic {
         return viewableResponses;
     }
 
+    /**
+     * Returns the responses to {@code questions} of a session that {@code student} can view,
+     * with question id as key.
+     *
+     * <p>Only the responses given or received by the student, their team members or their team are queried,
+     * once for the whole session. All responses are loaded only for the questions whose responses
+     * are visible to all students. The responses of each question are the same, in the same order, as
+     * {@link #getViewableFeedbackResponsesForQuestionInSection} for the student.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getViewableFeedbackResponsesForStudentForSession(
+            List<FeedbackQuestionAttributes> questions, StudentAttributes student,
+            String feedbackSessionName, String courseId) {
+        List<StudentAttributes> studentsInTeam = studentsLogic.getStudentsForTeam(student.team, courseId);
+
+        // the givers of team responses, in the same order as getFeedbackResponsesFromTeamForQuestion
+        List<String> teamGivers = new ArrayList<>();
+        for (StudentAttributes studentInTeam : studentsInTeam) {
+            teamGivers.add(studentInTeam.email);
+        }
+        teamGivers.add(student.team);
+
+        Set<String> participants = new HashSet<>(teamGivers);
+        participants.add(student.email);
+
+        Map<String, List<FeedbackResponseAttributes>> responsesFromTeam = new HashMap<>();
+        Map<String, List<FeedbackResponseAttributes>> responsesToTeam = new HashMap<>();
+        for (String participant : participants) {
+            responsesFromTeam.put(participant, frDb.getFeedbackResponsesFromGiverForSession(
+                    participant, feedbackSessionName, courseId));
+            responsesToTeam.put(participant, frDb.getFeedbackResponsesForReceiverForSession(
+                    participant, feedbackSessionName, courseId));
+        }
+
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            String questionId = question.getId();
+            List<FeedbackResponseAttributes> responsesForQuestion = new ArrayList<>();
+
+            addNewResponses(responsesForQuestion,
+                    getResponsesForQuestion(responsesFromTeam.get(student.email), questionId));
+            if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
+                addNewResponses(responsesForQuestion,
+                        getResponsesForQuestion(responsesToTeam.get(student.email), questionId));
+            }
+
+            if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                addNewResponses(responsesForQuestion, getFeedbackResponsesForQuestion(questionId));
+                viewableResponses.put(questionId, responsesForQuestion);
+                continue;
+            }
+
+            if (question.recipientType.isTeam()
+                    && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
+                addNewResponses(responsesForQuestion,
+                        getResponsesForQuestion(responsesToTeam.get(student.team), questionId));
+            }
+            if (question.giverType == FeedbackParticipantType.TEAMS
+                    || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
+                for (String giver : teamGivers) {
+                    addNewResponses(responsesForQuestion,
+                            getResponsesForQuestion(responsesFromTeam.get(giver), questionId));
+                }
+            }
+            if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
+                for (StudentAttributes studentInTeam : studentsInTeam) {
+                    if (!studentInTeam.email.equals(student.email)) {
+                        addNewResponses(responsesForQuestion,
+                                getResponsesForQuestion(responsesToTeam.get(studentInTeam.email), questionId));
+                    }
+                }
+            }
+            viewableResponses.put(questionId, responsesForQuestion);
+        }
+        return viewableResponses;
+    }
+
+    private List<FeedbackResponseAttributes> getResponsesForQuestion(
+            List<FeedbackResponseAttributes> responses, String feedbackQuestionId) {
+        List<FeedbackResponseAttributes> responsesForQuestion = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            if (response.feedbackQuestionId.equals(feedbackQuestionId)) {
+                responsesForQuestion.add(response);
+            }
+        }
+        return responsesForQuestion;
+    }
+
     public boolean isNameVisibleToUser(
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
@@ -440,7 +570,19 @@ public final class FeedbackResponsesLogic {
         } else {
             // Recreate response to prevent possible future id conflict.
             recreateResponse(newResponse, oldResponse);
+            if (isContributionResponse(oldResponse)) {
+                tcsLogic.updateSummaryForDeletedResponse(oldResponse);
+            }
         }
+
+        if (isContributionResponse(newResponse)) {
+            tcsLogic.updateSummaryForSubmittedResponse(newResponse);
+        }
+        fsrsLogic.invalidateSummary(newResponse.courseId, newResponse.feedbackSessionName);
+    }
+
+    private boolean isContributionResponse(FeedbackResponseAttributes response) {
+        return response.feedbackQuestionType == FeedbackQuestionType.CONTRIB;
     }
 
     /**
@@ -502,6 +644,9 @@ public final class FeedbackResponsesLogic {
         if (isOldTeamEmpty) {
             deleteTeamResponses(courseId, oldTeam);
         }
+
+        tcsLogic.deleteSummariesForCourse(courseId);
+        fsrsLogic.invalidateSummariesForCourse(courseId);
     }
 
     private void deleteTeamResponses(String courseId, String oldTeam) {
@@ -548,6 +693,7 @@ public final class FeedbackResponsesLogic {
             throws EntityDoesNotExistException, InvalidParametersException {
         updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
         updateSectionOfResponsesToUser(courseId, userEmail, newSection);
+        fsrsLogic.invalidateSummariesForCourse(courseId);
     }
 
     private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
@@ -596,6 +742,10 @@ public final class FeedbackResponsesLogic {
 
         if (shouldDeleteResponse) {
             frDb.deleteEntity(response);
+            if (isContributionResponse(response)) {
+                tcsLogic.deleteSummariesForQuestion(response.feedbackQuestionId);
+            }
+            fsrsLogic.invalidateSummary(response.courseId, response.feedbackSessionName);
             updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
                     response.feedbackSessionName, enrollment.course);
         }
@@ -634,6 +784,7 @@ public final class FeedbackResponsesLogic {
         }
 
         frDb.saveEntity(feedbackResponse);
+        fsrsLogic.invalidateSummary(response.courseId, response.feedbackSessionName);
 
         if (isGiverSameForResponseAndEnrollment || isReceiverSameForResponseAndEnrollment) {
             frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
@@ -678,6 +829,14 @@ public final class FeedbackResponsesLogic {
     }
 
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
+        deleteFeedbackResponseAndComments(responseToDelete);
+        if (isContributionResponse(responseToDelete)) {
+            tcsLogic.updateSummaryForDeletedResponse(responseToDelete);
+        }
+        fsrsLogic.invalidateSummary(responseToDelete.courseId, responseToDelete.feedbackSessionName);
+    }
+
+    private void deleteFeedbackResponseAndComments(FeedbackResponseAttributes responseToDelete) {
         frcLogic.deleteFeedbackResponseCommentsForResponse(responseToDelete.getId());
         frDb.deleteEntity(responseToDelete);
     }
@@ -690,9 +849,10 @@ public final class FeedbackResponsesLogic {
         Set<String> emails = new HashSet<>();
 
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
+            deleteFeedbackResponseAndComments(response);
             emails.add(response.giver);
         }
+        tcsLogic.deleteSummariesForQuestion(feedbackQuestionId);
 
         if (!hasResponseRateUpdate) {
             return;
@@ -743,8 +903,10 @@ public final class FeedbackResponsesLogic {
         }
 
         for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
+            deleteFeedbackResponseAndComments(response);
         }
+        tcsLogic.deleteSummariesForCourse(courseId);
+        fsrsLogic.invalidateSummariesForCourse(courseId);
     }
 
     /**
@@ -754,6 +916,8 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponsesForCourse(String courseId) {
         frDb.deleteFeedbackResponsesForCourse(courseId);
+        tcsLogic.deleteSummariesForCourse(courseId);
+        fsrsLogic.deleteSummariesForCourse(courseId);
     }
 
     /**
@@ -0,0 +1,183 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes.QuestionStatistics;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.storage.api.FeedbackSessionResultsSummariesDb;
+import teammates.storage.api.FeedbackSessionsDb;
+
+/**
+ * Handles operations related to feedback session results summaries.
+ * <br> The summary of a session is built once after the session is published, from the results
+ * seen by an instructor who can view the session in all sections, and its statistics are stored per question.
+ * Its generation is incremented whenever the session, its questions, its responses or the participants
+ * of the course change. The statistics are then computed from the responses again until they are rebuilt
+ * for the new generation, which is scheduled the next time an instructor views the results.
+ *
+ * @see FeedbackSessionResultsSummaryAttributes
+ * @see FeedbackSessionResultsSummariesDb
+ */
+public final class FeedbackSessionResultsSummariesLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static FeedbackSessionResultsSummariesLogic instance = new FeedbackSessionResultsSummariesLogic();
+
+    private static final FeedbackSessionResultsSummariesDb fsrsDb = new FeedbackSessionResultsSummariesDb();
+    private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    private FeedbackSessionResultsSummariesLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionResultsSummariesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Returns the summary of the session, or null if there is none.
+     */
+    public FeedbackSessionResultsSummaryAttributes getSummary(String courseId, String feedbackSessionName) {
+        return fsrsDb.getSummary(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Returns the summary of the session, creating it with no statistics built if there is none.
+     */
+    public FeedbackSessionResultsSummaryAttributes getOrCreateSummary(String courseId, String feedbackSessionName) {
+        FeedbackSessionResultsSummaryAttributes summary = fsrsDb.getSummary(courseId, feedbackSessionName);
+        return summary == null ? fsrsDb.getOrCreateSummary(courseId, feedbackSessionName) : summary;
+    }
+
+    /**
+     * Returns the statistics of the questions with the given ids that were built for the current generation
+     * of {@code summary}, with question id as key.
+     */
+    public Map<String, QuestionStatistics> getQuestionStatistics(FeedbackSessionResultsSummaryAttributes summary,
+            Collection<String> feedbackQuestionIds) {
+        if (!summary.isBuilt() || feedbackQuestionIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return fsrsDb.getQuestionStatistics(feedbackQuestionIds, summary.getGeneration());
+    }
+
+    /**
+     * Builds and stores the statistics of the session for the current generation of its summary.
+     * <br> Does nothing if the session is not published, if the statistics are already built, or if no
+     * instructor of the course can view the session in all sections. The statistics are not marked as built
+     * if the results of the session change while they are built.
+     */
+    public void buildSummary(String courseId, String feedbackSessionName) throws EntityDoesNotExistException {
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        if (session == null) {
+            throw new EntityDoesNotExistException(
+                    "Trying to summarise a non-existent feedback session: " + courseId + "/" + feedbackSessionName);
+        }
+        if (!session.isPublished()) {
+            return;
+        }
+
+        // created before the responses are read, so that any change from then on increments the generation
+        FeedbackSessionResultsSummaryAttributes summary = fsrsDb.getOrCreateSummary(courseId, feedbackSessionName);
+        if (summary.isBuilt()) {
+            return;
+        }
+
+        InstructorAttributes instructor = getInstructorWhoCanViewAllSections(courseId, feedbackSessionName);
+        if (instructor == null) {
+            log.info("No instructor can view all responses of " + courseId + "/" + feedbackSessionName
+                     + ", results summary is not built");
+            return;
+        }
+
+        FeedbackSessionResultsBundle results =
+                fsLogic.getFeedbackSessionResultsForInstructor(feedbackSessionName, courseId, instructor.email);
+        Set<String> questionsInvolvingInstructor = results.getQuestionIdsInvolvingParticipant(instructor.email);
+
+        Map<String, QuestionStatistics> questionStatistics = new HashMap<>();
+        results.getQuestionResponseMap().forEach((question, responses) -> {
+            if (questionsInvolvingInstructor.contains(question.getId())) {
+                // the instructor may see responses which other instructors cannot
+                return;
+            }
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+            String statisticsHtml = questionDetails.getQuestionResultStatisticsHtml(responses, question, null,
+                    results, Const.FeedbackSessionResults.QUESTION_SORT_TYPE);
+            String statisticsCsv = questionDetails.getQuestionResultStatisticsCsv(responses, question, results);
+            questionStatistics.put(question.getId(), QuestionStatistics.computedFrom(
+                    summary.getGeneration(), responses, statisticsHtml, statisticsCsv));
+        });
+
+        // the statistics are only used once the summary is marked as built for their generation
+        fsrsDb.saveQuestionStatistics(courseId, feedbackSessionName, questionStatistics);
+        if (!fsrsDb.markSummaryBuiltIfUnchanged(summary)) {
+            log.info("Results of " + courseId + "/" + feedbackSessionName + " changed while the summary of generation "
+                     + summary.getGeneration() + " was built, it is not marked as built");
+            return;
+        }
+        fsrsDb.deleteQuestionStatisticsExceptForGeneration(courseId, feedbackSessionName, summary.getGeneration());
+    }
+
+    /**
+     * Increments the generation of the summary of the session, as its results have changed.
+     * <br> Sessions whose summary has never been created are skipped after a single read, so that this can be
+     * called for every response written. The summary is created before a build reads any response.
+     */
+    public void invalidateSummary(String courseId, String feedbackSessionName) {
+        if (fsrsDb.getSummary(courseId, feedbackSessionName) == null) {
+            return;
+        }
+        fsrsDb.incrementGeneration(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Increments the generation of the summaries of all sessions in the course,
+     * e.g. as the participants of the course have changed.
+     */
+    public void invalidateSummariesForCourse(String courseId) {
+        for (FeedbackSessionResultsSummaryAttributes summary : fsrsDb.getSummariesForCourse(courseId)) {
+            fsrsDb.incrementGeneration(courseId, summary.getFeedbackSessionName());
+        }
+    }
+
+    public void deleteSummary(String courseId, String feedbackSessionName) {
+        fsrsDb.deleteSummary(courseId, feedbackSessionName);
+    }
+
+    public void deleteSummariesForCourse(String courseId) {
+        fsrsDb.deleteSummariesForCourse(courseId);
+    }
+
+    private InstructorAttributes getInstructorWhoCanViewAllSections(String courseId, String feedbackSessionName)
+            throws EntityDoesNotExistException {
+        List<String> sections = new ArrayList<>(coursesLogic.getSectionsNameForCourse(courseId));
+        sections.add(Const.DEFAULT_SECTION);
+
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(courseId)) {
+            boolean canViewAllSections = sections.stream().allMatch(section -> instructor.isAllowedForPrivilege(
+                    section, feedbackSessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+            if (canViewAllSections) {
+                return instructor;
+            }
+        }
+        return null;
+    }
+
+}
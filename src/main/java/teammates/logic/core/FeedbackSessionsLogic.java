@@ -3,28 +3,36 @@ package teammates.logic.core;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesPage;
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes.QuestionStatistics;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
@@ -55,6 +63,8 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_FROM_SECTION = "fromSection";
     private static final String PARAM_IN_SECTION = "inSection";
     private static final String PARAM_IS_INCLUDE_RESPONSE_STATUS = "isIncludeResponseStatus";
+    private static final String PARAM_PAGE_SIZE = "pageSize";
+    private static final String PARAM_PAGE_TOKEN = "pageToken";
     private static final String PARAM_QUESTION_ID = "questionId";
     private static final String PARAM_RANGE = "range";
     private static final String PARAM_SECTION = "section";
@@ -82,12 +92,15 @@ public final class FeedbackSessionsLogic {
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
 
+    private static final AccountsLogic accountsLogic = AccountsLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final TeamContributionSummariesLogic tcsLogic = TeamContributionSummariesLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -102,9 +115,51 @@ public final class FeedbackSessionsLogic {
 
     public void createFeedbackSession(FeedbackSessionAttributes fsa)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        if (fsa.getInstitute() == null) {
+            fsa.setInstitute(getInstituteForCourse(fsa.getCourseId()));
+        }
         fsDb.createEntity(fsa);
     }
 
+    /**
+     * Returns the institute of the first registered instructor of the course, or null if there is none.
+     */
+    public String getInstituteForCourse(String courseId) {
+        return getInstituteOfFirstRegisteredInstructor(instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
+    private String getInstituteOfFirstRegisteredInstructor(List<InstructorAttributes> instructors) {
+        for (InstructorAttributes instructor : instructors) {
+            if (instructor.googleId != null) {
+                AccountAttributes account = accountsLogic.getAccount(instructor.googleId);
+                return account == null ? null : account.institute;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Updates the institute of each session of the course to the one returned by {@link #getInstituteForCourse},
+     * as it may change when the institute of an instructor's account changes.
+     */
+    public void updateInstituteOfFeedbackSessionsForCourse(String courseId) throws EntityDoesNotExistException {
+        updateInstituteOfFeedbackSessionsForCourse(courseId, getInstituteForCourse(courseId));
+    }
+
+    /**
+     * Updates the institute of each session of the course to {@code institute}, which the caller already knows,
+     * e.g. as an instructor of the course has just registered with it. The query for the instructors
+     * of the course is eventually consistent and may not reflect such a change yet.
+     */
+    public void updateInstituteOfFeedbackSessionsForCourse(String courseId, String institute)
+            throws EntityDoesNotExistException {
+        for (FeedbackSessionAttributes session : getFeedbackSessionsForCourse(courseId)) {
+            if (!Objects.equals(institute, session.getInstitute())) {
+                fsDb.updateInstitute(session, institute);
+            }
+        }
+    }
+
     public List<FeedbackSessionAttributes> getAllOpenFeedbackSessions(Instant rangeStart, Instant rangeEnd) {
         return fsDb.getAllOpenFeedbackSessions(rangeStart, rangeEnd);
     }
@@ -132,6 +187,7 @@ public final class FeedbackSessionsLogic {
         copiedFeedbackSession.setCreatedTime(Instant.now());
         copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
         copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
+        copiedFeedbackSession.setInstitute(getInstituteForCourse(newCourseId));
         fsDb.createEntity(copiedFeedbackSession);
 
         List<FeedbackQuestionAttributes> feedbackQuestions =
@@ -295,12 +351,13 @@ public final class FeedbackSessionsLogic {
                         courseId, userEmail);
 
         InstructorAttributes instructorGiver = instructor;
+        CourseRoster roster = fqLogic.getRosterForRecipients(courseId, questions);
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+            updateBundleAndRecipientListWithResponsesForInstructor(
                     userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructorGiver, null);
+                    question, instructorGiver, null, roster);
         }
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
@@ -324,33 +381,33 @@ public final class FeedbackSessionsLogic {
         FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
 
         InstructorAttributes instructorGiver = instructor;
+        CourseRoster roster = fqLogic.getRosterForRecipients(courseId, Collections.singletonList(question));
 
-        updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+        updateBundleAndRecipientListWithResponsesForInstructor(
                 userEmail, fsa, instructor, bundle, recipientList,
-                question, instructorGiver, null);
+                question, instructorGiver, null, roster);
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver,
+            CourseRoster roster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver, roster);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -358,7 +415,7 @@ public final class FeedbackSessionsLogic {
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -395,11 +452,13 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                 courseId);
 
+        CourseRoster roster = fqLogic.getRosterForRecipients(courseId, questions);
+
         Set<String> hiddenInstructorEmails = null;
 
         for (FeedbackQuestionAttributes question : questions) {
             if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+                hiddenInstructorEmails = getHiddenInstructorEmails(roster);
                 break;
             }
         }
@@ -407,7 +466,7 @@ public final class FeedbackSessionsLogic {
         for (FeedbackQuestionAttributes question : questions) {
 
             updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+                    bundle, recipientList, question, hiddenInstructorEmails, roster);
         }
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
@@ -434,14 +493,16 @@ public final class FeedbackSessionsLogic {
 
         FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
 
+        CourseRoster roster = fqLogic.getRosterForRecipients(courseId, Collections.singletonList(question));
+
         Set<String> hiddenInstructorEmails = null;
 
         if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-            hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+            hiddenInstructorEmails = getHiddenInstructorEmails(roster);
         }
 
         updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                bundle, recipientList, question, hiddenInstructorEmails);
+                bundle, recipientList, question, hiddenInstructorEmails, roster);
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
@@ -452,13 +513,13 @@ public final class FeedbackSessionsLogic {
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Set<String> hiddenInstructorEmails,
+            CourseRoster roster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+                fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -510,13 +571,13 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Returns a {@link Set} of emails of the instructors who are not displayed
-     * to students in the course specified by {@code courseId}.
+     * to students in the course.
      *
-     * @param courseId
-     *            the ID of the course
+     * @param roster
+     *            the roster of the course, including its instructors
      */
-    private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+    private Set<String> getHiddenInstructorEmails(CourseRoster roster) {
+        List<InstructorAttributes> instructors = roster.getInstructors();
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
         for (InstructorAttributes instructor : instructors) {
@@ -636,10 +697,15 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Gets results of a feedback session to show to an instructor in a section in an indicated range.
+     * Gets a page of the results of a feedback session to show to an instructor from a section.
+     * The responses of a giver are never split across pages.
+     * The token of the next page is set in {@link FeedbackSessionResultsBundle#nextResponsesPageToken}.
+     *
+     * @param pageToken the token of the page to get, or null to get the first page
      */
-    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionWithinRange(
-            String feedbackSessionName, String courseId, String userEmail, String section, int range)
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            String pageToken, int pageSize)
             throws EntityDoesNotExistException {
 
         CourseRoster roster = new CourseRoster(
@@ -651,18 +717,22 @@ public final class FeedbackSessionsLogic {
         params.put(PARAM_FROM_SECTION, "true");
         params.put(PARAM_TO_SECTION, "false");
         params.put(PARAM_SECTION, section);
-        if (range > 0) {
-            params.put(PARAM_RANGE, String.valueOf(range));
-        }
+        params.put(PARAM_PAGE_TOKEN, pageToken);
+        params.put(PARAM_PAGE_SIZE, String.valueOf(pageSize));
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
                                                           UserRole.INSTRUCTOR, roster, params);
     }
 
     /**
-     * Gets results of a feedback session to show to an instructor in a section in an indicated range.
+     * Gets a page of the results of a feedback session to show to an instructor to a section.
+     * The responses of a recipient are never split across pages.
+     * The token of the next page is set in {@link FeedbackSessionResultsBundle#nextResponsesPageToken}.
+     *
+     * @param pageToken the token of the page to get, or null to get the first page
      */
-    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionWithinRange(
-            String feedbackSessionName, String courseId, String userEmail, String section, int range)
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            String pageToken, int pageSize)
             throws EntityDoesNotExistException {
 
         CourseRoster roster = new CourseRoster(
@@ -674,9 +744,8 @@ public final class FeedbackSessionsLogic {
         params.put(PARAM_FROM_SECTION, "false");
         params.put(PARAM_TO_SECTION, "true");
         params.put(PARAM_SECTION, section);
-        if (range > 0) {
-            params.put(PARAM_RANGE, String.valueOf(range));
-        }
+        params.put(PARAM_PAGE_TOKEN, pageToken);
+        params.put(PARAM_PAGE_SIZE, String.valueOf(pageSize));
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
                                                           UserRole.INSTRUCTOR, roster, params);
     }
@@ -854,8 +923,10 @@ public final class FeedbackSessionsLogic {
                 + SanitizationHelper.sanitizeForCsv(questionDetails.getQuestionText())
                 + System.lineSeparator() + System.lineSeparator());
 
-        String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
-                                    question, fsrBundle);
+        String statistics = fsrBundle.getStoredStatisticsCsv(question, allResponses);
+        if (statistics == null) {
+            statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses, question, fsrBundle);
+        }
         if (!statistics.isEmpty() && isStatsShown) {
             exportBuilder.append("Summary Statistics,").append(System.lineSeparator());
             exportBuilder.append(statistics).append(System.lineSeparator());
@@ -1143,6 +1214,10 @@ public final class FeedbackSessionsLogic {
         makeEmailStateConsistent(oldSession, newSession);
 
         fsDb.updateFeedbackSession(newSession);
+
+        if (oldSession.isPublished() && !newSession.isPublished()) {
+            fsrsLogic.invalidateSummary(newSession.getCourseId(), newSession.getFeedbackSessionName());
+        }
     }
 
     public void updateFeedbackSessionsTimeZoneForCourse(String courseId, ZoneId courseTimeZone) {
@@ -1227,6 +1302,30 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+    /**
+     * Updates the institute of each session of the course of the {@code instructor} who was just deleted,
+     * leaving the instructor out in case the query for the instructors of the course still returns them.
+     */
+    public void updateInstituteOfFeedbackSessionsForDeletedInstructor(InstructorAttributes instructor) {
+        if (instructor == null || !instructor.isRegistered()) {
+            return;
+        }
+        List<InstructorAttributes> remainingInstructors = new ArrayList<>();
+        for (InstructorAttributes courseInstructor : instructorsLogic.getInstructorsForCourse(instructor.courseId)) {
+            if (!courseInstructor.email.equals(instructor.email)) {
+                remainingInstructors.add(courseInstructor);
+            }
+        }
+
+        try {
+            updateInstituteOfFeedbackSessionsForCourse(instructor.courseId,
+                    getInstituteOfFirstRegisteredInstructor(remainingInstructors));
+        } catch (EntityDoesNotExistException e) {
+            Assumption.fail("Session disappeared while updating its institute: "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
     public void deleteStudentFromRespondentsList(StudentAttributes student) {
         if (student == null || student.email == null) {
             return;
@@ -1462,17 +1561,83 @@ public final class FeedbackSessionsLogic {
                 .builder(feedbackSessionName, courseId, "").build();
 
         fsDb.deleteEntity(sessionToDelete);
+        fsrsLogic.deleteSummary(courseId, feedbackSessionName);
 
     }
 
+    /**
+     * Returns the session bundled with its response statistics.
+     *
+     * <p>The number of expected respondents is stored with the session and only recomputed after it has been
+     * cleared by a change to the course roster or the session's questions. The number of submitted respondents
+     * comes from the respondent lists, which are kept up to date on every submission.
+     */
     public FeedbackSessionDetailsBundle getFeedbackSessionDetails(
             FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
 
         FeedbackSessionDetailsBundle details =
                 new FeedbackSessionDetailsBundle(fsa);
 
-        details.stats.expectedTotal = 0;
-        details.stats.submittedTotal = 0;
+        Integer expectedTotal = fsa.getExpectedRespondentsTotal();
+        if (expectedTotal == null) {
+            expectedTotal = computeExpectedRespondentsTotal(fsa);
+            // not stored if the roster or the questions changed after fsa was read
+            fsDb.updateExpectedRespondentsTotalIfUnchanged(fsa, expectedTotal);
+            fsa.setExpectedRespondentsTotal(expectedTotal);
+        }
+
+        details.stats.expectedTotal = expectedTotal;
+        details.stats.submittedTotal = fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+
+        return details;
+    }
+
+    /**
+     * Recomputes the number of respondents expected for the session and stores it if it differs
+     * from the stored number, unless the stored number has changed since {@code fsa} was read.
+     *
+     * @return true if the stored number was missing or different from the recomputed number, and was replaced
+     */
+    public boolean reconcileExpectedRespondentsTotal(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        int expectedTotal = computeExpectedRespondentsTotal(fsa);
+        if (fsa.getExpectedRespondentsTotal() != null && fsa.getExpectedRespondentsTotal() == expectedTotal) {
+            return false;
+        }
+        if (!fsDb.updateExpectedRespondentsTotalIfUnchanged(fsa, expectedTotal)) {
+            return false;
+        }
+        fsa.setExpectedRespondentsTotal(expectedTotal);
+        return true;
+    }
+
+    /**
+     * Clears the number of respondents expected for every session in the course.
+     * To be called whenever students or instructors join or leave the course.
+     */
+    public void clearExpectedRespondentsTotalsForCourse(String courseId) {
+        fsDb.clearExpectedRespondentsTotalsForCourse(courseId);
+    }
+
+    /**
+     * Clears the number of respondents expected for the session.
+     * To be called whenever questions of the session are added, removed, or change their giver type.
+     */
+    public void clearExpectedRespondentsTotal(String feedbackSessionName, String courseId) {
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        // a session already cleared is still written, as its number may be being computed
+        if (session == null) {
+            return;
+        }
+        try {
+            fsDb.updateExpectedRespondentsTotal(session, null);
+        } catch (EntityDoesNotExistException e) {
+            // the session has just been deleted; nothing to clear
+            log.warning(TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    private int computeExpectedRespondentsTotal(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        int expectedTotal = 0;
 
         List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
         List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
@@ -1481,20 +1646,18 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
 
         if (!studentQns.isEmpty()) {
-            details.stats.expectedTotal += students.size();
+            expectedTotal += students.size();
         }
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns =
                     fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
             if (!instructorQns.isEmpty()) {
-                details.stats.expectedTotal += 1;
+                expectedTotal += 1;
             }
         }
 
-        details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
-
-        return details;
+        return expectedTotal;
     }
 
     /* Get the feedback results for user in a section iterated by questions */
@@ -1540,13 +1703,27 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
+
+        StudentAttributes student = null;
+        Map<String, List<FeedbackResponseAttributes>> viewableResponsesForStudent = null;
+        if (isStudent(role)) {
+            student = studentsLogic.getStudentForEmail(courseId, userEmail);
+            // only the responses of the student's team and of questions visible to all students are loaded
+            viewableResponsesForStudent = frLogic.getViewableFeedbackResponsesForStudentForSession(
+                    allQuestions, student, feedbackSessionName, courseId);
+        }
+
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackQuestionAttributes question : allQuestions) {
 
             List<FeedbackResponseAttributes> responsesForThisQn;
 
-            responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
-                    question, userEmail, role, section);
+            if (viewableResponsesForStudent == null) {
+                responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                        question, userEmail, role, section);
+            } else {
+                responsesForThisQn = viewableResponsesForStudent.get(question.getId());
+            }
 
             boolean hasResponses = !responsesForThisQn.isEmpty();
             if (hasResponses) {
@@ -1566,10 +1743,8 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        StudentAttributes student = null;
         Set<String> studentsEmailInTeam = new HashSet<>();
         if (isStudent(role)) {
-            student = studentsLogic.getStudentForEmail(courseId, userEmail);
             List<StudentAttributes> studentsInTeam = studentsLogic
                     .getStudentsForTeam(student.team, courseId);
             for (StudentAttributes teammates : studentsInTeam) {
@@ -1605,10 +1780,12 @@ public final class FeedbackSessionsLogic {
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                         session, responses, relevantQuestions, emailNameTable,
                         emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                         visibilityTable, responseStatus, roster, responseComments);
+        addStoredContributionResults(results, role, getInstructor(courseId, userEmail, role), section == null);
+        return results;
     }
 
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserWithParams(
@@ -1641,7 +1818,15 @@ public final class FeedbackSessionsLogic {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
+        List<FeedbackResponseAttributes> allResponses;
+        String nextResponsesPageToken = null;
+        if (params.get(PARAM_PAGE_SIZE) == null) {
+            allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
+        } else {
+            FeedbackResponsesPage responsesPage = getResponsesPage(feedbackSessionName, courseId, params, section);
+            allResponses = responsesPage.getResponses();
+            nextResponsesPageToken = responsesPage.getNextPageToken();
+        }
 
         String rangeString = params.get(PARAM_RANGE);
         boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
@@ -1665,13 +1850,14 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResponseVisibilityTable visibilityDecisions = new FeedbackResponseVisibilityTable(
+                userEmail, role, student, studentsEmailInTeam, instructor);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
+                boolean isVisibleResponse = visibilityDecisions.isResponseVisible(response, relatedQuestion);
                 if (isVisibleResponse) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
@@ -1684,25 +1870,99 @@ public final class FeedbackSessionsLogic {
             }
         }
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                studentsEmailInTeam, relevantResponse);
+                getAllResponseComments(feedbackSessionName, courseId, params, section),
+                userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse);
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
+        results.nextResponsesPageToken = nextResponsesPageToken;
+        addStoredContributionResults(results, role, instructor,
+                section == null && isComplete && nextResponsesPageToken == null);
+        addStoredResultsSummary(results, userEmail, role);
+        return results;
+    }
+
+    /**
+     * Adds the stored team results of the contribution questions in {@code results},
+     * so that they are not recomputed from the responses when the teams have not changed.
+     * <br> The stored results are computed from all the responses of a team, so they are only added for
+     * instructors who can see every response of the team, and only if {@code results} holds them all.
+     * Other viewers get results computed from the responses visible to them.
+     * <br> The results of all those questions and teams are read in one batch lookup.
+     *
+     * @param instructor the viewer as an instructor whose section privileges apply, or null if none apply
+     * @param isEveryResponseLoaded true if {@code results} was not limited to a section or a page of responses
+     */
+    private void addStoredContributionResults(FeedbackSessionResultsBundle results, UserRole role,
+            InstructorAttributes instructor, boolean isEveryResponseLoaded) {
+        if (!isInstructor(role) || !isEveryResponseLoaded) {
+            return;
+        }
+
+        List<String> contributionQuestionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : results.questions.values()) {
+            if (question.questionType == FeedbackQuestionType.CONTRIB
+                    && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                contributionQuestionIds.add(question.getId());
+            }
+        }
+        if (contributionQuestionIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> teamNames = new HashSet<>(results.rosterTeamNameMembersTable.keySet());
+        teamNames.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
+        if (instructor != null) {
+            String feedbackSessionName = results.feedbackSession.getFeedbackSessionName();
+            for (StudentAttributes student : results.roster.getStudents()) {
+                if (!instructor.isAllowedForPrivilege(student.section, feedbackSessionName,
+                        Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS)) {
+                    teamNames.remove(student.team);
+                }
+            }
+        }
+        tcsLogic.getTeamResultsForQuestions(contributionQuestionIds, teamNames)
+                .forEach(results::setStoredContributionTeamResults);
     }
 
+    /**
+     * Adds the question statistics stored in the results summary of the session in {@code results},
+     * so that they are not recomputed from the responses when viewed by an instructor.
+     * <br> Questions in which the instructor gave or received a response are left out, as the instructor
+     * may see responses that the statistics were not computed from.
+     */
+    private void addStoredResultsSummary(FeedbackSessionResultsBundle results, String userEmail, UserRole role) {
+        if (!isInstructor(role) || !results.feedbackSession.isPublished()) {
+            return;
+        }
+        // created if missing, so that the build scheduled for it is named after its generation
+        FeedbackSessionResultsSummaryAttributes summary = fsrsLogic.getOrCreateSummary(
+                results.feedbackSession.getCourseId(), results.feedbackSession.getFeedbackSessionName());
+        if (!summary.isBuilt()) {
+            results.setResultsSummaryToBuild(summary);
+            return;
+        }
+
+        Set<String> questionIds = new HashSet<>(results.questions.keySet());
+        questionIds.removeAll(results.getQuestionIdsInvolvingParticipant(userEmail));
+        Map<String, QuestionStatistics> questionStatistics = fsrsLogic.getQuestionStatistics(summary, questionIds);
+        questionStatistics.forEach(results::setStoredQuestionStatistics);
+    }
+
+    /**
+     * Groups the comments in {@code allResponseComments} that are visible to the user by response.
+     * Comments on responses not in {@code relevantResponse} are left out.
+     */
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1796,11 +2056,12 @@ public final class FeedbackSessionsLogic {
                 Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                    FeedbackResponseVisibilityTable visibilityDecisions = new FeedbackResponseVisibilityTable(
+                            userEmail, role, null, null, instructor);
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
+                        boolean isVisibleResponse = visibilityDecisions.isResponseVisible(response, question);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
@@ -1812,18 +2073,21 @@ public final class FeedbackSessionsLogic {
                         }
                     }
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                            studentsEmailInTeam, relevantResponse);
+                            frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section),
+                            userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse);
                 }
             }
         }
         addSectionTeamNamesToTable(
                 sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, true);
+        addStoredContributionResults(results, role, getInstructor(courseId, userEmail, role), section == null);
+        addStoredResultsSummary(results, userEmail, role);
+        return results;
     }
 
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
@@ -1878,6 +2142,42 @@ public final class FeedbackSessionsLogic {
         return new ArrayList<>();
     }
 
+    /**
+     * Gets the page of the responses from or to a section given by the page params.
+     */
+    private FeedbackResponsesPage getResponsesPage(String feedbackSessionName, String courseId,
+            Map<String, String> params, String section) {
+        String pageToken = params.get(PARAM_PAGE_TOKEN);
+        int pageSize = Integer.parseInt(params.get(PARAM_PAGE_SIZE));
+
+        if (Boolean.parseBoolean(params.get(PARAM_FROM_SECTION))) {
+            return frLogic.getFeedbackResponsesForSessionFromSectionPage(
+                    feedbackSessionName, courseId, section, pageToken, pageSize);
+        } else if (Boolean.parseBoolean(params.get(PARAM_TO_SECTION))) {
+            return frLogic.getFeedbackResponsesForSessionToSectionPage(
+                    feedbackSessionName, courseId, section, pageToken, pageSize);
+        }
+        Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
+        return null;
+    }
+
+    /**
+     * Gets the comments of the responses selected by {@link #getAllResponses}, so that only the
+     * comments of the section being viewed are loaded.
+     */
+    private List<FeedbackResponseCommentAttributes> getAllResponseComments(String feedbackSessionName,
+            String courseId, Map<String, String> params, String section) {
+        boolean isToSection = Boolean.parseBoolean(params.get(PARAM_TO_SECTION));
+        boolean isFromSection = Boolean.parseBoolean(params.get(PARAM_FROM_SECTION));
+
+        if (isFromSection) {
+            return frcLogic.getFeedbackResponseCommentForSessionFromSection(courseId, feedbackSessionName, section);
+        } else if (isToSection) {
+            return frcLogic.getFeedbackResponseCommentForSessionToSection(courseId, feedbackSessionName, section);
+        }
+        return frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+    }
+
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
                                     CourseRoster roster, String courseId, String userEmail, UserRole role,
                                     String feedbackSessionName, String sectionToView) {
@@ -1904,56 +2204,6 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
@@ -2176,6 +2426,23 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Gets the completion of the session by all students of its course,
+     * reading the session's questions, responses and course roster only once.
+     */
+    public FeedbackSessionCompletionMatrix getFeedbackSessionCompletionMatrix(FeedbackSessionAttributes session)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                                               instructorsLogic.getInstructorsForCourse(courseId));
+
+        return fqLogic.getStudentCompletionMatrix(session, questions, responses, roster);
+    }
+
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
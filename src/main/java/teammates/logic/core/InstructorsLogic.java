@@ -2,8 +2,10 @@ package teammates.logic.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import teammates.common.datatransfer.InstructorSearchResultBundle;
+import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -32,6 +34,7 @@ public final class InstructorsLogic {
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
 
     private InstructorsLogic() {
         // prevent initialization
@@ -54,6 +57,15 @@ public final class InstructorsLogic {
         instructorsDb.putDocuments(instructors);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of instructors of the course.
+     *
+     * @see InstructorsDb#putDocumentsForCourse(String, String)
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        return instructorsDb.putDocumentsForCourse(courseId, cursor);
+    }
+
     /**
      * Removes document for the given Instructor.
      * @param instructor to be removed from documents
@@ -83,7 +95,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        fsLogic.clearExpectedRespondentsTotalsForCourse(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -205,6 +219,8 @@ public final class InstructorsLogic {
         InstructorAttributes currentInstructor = getInstructorForGoogleId(instructor.courseId, instructor.googleId);
         if (!currentInstructor.email.equals(instructor.email)) {
             fsLogic.updateRespondentsForInstructor(currentInstructor.email, instructor.email, instructor.courseId);
+            // the instructor may no longer be recognised as the creator of their sessions
+            fsLogic.clearExpectedRespondentsTotalsForCourse(instructor.courseId);
         }
     }
 
@@ -233,8 +249,29 @@ public final class InstructorsLogic {
 
         coursesLogic.verifyCourseIsPresent(instructor.courseId);
         verifyIsEmailOfInstructorOfCourse(email, instructor.courseId);
+        InstructorAttributes instructorInDb = getInstructorForEmail(instructor.courseId, email);
 
         instructorsDb.updateInstructorByEmail(instructor);
+        fsrsLogic.invalidateSummariesForCourse(instructor.courseId);
+
+        if (!Objects.equals(instructorInDb.googleId, instructor.googleId)) {
+            updateInstituteOfFeedbackSessionsForNewGoogleId(instructor);
+        }
+    }
+
+    /**
+     * Updates the institute of the sessions of the course of an instructor whose Google ID has changed.
+     * If the instructor now has an account, its institute is used, as the instructor that was just updated
+     * may not be returned by the query for the instructors of the course yet.
+     */
+    private void updateInstituteOfFeedbackSessionsForNewGoogleId(InstructorAttributes instructor)
+            throws EntityDoesNotExistException {
+        AccountAttributes account = instructor.googleId == null ? null : accountsLogic.getAccount(instructor.googleId);
+        if (account == null) {
+            fsLogic.updateInstituteOfFeedbackSessionsForCourse(instructor.courseId);
+        } else {
+            fsLogic.updateInstituteOfFeedbackSessionsForCourse(instructor.courseId, account.institute);
+        }
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -264,8 +301,12 @@ public final class InstructorsLogic {
     }
 
     public void deleteInstructorCascade(String courseId, String email) {
-        fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
+        InstructorAttributes instructor = getInstructorForEmail(courseId, email);
+        fsLogic.deleteInstructorFromRespondentsList(instructor);
         instructorsDb.deleteInstructor(courseId, email);
+        fsLogic.clearExpectedRespondentsTotalsForCourse(courseId);
+        fsrsLogic.invalidateSummariesForCourse(courseId);
+        fsLogic.updateInstituteOfFeedbackSessionsForDeletedInstructor(instructor);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -45,4 +45,9 @@ public final class ProfilesLogic {
         profilesDb.updateStudentProfilePicture(googleId, newPictureKey);
     }
 
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newThumbnailKey)
+            throws EntityDoesNotExistException {
+        profilesDb.updateStudentProfilePicture(googleId, newPictureKey, newThumbnailKey);
+    }
+
 }
@@ -1,13 +1,14 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.google.appengine.repackaged.com.google.gson.Gson;
 import com.google.appengine.repackaged.com.google.gson.reflect.TypeToken;
 import teammates.common.datatransfer.*;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
-import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.EnrollException;
@@ -38,6 +39,7 @@ public final class StudentsLogic {
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
     private static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
 
     private StudentsLogic() {
@@ -62,13 +64,22 @@ public final class StudentsLogic {
 
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        createStudent(studentData, hasDocument);
+        fsLogic.clearExpectedRespondentsTotalsForCourse(studentData.course);
+    }
+
+    /**
+     * Creates the student without clearing the expected respondents totals of the course's sessions,
+     * so that callers creating many students can clear them once afterwards.
+     */
+    private void createStudent(StudentAttributes studentData, boolean hasDocument)
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData, hasDocument);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
                     "Course does not exist [" + studentData.course + "]");
         }
-
     }
 
     public StudentAttributes getStudentForEmail(String courseId, String email) {
@@ -107,13 +118,13 @@ public final class StudentsLogic {
         studentsDb.deleteDocument(student);
     }
 
-    public StudentSearchResultBundle searchStudents(String queryString, List<InstructorAttributes> instructors) {
-        return studentsDb.search(queryString, instructors);
+    public StudentSearchResultBundle searchStudents(String queryString, InstructorCourseFilter courseFilter) {
+        return studentsDb.search(queryString, courseFilter);
     }
 
 
-    public StudentSearchResultBundle searchTeams(String queryString, List<InstructorAttributes> instructors) {
-        return studentsDb.search(queryString, instructors);
+    public StudentSearchResultBundle searchTeams(String queryString, InstructorCourseFilter courseFilter) {
+        return studentsDb.search(queryString, courseFilter);
     }
 
 
@@ -242,6 +253,8 @@ public final class StudentsLogic {
 
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        // the statistics show the names and teams of students
+        fsrsLogic.invalidateSummariesForCourse(student.course);
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -311,6 +324,7 @@ public final class StudentsLogic {
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
+        clearExpectedRespondentsTotalsIfAnyEnrolled(enrollmentList, courseId);
 
         // add to return list students not included in the enroll list.
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
@@ -354,6 +368,7 @@ public final class StudentsLogic {
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
+        clearExpectedRespondentsTotalsIfAnyEnrolled(enrollmentList, courseId);
 
         // add to return list students not included in the enroll list.
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
@@ -367,6 +382,16 @@ public final class StudentsLogic {
         return new CourseEnrollmentResult(returnList, enrollmentList);
     }
 
+    private void clearExpectedRespondentsTotalsIfAnyEnrolled(List<StudentEnrollDetails> enrollmentList,
+            String courseId) {
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.NEW) {
+                fsLogic.clearExpectedRespondentsTotalsForCourse(courseId);
+                return;
+            }
+        }
+    }
+
     /**
      * Separate the StudentData objects in the list into different categories based
      * on their updateStatus. Each category is put into a separate list.<br>
@@ -536,8 +561,9 @@ public final class StudentsLogic {
     public void deleteAllStudentsInCourse(String courseId) {
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
         for (StudentAttributes student : studentsInCourse) {
-            deleteStudentCascade(courseId, student.email);
+            deleteStudent(courseId, student.email, true);
         }
+        fsLogic.clearExpectedRespondentsTotalsForCourse(courseId);
     }
 
     public void deleteStudentCascade(String courseId, String studentEmail) {
@@ -549,6 +575,15 @@ public final class StudentsLogic {
     }
 
     public void deleteStudentCascade(String courseId, String studentEmail, boolean hasDocument) {
+        deleteStudent(courseId, studentEmail, hasDocument);
+        fsLogic.clearExpectedRespondentsTotalsForCourse(courseId);
+    }
+
+    /**
+     * Deletes the student and their responses without clearing the expected respondents totals
+     * of the course's sessions, so that callers deleting many students can clear them once afterwards.
+     */
+    private void deleteStudent(String courseId, String studentEmail, boolean hasDocument) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
         fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
@@ -561,6 +596,7 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        clearExpectedRespondentsTotalsForCoursesOf(students);
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -569,6 +605,17 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        clearExpectedRespondentsTotalsForCoursesOf(students);
+    }
+
+    private void clearExpectedRespondentsTotalsForCoursesOf(List<StudentAttributes> students) {
+        Set<String> courseIds = new HashSet<>();
+        for (StudentAttributes student : students) {
+            courseIds.add(student.course);
+        }
+        for (String courseId : courseIds) {
+            fsLogic.clearExpectedRespondentsTotalsForCourse(courseId);
+        }
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -614,6 +661,15 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
+    /**
+     * Batch creates or updates documents for the next batch of students of the course.
+     *
+     * @see StudentsDb#putDocumentsForCourse(String, String)
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        return studentsDb.putDocumentsForCourse(courseId, cursor);
+    }
+
     private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudentAttributes = getStudentForEmail(
@@ -640,7 +696,7 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
+            createStudent(validStudentAttributes, hasDocument);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
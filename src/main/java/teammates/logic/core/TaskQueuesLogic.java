@@ -4,8 +4,10 @@ import java.util.Map;
 
 import com.google.appengine.api.taskqueue.Queue;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskAlreadyExistsException;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -13,6 +15,8 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -34,6 +38,9 @@ public class TaskQueuesLogic {
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
         }
+        if (task.getTaskName() != null) {
+            taskToBeAdded.taskName(task.getTaskName());
+        }
 
         for (Map.Entry<String, String[]> entry : task.getParamMap().entrySet()) {
             String name = entry.getKey();
@@ -44,7 +51,12 @@ public class TaskQueuesLogic {
             }
         }
 
-        requiredQueue.add(taskToBeAdded);
+        try {
+            requiredQueue.add(taskToBeAdded);
+        } catch (TaskAlreadyExistsException e) {
+            // a named task is added again when the task adding it is retried, or when the same work is requested again
+            log.info("Task " + task.getTaskName() + " has already been added to " + task.getQueueName());
+        }
     }
 
 }
@@ -0,0 +1,134 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.ContributionQuestionResults;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.attributes.TeamContributionSummaryAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.util.Const;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.TeamContributionSummariesDb;
+
+/**
+ * Handles operations related to team contribution summaries.
+ * <br> The summary of a team is updated whenever one of its members submits a single contribution response:
+ * only the points of that response are replaced, within a transaction, and only the results of that team
+ * are recomputed. The summary is rebuilt from the responses of the team if it is missing or if the team has changed.
+ *
+ * @see TeamContributionSummaryAttributes
+ * @see TeamContributionSummariesDb
+ */
+public final class TeamContributionSummariesLogic {
+
+    private static TeamContributionSummariesLogic instance = new TeamContributionSummariesLogic();
+
+    private static final TeamContributionSummariesDb tcsDb = new TeamContributionSummariesDb();
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private TeamContributionSummariesLogic() {
+        // prevent initialization
+    }
+
+    public static TeamContributionSummariesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Returns the summary of {@code teamName} for the question, or null if there is none.
+     */
+    public TeamContributionSummaryAttributes getSummary(String feedbackQuestionId, String teamName) {
+        return tcsDb.getSummary(feedbackQuestionId, teamName);
+    }
+
+    /**
+     * Returns the stored results of {@code teamNames} for each of the questions, read in a single batch lookup.
+     *
+     * @return a map from question id to the stored results of the question, with team name as key
+     */
+    public Map<String, Map<String, TeamEvalResult>> getTeamResultsForQuestions(
+            Collection<String> feedbackQuestionIds, Collection<String> teamNames) {
+        Map<String, Map<String, TeamEvalResult>> teamResults = new HashMap<>();
+        for (TeamContributionSummaryAttributes summary : tcsDb.getSummaries(feedbackQuestionIds, teamNames)) {
+            teamResults.computeIfAbsent(summary.getFeedbackQuestionId(), key -> new HashMap<>())
+                    .put(summary.getTeamName(), summary.getTeamEvalResult());
+        }
+        return teamResults;
+    }
+
+    /**
+     * Updates the summary of the giver's team after the contribution response {@code response}
+     * has been created or updated.
+     */
+    public void updateSummaryForSubmittedResponse(FeedbackResponseAttributes response) {
+        int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+        updateSummary(response, points);
+    }
+
+    /**
+     * Updates the summary of the giver's team after the contribution response {@code response}
+     * has been deleted.
+     */
+    public void updateSummaryForDeletedResponse(FeedbackResponseAttributes response) {
+        updateSummary(response, Const.POINTS_NOT_SUBMITTED);
+    }
+
+    public void deleteSummariesForQuestion(String feedbackQuestionId) {
+        tcsDb.deleteSummariesForQuestion(feedbackQuestionId);
+    }
+
+    public void deleteSummariesForCourse(String courseId) {
+        tcsDb.deleteSummariesForCourse(courseId);
+    }
+
+    private void updateSummary(FeedbackResponseAttributes response, int points) {
+        StudentAttributes giver = studentsLogic.getStudentForEmail(response.courseId, response.giver);
+        if (giver == null) {
+            // only responses from students are part of the results of a team
+            return;
+        }
+
+        List<String> memberEmails = getSortedMemberEmails(giver.team, response.courseId);
+        boolean isUpdated = tcsDb.updateSubmission(response.feedbackQuestionId, giver.team, memberEmails,
+                response.giver, response.recipient, points, null);
+        if (isUpdated) {
+            return;
+        }
+
+        // the responses of the team are too many entity groups to be read within the transaction,
+        // so the summary is rebuilt outside it and only saved if no up-to-date summary has been saved
+        // in the meantime; the submission is applied to it within the transaction
+        TeamContributionSummaryAttributes computedSummary =
+                computeSummary(response.feedbackQuestionId, response.courseId, giver.team, memberEmails);
+        tcsDb.updateSubmission(response.feedbackQuestionId, giver.team, memberEmails,
+                response.giver, response.recipient, points, computedSummary);
+    }
+
+    private TeamContributionSummaryAttributes computeSummary(
+            String feedbackQuestionId, String courseId, String teamName, List<String> sortedMemberEmails) {
+        // read by key rather than queried, so that the responses just submitted by teammates are included
+        List<FeedbackResponseAttributes> teamResponses =
+                frDb.getFeedbackResponsesAmongParticipantsForQuestion(feedbackQuestionId, sortedMemberEmails);
+
+        TeamEvalResult teamResult = ContributionQuestionResults.computeTeamResult(sortedMemberEmails, teamResponses);
+        return TeamContributionSummaryAttributes.builder(feedbackQuestionId, courseId, teamName, teamResult).build();
+    }
+
+    private List<String> getSortedMemberEmails(String teamName, String courseId) {
+        List<String> memberEmails = new ArrayList<>();
+        for (StudentAttributes member : studentsLogic.getStudentsForTeam(teamName, courseId)) {
+            memberEmails.add(member.email);
+        }
+        memberEmails.sort(null);
+        return memberEmails;
+    }
+
+}
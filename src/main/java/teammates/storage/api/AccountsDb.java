@@ -180,6 +180,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
             if (!pictureKey.getKeyString().isEmpty()) {
                 deletePicture(pictureKey);
             }
+            profilesDb.deleteThumbnail(studentProfile);
             profilesDb.deleteEntityDirect(studentProfile);
         }
 
@@ -0,0 +1,217 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * Handles CRUD operations for activity logs.
+ *
+ * @see ActivityLog
+ * @see ActivityLogAttributes
+ */
+public class ActivityLogsDb extends EntitiesDb<ActivityLog, ActivityLogAttributes> {
+
+    /**
+     * The maximum number of sub-queries the Datastore runs for the IN filter of a single query.
+     */
+    private static final int MAX_SUBQUERIES = 30;
+
+    /**
+     * The maximum number of logs read by a single call to {@link #getActivityLogs(ActivityLogQuery)}.
+     */
+    private static final int MAX_LOGS_PER_QUERY = 1000;
+
+    /**
+     * The number of logs deleted by a single call to {@link #deleteActivityLogsBefore(Instant, String)}.
+     */
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    /**
+     * Saves the logs in a single batch.
+     * <br> Unlike {@link #createEntitiesWithoutExistenceCheck(Collection)}, the saves are not logged,
+     * as the logs are already written to the application logs.
+     */
+    public void createActivityLogs(Collection<ActivityLogAttributes> logs) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, logs);
+
+        List<ActivityLog> entities = new ArrayList<>();
+        for (ActivityLogAttributes log : logs) {
+            entities.add(log.toEntity());
+        }
+        ofy().save().entities(entities).now();
+    }
+
+    /**
+     * Saves the log asynchronously, without waiting for the write to complete.
+     * <br> The write is completed by the end of the request, when the {@link com.googlecode.objectify.ObjectifyFilter}
+     * waits for the pending asynchronous operations. Like {@link #createActivityLogs(Collection)},
+     * the save is not logged.
+     */
+    public void createActivityLogAsync(ActivityLogAttributes log) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, log);
+
+        ofy().save().entity(log.toEntity());
+    }
+
+    /**
+     * Returns the logs matching {@code query}, latest first.
+     * <br> A single query is run over the range of time buckets in the time period of {@code query}, from the latest
+     * time bucket to the earliest, reading at most {@link #MAX_LOGS_PER_QUERY} logs. If there are more logs,
+     * the start of the time period of {@code query} is moved forward to the start of the earliest time bucket
+     * whose logs are all returned, so that the caller can continue from there. If the latest time bucket alone
+     * has more logs, only some of its logs are returned and the time period is moved to start at that bucket.
+     */
+    public List<ActivityLogAttributes> getActivityLogs(ActivityLogQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        List<ActivityLog> entities = getActivityLogsQuery(query)
+                .order("-timeBucket")
+                .limit(MAX_LOGS_PER_QUERY + 1)
+                .list();
+        if (entities.size() > MAX_LOGS_PER_QUERY) {
+            entities = removeIncompleteTimeBucket(entities.subList(0, MAX_LOGS_PER_QUERY), query);
+        }
+
+        List<ActivityLog> logs = new ArrayList<>();
+        for (ActivityLog log : entities) {
+            long logTime = log.getLogTime().toEpochMilli();
+            if (logTime >= query.getStartTime() && logTime <= query.getEndTime() && hasAllTermGroups(log, query)) {
+                logs.add(log);
+            }
+        }
+        logs.sort(Comparator.comparing(ActivityLog::getLogTime).reversed());
+        return makeAttributes(logs);
+    }
+
+    /**
+     * Removes the logs of the earliest time bucket in {@code entities}, which may have more logs than were read,
+     * and moves the start of the time period of {@code query} to the earliest time bucket which is left.
+     */
+    private List<ActivityLog> removeIncompleteTimeBucket(List<ActivityLog> entities, ActivityLogQuery query) {
+        long latestTimeBucket = entities.get(0).getTimeBucket();
+        long earliestTimeBucket = entities.get(entities.size() - 1).getTimeBucket();
+        if (earliestTimeBucket == latestTimeBucket) {
+            long timeBucketStart = earliestTimeBucket * ActivityLog.TIME_BUCKET_LENGTH_MILLIS;
+            query.setTimePeriod(Math.max(query.getStartTime(), timeBucketStart), query.getEndTime());
+            return entities;
+        }
+
+        List<ActivityLog> completeEntities = new ArrayList<>();
+        for (ActivityLog entity : entities) {
+            if (entity.getTimeBucket() != earliestTimeBucket) {
+                completeEntities.add(entity);
+            }
+        }
+        query.setTimePeriod((earliestTimeBucket + 1) * ActivityLog.TIME_BUCKET_LENGTH_MILLIS, query.getEndTime());
+        return completeEntities;
+    }
+
+    /**
+     * Returns the query for the logs in the time buckets of the time period of {@code query}.
+     * <br> The term group with the fewest terms is filtered by the index, as long as it needs no more than
+     * {@link #MAX_SUBQUERIES} sub-queries; all term groups are checked by {@link #hasAllTermGroups}.
+     */
+    private Query<ActivityLog> getActivityLogsQuery(ActivityLogQuery query) {
+        Query<ActivityLog> bucketQuery = load()
+                .filter("timeBucket >=", ActivityLog.getTimeBucket(query.getStartTime()))
+                .filter("timeBucket <=", ActivityLog.getTimeBucket(query.getEndTime()));
+        if (!query.isTestingDataIncluded()) {
+            bucketQuery = bucketQuery.filter("isTestingData =", false);
+        }
+
+        List<String> indexedTerms = null;
+        for (List<String> terms : query.getTermGroups()) {
+            // later groups are added by the filters of the admin, which are usually narrower
+            if (indexedTerms == null || terms.size() <= indexedTerms.size()) {
+                indexedTerms = terms;
+            }
+        }
+        if (indexedTerms != null && indexedTerms.size() == 1) {
+            bucketQuery = bucketQuery.filter("queryTerms =", indexedTerms.get(0));
+        } else if (indexedTerms != null && indexedTerms.size() <= MAX_SUBQUERIES) {
+            bucketQuery = bucketQuery.filter("queryTerms in", indexedTerms);
+        }
+        return bucketQuery;
+    }
+
+    /**
+     * Deletes at most {@link #DELETE_BATCH_SIZE} logs of the time buckets before the time bucket of {@code time},
+     * starting from {@code cursor}. A null or empty cursor starts from the first log.
+     *
+     * @return the cursor to continue deleting from, or null if there are no more logs to delete
+     */
+    public String deleteActivityLogsBefore(Instant time, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        // one more key is fetched to tell whether there are more logs after the batch
+        Query<ActivityLog> batchQuery = load()
+                .filter("timeBucket <", ActivityLog.getTimeBucket(time.toEpochMilli()))
+                .limit(DELETE_BATCH_SIZE + 1);
+        if (cursor != null && !cursor.isEmpty()) {
+            batchQuery = batchQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<Key<ActivityLog>> iterator = batchQuery.keys().iterator();
+        List<Key<ActivityLog>> keysToDelete = new ArrayList<>();
+        while (keysToDelete.size() < DELETE_BATCH_SIZE && iterator.hasNext()) {
+            keysToDelete.add(iterator.next());
+        }
+        Cursor endOfBatch = iterator.getCursor();
+        boolean hasMoreLogs = iterator.hasNext();
+
+        ofy().delete().keys(keysToDelete).now();
+        return hasMoreLogs ? endOfBatch.toWebSafeString() : null;
+    }
+
+    private boolean hasAllTermGroups(ActivityLog log, ActivityLogQuery query) {
+        for (List<String> terms : query.getTermGroups()) {
+            if (terms.stream().noneMatch(log.getQueryTerms()::contains)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected LoadType<ActivityLog> load() {
+        return ofy().load().type(ActivityLog.class);
+    }
+
+    @Override
+    protected ActivityLog getEntity(ActivityLogAttributes attributes) {
+        return attributes.getId() == null ? null : load().id(attributes.getId()).now();
+    }
+
+    @Override
+    protected QueryKeys<ActivityLog> getEntityQueryKeys(ActivityLogAttributes attributes) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, attributes.getId());
+
+        Key<ActivityLog> key = Key.create(ActivityLog.class, attributes.getId());
+        return load().filterKey(key).keys();
+    }
+
+    @Override
+    protected ActivityLogAttributes makeAttributes(ActivityLog entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return ActivityLogAttributes.valueOf(entity);
+    }
+}
@@ -0,0 +1,174 @@
+package teammates.storage.api;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.LogRecord;
+
+import com.google.apphosting.api.ApiProxy;
+import com.google.apphosting.api.ApiProxy.ApiConfig;
+import com.google.apphosting.api.ApiProxy.Environment;
+import com.google.apphosting.datastore.DatastoreV3Pb;
+
+import teammates.common.util.Config;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
+
+/**
+ * Wraps the delegate of the {@link ApiProxy} to count the Datastore RPCs made by the current request
+ * in {@link DatastoreOperationCounter}.
+ *
+ * <p>Every RPC is counted, including lookups for existence checks, keys-only and count queries,
+ * and each further batch of query results. The entities returned by queries are only counted if
+ * {@link Config#COUNT_DATASTORE_QUERY_RESULTS} is set, as that needs the results to be parsed.
+ * Entities served from the session cache or memcache of Objectify do not make an RPC and are not
+ * counted. Search operations are counted by the {@link teammates.storage.search.SearchManager}.
+ */
+public final class DatastoreRpcCountingDelegate implements ApiProxy.Delegate<Environment> {
+
+    private static final String DATASTORE_PACKAGE = "datastore_v3";
+
+    private final ApiProxy.Delegate<Environment> delegate;
+
+    private DatastoreRpcCountingDelegate(ApiProxy.Delegate<Environment> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the current delegate of the {@link ApiProxy}, unless there is none or it is already wrapped.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void install() {
+        ApiProxy.Delegate<Environment> delegate = ApiProxy.getDelegate();
+        if (delegate == null || delegate instanceof DatastoreRpcCountingDelegate) {
+            return;
+        }
+        ApiProxy.setDelegate(new DatastoreRpcCountingDelegate(delegate));
+    }
+
+    @Override
+    public byte[] makeSyncCall(Environment environment, String packageName, String methodName, byte[] request) {
+        long startTime = System.nanoTime();
+        byte[] response = delegate.makeSyncCall(environment, packageName, methodName, request);
+        count(packageName, methodName, request, response, System.nanoTime() - startTime);
+        return response;
+    }
+
+    @Override
+    public Future<byte[]> makeAsyncCall(Environment environment, String packageName, String methodName,
+                                        byte[] request, ApiConfig apiConfig) {
+        Future<byte[]> response = delegate.makeAsyncCall(environment, packageName, methodName, request, apiConfig);
+        if (!DATASTORE_PACKAGE.equals(packageName)) {
+            return response;
+        }
+        return new CountingFuture(response, methodName, request);
+    }
+
+    @Override
+    public void log(Environment environment, LogRecord record) {
+        delegate.log(environment, record);
+    }
+
+    @Override
+    public void flushLogs(Environment environment) {
+        delegate.flushLogs(environment);
+    }
+
+    @Override
+    public List<Thread> getRequestThreads(Environment environment) {
+        return delegate.getRequestThreads(environment);
+    }
+
+    private static void count(String packageName, String methodName, byte[] request, byte[] response,
+                              long elapsedNanos) {
+        if (!DATASTORE_PACKAGE.equals(packageName)) {
+            return;
+        }
+        switch (methodName) {
+        case "Get":
+            DatastoreV3Pb.GetRequest getRequest = new DatastoreV3Pb.GetRequest();
+            getRequest.parseFrom(request);
+            DatastoreOperationCounter.count(Operation.GET, getRequest.keySize(), elapsedNanos);
+            break;
+        case "RunQuery":
+        case "Next":
+            int numberOfResults = 0;
+            if (Config.COUNT_DATASTORE_QUERY_RESULTS) {
+                DatastoreV3Pb.QueryResult queryResult = new DatastoreV3Pb.QueryResult();
+                queryResult.parseFrom(response);
+                numberOfResults = queryResult.resultSize();
+            }
+            DatastoreOperationCounter.count(Operation.QUERY, numberOfResults, elapsedNanos);
+            break;
+        case "Put":
+            DatastoreV3Pb.PutRequest putRequest = new DatastoreV3Pb.PutRequest();
+            putRequest.parseFrom(request);
+            DatastoreOperationCounter.count(Operation.PUT, putRequest.entitySize(), elapsedNanos);
+            break;
+        case "Delete":
+            DatastoreV3Pb.DeleteRequest deleteRequest = new DatastoreV3Pb.DeleteRequest();
+            deleteRequest.parseFrom(request);
+            DatastoreOperationCounter.count(Operation.DELETE, deleteRequest.keySize(), elapsedNanos);
+            break;
+        default:
+            // transactions, allocations and index management are not counted
+            break;
+        }
+    }
+
+    /**
+     * Counts an asynchronous RPC once, when its response is first retrieved by the request.
+     * The time spent is measured from the start of the RPC to the retrieval of its response.
+     */
+    private static class CountingFuture implements Future<byte[]> {
+
+        private final Future<byte[]> response;
+        private final String methodName;
+        private final byte[] request;
+        private final long startTime = System.nanoTime();
+        private boolean isCounted;
+
+        CountingFuture(Future<byte[]> response, String methodName, byte[] request) {
+            this.response = response;
+            this.methodName = methodName;
+            this.request = request;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return response.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return response.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return response.isDone();
+        }
+
+        @Override
+        public byte[] get() throws InterruptedException, ExecutionException {
+            return countOnce(response.get());
+        }
+
+        @Override
+        public byte[] get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return countOnce(response.get(timeout, unit));
+        }
+
+        private synchronized byte[] countOnce(byte[] responseBytes) {
+            if (!isCounted) {
+                isCounted = true;
+                count(DATASTORE_PACKAGE, methodName, request, responseBytes, System.nanoTime() - startTime);
+            }
+            return responseBytes;
+        }
+
+    }
+
+}
@@ -8,12 +8,15 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -259,6 +262,29 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected abstract LoadType<E> load();
 
+    /**
+     * Adds at most {@code batchSize} entities of {@code query}, starting from {@code cursor}, to {@code entities}.
+     * A null or empty cursor starts from the first entity.
+     *
+     * @return the cursor to continue the query from, or null if there are no more entities
+     */
+    protected String addEntitiesFromCursor(Query<E> query, String cursor, int batchSize, List<E> entities) {
+        // one more entity is fetched to tell whether there are more entities after the batch
+        Query<E> batchQuery = query.limit(batchSize + 1);
+        if (cursor != null && !cursor.isEmpty()) {
+            batchQuery = batchQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<E> iterator = batchQuery.iterator();
+        int numberOfEntities = 0;
+        while (numberOfEntities < batchSize && iterator.hasNext()) {
+            entities.add(iterator.next());
+            numberOfEntities++;
+        }
+        Cursor endOfBatch = iterator.getCursor();
+        return iterator.hasNext() ? endOfBatch.toWebSafeString() : null;
+    }
+
     /**
      * NOTE: This method must be overriden for all subclasses such that it will return the
      * Entity matching the EntityAttributes in the parameter.
@@ -324,6 +350,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     }
 
     protected void putDocuments(String indexName, List<SearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
         List<Document> searchDocuments = new ArrayList<>();
         for (SearchDocument document : documents) {
             searchDocuments.add(document.build());
@@ -30,7 +30,7 @@ import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
-import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchManager;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -198,6 +198,75 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
     }
 
+    /**
+     * Returns the comments of the responses of the session given by students in {@code section}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSessionFromSection(
+            String courseId, String feedbackSessionName, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributes(getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName)
+                .filter("giverSection =", section)
+                .list());
+    }
+
+    /**
+     * Returns the comments of the responses of the session received by students in {@code section}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSessionToSection(
+            String courseId, String feedbackSessionName, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributes(getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName)
+                .filter("receiverSection =", section)
+                .list());
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return makeAttributes(load().filter("feedbackQuestionId =", feedbackQuestionId).list());
+    }
+
+    /**
+     * Returns the comments of the responses of the question given or received by students in {@code section}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestionInSection(
+            String feedbackQuestionId, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
+        for (FeedbackResponseComment comment : load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverSection =", section)
+                .list()) {
+            comments.put(comment.getFeedbackResponseCommentId(), comment);
+        }
+        for (FeedbackResponseComment comment : load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("receiverSection =", section)
+                .list()) {
+            comments.put(comment.getFeedbackResponseCommentId(), comment);
+        }
+
+        return makeAttributes(comments.values());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -295,11 +364,24 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * Batch creates or updates search documents for the given comments
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
-        }
-        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments);
+        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                     FeedbackResponseCommentSearchDocument.fromComments(comments));
+    }
+
+    /**
+     * Creates or updates the search documents of the next batch of response comments of the course, starting
+     * from the cursor. The batch holds as many comments as the Search API can put in one request.
+     *
+     * @return the cursor to continue from, or null if the documents of all comments of the course are put
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackResponseComment> comments = new ArrayList<>();
+        String nextCursor = addEntitiesFromCursor(load().filter("courseId =", courseId), cursor,
+                SearchManager.MAX_DOCUMENTS_PER_PUT, comments);
+        putDocuments(makeAttributes(comments));
+        return nextCursor;
     }
 
     /**
@@ -386,10 +468,14 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSession(
             String courseId, String feedbackSessionName) {
+        return getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName).list();
+    }
+
+    private Query<FeedbackResponseComment> getFeedbackResponseCommentsForSessionQuery(
+            String courseId, String feedbackSessionName) {
         return load()
                 .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .list();
+                .filter("feedbackSessionName =", feedbackSessionName);
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
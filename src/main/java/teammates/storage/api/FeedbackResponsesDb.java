@@ -8,15 +8,20 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.InvalidPostParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
@@ -55,6 +60,23 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(getFeedbackResponseEntityWithCheck(feedbackResponseId));
     }
 
+    /**
+     * Gets the responses with the given ids in a single batch get. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return The responses found, with response id as key. Ids without a response are left out.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        if (feedbackResponseIds.isEmpty()) {
+            return responses;
+        }
+        load().ids(feedbackResponseIds).forEach((id, response) -> responses.put(id, makeAttributes(response)));
+        return responses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -263,6 +285,58 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                         feedbackSessionName, courseId, section, range));
     }
 
+    /**
+     * Gets a page of the responses given by {@code section} in a session, ordered by giver.
+     * A page holds at least {@code pageSize} responses unless it is the last one, and all the responses
+     * of its last giver, so that the responses of a giver are never split across pages. <br>
+     * Preconditions: <br>
+     * * All parameters except {@code pageToken} are non-null.
+     *
+     * @param pageToken the token of the page to get, as returned with the previous page,
+     *                  or null to get the first page
+     * @throws InvalidPostParametersException if {@code pageToken} is not a valid page token
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String pageToken, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+        Assumption.assertTrue(pageSize > 0);
+
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("giverSection =", section)
+                .order("giverEmail");
+        return getFeedbackResponsesPage(query, pageToken, pageSize, FeedbackResponse::getGiverEmail);
+    }
+
+    /**
+     * Gets a page of the responses received by {@code section} in a session, ordered by recipient.
+     * A page holds at least {@code pageSize} responses unless it is the last one, and all the responses
+     * of its last recipient, so that the responses of a recipient are never split across pages. <br>
+     * Preconditions: <br>
+     * * All parameters except {@code pageToken} are non-null.
+     *
+     * @param pageToken the token of the page to get, as returned with the previous page,
+     *                  or null to get the first page
+     * @throws InvalidPostParametersException if {@code pageToken} is not a valid page token
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String pageToken, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+        Assumption.assertTrue(pageSize > 0);
+
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("receiverSection =", section)
+                .order("receiver");
+        return getFeedbackResponsesPage(query, pageToken, pageSize, FeedbackResponse::getRecipientEmail);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -304,6 +378,27 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets the responses to the question given by any of {@code participantEmails} to any of them,
+     * in a single batch get. Unlike a query, the get returns the responses written just before it. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesAmongParticipantsForQuestion(
+            String feedbackQuestionId, Collection<String> participantEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, participantEmails);
+
+        List<String> feedbackResponseIds = new ArrayList<>();
+        for (String giverEmail : participantEmails) {
+            for (String recipientEmail : participantEmails) {
+                feedbackResponseIds.add(FeedbackResponse.generateId(feedbackQuestionId, giverEmail, recipientEmail));
+            }
+        }
+        return new ArrayList<>(getFeedbackResponses(feedbackResponseIds).values());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -334,6 +429,34 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponseEntitiesFromGiverForSession(giverEmail, feedbackSessionName, courseId));
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponseEntitiesForReceiverForSession(receiver, feedbackSessionName, courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -506,6 +629,38 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    /**
+     * Gets the page of {@code query} starting from {@code pageToken}, with at least {@code pageSize} entities
+     * unless it is the last page. The query is ordered by participant, and the page is extended until the
+     * participant changes, so that the responses of a participant are never split across pages.
+     */
+    private FeedbackResponsesPage getFeedbackResponsesPage(Query<FeedbackResponse> query, String pageToken,
+            int pageSize, Function<FeedbackResponse, String> participantOfResponse) {
+        Query<FeedbackResponse> pageQuery = query.chunk(pageSize + 1);
+        if (pageToken != null) {
+            try {
+                pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(pageToken));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidPostParametersException("Invalid page token: " + pageToken, e);
+            }
+        }
+
+        List<FeedbackResponse> responses = new ArrayList<>();
+        String lastParticipant = null;
+        QueryResultIterator<FeedbackResponse> iterator = pageQuery.iterator();
+        while (iterator.hasNext()) {
+            Cursor cursor = responses.size() < pageSize ? null : iterator.getCursor();
+            FeedbackResponse response = iterator.next();
+            String participant = participantOfResponse.apply(response);
+            if (cursor != null && !participant.equals(lastParticipant)) {
+                return new FeedbackResponsesPage(makeAttributes(responses), cursor.toWebSafeString());
+            }
+            responses.add(response);
+            lastParticipant = participant;
+        }
+        return new FeedbackResponsesPage(makeAttributes(responses), null);
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSession(
             String feedbackSessionName, String courseId) {
         return getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, -1);
@@ -660,6 +815,24 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("giverEmail =", giverEmail)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("receiver =", receiver)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
         return load()
@@ -0,0 +1,249 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes.QuestionStatistics;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.FeedbackQuestionResultsStatistics;
+import teammates.storage.entity.FeedbackSessionResultsSummary;
+
+/**
+ * Handles CRUD operations for feedback session results summaries, and the question statistics stored for them.
+ *
+ * @see FeedbackSessionResultsSummary
+ * @see FeedbackQuestionResultsStatistics
+ * @see FeedbackSessionResultsSummaryAttributes
+ */
+public class FeedbackSessionResultsSummariesDb
+        extends EntitiesDb<FeedbackSessionResultsSummary, FeedbackSessionResultsSummaryAttributes> {
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return Null if not found.
+     */
+    public FeedbackSessionResultsSummaryAttributes getSummary(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        return makeAttributesOrNull(getSummaryEntity(courseId, feedbackSessionName));
+    }
+
+    /**
+     * Returns the summary of the session, creating it with no statistics built if there is none. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionResultsSummaryAttributes getOrCreateSummary(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        return ofy().transact(new Work<FeedbackSessionResultsSummaryAttributes>() {
+            @Override
+            public FeedbackSessionResultsSummaryAttributes run() {
+                FeedbackSessionResultsSummary summary = getSummaryEntity(courseId, feedbackSessionName);
+                if (summary == null) {
+                    summary = FeedbackSessionResultsSummaryAttributes.builder(courseId, feedbackSessionName)
+                            .build()
+                            .toEntity();
+                    saveEntity(summary);
+                }
+                return makeAttributes(summary);
+            }
+        });
+    }
+
+    /**
+     * Increments the generation of the summary of the session, so that statistics being built for
+     * an earlier generation are not used. Fails silently if there is no such summary. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void incrementGeneration(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackSessionResultsSummary summary = getSummaryEntity(courseId, feedbackSessionName);
+                if (summary == null) {
+                    return;
+                }
+
+                summary.setGeneration(summary.getGeneration() + 1);
+                summary.setUpdatedAt(Instant.now());
+
+                saveEntity(summary);
+            }
+        });
+    }
+
+    /**
+     * Marks the statistics of the session as built for the generation of {@code summary}, unless the
+     * summary has been deleted, re-created or incremented to a later generation since it was read. <br>
+     * Preconditions: <br>
+     * * {@code summary} is non-null.
+     *
+     * @return true if the statistics were marked as built
+     */
+    public boolean markSummaryBuiltIfUnchanged(FeedbackSessionResultsSummaryAttributes summary) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, summary);
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                FeedbackSessionResultsSummary summaryEntity = getEntity(summary);
+                if (summaryEntity == null || summaryEntity.getGeneration() != summary.getGeneration()
+                        || !summaryEntity.getCreatedAt().equals(summary.getCreatedAt())) {
+                    return false;
+                }
+
+                summaryEntity.setBuiltGeneration(summaryEntity.getGeneration());
+                summaryEntity.setUpdatedAt(Instant.now());
+
+                saveEntity(summaryEntity);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Returns the summaries of all sessions in the course which have one.
+     */
+    public List<FeedbackSessionResultsSummaryAttributes> getSummariesForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(load().filter("courseId =", courseId).list());
+    }
+
+    /**
+     * Returns the statistics of the questions with the given ids built for {@code generation},
+     * with question id as key. Questions without such statistics are left out.
+     */
+    public Map<String, QuestionStatistics> getQuestionStatistics(Collection<String> feedbackQuestionIds,
+            long generation) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        List<String> ids = new ArrayList<>();
+        for (String questionId : feedbackQuestionIds) {
+            ids.add(FeedbackQuestionResultsStatistics.generateId(questionId, generation));
+        }
+
+        Map<String, QuestionStatistics> questionStatistics = new HashMap<>();
+        for (FeedbackQuestionResultsStatistics statistics : loadQuestionStatistics().ids(ids).values()) {
+            questionStatistics.put(statistics.getFeedbackQuestionId(), QuestionStatistics.valueOf(statistics));
+        }
+        return questionStatistics;
+    }
+
+    /**
+     * Stores the statistics of the questions of the session, with question id as key,
+     * for the generation given in each of them.
+     */
+    public void saveQuestionStatistics(String courseId, String feedbackSessionName,
+            Map<String, QuestionStatistics> questionStatistics) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, questionStatistics);
+
+        List<FeedbackQuestionResultsStatistics> entities = new ArrayList<>();
+        questionStatistics.forEach((questionId, statistics) ->
+                entities.add(statistics.toEntity(questionId, courseId, feedbackSessionName)));
+        ofy().save().entities(entities).now();
+    }
+
+    /**
+     * Deletes the statistics of the questions of the session built for any generation but {@code generation}.
+     */
+    public void deleteQuestionStatisticsExceptForGeneration(String courseId, String feedbackSessionName,
+            long generation) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        List<Key<FeedbackQuestionResultsStatistics>> keysToDelete = new ArrayList<>();
+        for (Key<FeedbackQuestionResultsStatistics> key : loadQuestionStatistics()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .keys()) {
+            if (!key.getName().endsWith("%" + generation)) {
+                keysToDelete.add(key);
+            }
+        }
+        ofy().delete().keys(keysToDelete).now();
+    }
+
+    /**
+     * Deletes the summary of the session and the statistics stored for it.
+     * Fails silently if there is no such summary.
+     */
+    public void deleteSummary(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        ofy().delete().key(Key.create(FeedbackSessionResultsSummary.class,
+                FeedbackSessionResultsSummary.generateId(courseId, feedbackSessionName))).now();
+        ofy().delete().keys(loadQuestionStatistics()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .keys()).now();
+    }
+
+    /**
+     * Deletes the summaries of all sessions in the course and the statistics stored for them.
+     */
+    public void deleteSummariesForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().keys(load().filter("courseId =", courseId).keys()).now();
+        ofy().delete().keys(loadQuestionStatistics().filter("courseId =", courseId).keys()).now();
+    }
+
+    private FeedbackSessionResultsSummary getSummaryEntity(String courseId, String feedbackSessionName) {
+        return load().id(FeedbackSessionResultsSummary.generateId(courseId, feedbackSessionName)).now();
+    }
+
+    private LoadType<FeedbackQuestionResultsStatistics> loadQuestionStatistics() {
+        return ofy().load().type(FeedbackQuestionResultsStatistics.class);
+    }
+
+    @Override
+    protected LoadType<FeedbackSessionResultsSummary> load() {
+        return ofy().load().type(FeedbackSessionResultsSummary.class);
+    }
+
+    @Override
+    protected FeedbackSessionResultsSummary getEntity(FeedbackSessionResultsSummaryAttributes attributes) {
+        return getSummaryEntity(attributes.getCourseId(), attributes.getFeedbackSessionName());
+    }
+
+    @Override
+    protected QueryKeys<FeedbackSessionResultsSummary> getEntityQueryKeys(
+            FeedbackSessionResultsSummaryAttributes attributes) {
+        Key<FeedbackSessionResultsSummary> key = Key.create(FeedbackSessionResultsSummary.class,
+                FeedbackSessionResultsSummary.generateId(attributes.getCourseId(), attributes.getFeedbackSessionName()));
+        return load().filterKey(key).keys();
+    }
+
+    @Override
+    protected FeedbackSessionResultsSummaryAttributes makeAttributes(FeedbackSessionResultsSummary entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return FeedbackSessionResultsSummaryAttributes.valueOf(entity);
+    }
+}
@@ -2,16 +2,15 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -33,40 +32,24 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
 
     public static final String ERROR_UPDATE_NON_EXISTENT = "Trying to update non-existent Feedback Session : ";
 
+    /**
+     * Returns the sessions which start or end within the range, i.e. whose start time is in
+     * {@code [rangeStart, rangeEnd)} or whose end time is in {@code (rangeStart, rangeEnd]}.
+     */
     public List<FeedbackSessionAttributes> getAllOpenFeedbackSessions(Instant rangeStart, Instant rangeEnd) {
-        List<FeedbackSessionAttributes> list = new LinkedList<>();
-
-        // To retrieve legacy data where local dates are stored instead of UTC
-        // TODO: remove after all legacy data has been converted
-        Instant start = rangeStart.minus(Duration.ofHours(25));
-        Instant end = rangeEnd.plus(Duration.ofHours(25));
-
-        List<FeedbackSession> endEntities = load()
-                .filter("endTime >", TimeHelper.convertInstantToDate(start))
-                .filter("endTime <=", TimeHelper.convertInstantToDate(end))
-                .list();
-
-        List<FeedbackSession> startEntities = load()
-                .filter("startTime >=", TimeHelper.convertInstantToDate(start))
-                .filter("startTime <", TimeHelper.convertInstantToDate(end))
+        List<FeedbackSession> entities = load()
+                .filter("timeBuckets >=", FeedbackSession.getTimeBucket(rangeStart.toEpochMilli()))
+                .filter("timeBuckets <=", FeedbackSession.getTimeBucket(rangeEnd.toEpochMilli()))
                 .list();
 
-        List<FeedbackSession> endTimeEntities = new ArrayList<>(endEntities);
-        List<FeedbackSession> startTimeEntities = new ArrayList<>(startEntities);
-
-        endTimeEntities.removeAll(startTimeEntities);
-        startTimeEntities.removeAll(endTimeEntities);
-        endTimeEntities.addAll(startTimeEntities);
-
-        // TODO: remove after all legacy data has been converted
-        for (FeedbackSession feedbackSession : endTimeEntities) {
-            FeedbackSessionAttributes fs = makeAttributes(feedbackSession);
+        // the buckets at both ends of the range may also hold sessions starting and ending just outside it
+        List<FeedbackSessionAttributes> list = new ArrayList<>();
+        for (FeedbackSessionAttributes fs : makeAttributes(entities)) {
             Instant fsStart = fs.getStartTime();
             Instant fsEnd = fs.getEndTime();
 
-            boolean isStartTimeWithinRange = (fsStart.isAfter(rangeStart) || fsStart.equals(rangeStart))
-                    && fsStart.isBefore(rangeEnd);
-            boolean isEndTimeWithinRange = fsEnd.isAfter(rangeStart) && (fsEnd.isBefore(rangeEnd) || fsEnd.equals(rangeEnd));
+            boolean isStartTimeWithinRange = !fsStart.isBefore(rangeStart) && fsStart.isBefore(rangeEnd);
+            boolean isEndTimeWithinRange = fsEnd.isAfter(rangeStart) && !fsEnd.isAfter(rangeEnd);
 
             if (isStartTimeWithinRange || isEndTimeWithinRange) {
                 list.add(fs);
@@ -202,6 +185,135 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
+    /**
+     * Updates the number of respondents expected for the session, leaving all other fields untouched.
+     * Any number being computed from the session as it was before is then not stored by
+     * {@link #updateExpectedRespondentsTotalIfUnchanged}. <br>
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null.
+     *
+     * @param expectedRespondentsTotal the new number, or null if it has to be recomputed
+     */
+    // The objectify library does not support throwing checked exceptions inside transactions
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public void updateExpectedRespondentsTotal(FeedbackSessionAttributes feedbackSession,
+            Integer expectedRespondentsTotal) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession fs = getEntity(feedbackSession);
+                    if (fs == null) {
+                        throw new RuntimeException(new EntityDoesNotExistException(
+                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
+                    }
+
+                    fs.setExpectedRespondentsTotal(expectedRespondentsTotal);
+                    fs.setExpectedRespondentsTotalVersion(fs.getExpectedRespondentsTotalVersion() + 1);
+
+                    saveEntity(fs);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof EntityDoesNotExistException) {
+                throw (EntityDoesNotExistException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the number of respondents expected for the session, computed from {@code feedbackSession},
+     * unless the number has been overwritten or cleared since {@code feedbackSession} was read,
+     * in which case the computed number may be outdated. <br>
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null.
+     *
+     * @return true if the number was stored
+     */
+    public boolean updateExpectedRespondentsTotalIfUnchanged(FeedbackSessionAttributes feedbackSession,
+            int expectedRespondentsTotal) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                FeedbackSession fs = getEntity(feedbackSession);
+                if (fs == null || fs.getExpectedRespondentsTotalVersion()
+                        != feedbackSession.getExpectedRespondentsTotalVersion()) {
+                    return false;
+                }
+
+                fs.setExpectedRespondentsTotal(expectedRespondentsTotal);
+
+                saveEntity(fs);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Updates the institute of the session, leaving all other fields untouched.
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null.
+     */
+    // The objectify library does not support throwing checked exceptions inside transactions
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public void updateInstitute(FeedbackSessionAttributes feedbackSession, String institute)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession fs = getEntity(feedbackSession);
+                    if (fs == null) {
+                        throw new RuntimeException(new EntityDoesNotExistException(
+                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
+                    }
+
+                    fs.setInstitute(institute);
+
+                    saveEntity(fs);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof EntityDoesNotExistException) {
+                throw (EntityDoesNotExistException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Clears the number of respondents expected for every session in the course,
+     * so that it is recomputed the next time it is needed.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void clearExpectedRespondentsTotalsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<Key<FeedbackSession>> sessionKeys = getFeedbackSessionKeysForCourse(courseId);
+        for (Key<FeedbackSession> sessionKey : sessionKeys) {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackSession session = ofy().load().key(sessionKey).now();
+                    // sessions already cleared are still written, as their number may be being computed
+                    if (session != null) {
+                        session.setExpectedRespondentsTotal(null);
+                        session.setExpectedRespondentsTotalVersion(session.getExpectedRespondentsTotalVersion() + 1);
+                        saveEntity(session);
+                    }
+                }
+            });
+        }
+    }
+
     public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
         List<String> emails = new ArrayList<>();
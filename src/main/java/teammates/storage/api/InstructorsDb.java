@@ -23,6 +23,7 @@ import teammates.storage.entity.Instructor;
 import teammates.storage.search.InstructorSearchDocument;
 import teammates.storage.search.InstructorSearchQuery;
 import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchManager;
 
 /**
  * Handles CRUD operations for instructors.
@@ -65,6 +66,22 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         putDocuments(Const.SearchIndex.INSTRUCTOR, instructorDocuments);
     }
 
+    /**
+     * Creates or updates the search documents of the next batch of instructors of the course, starting from
+     * the cursor. The batch holds as many instructors as the Search API can put in one request.
+     *
+     * @return the cursor to continue from, or null if the documents of all instructors of the course are put
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<Instructor> instructors = new ArrayList<>();
+        String nextCursor = addEntitiesFromCursor(load().filter("courseId =", courseId), cursor,
+                SearchManager.MAX_DOCUMENTS_PER_PUT, instructors);
+        putDocuments(makeAttributes(instructors));
+        return nextCursor;
+    }
+
     public void deleteDocument(InstructorAttributes instructorToDelete) {
         if (instructorToDelete.key == null) {
             InstructorAttributes instructor =
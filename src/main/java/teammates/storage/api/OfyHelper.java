@@ -6,18 +6,22 @@ import javax.servlet.ServletContextListener;
 import com.googlecode.objectify.ObjectifyService;
 
 import teammates.storage.entity.Account;
+import teammates.storage.entity.ActivityLog;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackQuestionResultsStatistics;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionResultsSummary;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
+import teammates.storage.entity.TeamContributionSummary;
 
 /**
- * Setup in web.xml to register Objectify at application startup.
+ * Setup in web.xml to register Objectify and the counting of Datastore RPCs at application startup.
  **/
 public class OfyHelper implements ServletContextListener {
 
@@ -26,21 +30,26 @@ public class OfyHelper implements ServletContextListener {
      */
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
+        ObjectifyService.register(ActivityLog.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
+        ObjectifyService.register(FeedbackQuestionResultsStatistics.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionResultsSummary.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
+        ObjectifyService.register(TeamContributionSummary.class);
     }
 
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by GAE at application startup.
         registerEntityClasses();
+        DatastoreRpcCountingDelegate.install();
     }
 
     @Override
@@ -90,7 +90,10 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         boolean hasNewNonEmptyPictureKey = !newSpa.pictureKey.isEmpty()
                 && !newSpa.pictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
         if (hasNewNonEmptyPictureKey) {
+            // the thumbnail was made from the old picture
+            deleteThumbnail(profileToUpdate);
             profileToUpdate.setPictureKey(new BlobKey(newSpa.pictureKey));
+            profileToUpdate.setThumbnailKey(new BlobKey(""));
         }
 
         saveEntity(profileToUpdate);
@@ -102,8 +105,21 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
      * modifiedDate
      */
     public void updateStudentProfilePicture(String googleId, String newPictureKey) throws EntityDoesNotExistException {
+        updateStudentProfilePicture(googleId, newPictureKey, "");
+    }
+
+    /**
+     * Updates the pictureKey and the thumbnailKey of the profile with given GoogleId.
+     * Deletes existing picture and its thumbnail if the picture key is different
+     * and updates modifiedDate.
+     *
+     * @param newThumbnailKey the key of the thumbnail of the new picture, or an empty string if there is none
+     */
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newThumbnailKey)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newPictureKey);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newThumbnailKey);
         Assumption.assertNotEmpty("GoogleId is empty", googleId);
         Assumption.assertNotEmpty("PictureKey is empty", newPictureKey);
 
@@ -112,13 +128,29 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         boolean hasNewNonEmptyPictureKey = !newPictureKey.isEmpty()
                 && !newPictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
         if (hasNewNonEmptyPictureKey) {
+            if (!profileToUpdate.getPictureKey().getKeyString().isEmpty()) {
+                deletePicture(profileToUpdate.getPictureKey());
+            }
+            deleteThumbnail(profileToUpdate);
             profileToUpdate.setPictureKey(new BlobKey(newPictureKey));
+            profileToUpdate.setThumbnailKey(new BlobKey(newThumbnailKey));
             profileToUpdate.setModifiedDate(Instant.now());
         }
 
         saveEntity(profileToUpdate);
     }
 
+    /**
+     * Deletes the thumbnail of the profile picture from GCS, if the profile has one.
+     * The profile entity is not updated.
+     */
+    void deleteThumbnail(StudentProfile profile) {
+        BlobKey thumbnailKey = profile.getThumbnailKey();
+        if (thumbnailKey != null && !thumbnailKey.getKeyString().isEmpty()) {
+            deletePicture(thumbnailKey);
+        }
+    }
+
     @Override
     public void deleteEntity(StudentProfileAttributes entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
@@ -154,16 +186,18 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
     }
 
     /**
-     * Deletes the profile picture from GCS and
+     * Deletes the profile picture and its thumbnail from GCS and
      * updates the profile entity:
-     *     empties the key and updates the modifiedDate.
+     *     empties the keys and updates the modifiedDate.
      */
     public void deleteStudentProfilePicture(String googleId) throws EntityDoesNotExistException {
         StudentProfile sp = getCurrentProfileFromDb(googleId);
 
         if (!sp.getPictureKey().equals(new BlobKey(""))) {
             deletePicture(sp.getPictureKey());
+            deleteThumbnail(sp);
             sp.setPictureKey(new BlobKey(""));
+            sp.setThumbnailKey(new BlobKey(""));
             sp.setModifiedDate(Instant.now());
         }
 
@@ -3,9 +3,12 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -13,6 +16,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -26,6 +30,7 @@ import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.search.SearchDocument;
+import teammates.storage.search.SearchManager;
 import teammates.storage.search.StudentSearchDocument;
 import teammates.storage.search.StudentSearchQuery;
 
@@ -56,19 +61,43 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         putDocuments(Const.SearchIndex.STUDENT, studentDocuments);
     }
 
+    /**
+     * Creates or updates the search documents of the next batch of students of the course, starting from
+     * the cursor. The batch holds as many students as the Search API can put in one request.
+     *
+     * @return the cursor to continue from, or null if the documents of all students of the course are put
+     */
+    public String putDocumentsForCourse(String courseId, String cursor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<CourseStudent> students = new ArrayList<>();
+        String nextCursor = addEntitiesFromCursor(getCourseStudentsForCourseQuery(courseId), cursor,
+                SearchManager.MAX_DOCUMENTS_PER_PUT, students);
+        putDocuments(makeAttributes(students));
+        return nextCursor;
+    }
+
     /**
      * Searches for students.
      * @return {@link StudentSearchResultBundle}
      */
     public StudentSearchResultBundle search(String queryString, List<InstructorAttributes> instructors) {
+        return search(queryString, new InstructorCourseFilter(instructors));
+    }
+
+    /**
+     * Searches for students in the courses of the filter.
+     * @return {@link StudentSearchResultBundle}
+     */
+    public StudentSearchResultBundle search(String queryString, InstructorCourseFilter courseFilter) {
         if (queryString.trim().isEmpty()) {
             return new StudentSearchResultBundle();
         }
 
         Results<ScoredDocument> results = searchDocuments(Const.SearchIndex.STUDENT,
-                new StudentSearchQuery(instructors, queryString));
+                new StudentSearchQuery(courseFilter, queryString));
 
-        return StudentSearchDocument.fromResults(results, instructors);
+        return StudentSearchDocument.fromResults(results, courseFilter);
     }
 
     /**
@@ -100,6 +129,28 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         deleteDocument(Const.SearchIndex.STUDENT, key);
     }
 
+    /**
+     * Returns the registration keys of those of the given students which exist, loading the students
+     * in one batch.
+     */
+    public Set<String> getRegistrationKeysOfExistingStudents(Collection<StudentAttributes> students) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        Set<String> registrationKeys = new HashSet<>();
+        if (students.isEmpty()) {
+            return registrationKeys;
+        }
+
+        Set<String> ids = new HashSet<>();
+        for (StudentAttributes student : students) {
+            ids.add(student.email + '%' + student.course);
+        }
+        for (CourseStudent student : load().ids(ids).values()) {
+            registrationKeys.add(student.getRegistrationKey());
+        }
+        return registrationKeys;
+    }
+
     public void createStudentWithoutDocument(StudentAttributes student)
             throws InvalidParametersException, EntityAlreadyExistsException {
         createStudent(student, false);
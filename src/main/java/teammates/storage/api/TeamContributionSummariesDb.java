@@ -0,0 +1,161 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.TeamContributionSummaryAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.TeamContributionSummary;
+
+/**
+ * Handles CRUD operations for team contribution summaries.
+ *
+ * @see TeamContributionSummary
+ * @see TeamContributionSummaryAttributes
+ */
+public class TeamContributionSummariesDb extends EntitiesDb<TeamContributionSummary, TeamContributionSummaryAttributes> {
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return Null if not found.
+     */
+    public TeamContributionSummaryAttributes getSummary(String feedbackQuestionId, String teamName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, teamName);
+
+        return makeAttributesOrNull(getSummaryEntity(feedbackQuestionId, teamName));
+    }
+
+    /**
+     * Gets the summaries of each of {@code teamNames} for each of the questions in a single batch lookup.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no summaries are found.
+     */
+    public List<TeamContributionSummaryAttributes> getSummaries(Collection<String> feedbackQuestionIds,
+            Collection<String> teamNames) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, teamNames);
+
+        List<String> ids = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            for (String teamName : teamNames) {
+                ids.add(TeamContributionSummary.generateId(feedbackQuestionId, teamName));
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return makeAttributes(load().ids(ids).values());
+    }
+
+    /**
+     * Replaces the points given by {@code giverEmail} to {@code recipientEmail} in the summary of the team,
+     * within a transaction so that concurrent submissions by members of the same team are not lost.
+     * <br> If there is no summary computed for exactly {@code sortedMemberEmails}, {@code summaryIfOutdated}
+     * is saved instead with the points replaced in it, unless it is null. The points are replaced even if
+     * {@code summaryIfOutdated} was computed after the submission, as it may have been computed from
+     * an earlier version of the response.
+     * Preconditions: <br>
+     * * All parameters except {@code summaryIfOutdated} are non-null.
+     *
+     * @return false if nothing was saved because the summary is missing or outdated
+     *         and {@code summaryIfOutdated} is null
+     */
+    public boolean updateSubmission(String feedbackQuestionId, String teamName, List<String> sortedMemberEmails,
+            String giverEmail, String recipientEmail, int points,
+            TeamContributionSummaryAttributes summaryIfOutdated) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, teamName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sortedMemberEmails);
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                TeamContributionSummary entity = getSummaryEntity(feedbackQuestionId, teamName);
+                if (entity != null) {
+                    TeamContributionSummaryAttributes summary = makeAttributes(entity);
+                    if (summary.hasMembers(sortedMemberEmails)) {
+                        TeamContributionSummaryAttributes updatedSummary =
+                                summary.withSubmission(giverEmail, recipientEmail, points);
+                        // a null summary means the recipient is not in the team, so the results are not affected
+                        if (updatedSummary != null) {
+                            saveEntity(updatedSummary.toEntity(), updatedSummary);
+                        }
+                        return true;
+                    }
+                }
+                if (summaryIfOutdated == null) {
+                    return false;
+                }
+                TeamContributionSummaryAttributes updatedSummary =
+                        summaryIfOutdated.withSubmission(giverEmail, recipientEmail, points);
+                TeamContributionSummaryAttributes summaryToSave =
+                        updatedSummary == null ? summaryIfOutdated : updatedSummary;
+                saveEntity(summaryToSave.toEntity(), summaryToSave);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Fails silently if there is no such summary.
+     */
+    public void deleteSummary(String feedbackQuestionId, String teamName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, teamName);
+
+        ofy().delete().key(Key.create(TeamContributionSummary.class,
+                TeamContributionSummary.generateId(feedbackQuestionId, teamName))).now();
+    }
+
+    public void deleteSummariesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().keys(load().filter("feedbackQuestionId =", feedbackQuestionId).keys()).now();
+    }
+
+    public void deleteSummariesForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().keys(load().filter("courseId =", courseId).keys()).now();
+    }
+
+    private TeamContributionSummary getSummaryEntity(String feedbackQuestionId, String teamName) {
+        return load().id(TeamContributionSummary.generateId(feedbackQuestionId, teamName)).now();
+    }
+
+    @Override
+    protected LoadType<TeamContributionSummary> load() {
+        return ofy().load().type(TeamContributionSummary.class);
+    }
+
+    @Override
+    protected TeamContributionSummary getEntity(TeamContributionSummaryAttributes attributes) {
+        return getSummaryEntity(attributes.getFeedbackQuestionId(), attributes.getTeamName());
+    }
+
+    @Override
+    protected QueryKeys<TeamContributionSummary> getEntityQueryKeys(TeamContributionSummaryAttributes attributes) {
+        Key<TeamContributionSummary> key = Key.create(TeamContributionSummary.class,
+                TeamContributionSummary.generateId(attributes.getFeedbackQuestionId(), attributes.getTeamName()));
+        return load().filterKey(key).keys();
+    }
+
+    @Override
+    protected TeamContributionSummaryAttributes makeAttributes(TeamContributionSummary entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return TeamContributionSummaryAttributes.valueOf(entity);
+    }
+}
@@ -0,0 +1,180 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents an activity log entry shown in the admin activity log page.
+ * <br> Only the time bucket, the testing data flag and the search terms are indexed;
+ * see {@link ActivityLogQuery} for how they are queried.
+ */
+@Entity
+@Unindex
+public class ActivityLog extends BaseEntity {
+
+    /**
+     * The length of the time periods the logs are grouped into for querying.
+     */
+    public static final long TIME_BUCKET_LENGTH_MILLIS = 60 * 60 * 1000; // one hour
+
+    @Id
+    private Long id;
+
+    @Index
+    private long timeBucket;
+
+    @Index
+    private boolean isTestingData;
+
+    @Index
+    private List<String> queryTerms;
+
+    private String logId;
+
+    private Date logTime;
+
+    private String actionUrl;
+
+    private String actionName;
+
+    private String actionResponse;
+
+    private String userRole;
+
+    private boolean isMasqueradeUserRole;
+
+    private String userName;
+
+    private String userGoogleId;
+
+    private String userEmail;
+
+    private Text logMessage;
+
+    private long actionTimeTaken;
+
+    private String version;
+
+    @SuppressWarnings("unused")
+    private ActivityLog() {
+        // required by Objectify
+    }
+
+    public ActivityLog(String logId, Instant logTime, String actionUrl, String actionName, String actionResponse,
+            String userRole, boolean isMasqueradeUserRole, String userName, String userGoogleId, String userEmail,
+            String logMessage, long actionTimeTaken, String version) {
+        this.logId = logId;
+        this.logTime = TimeHelper.convertInstantToDate(logTime);
+        this.actionUrl = actionUrl;
+        this.actionName = actionName;
+        this.actionResponse = actionResponse;
+        this.userRole = userRole;
+        this.isMasqueradeUserRole = isMasqueradeUserRole;
+        this.userName = userName;
+        this.userGoogleId = userGoogleId;
+        this.userEmail = userEmail;
+        this.logMessage = new Text(logMessage);
+        this.actionTimeTaken = actionTimeTaken;
+        this.version = version;
+
+        this.timeBucket = getTimeBucket(logTime.toEpochMilli());
+        this.isTestingData = userEmail.endsWith(Const.ActivityLog.TESTING_DATA_EMAIL_POSTFIX);
+        this.queryTerms = generateQueryTerms();
+    }
+
+    /**
+     * Returns the time bucket which {@code timeMillis} falls into.
+     */
+    public static long getTimeBucket(long timeMillis) {
+        return Math.floorDiv(timeMillis, TIME_BUCKET_LENGTH_MILLIS);
+    }
+
+    private List<String> generateQueryTerms() {
+        List<String> terms = new ArrayList<>();
+        terms.add(ActivityLogQuery.generateTerm(ActivityLogQuery.LABEL_REQUEST, actionName));
+        terms.add(ActivityLogQuery.generateTerm(ActivityLogQuery.LABEL_RESPONSE, actionResponse));
+        terms.add(ActivityLogQuery.generateTerm(ActivityLogQuery.LABEL_ROLE, userRole));
+        terms.add(ActivityLogQuery.generateTerm(ActivityLogQuery.LABEL_VERSION, version.replace('.', '-')));
+        return terms;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getTimeBucket() {
+        return timeBucket;
+    }
+
+    public boolean isTestingData() {
+        return isTestingData;
+    }
+
+    public List<String> getQueryTerms() {
+        return queryTerms;
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public Instant getLogTime() {
+        return TimeHelper.convertDateToInstant(logTime);
+    }
+
+    public String getActionUrl() {
+        return actionUrl;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getActionResponse() {
+        return actionResponse;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+
+    public boolean isMasqueradeUserRole() {
+        return isMasqueradeUserRole;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserGoogleId() {
+        return userGoogleId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getLogMessage() {
+        return logMessage == null ? null : logMessage.getValue();
+    }
+
+    public long getActionTimeTaken() {
+        return actionTimeTaken;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
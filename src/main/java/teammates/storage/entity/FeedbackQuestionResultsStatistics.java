@@ -0,0 +1,118 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the statistics of one question of a published feedback session, as built for one generation
+ * of the {@link FeedbackSessionResultsSummary} of the session.
+ * <br> Each generation is stored separately, so that a build which was overtaken by a later one cannot
+ * overwrite the statistics of the later build.
+ */
+@Entity
+@Index
+public class FeedbackQuestionResultsStatistics extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String feedbackQuestionId;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    /** The generation of the summary of the session for which the statistics were built. */
+    @Unindex
+    private long generation;
+
+    @Unindex
+    private int numOfResponses;
+
+    @Unindex
+    private String responsesFingerprint;
+
+    @Unindex
+    private Text statisticsHtml;
+
+    @Unindex
+    private Text statisticsCsv;
+
+    @Unindex
+    private Date createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackQuestionResultsStatistics() {
+        // required by Objectify
+    }
+
+    public FeedbackQuestionResultsStatistics(String feedbackQuestionId, String courseId, String feedbackSessionName,
+            long generation, int numOfResponses, String responsesFingerprint, String statisticsHtml,
+            String statisticsCsv) {
+        this.id = generateId(feedbackQuestionId, generation);
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.generation = generation;
+        this.numOfResponses = numOfResponses;
+        this.responsesFingerprint = responsesFingerprint;
+        this.statisticsHtml = new Text(statisticsHtml);
+        this.statisticsCsv = new Text(statisticsCsv);
+        this.createdAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+    /**
+     * Returns the id of the statistics of the question {@code feedbackQuestionId} built for {@code generation}.
+     */
+    public static String generateId(String feedbackQuestionId, long generation) {
+        return feedbackQuestionId + "%" + generation;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getNumOfResponses() {
+        return numOfResponses;
+    }
+
+    public String getResponsesFingerprint() {
+        return responsesFingerprint;
+    }
+
+    public String getStatisticsHtml() {
+        return statisticsHtml == null ? null : statisticsHtml.getValue();
+    }
+
+    public String getStatisticsCsv() {
+        return statisticsCsv == null ? null : statisticsCsv.getValue();
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+}
@@ -75,11 +75,15 @@ public class FeedbackResponse extends BaseEntity {
         this.receiverSection = recipientSection;
         this.answer = answer;
 
-        this.feedbackResponseId = feedbackQuestionId + "%" + giverEmail + "%" + receiver;
+        this.feedbackResponseId = generateId(feedbackQuestionId, giverEmail, receiver);
 
         this.setCreatedAt(Instant.now());
     }
 
+    public static String generateId(String feedbackQuestionId, String giverEmail, String receiver) {
+        return feedbackQuestionId + "%" + giverEmail + "%" + receiver;
+    }
+
     public String getId() {
         return feedbackResponseId;
     }
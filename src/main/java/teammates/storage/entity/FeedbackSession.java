@@ -3,8 +3,10 @@ package teammates.storage.entity;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.appengine.api.datastore.Text;
@@ -16,6 +18,7 @@ import com.googlecode.objectify.annotation.Ignore;
 import com.googlecode.objectify.annotation.IgnoreSave;
 import com.googlecode.objectify.annotation.Index;
 import com.googlecode.objectify.annotation.OnLoad;
+import com.googlecode.objectify.annotation.OnSave;
 import com.googlecode.objectify.annotation.Unindex;
 
 import teammates.common.util.Const;
@@ -29,6 +32,8 @@ import teammates.common.util.TimeHelper;
 @Index
 public class FeedbackSession extends BaseEntity {
 
+    public static final long TIME_BUCKET_LENGTH_MILLIS = 60 * 60 * 1000; // one hour
+
     private static final Logger log = Logger.getLogger();
 
     // Format is feedbackSessionName%courseId
@@ -60,6 +65,13 @@ public class FeedbackSession extends BaseEntity {
 
     private Date endTime;
 
+    /**
+     * The distinct UTC time buckets of {@link #startTime} and {@link #endTime}, kept up to date on every save.
+     * Sessions starting or ending within a range are found with one range filter on this property,
+     * which matches a session once even if both of its times are within the range.
+     */
+    private List<Long> timeBuckets = new ArrayList<>();
+
     @Unindex
     private Date sessionVisibleFromTime;
 
@@ -107,6 +119,28 @@ public class FeedbackSession extends BaseEntity {
 
     private Boolean isPublishedEmailEnabled;
 
+    /**
+     * Number of students and instructors expected to respond to the session.
+     * Null if it has not been computed since the last change to the course roster or the session's questions.
+     */
+    @Unindex
+    private Integer expectedRespondentsTotal;
+
+    /**
+     * Incremented every time {@link #expectedRespondentsTotal} is overwritten or cleared,
+     * so that a number computed from an older version of the session is not stored.
+     */
+    @Unindex
+    private long expectedRespondentsTotalVersion;
+
+    /**
+     * The institute of the first registered instructor of the course when the session was created,
+     * or null if it was not known. Kept on the session so that sessions can be grouped by institute
+     * without looking up the instructors of every course.
+     */
+    @Unindex
+    private String institute;
+
     @SuppressWarnings("unused")
     private FeedbackSession() {
         // required by Objectify
@@ -227,6 +261,25 @@ public class FeedbackSession extends BaseEntity {
         }
     }
 
+    @OnSave
+    @SuppressWarnings("unused") // called by Objectify
+    private void updateTimeBuckets() {
+        timeBuckets = new ArrayList<>();
+        if (startTime != null) {
+            timeBuckets.add(getTimeBucket(startTime.getTime()));
+        }
+        if (endTime != null && !timeBuckets.contains(getTimeBucket(endTime.getTime()))) {
+            timeBuckets.add(getTimeBucket(endTime.getTime()));
+        }
+    }
+
+    /**
+     * Returns the time bucket which {@code timeMillis} falls into.
+     */
+    public static long getTimeBucket(long timeMillis) {
+        return Math.floorDiv(timeMillis, TIME_BUCKET_LENGTH_MILLIS);
+    }
+
     public String getFeedbackSessionName() {
         return feedbackSessionName;
     }
@@ -387,6 +440,30 @@ public class FeedbackSession extends BaseEntity {
         this.respondingStudentList = studentList;
     }
 
+    public Integer getExpectedRespondentsTotal() {
+        return expectedRespondentsTotal;
+    }
+
+    public void setExpectedRespondentsTotal(Integer expectedRespondentsTotal) {
+        this.expectedRespondentsTotal = expectedRespondentsTotal;
+    }
+
+    public long getExpectedRespondentsTotalVersion() {
+        return expectedRespondentsTotalVersion;
+    }
+
+    public void setExpectedRespondentsTotalVersion(long expectedRespondentsTotalVersion) {
+        this.expectedRespondentsTotalVersion = expectedRespondentsTotalVersion;
+    }
+
+    public String getInstitute() {
+        return institute;
+    }
+
+    public void setInstitute(String institute) {
+        this.institute = institute;
+    }
+
     @Override
     public String toString() {
         return "FeedbackSession [feedbackSessionName=" + feedbackSessionName
@@ -0,0 +1,111 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the state of the question statistics of a published feedback session, as seen by instructors.
+ * <br> The statistics are computed once after the session is published, so that they do not have to be
+ * recomputed from all the responses of the session every time the results are viewed. They are stored
+ * per question in {@link FeedbackQuestionResultsStatistics} entities.
+ * <br> The generation is incremented whenever the results of the session change, and the statistics are only
+ * used if they were built for the current generation.
+ */
+@Entity
+@Index
+public class FeedbackSessionResultsSummary extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    @Unindex
+    private long generation;
+
+    /** The generation for which the statistics were last built, or null if they have never been built. */
+    @Unindex
+    private Long builtGeneration;
+
+    @Unindex
+    private Date createdAt;
+
+    @Unindex
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionResultsSummary() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionResultsSummary(String courseId, String feedbackSessionName, long generation,
+            Long builtGeneration, Instant createdAt, Instant updatedAt) {
+        this.id = generateId(courseId, feedbackSessionName);
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.generation = generation;
+        this.builtGeneration = builtGeneration;
+        this.setCreatedAt(createdAt == null ? Instant.now() : createdAt);
+        this.setUpdatedAt(updatedAt == null ? getCreatedAt() : updatedAt);
+    }
+
+    /**
+     * Returns the id of the summary of the session {@code feedbackSessionName} in the course {@code courseId}.
+     */
+    public static String generateId(String courseId, String feedbackSessionName) {
+        return feedbackSessionName + "%" + courseId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(long generation) {
+        this.generation = generation;
+    }
+
+    public Long getBuiltGeneration() {
+        return builtGeneration;
+    }
+
+    public void setBuiltGeneration(Long builtGeneration) {
+        this.builtGeneration = builtGeneration;
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = TimeHelper.convertInstantToDate(createdAt);
+    }
+
+    public Instant getUpdatedAt() {
+        return TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = TimeHelper.convertInstantToDate(updatedAt);
+    }
+}
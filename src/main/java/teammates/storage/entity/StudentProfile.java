@@ -44,6 +44,9 @@ public class StudentProfile extends BaseEntity {
 
     private BlobKey pictureKey;
 
+    /* a small copy of the picture, for lists of students; null for profiles saved before thumbnails were made */
+    private BlobKey thumbnailKey;
+
     @Index
     private Date modifiedDate;
 
@@ -83,6 +86,7 @@ public class StudentProfile extends BaseEntity {
         this.setMoreInfo(moreInfo);
         this.setModifiedDate(Instant.now());
         this.setPictureKey(pictureKey);
+        this.setThumbnailKey(new BlobKey(""));
     }
 
     public StudentProfile(String googleId) {
@@ -94,6 +98,7 @@ public class StudentProfile extends BaseEntity {
         this.setGender("other");
         this.setMoreInfo(new Text(""));
         this.setPictureKey(new BlobKey(""));
+        this.setThumbnailKey(new BlobKey(""));
         this.setModifiedDate(Instant.now());
     }
 
@@ -162,6 +167,14 @@ public class StudentProfile extends BaseEntity {
         this.pictureKey = pictureKey;
     }
 
+    public BlobKey getThumbnailKey() {
+        return this.thumbnailKey;
+    }
+
+    public void setThumbnailKey(BlobKey thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+    }
+
     public Instant getModifiedDate() {
         return TimeHelper.convertDateToInstant(this.modifiedDate);
     }
@@ -0,0 +1,88 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the contribution results of one team for one contribution question.
+ * <br> The results are kept up to date as members submit their contribution responses,
+ * so that they do not have to be recomputed from all the responses of the question.
+ */
+@Entity
+@Index
+public class TeamContributionSummary extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String feedbackQuestionId;
+
+    private String courseId;
+
+    private String teamName;
+
+    /** The {@link teammates.common.datatransfer.TeamEvalResult} of the team, in JSON. */
+    @Unindex
+    private Text teamEvalResult;
+
+    @Unindex
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private TeamContributionSummary() {
+        // required by Objectify
+    }
+
+    public TeamContributionSummary(String feedbackQuestionId, String courseId, String teamName,
+            String teamEvalResult, Instant updatedAt) {
+        this.id = generateId(feedbackQuestionId, teamName);
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.courseId = courseId;
+        this.teamName = teamName;
+        this.teamEvalResult = new Text(teamEvalResult);
+        this.setUpdatedAt(updatedAt == null ? Instant.now() : updatedAt);
+    }
+
+    /**
+     * Returns the id of the summary of {@code teamName} for the question with id {@code feedbackQuestionId}.
+     */
+    public static String generateId(String feedbackQuestionId, String teamName) {
+        return feedbackQuestionId + "%" + teamName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public String getTeamEvalResult() {
+        return teamEvalResult == null ? null : teamEvalResult.getValue();
+    }
+
+    public Instant getUpdatedAt() {
+        return TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = TimeHelper.convertInstantToDate(updatedAt);
+    }
+}
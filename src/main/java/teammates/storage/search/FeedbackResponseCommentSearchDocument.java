@@ -1,7 +1,9 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +13,7 @@ import com.google.appengine.api.search.Field;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -42,21 +45,84 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
 
+    // the students and instructors of the course, if they are prefetched for a batch of comments
+    private CourseRoster roster;
+
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
         this.comment = comment;
     }
 
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment, CourseAttributes course,
+            FeedbackSessionAttributes relatedSession, FeedbackQuestionAttributes relatedQuestion,
+            FeedbackResponseAttributes relatedResponse, CourseRoster roster) {
+        this.comment = comment;
+        this.course = course;
+        this.relatedSession = relatedSession;
+        this.relatedQuestion = relatedQuestion;
+        this.relatedResponse = relatedResponse;
+        this.roster = roster;
+    }
+
+    /**
+     * Creates the search documents of {@code comments}.
+     * The entities which the documents are built from are loaded once for each course and session
+     * of the comments, instead of once for each comment.
+     * Comments whose session, question or response no longer exists are left out.
+     */
+    public static List<SearchDocument> fromComments(List<FeedbackResponseCommentAttributes> comments) {
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByCourse = new LinkedHashMap<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            commentsByCourse.computeIfAbsent(comment.courseId, key -> new ArrayList<>()).add(comment);
+        }
+
+        List<SearchDocument> documents = new ArrayList<>();
+        commentsByCourse.forEach((courseId, commentsInCourse) -> {
+            CourseAttributes course = coursesDb.getCourse(courseId);
+            CourseRoster roster = new CourseRoster(studentsDb.getStudentsForCourse(courseId),
+                                                   instructorsDb.getInstructorsForCourse(courseId));
+
+            Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+            Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+            Set<String> responseIds = new HashSet<>();
+            for (FeedbackResponseCommentAttributes comment : commentsInCourse) {
+                if (!sessions.containsKey(comment.feedbackSessionName)) {
+                    sessions.put(comment.feedbackSessionName,
+                            fsDb.getFeedbackSession(courseId, comment.feedbackSessionName));
+                    for (FeedbackQuestionAttributes question
+                            : fqDb.getFeedbackQuestionsForSession(comment.feedbackSessionName, courseId)) {
+                        questions.put(question.getId(), question);
+                    }
+                }
+                responseIds.add(comment.feedbackResponseId);
+            }
+            Map<String, FeedbackResponseAttributes> responses = frDb.getFeedbackResponses(responseIds);
+
+            for (FeedbackResponseCommentAttributes comment : commentsInCourse) {
+                FeedbackSessionAttributes session = sessions.get(comment.feedbackSessionName);
+                FeedbackQuestionAttributes question = questions.get(comment.feedbackQuestionId);
+                FeedbackResponseAttributes response = responses.get(comment.feedbackResponseId);
+                if (session != null && question != null && response != null) {
+                    documents.add(new FeedbackResponseCommentSearchDocument(
+                            comment, course, session, question, response, roster));
+                }
+            }
+        });
+        return documents;
+    }
+
     @Override
     protected void prepareData() {
         if (comment == null) {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
-        giverAsInstructor = instructorsDb.getInstructorForEmail(comment.courseId, comment.giverEmail);
+        if (roster == null) {
+            relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            course = coursesDb.getCourse(comment.courseId);
+        }
+        giverAsInstructor = getInstructorForEmail(comment.giverEmail);
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
 
@@ -64,7 +130,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -75,7 +141,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -87,7 +153,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -104,7 +170,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -112,7 +178,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -130,6 +196,24 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         }
     }
 
+    private InstructorAttributes getInstructorForEmail(String email) {
+        return roster == null
+               ? instructorsDb.getInstructorForEmail(comment.courseId, email)
+               : roster.getInstructorForEmail(email);
+    }
+
+    private StudentAttributes getStudentForEmail(String email) {
+        return roster == null
+               ? studentsDb.getStudentForEmail(comment.courseId, email)
+               : roster.getStudentForEmail(email);
+    }
+
+    private List<StudentAttributes> getStudentsForTeam(String teamName) {
+        return roster == null
+               ? studentsDb.getStudentsForTeam(teamName, comment.courseId)
+               : roster.getStudentsForTeam(teamName);
+    }
+
     @Override
     public Document toDocument() {
 
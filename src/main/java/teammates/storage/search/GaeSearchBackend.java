@@ -0,0 +1,73 @@
+package teammates.storage.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Index;
+import com.google.appengine.api.search.IndexSpec;
+import com.google.appengine.api.search.OperationResult;
+import com.google.appengine.api.search.PutException;
+import com.google.appengine.api.search.Query;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+import com.google.appengine.api.search.SearchServiceFactory;
+
+/**
+ * The {@link SearchBackend} which stores documents in the GAE Search API.
+ *
+ * @see <a href="https://cloud.google.com/appengine/docs/java/search/">https://cloud.google.com/appengine/docs/java/search/</a>
+ */
+public class GaeSearchBackend implements SearchBackend {
+
+    private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The GAE Search API signals put document failure in two ways: it either
+     * returns a PutResponse containing an OperationResult with a non-OK StatusCode, or
+     * throws a PutException that also contains the embedded OperationResults.
+     * Both are reported as the returned OperationResults.
+     */
+    @Override
+    public List<OperationResult> putDocuments(String indexName, List<Document> documents) {
+        try {
+            return getIndex(indexName).put(documents).getResults();
+        } catch (PutException e) {
+            return e.getResults();
+        }
+    }
+
+    @Override
+    public Results<ScoredDocument> searchDocuments(String indexName, Query query) {
+        return getIndex(indexName).search(query);
+    }
+
+    @Override
+    public void deleteDocument(String indexName, String documentId) {
+        getIndex(indexName).deleteAsync(documentId);
+    }
+
+    private static Index getIndex(String indexName) {
+        Map<String, Index> indicesTable = getIndicesTable();
+        Index index = indicesTable.get(indexName);
+        if (index == null) {
+            IndexSpec indexSpec = IndexSpec.newBuilder().setName(indexName).build();
+            index = SearchServiceFactory.getSearchService().getIndex(indexSpec);
+            indicesTable.put(indexName, index);
+        }
+        return index;
+    }
+
+    private static Map<String, Index> getIndicesTable() {
+        Map<String, Index> indicesTable = PER_THREAD_INDICES_TABLE.get();
+        if (indicesTable == null) {
+            indicesTable = new HashMap<>();
+            PER_THREAD_INDICES_TABLE.set(indicesTable);
+        }
+        return indicesTable;
+    }
+
+}
@@ -0,0 +1,602 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.OperationResult;
+import com.google.appengine.api.search.Query;
+import com.google.appengine.api.search.QueryOptions;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+import com.google.appengine.api.search.SearchQueryException;
+import com.google.appengine.api.search.StatusCode;
+
+/**
+ * The {@link SearchBackend} which keeps documents in an inverted index in memory, so that the
+ * search functions can be run and measured without the GAE Search API.
+ *
+ * <p>Supports the query syntax generated by {@link SearchQuery#toQuery()}: values which are either
+ * words or quoted phrases, restricted to a field with {@code field:value} or {@code field:(...)},
+ * combined with {@code AND}, {@code OR}, {@code NOT} and parentheses. Adjacent terms are combined with
+ * {@code AND}. As in the GAE Search API, text is matched case-insensitively by its words, so a value
+ * matches a field if the words of the value appear consecutively in the field.
+ *
+ * <p>Matching documents are returned in descending order of their rank, without scores or cursors,
+ * honouring the offset and limit of the {@link QueryOptions}.
+ */
+public class InMemorySearchBackend implements SearchBackend {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final Map<String, InvertedIndex> indices = new HashMap<>();
+
+    @Override
+    public synchronized List<OperationResult> putDocuments(String indexName, List<Document> documents) {
+        InvertedIndex index = getIndex(indexName);
+        List<OperationResult> results = new ArrayList<>();
+        for (Document document : documents) {
+            index.put(document);
+            results.add(new OperationResult(StatusCode.OK, null));
+        }
+        return results;
+    }
+
+    @Override
+    public synchronized Results<ScoredDocument> searchDocuments(String indexName, Query query) {
+        QueryNode queryNode = new QueryParser(query.getQueryString()).parse();
+        QueryOptions options = query.getOptions();
+        int offset = options == null ? 0 : options.getOffset();
+        int limit = options == null ? DEFAULT_LIMIT : options.getLimit();
+
+        List<IndexedDocument> matches = getIndex(indexName).search(queryNode);
+        matches.sort(Comparator.comparingInt((IndexedDocument document) -> document.rank).reversed()
+                .thenComparing(document -> document.id));
+
+        List<ScoredDocument> scoredDocuments = new ArrayList<>();
+        for (int i = offset; i < matches.size() && scoredDocuments.size() < limit; i++) {
+            scoredDocuments.add(matches.get(i).toScoredDocument());
+        }
+        return new InMemoryResults(scoredDocuments, matches.size());
+    }
+
+    @Override
+    public synchronized void deleteDocument(String indexName, String documentId) {
+        getIndex(indexName).delete(documentId);
+    }
+
+    /**
+     * Returns the number of documents in the index.
+     */
+    public synchronized int getNumberOfDocuments(String indexName) {
+        return getIndex(indexName).documents.size();
+    }
+
+    /**
+     * Removes all documents from all indices.
+     */
+    public synchronized void clear() {
+        indices.clear();
+    }
+
+    private InvertedIndex getIndex(String indexName) {
+        return indices.computeIfAbsent(indexName, name -> new InvertedIndex());
+    }
+
+    /**
+     * Splits the text into lower case words, as the GAE Search API does for text fields.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the text of a text, HTML or atom field, or null for fields of other types.
+     */
+    private static String getSearchableValue(Field field) {
+        if (field.getType() == null) {
+            return null;
+        }
+        switch (field.getType()) {
+        case TEXT:
+            return field.getText();
+        case HTML:
+            return field.getHTML();
+        case ATOM:
+            return field.getAtom();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the key of the postings of the word in the field, or in any field if the field name is null.
+     */
+    private static String getPostingKey(String fieldName, String token) {
+        return fieldName == null ? ":" + token : fieldName + ":" + token;
+    }
+
+    private static final class InMemoryResults extends Results<ScoredDocument> {
+
+        private static final long serialVersionUID = 1L;
+
+        InMemoryResults(List<ScoredDocument> scoredDocuments, long numberFound) {
+            super(new OperationResult(StatusCode.OK, null), scoredDocuments, numberFound,
+                  scoredDocuments.size(), null);
+        }
+
+    }
+
+    /**
+     * A document with the words of each of its fields.
+     */
+    private static final class IndexedDocument {
+
+        final String id;
+        final int rank;
+        final Document document;
+
+        /** Maps each field name to the lower case value and the words of each field with that name. */
+        final Map<String, List<FieldValue>> fieldValues = new HashMap<>();
+
+        IndexedDocument(Document document) {
+            this.id = document.getId();
+            this.rank = document.getRank();
+            this.document = document;
+            for (Field field : document.getFields()) {
+                String value = getSearchableValue(field);
+                if (value != null) {
+                    fieldValues.computeIfAbsent(field.getName(), name -> new ArrayList<>()).add(new FieldValue(value));
+                }
+            }
+        }
+
+        Set<String> getPostingKeys() {
+            Set<String> keys = new HashSet<>();
+            fieldValues.forEach((fieldName, values) -> {
+                for (FieldValue value : values) {
+                    for (String token : value.tokens) {
+                        keys.add(getPostingKey(fieldName, token));
+                        keys.add(getPostingKey(null, token));
+                    }
+                }
+            });
+            return keys;
+        }
+
+        boolean hasValue(String fieldName, String value, List<String> tokens) {
+            if (fieldName != null) {
+                return hasValue(fieldValues.get(fieldName), value, tokens);
+            }
+            for (List<FieldValue> values : fieldValues.values()) {
+                if (hasValue(values, value, tokens)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean hasValue(List<FieldValue> values, String value, List<String> tokens) {
+            if (values == null) {
+                return false;
+            }
+            for (FieldValue fieldValue : values) {
+                if (fieldValue.matches(value, tokens)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ScoredDocument toScoredDocument() {
+            ScoredDocument.Builder builder = ScoredDocument.newBuilder();
+            builder.setId(id);
+            builder.setRank(rank);
+            for (Field field : document.getFields()) {
+                builder.addField(field);
+            }
+            return builder.build();
+        }
+
+    }
+
+    private static final class FieldValue {
+
+        final String value;
+        final List<String> tokens;
+
+        FieldValue(String value) {
+            this.value = value.toLowerCase();
+            this.tokens = tokenize(value);
+        }
+
+        /**
+         * Returns true if the field is exactly the given lower case value, or if the given words
+         * appear consecutively in the field.
+         */
+        boolean matches(String otherValue, List<String> otherTokens) {
+            if (value.equals(otherValue)) {
+                return true;
+            }
+            if (otherTokens.isEmpty()) {
+                return false;
+            }
+            for (int start = 0; start + otherTokens.size() <= tokens.size(); start++) {
+                if (tokens.subList(start, start + otherTokens.size()).equals(otherTokens)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * The documents of an index, with the IDs of the documents containing each word of each field.
+     */
+    private static final class InvertedIndex {
+
+        final Map<String, IndexedDocument> documents = new HashMap<>();
+        final Map<String, Set<String>> postings = new HashMap<>();
+
+        void put(Document document) {
+            delete(document.getId());
+            IndexedDocument indexedDocument = new IndexedDocument(document);
+            documents.put(indexedDocument.id, indexedDocument);
+            for (String key : indexedDocument.getPostingKeys()) {
+                postings.computeIfAbsent(key, k -> new HashSet<>()).add(indexedDocument.id);
+            }
+        }
+
+        void delete(String documentId) {
+            IndexedDocument indexedDocument = documents.remove(documentId);
+            if (indexedDocument == null) {
+                return;
+            }
+            for (String key : indexedDocument.getPostingKeys()) {
+                Set<String> ids = postings.get(key);
+                ids.remove(documentId);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        Set<String> getDocumentIds(String fieldName, String token) {
+            Set<String> ids = postings.get(getPostingKey(fieldName, token));
+            return ids == null ? new HashSet<>() : ids;
+        }
+
+        /**
+         * Narrows down the documents to check with the postings of the query, then checks each of them.
+         */
+        List<IndexedDocument> search(QueryNode queryNode) {
+            Set<String> candidateIds = queryNode.getCandidateIds(this);
+            Collection<IndexedDocument> candidates;
+            if (candidateIds == null) {
+                candidates = documents.values();
+            } else {
+                candidates = new ArrayList<>();
+                for (String id : candidateIds) {
+                    candidates.add(documents.get(id));
+                }
+            }
+
+            List<IndexedDocument> matches = new ArrayList<>();
+            for (IndexedDocument candidate : candidates) {
+                if (queryNode.matches(candidate)) {
+                    matches.add(candidate);
+                }
+            }
+            return matches;
+        }
+
+    }
+
+    /**
+     * A node of a parsed query string.
+     */
+    private abstract static class QueryNode {
+
+        abstract boolean matches(IndexedDocument document);
+
+        /**
+         * Returns the IDs of the only documents which can match this node, or null if any document can.
+         */
+        abstract Set<String> getCandidateIds(InvertedIndex index);
+
+    }
+
+    private static final class MatchAllNode extends QueryNode {
+
+        @Override
+        boolean matches(IndexedDocument document) {
+            return true;
+        }
+
+        @Override
+        Set<String> getCandidateIds(InvertedIndex index) {
+            return null;
+        }
+
+    }
+
+    private static final class TermNode extends QueryNode {
+
+        final String fieldName;
+        final String value;
+        final List<String> tokens;
+
+        TermNode(String fieldName, String value) {
+            this.fieldName = fieldName;
+            this.value = value.toLowerCase();
+            this.tokens = tokenize(value);
+        }
+
+        @Override
+        boolean matches(IndexedDocument document) {
+            return document.hasValue(fieldName, value, tokens);
+        }
+
+        @Override
+        Set<String> getCandidateIds(InvertedIndex index) {
+            if (tokens.isEmpty()) {
+                return null;
+            }
+            Set<String> ids = new HashSet<>(index.getDocumentIds(fieldName, tokens.get(0)));
+            for (int i = 1; i < tokens.size() && !ids.isEmpty(); i++) {
+                ids.retainAll(index.getDocumentIds(fieldName, tokens.get(i)));
+            }
+            return ids;
+        }
+
+    }
+
+    private static final class NotNode extends QueryNode {
+
+        final QueryNode operand;
+
+        NotNode(QueryNode operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        boolean matches(IndexedDocument document) {
+            return !operand.matches(document);
+        }
+
+        @Override
+        Set<String> getCandidateIds(InvertedIndex index) {
+            return null;
+        }
+
+    }
+
+    private static final class AndNode extends QueryNode {
+
+        final List<QueryNode> operands;
+
+        AndNode(List<QueryNode> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        boolean matches(IndexedDocument document) {
+            for (QueryNode operand : operands) {
+                if (!operand.matches(document)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        Set<String> getCandidateIds(InvertedIndex index) {
+            Set<String> ids = null;
+            for (QueryNode operand : operands) {
+                Set<String> operandIds = operand.getCandidateIds(index);
+                if (operandIds == null) {
+                    continue;
+                }
+                if (ids == null) {
+                    ids = new HashSet<>(operandIds);
+                } else {
+                    ids.retainAll(operandIds);
+                }
+            }
+            return ids;
+        }
+
+    }
+
+    private static final class OrNode extends QueryNode {
+
+        final List<QueryNode> operands;
+
+        OrNode(List<QueryNode> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        boolean matches(IndexedDocument document) {
+            for (QueryNode operand : operands) {
+                if (operand.matches(document)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Set<String> getCandidateIds(InvertedIndex index) {
+            Set<String> ids = new HashSet<>();
+            for (QueryNode operand : operands) {
+                Set<String> operandIds = operand.getCandidateIds(index);
+                if (operandIds == null) {
+                    return null;
+                }
+                ids.addAll(operandIds);
+            }
+            return ids;
+        }
+
+    }
+
+    /**
+     * Parses a query string into {@link QueryNode}s.
+     * <br> query := or; or := and ("OR" and)*; and := unary (["AND"] unary)*;
+     * unary := "NOT" unary | primary; primary := "(" or ")" | field ":" primary | value.
+     * <br> A field restriction applies to all values inside the primary that follows it.
+     */
+    private static final class QueryParser {
+
+        private static final String AND = "AND";
+        private static final String OR = "OR";
+        private static final String NOT = "NOT";
+        private static final String OPEN = "(";
+        private static final String CLOSE = ")";
+        private static final String COLON = ":";
+
+        private final String queryString;
+        private final List<String> tokens;
+        private int position;
+
+        QueryParser(String queryString) {
+            this.queryString = queryString;
+            this.tokens = split(queryString);
+        }
+
+        QueryNode parse() {
+            if (tokens.isEmpty()) {
+                return new MatchAllNode();
+            }
+            QueryNode node = parseOr(null);
+            if (position < tokens.size()) {
+                throw error();
+            }
+            return node;
+        }
+
+        private QueryNode parseOr(String fieldName) {
+            List<QueryNode> operands = new ArrayList<>();
+            operands.add(parseAnd(fieldName));
+            while (OR.equals(peek())) {
+                position++;
+                operands.add(parseAnd(fieldName));
+            }
+            return operands.size() == 1 ? operands.get(0) : new OrNode(operands);
+        }
+
+        private QueryNode parseAnd(String fieldName) {
+            List<QueryNode> operands = new ArrayList<>();
+            operands.add(parseUnary(fieldName));
+            while (peek() != null && !OR.equals(peek()) && !CLOSE.equals(peek())) {
+                if (AND.equals(peek())) {
+                    position++;
+                }
+                operands.add(parseUnary(fieldName));
+            }
+            return operands.size() == 1 ? operands.get(0) : new AndNode(operands);
+        }
+
+        private QueryNode parseUnary(String fieldName) {
+            if (NOT.equals(peek())) {
+                position++;
+                return new NotNode(parseUnary(fieldName));
+            }
+            return parsePrimary(fieldName);
+        }
+
+        private QueryNode parsePrimary(String fieldName) {
+            String token = next();
+            if (OPEN.equals(token)) {
+                QueryNode node = parseOr(fieldName);
+                if (!CLOSE.equals(next())) {
+                    throw error();
+                }
+                return node;
+            }
+            if (CLOSE.equals(token) || COLON.equals(token) || isOperator(token)) {
+                throw error();
+            }
+            if (COLON.equals(peek())) {
+                if (fieldName != null) {
+                    throw error();
+                }
+                position++;
+                return parsePrimary(token);
+            }
+            return new TermNode(fieldName, unquote(token));
+        }
+
+        private String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        private String next() {
+            if (position >= tokens.size()) {
+                throw error();
+            }
+            return tokens.get(position++);
+        }
+
+        private SearchQueryException error() {
+            return new SearchQueryException("Failed to parse query \"" + queryString + "\"");
+        }
+
+        private static boolean isOperator(String token) {
+            return AND.equals(token) || OR.equals(token) || NOT.equals(token);
+        }
+
+        private static String unquote(String token) {
+            return token.startsWith("\"") ? token.substring(1, token.length() - 1) : token;
+        }
+
+        /**
+         * Splits the query string into parentheses, colons, quoted phrases (with the quotes) and words.
+         */
+        private List<String> split(String query) {
+            List<String> result = new ArrayList<>();
+            int i = 0;
+            while (i < query.length()) {
+                char c = query.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(' || c == ')' || c == ':') {
+                    result.add(String.valueOf(c));
+                    i++;
+                } else if (c == '"') {
+                    int end = query.indexOf('"', i + 1);
+                    if (end == -1) {
+                        throw error();
+                    }
+                    result.add(query.substring(i, end + 1));
+                    i = end + 1;
+                } else {
+                    int start = i;
+                    while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                            && "():\"".indexOf(query.charAt(i)) == -1) {
+                        i++;
+                    }
+                    result.add(query.substring(start, i));
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package teammates.storage.search;
+
+import java.util.List;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.OperationResult;
+import com.google.appengine.api.search.Query;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+
+/**
+ * Stores the {@link Document}s of the search indices and runs queries against them.
+ * Used by {@link SearchManager}, which handles the retrying of failed operations.
+ *
+ * @see GaeSearchBackend
+ * @see InMemorySearchBackend
+ */
+public interface SearchBackend {
+
+    /**
+     * Creates or updates the given documents in the index.
+     *
+     * @return the result of the operation for each document, in the same order as the documents.
+     */
+    List<OperationResult> putDocuments(String indexName, List<Document> documents);
+
+    /**
+     * Searches the index with the given query.
+     *
+     * @throws com.google.appengine.api.search.SearchQueryException if the query string cannot be parsed.
+     */
+    Results<ScoredDocument> searchDocuments(String indexName, Query query);
+
+    /**
+     * Deletes the document with the given ID from the index, if it exists.
+     */
+    void deleteDocument(String indexName, String documentId);
+
+}
@@ -1,48 +1,65 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import com.google.appengine.api.search.Document;
-import com.google.appengine.api.search.Index;
-import com.google.appengine.api.search.IndexSpec;
 import com.google.appengine.api.search.OperationResult;
 import com.google.appengine.api.search.PutException;
-import com.google.appengine.api.search.PutResponse;
 import com.google.appengine.api.search.Query;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
-import com.google.appengine.api.search.SearchServiceFactory;
 import com.google.appengine.api.search.StatusCode;
 
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
 import teammates.common.util.Logger;
 import teammates.common.util.retry.MaximumRetriesExceededException;
 import teammates.common.util.retry.RetryManager;
 import teammates.common.util.retry.RetryableTaskThrows;
 
 /**
- * Manages {@link Document} and {@link Index} in the Datastore for use of search functions.
+ * Manages {@link Document}s in the search indices for use of search functions.
+ * <br> The documents are stored in the {@link SearchBackend} in use, which is the GAE Search API
+ * unless another backend is set with {@link #setBackend(SearchBackend)}.
  *
  * @see <a href="https://cloud.google.com/appengine/docs/java/search/">https://cloud.google.com/appengine/docs/java/search/</a>
  */
 public final class SearchManager {
 
+    /**
+     * The maximum number of documents that can be put in one request, imposed by the GAE Search API.
+     */
+    public static final int MAX_DOCUMENTS_PER_PUT = 200;
+
     private static final String ERROR_NON_TRANSIENT_BACKEND_ISSUE =
             "Failed to put document(s) %s into search index %s due to non-transient backend issue: ";
     private static final String ERROR_MAXIMUM_RETRIES_EXCEEDED =
             "Failed to put document(s) %s into search index %s after maximum retries: %s: ";
     private static final Logger log = Logger.getLogger();
-    private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<>();
 
     private static final RetryManager RM = new RetryManager(8);
 
+    private static SearchBackend backend = new GaeSearchBackend();
+
     private SearchManager() {
         // utility class
     }
 
+    /**
+     * Sets the backend in which all search documents are stored from now on,
+     * e.g. an {@link InMemorySearchBackend} to search without the GAE Search API.
+     */
+    public static void setBackend(SearchBackend searchBackend) {
+        backend = searchBackend;
+    }
+
+    public static SearchBackend getBackend() {
+        return backend;
+    }
+
     /**
      * Creates or updates the search document for the given document and index.
      */
@@ -67,13 +84,9 @@ public final class SearchManager {
      */
     private static void putDocumentWithRetry(String indexName, final Document document)
             throws PutException, MaximumRetriesExceededException {
-        final Index index = getIndex(indexName);
-
         /*
-         * The GAE Search API signals put document failure in two ways: it either
-         * returns a PutResponse containing an OperationResult with a non-OK StatusCode, or
-         * throws a PutException that also contains an embedded OperationResult.
-         * We handle both ways by examining the OperationResult to determine what kind of error it is. If it is
+         * The backend reports the result of putting the document as an OperationResult.
+         * We examine the OperationResult to determine what kind of error it is. If it is
          * transient, we use RetryManager to retry the operation; if it is
          * non-transient, we do not retry but throw a PutException upwards instead.
          */
@@ -83,13 +96,9 @@ public final class SearchManager {
 
             @Override
             public void run() {
-                try {
-                    PutResponse response = index.put(document);
-                    lastResult = response.getResults().get(0);
-
-                } catch (PutException e) {
-                    lastResult = e.getOperationResult();
-                }
+                long startTime = System.nanoTime();
+                lastResult = backend.putDocuments(indexName, Collections.singletonList(document)).get(0);
+                DatastoreOperationCounter.count(Operation.SEARCH_PUT, 1, System.nanoTime() - startTime);
             }
 
             @Override
@@ -135,10 +144,8 @@ public final class SearchManager {
      */
     private static void putDocumentsWithRetry(String indexName, final List<Document> documents)
             throws PutException, MaximumRetriesExceededException {
-        final Index index = getIndex(indexName);
-
         /*
-         * The GAE Search API allows batch putting a List of Documents.
+         * The backend allows batch putting a List of Documents.
          * Results for each document are reported via a List of OperationResults.
          * We use RetryManager to retry putting a List of Documents, with each retry re-putting only
          * the documents that failed in the previous retry.
@@ -152,16 +159,14 @@ public final class SearchManager {
             private List<String> lastIds;
 
             @Override
-            public void run() throws PutException {
-                try {
-                    PutResponse response = index.put(documentsToPut);
-                    lastResults = response.getResults();
-                    lastIds = response.getIds();
-
-                } catch (PutException e) {
-                    lastResults = e.getResults();
-                    lastIds = e.getIds();
+            public void run() {
+                lastIds = new ArrayList<>();
+                for (Document document : documentsToPut) {
+                    lastIds.add(document.getId());
                 }
+                long startTime = System.nanoTime();
+                lastResults = backend.putDocuments(indexName, documentsToPut);
+                DatastoreOperationCounter.count(Operation.SEARCH_PUT, documentsToPut.size(), System.nanoTime() - startTime);
             }
 
             @Override
@@ -203,34 +208,19 @@ public final class SearchManager {
      * Searches document by the given query.
      */
     public static Results<ScoredDocument> searchDocuments(String indexName, Query query) {
-        return getIndex(indexName).search(query);
+        long startTime = System.nanoTime();
+        Results<ScoredDocument> results = backend.searchDocuments(indexName, query);
+        DatastoreOperationCounter.count(Operation.SEARCH_QUERY, results.getNumberReturned(), System.nanoTime() - startTime);
+        return results;
     }
 
     /**
      * Deletes document by documentId.
      */
     public static void deleteDocument(String indexName, String documentId) {
-        getIndex(indexName).deleteAsync(documentId);
-    }
-
-    private static Index getIndex(String indexName) {
-        Map<String, Index> indicesTable = getIndicesTable();
-        Index index = indicesTable.get(indexName);
-        if (index == null) {
-            IndexSpec indexSpec = IndexSpec.newBuilder().setName(indexName).build();
-            index = SearchServiceFactory.getSearchService().getIndex(indexSpec);
-            indicesTable.put(indexName, index);
-        }
-        return index;
-    }
-
-    private static Map<String, Index> getIndicesTable() {
-        Map<String, Index> indicesTable = PER_THREAD_INDICES_TABLE.get();
-        if (indicesTable == null) {
-            indicesTable = new HashMap<>();
-            PER_THREAD_INDICES_TABLE.set(indicesTable);
-        }
-        return indicesTable;
+        long startTime = System.nanoTime();
+        backend.deleteDocument(indexName, documentId);
+        DatastoreOperationCounter.count(Operation.SEARCH_DELETE, 1, System.nanoTime() - startTime);
     }
 
 }
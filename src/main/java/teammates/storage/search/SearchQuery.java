@@ -6,6 +6,7 @@ import java.util.List;
 import com.google.appengine.api.search.Query;
 import com.google.appengine.api.search.QueryOptions;
 
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
@@ -34,12 +35,24 @@ public abstract class SearchQuery {
         setTextFilter(Const.SearchDocumentField.SEARCHABLE_TEXT, queryString);
     }
 
+    protected SearchQuery(InstructorCourseFilter courseFilter, String queryString) {
+        this((List<InstructorAttributes>) null, queryString);
+        visibilityQueryString = prepareVisibilityQueryString(courseFilter);
+    }
+
     protected SearchQuery(String queryString) {
-        this(null, queryString);
+        this((List<InstructorAttributes>) null, queryString);
     }
 
     protected abstract String prepareVisibilityQueryString(List<InstructorAttributes> instructors);
 
+    /**
+     * Restricts the query to the documents of the courses of the filter.
+     */
+    protected String prepareVisibilityQueryString(InstructorCourseFilter courseFilter) {
+        return Const.SearchDocumentField.COURSE_ID + ":(" + String.join(OR, courseFilter.getCourseIds()) + ")";
+    }
+
     /**
      * Returns how many query strings a SearchQuery object has.
      */
@@ -1,20 +1,22 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
-import teammates.common.util.StringHelper;
 
 /**
  * The {@link SearchDocument} object that defines how we store {@link Document} for students.
@@ -78,21 +80,11 @@ public class StudentSearchDocument extends SearchDocument {
             return bundle;
         }
 
+        List<ScoredDocument> documents = new ArrayList<>();
         for (ScoredDocument doc : results) {
-            StudentAttributes student = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.STUDENT_ATTRIBUTE).getText(),
-                    StudentAttributes.class);
-            if (student.key == null
-                    || studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(student.key)) == null) {
-                studentsDb.deleteDocument(student);
-                continue;
-            }
-
-            bundle.studentList.add(student);
-            bundle.numberOfResults++;
+            documents.add(doc);
         }
-
-        sortStudentResultList(bundle.studentList);
+        addStudentsToBundle(bundle, documents);
 
         return bundle;
     }
@@ -103,22 +95,49 @@ public class StudentSearchDocument extends SearchDocument {
      */
     public static StudentSearchResultBundle fromResults(Results<ScoredDocument> results,
                                                         List<InstructorAttributes> instructors) {
+        return fromResults(results, new InstructorCourseFilter(instructors));
+    }
+
+    /**
+     * Produces a {@link StudentSearchResultBundle} from the {@code Results<ScoredDocument>} collection.
+     * The {@link InstructorCourseFilter} is used to filter out the search result.
+     */
+    public static StudentSearchResultBundle fromResults(Results<ScoredDocument> results,
+                                                        InstructorCourseFilter courseFilter) {
         StudentSearchResultBundle bundle = new StudentSearchResultBundle();
         if (results == null) {
             return bundle;
         }
 
-        for (InstructorAttributes ins : instructors) {
-            bundle.courseIdInstructorMap.put(ins.courseId, ins);
+        bundle.courseIdInstructorMap.putAll(courseFilter.getCourseIdInstructorMap());
+
+        List<ScoredDocument> filteredResults = new ArrayList<>();
+        for (ScoredDocument doc : results) {
+            if (courseFilter.isCourseIncluded(doc.getOnlyField(Const.SearchDocumentField.COURSE_ID).getText())) {
+                filteredResults.add(doc);
+            }
         }
+        addStudentsToBundle(bundle, filteredResults);
+
+        return bundle;
+    }
 
-        List<ScoredDocument> filteredResults = filterOutCourseId(results, instructors);
-        for (ScoredDocument doc : filteredResults) {
-            StudentAttributes student = JsonUtils.fromJson(
+    /**
+     * Adds the students stored in the documents to the bundle. The documents hold all fields of the
+     * students, so the students are only loaded to check that they still exist, all in one batch.
+     * The documents of students which no longer exist are deleted.
+     */
+    private static void addStudentsToBundle(StudentSearchResultBundle bundle, List<ScoredDocument> documents) {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (ScoredDocument doc : documents) {
+            students.add(JsonUtils.fromJson(
                     doc.getOnlyField(Const.SearchDocumentField.STUDENT_ATTRIBUTE).getText(),
-                    StudentAttributes.class);
-            if (student.key == null
-                    || studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(student.key)) == null) {
+                    StudentAttributes.class));
+        }
+
+        Set<String> existingRegistrationKeys = studentsDb.getRegistrationKeysOfExistingStudents(students);
+        for (StudentAttributes student : students) {
+            if (student.key == null || !existingRegistrationKeys.contains(student.key)) {
                 studentsDb.deleteDocument(student);
                 continue;
             }
@@ -128,8 +147,6 @@ public class StudentSearchDocument extends SearchDocument {
         }
 
         sortStudentResultList(bundle.studentList);
-
-        return bundle;
     }
 
     private static void sortStudentResultList(List<StudentAttributes> studentList) {
@@ -2,6 +2,7 @@ package teammates.storage.search;
 
 import java.util.List;
 
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 
@@ -15,6 +16,10 @@ public class StudentSearchQuery extends SearchQuery {
         super(instructors, queryString);
     }
 
+    public StudentSearchQuery(InstructorCourseFilter courseFilter, String queryString) {
+        super(courseFilter, queryString);
+    }
+
     /**
      * This constructor should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by amdin to
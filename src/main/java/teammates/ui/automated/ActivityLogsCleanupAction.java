@@ -0,0 +1,36 @@
+package teammates.ui.automated;
+
+import java.time.Instant;
+
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Cron job: schedules the deletion of the activity logs which are older than
+ * {@link Const.SystemParams#ACTIVITY_LOG_RETENTION_DAYS} days.
+ *
+ * @see ActivityLogsCleanupWorkerAction
+ */
+public class ActivityLogsCleanupAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return "delete old activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Deleting activity logs older than " + Const.SystemParams.ACTIVITY_LOG_RETENTION_DAYS + " days.";
+    }
+
+    @Override
+    public void execute() {
+        Instant cutoffTime = TimeHelper.getInstantDaysOffsetFromNow(-Const.SystemParams.ACTIVITY_LOG_RETENTION_DAYS);
+        taskQueuer.scheduleActivityLogsCleanup(cutoffTime, null);
+        log.info("Scheduled the deletion of activity logs recorded before " + cutoffTime);
+    }
+
+}
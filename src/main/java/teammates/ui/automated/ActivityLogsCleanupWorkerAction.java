@@ -0,0 +1,44 @@
+package teammates.ui.automated;
+
+import java.time.Instant;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the activity logs recorded before a cutoff time, one batch per task.
+ *
+ * <p>Each task deletes one batch of logs, then schedules the task for the next batch with the Datastore cursor
+ * to continue from, so that no single request deletes all the old logs.
+ */
+public class ActivityLogsCleanupWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String cutoffTimeParam = getRequestParamValue(ParamsNames.ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME);
+        Assumption.assertPostParamNotNull(ParamsNames.ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME, cutoffTimeParam);
+        Instant cutoffTime = Instant.ofEpochMilli(Long.parseLong(cutoffTimeParam));
+        String cursor = getRequestParamValue(ParamsNames.ACTIVITY_LOGS_CLEANUP_CURSOR);
+
+        String nextCursor = logic.deleteActivityLogsBefore(cutoffTime, cursor);
+        if (nextCursor == null) {
+            log.info("Deleted activity logs recorded before " + cutoffTime);
+        } else {
+            taskQueuer.scheduleActivityLogsCleanup(cutoffTime, nextCursor);
+        }
+    }
+
+}
@@ -26,8 +26,11 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_FEEDBACK_STATS_RECONCILIATION, FeedbackSessionStatsReconciliationAction.class);
+        map(ActionURIs.AUTOMATED_ACTIVITY_LOGS_CLEANUP, ActivityLogsCleanupAction.class);
 
         // Task queue workers
+        map(TaskQueue.ACTIVITY_LOGS_CLEANUP_WORKER_URL, ActivityLogsCleanupWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
         map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
@@ -39,8 +42,10 @@ public class AutomatedActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL,
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESULTS_SUMMARY_WORKER_URL, FeedbackSessionResultsSummaryWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEX_REBUILD_WORKER_URL, SearchIndexRebuildWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
     }
@@ -6,10 +6,13 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.logic.api.Logic;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -39,8 +42,10 @@ public class AutomatedServlet extends HttpServlet {
             if (!url.startsWith("/worker/")) {
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
                 // no logged-in user for automated servlet
-                LogMessageGenerator logGenerator = new LogMessageGenerator();
-                log.info(logGenerator.generateBasicActivityLogMessage(url, params, action.getActionMessage(), null));
+                ActivityLogEntry logEntry = new LogMessageGenerator()
+                        .generateBasicActivityLogEntry(url, params, action.getActionMessage(), null);
+                log.info(logEntry.generateLogMessage());
+                new Logic().recordActivityLog(ActivityLogAttributes.builder(logEntry).build());
             }
 
             action.execute();
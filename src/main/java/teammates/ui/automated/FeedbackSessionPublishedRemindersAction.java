@@ -5,7 +5,8 @@ import java.util.List;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 
 /**
- * Cron job: schedules feedback session published emails to be sent.
+ * Cron job: schedules feedback session published emails to be sent and the results summaries
+ * of the sessions to be built.
  */
 public class FeedbackSessionPublishedRemindersAction extends AutomatedAction {
 
@@ -25,6 +26,8 @@ public class FeedbackSessionPublishedRemindersAction extends AutomatedAction {
                 logic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
         for (FeedbackSessionAttributes session : sessions) {
             taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourseId(), session.getFeedbackSessionName());
+            taskQueuer.scheduleFeedbackSessionResultsSummaryBuilding(logic.getOrCreateFeedbackSessionResultsSummary(
+                    session.getCourseId(), session.getFeedbackSessionName()));
         }
     }
 
@@ -3,6 +3,8 @@ package teammates.ui.automated;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -48,17 +50,34 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
+            // Whether a giver has questions to answer depends only on the kind of giver,
+            // so it is worked out once per kind from the session's questions
+            List<FeedbackQuestionAttributes> questions =
+                    logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+            boolean hasQuestionsForStudents = hasQuestionsForGiverType(questions,
+                    FeedbackParticipantType.STUDENTS, FeedbackParticipantType.TEAMS);
+            boolean hasQuestionsForInstructors = hasQuestionsForGiverType(questions,
+                    FeedbackParticipantType.INSTRUCTORS);
+            boolean hasQuestionsForCreator = hasQuestionsForInstructors
+                    || hasQuestionsForGiverType(questions, FeedbackParticipantType.SELF);
+
+            // Filter out students who have submitted the feedback session
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
-                    studentsToRemindList.add(student);
+            if (hasQuestionsForStudents) {
+                for (StudentAttributes student : studentList) {
+                    if (!session.getRespondingStudentList().contains(student.email)) {
+                        studentsToRemindList.add(student);
+                    }
                 }
             }
 
             // Filter out instructors who have submitted the feedback session
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+                boolean hasQuestionsToAnswer = session.isCreator(instructor.email)
+                        ? hasQuestionsForCreator
+                        : hasQuestionsForInstructors;
+                if (hasQuestionsToAnswer && !session.getRespondingInstructorList().contains(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
@@ -71,4 +90,16 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
         }
     }
 
+    private boolean hasQuestionsForGiverType(List<FeedbackQuestionAttributes> questions,
+            FeedbackParticipantType... giverTypes) {
+        for (FeedbackQuestionAttributes question : questions) {
+            for (FeedbackParticipantType giverType : giverTypes) {
+                if (question.giverType == giverType) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,40 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: builds the results summary of a published feedback session.
+ */
+public class FeedbackSessionResultsSummaryWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+        String feedbackSessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        try {
+            logic.buildFeedbackSessionResultsSummary(courseId, feedbackSessionName);
+        } catch (EntityDoesNotExistException e) {
+            log.warning("Failed to build results summary of " + courseId + "/" + feedbackSessionName + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: recomputes the stored number of expected respondents of feedback sessions
+ * that have opened or closed recently or are about to, and corrects it if it has drifted.
+ */
+public class FeedbackSessionStatsReconciliationAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Duration LOOK_BACK = Duration.ofDays(7);
+    private static final Duration LOOK_AHEAD = Duration.ofDays(1);
+
+    @Override
+    protected String getActionDescription() {
+        return "reconcile feedback session statistics";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Reconciling statistics of feedback sessions.";
+    }
+
+    @Override
+    public void execute() {
+        Instant now = Instant.now();
+        List<FeedbackSessionAttributes> sessions =
+                logic.getAllOpenFeedbackSessions(now.minus(LOOK_BACK), now.plus(LOOK_AHEAD));
+
+        int numberOfCorrectedSessions = 0;
+        for (FeedbackSessionAttributes session : sessions) {
+            try {
+                if (logic.reconcileExpectedRespondentsTotal(session)) {
+                    numberOfCorrectedSessions++;
+                }
+            } catch (Exception e) {
+                log.severe("Unexpected error: " + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+        log.info("Reconciled statistics of " + sessions.size() + " feedback sessions, "
+                + numberOfCorrectedSessions + " of which were missing or outdated");
+    }
+
+}
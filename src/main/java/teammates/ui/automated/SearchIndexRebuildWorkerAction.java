@@ -0,0 +1,78 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: rebuilds the search documents of a course, one batch per task.
+ *
+ * <p>The students, instructors and response comments of the course are indexed in that order. Each task
+ * puts the documents of one batch of entities, then schedules the task for the next batch with the index and
+ * the Datastore cursor to continue from, which serve as the checkpoint of the rebuild.
+ */
+public class SearchIndexRebuildWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * The search indices which are rebuilt, in the order they are rebuilt.
+     */
+    private static final List<String> SEARCH_INDICES = Arrays.asList(
+            Const.SearchIndex.STUDENT, Const.SearchIndex.INSTRUCTOR, Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT);
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+        String rebuildId = getRequestParamValue(ParamsNames.SEARCH_INDEX_REBUILD_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.SEARCH_INDEX_REBUILD_ID, rebuildId);
+        String searchIndex = getRequestParamValue(ParamsNames.SEARCH_INDEX_NAME);
+        Assumption.assertPostParamNotNull(ParamsNames.SEARCH_INDEX_NAME, searchIndex);
+        Assumption.assertTrue("Unknown search index: " + searchIndex, SEARCH_INDICES.contains(searchIndex));
+        String cursor = getRequestParamValue(ParamsNames.SEARCH_INDEX_CURSOR);
+
+        String nextCursor = putDocuments(courseId, searchIndex, cursor);
+        if (nextCursor != null) {
+            taskQueuer.scheduleSearchIndexRebuildForCourse(courseId, rebuildId, searchIndex, nextCursor);
+            return;
+        }
+
+        int nextIndexPosition = SEARCH_INDICES.indexOf(searchIndex) + 1;
+        if (nextIndexPosition < SEARCH_INDICES.size()) {
+            taskQueuer.scheduleSearchIndexRebuildForCourse(
+                    courseId, rebuildId, SEARCH_INDICES.get(nextIndexPosition), null);
+        } else {
+            log.info("Search documents of course " + courseId + " are rebuilt");
+        }
+    }
+
+    private String putDocuments(String courseId, String searchIndex, String cursor) {
+        switch (searchIndex) {
+        case Const.SearchIndex.STUDENT:
+            return logic.putStudentDocumentsForCourse(courseId, cursor);
+        case Const.SearchIndex.INSTRUCTOR:
+            return logic.putInstructorDocumentsForCourse(courseId, cursor);
+        case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+            return logic.putFeedbackResponseCommentDocumentsForCourse(courseId, cursor);
+        default:
+            Assumption.fail("Unknown search index: " + searchIndex);
+            return null;
+        }
+    }
+
+}
@@ -552,9 +552,16 @@ public abstract class Action {
      * Returns The log message in the special format used for generating the 'activity log' for the Admin.
      */
     public String getLogMessage() {
+        return getLogEntry().generateLogMessage();
+    }
+
+    /**
+     * Returns the entry for the 'activity log' for the Admin.
+     */
+    public ActivityLogEntry getLogEntry() {
         UserType currUser = gateKeeper.getCurrentUser();
-        return new LogMessageGenerator().generatePageActionLogMessage(requestUrl, requestParameters, currUser,
-                                                                      account, student, statusToAdmin);
+        return new LogMessageGenerator().generatePageActionLogEntry(requestUrl, requestParameters, currUser,
+                                                                    account, student, statusToAdmin);
     }
 
     /**
@@ -692,6 +699,14 @@ public abstract class Action {
                                statusToUser);
     }
 
+    protected ActionResult createImageResult(String blobKey, String cacheControl) {
+        return new ImageResult("imagedisplay",
+                               blobKey,
+                               cacheControl,
+                               account,
+                               statusToUser);
+    }
+
     protected ActionResult createDocResult(String blobKey) {
         return new FeedbackPdfFileResult("documents", blobKey, account, statusToUser);
     }
@@ -33,6 +33,7 @@ public class ActionFactory {
         map(ADMIN_INSTRUCTORACCOUNT_ADD, AdminInstructorAccountAddAction.class);
         map(ADMIN_SESSIONS_PAGE, AdminSessionsPageAction.class);
         map(ADMIN_SEARCH_PAGE, AdminSearchPageAction.class);
+        map(ADMIN_SEARCH_INDEX_REBUILD, AdminSearchIndexRebuildAction.class);
         map(ADMIN_STUDENT_GOOGLE_ID_RESET, AdminStudentGoogleIdResetAction.class);
         map(ADMIN_EMAIL_COMPOSE_PAGE, AdminEmailComposePageAction.class);
         map(ADMIN_EMAIL_COMPOSE_SAVE, AdminEmailComposeSaveAction.class);
@@ -6,15 +6,13 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
-import com.google.appengine.api.log.AppLogLine;
-
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.ActivityLogEntry;
-import teammates.common.util.AdminLogQuery;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Const;
-import teammates.common.util.GaeLogApi;
 import teammates.common.util.GaeVersionApi;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
@@ -95,7 +93,8 @@ public class AdminActivityLogPageAction extends Action {
         }
 
         List<String> versionToQuery = getVersionsForQuery(data.getVersions());
-        AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
+        ActivityLogQuery query = new ActivityLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
+        data.addIndexedFiltersTo(query);
 
         List<ActivityLogEntry> logs = null;
         if (data.isFromDateSpecifiedInQuery()) {
@@ -210,11 +209,10 @@ public class AdminActivityLogPageAction extends Action {
     /**
      * Retrieves enough logs within MAX_SEARCH_PERIOD hours.
      */
-    private List<ActivityLogEntry> searchLogsWithTimeIncrement(AdminLogQuery query, AdminActivityLogPageData data) {
+    private List<ActivityLogEntry> searchLogsWithTimeIncrement(ActivityLogQuery query, AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<>();
 
         totalLogsSearched = 0;
-        GaeLogApi logApi = new GaeLogApi();
 
         long startTime = query.getEndTime() - SEARCH_TIME_INCREMENT;
         query.setTimePeriod(startTime, query.getEndTime());
@@ -223,7 +221,7 @@ public class AdminActivityLogPageAction extends Action {
             if (appLogs.size() >= RELEVANT_LOGS_PER_PAGE) {
                 break;
             }
-            List<AppLogLine> searchResult = logApi.fetchLogs(query);
+            List<ActivityLogAttributes> searchResult = logic.getActivityLogs(query);
             List<ActivityLogEntry> filteredLogs = filterLogsForActivityLogPage(searchResult, data);
             appLogs.addAll(filteredLogs);
             totalLogsSearched += searchResult.size();
@@ -235,12 +233,15 @@ public class AdminActivityLogPageAction extends Action {
     }
 
     /**
-     * Retrieves all logs in the time period specified in the query.
+     * Retrieves the logs in the time period specified in the query. If there are too many logs to read at once,
+     * only the latest logs are retrieved and the search can be continued from the earliest of them.
      */
-    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(AdminLogQuery query, AdminActivityLogPageData data) {
-        GaeLogApi logApi = new GaeLogApi();
-        List<AppLogLine> searchResult = logApi.fetchLogs(query);
+    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(ActivityLogQuery query,
+                                                                 AdminActivityLogPageData data) {
+        List<ActivityLogAttributes> searchResult = logic.getActivityLogs(query);
 
+        // the start of the time period is moved forward if not all logs in it were read
+        data.setFromDate(query.getStartTime());
         nextEndTimeToSearch = data.getFromDate() - 1;
         totalLogsSearched = searchResult.size();
         return filterLogsForActivityLogPage(searchResult, data);
@@ -248,19 +249,19 @@ public class AdminActivityLogPageAction extends Action {
 
     /**
      * Filters logs that should be shown on Admin Activity Log Page.
+     * The logs have already been filtered by the filters answered by the index,
+     * see {@link AdminActivityLogPageData#addIndexedFiltersTo(ActivityLogQuery)}.
      */
-    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<AppLogLine> appLogLines,
+    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<ActivityLogAttributes> activityLogs,
                                                                 AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<>();
-        for (AppLogLine appLog : appLogLines) {
-            String logMsg = appLog.getLogMessage();
-            boolean isNotTeammatesLog = !logMsg.contains("TEAMMATESLOG");
-            boolean isLogFromAdminActivityLogPage = logMsg.contains("adminActivityLogPage");
-            if (isNotTeammatesLog || isLogFromAdminActivityLogPage) {
+        for (ActivityLogAttributes activityLog : activityLogs) {
+            ActivityLogEntry activityLogEntry = activityLog.getLogEntry();
+            boolean isLogFromAdminActivityLogPage = activityLogEntry.getActionName().contains("adminActivityLogPage");
+            if (isLogFromAdminActivityLogPage) {
                 continue;
             }
 
-            ActivityLogEntry activityLogEntry = ActivityLogEntry.buildFromAppLog(appLog);
             boolean isToShow = data.filterLog(activityLogEntry)
                     && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
 
@@ -0,0 +1,36 @@
+package teammates.ui.controller;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.StatusMessage;
+import teammates.common.util.StatusMessageColor;
+import teammates.common.util.Url;
+
+/**
+ * This Action is used in AdminAccountDetailsPage to rebuild the search documents
+ * of all students, instructors and response comments of a course of the instructor.
+ * The documents are rebuilt in the background by the search index rebuild task queue.
+ */
+public class AdminSearchIndexRebuildAction extends Action {
+
+    @Override
+    protected ActionResult execute() {
+
+        gateKeeper.verifyAdminPrivileges(account);
+
+        String instructorId = getRequestParamValue(Const.ParamsNames.INSTRUCTOR_ID);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.INSTRUCTOR_ID, instructorId);
+        String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.COURSE_ID, courseId);
+
+        taskQueuer.scheduleSearchIndexRebuildForCourse(courseId);
+
+        statusToUser.add(new StatusMessage(Const.StatusMessages.SEARCH_INDEX_REBUILD_SCHEDULED,
+                                           StatusMessageColor.SUCCESS));
+        statusToAdmin = "Search documents of Course<span class=\"bold\">[" + courseId + "]</span>"
+                      + " are scheduled to be rebuilt";
+        return createRedirectResult(Url.addParamToUrl(Const.ActionURIs.ADMIN_ACCOUNT_DETAILS_PAGE,
+                                                      Const.ParamsNames.INSTRUCTOR_ID, instructorId));
+    }
+
+}
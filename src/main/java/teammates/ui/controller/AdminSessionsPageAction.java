@@ -7,7 +7,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
@@ -168,25 +167,17 @@ public class AdminSessionsPageAction extends Action {
         this.totalWaitToOpenStatusSessions = getTotalNumOfWaitToOpenStatusSession(allOpenFeedbackSessionsList);
 
         for (FeedbackSessionAttributes fs : allOpenFeedbackSessionsList) {
-            List<InstructorAttributes> instructors = logic.getInstructorsForCourse(fs.getCourseId());
-
-            if (instructors.isEmpty()) {
-                putIntoUnknownList(map, fs);
-                continue;
-            }
-
-            AccountAttributes account = getRegisteredInstructorAccountFromInstructors(instructors);
-            if (account == null) {
+            if (fs.getInstitute() == null) {
                 putIntoUnknownList(map, fs);
                 continue;
             }
 
-            if (map.get(account.institute) == null) {
+            if (map.get(fs.getInstitute()) == null) {
                 List<FeedbackSessionAttributes> newList = new ArrayList<>();
                 newList.add(fs);
-                map.put(account.institute, newList);
+                map.put(fs.getInstitute(), newList);
             } else {
-                map.get(account.institute).add(fs);
+                map.get(fs.getInstitute()).add(fs);
             }
         }
 
@@ -203,9 +194,12 @@ public class AdminSessionsPageAction extends Action {
     }
 
     private void constructSessionToInstructorIdMap() {
+        // sessions of the same course share the instructor
+        Map<String, String> courseToInstructorIdMap = new HashMap<>();
         this.map.forEach((key, feedbackSessionAttributesList) -> {
             for (FeedbackSessionAttributes fs : feedbackSessionAttributesList) {
-                String googleId = findAvailableInstructorGoogleIdForCourse(fs.getCourseId());
+                String googleId = courseToInstructorIdMap.computeIfAbsent(fs.getCourseId(),
+                        this::findAvailableInstructorGoogleIdForCourse);
                 this.sessionToInstructorIdMap.put(fs.getIdentificationString(), googleId);
             }
         });
@@ -226,16 +220,6 @@ public class AdminSessionsPageAction extends Action {
         return "";
     }
 
-    private AccountAttributes getRegisteredInstructorAccountFromInstructors(List<InstructorAttributes> instructors) {
-        for (InstructorAttributes instructor : instructors) {
-            if (instructor.googleId != null) {
-                return logic.getAccount(instructor.googleId);
-            }
-        }
-
-        return null;
-    }
-
     private long getTotalNumOfOpenStatusSession(List<FeedbackSessionAttributes> allOpenFeedbackSessionsList) {
         return allOpenFeedbackSessionsList.stream()
                 .filter(sessionAttributes -> sessionAttributes.isOpened())
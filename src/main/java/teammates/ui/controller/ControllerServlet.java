@@ -13,16 +13,22 @@ import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
 
 import teammates.common.datatransfer.UserType;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.exception.*;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
+import teammates.common.util.DatastoreOperationCounter;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetricsAggregator;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.Logic;
 
 /**
  * Receives requests from the Browser, executes the matching action and sends
@@ -52,14 +58,18 @@ public class ControllerServlet extends HttpServlet {
         String url = HttpRequestHelper.getRequestedUrl(req);
         Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
 
+        long startTime = System.currentTimeMillis();
+        DatastoreOperationCounter.reset();
+        SizeCountingResponseWrapper countingResp = new SizeCountingResponseWrapper(resp);
+        ActivityLogEntry logEntry = null;
+        Throwable failure = null;
+
         try {
             /* We are using the Template Method Design Pattern here.
              * This method contains the high level logic of the request processing.
              * Concrete details of the processing steps are to be implemented by child
              * classes, based on request-specific needs.
              */
-            long startTime = System.currentTimeMillis();
-
             log.info("Request received : [" + req.getMethod() + "] " + req.getRequestURL().toString()
                     + ":" + HttpRequestHelper.printRequestParameters(req));
             log.info("User agent : " + req.getHeader("User-Agent"));
@@ -68,53 +78,58 @@ public class ControllerServlet extends HttpServlet {
             if (c.isValidUser()) {
                 ActionResult actionResult = c.executeAndPostProcess();
                 actionResult.writeSessionTokenToCookieIfRequired(req, resp);
-                actionResult.send(req, resp);
+                actionResult.send(req, countingResp);
             } else {
                 resp.sendRedirect(c.getAuthenticationRedirectUrl());
             }
 
             long timeTaken = System.currentTimeMillis() - startTime;
-            // This is the log message that is used to generate the 'activity log' for the admin.
-
-            log.info(c.getLogMessage() + "|||" + timeTaken);
+            log.info("Datastore operations : " + DatastoreOperationCounter.toCompactJson());
+            // This is the log entry that is used to generate the 'activity log' for the admin.
+            logEntry = c.getLogEntry();
+            log.info(logEntry.generateLogMessage() + "|||" + timeTaken);
+            new Logic().recordActivityLog(ActivityLogAttributes.builder(logEntry)
+                    .withActionTimeTaken(timeTaken)
+                    .build());
 
         } catch (PageNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ACTION_NOT_FOUND_PAGE, params, url));
         } catch (EntityNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ENTITY_NOT_FOUND_PAGE, params, url));
 
         } catch (FeedbackSessionNotVisibleException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             req.getSession().setAttribute(Const.ParamsNames.FEEDBACK_SESSION_NOT_VISIBLE, e.getStartTimeString());
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.FEEDBACK_SESSION_NOT_VISIBLE, params, url));
 
         } catch (InvalidOriginException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.INVALID_ORIGIN, params, url));
 
         } catch (NonRmitLoginException e) {
-            log.warning(new LogMessageGenerator()
-                    .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.NON_RMIT, params, url));
 
         } catch (UnauthorizedAccessException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            failure = e;
+            logEntry = logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.UNAUTHORIZED, params, url));
 
         } catch (DeadlineExceededException | DatastoreTimeoutException e) {
+            failure = e;
             /*This exception may not be caught because GAE kills
               the request soon after throwing it. In that case, the error
               message in the log will be emailed to the admin by a separate
@@ -125,6 +140,7 @@ public class ControllerServlet extends HttpServlet {
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.DEADLINE_EXCEEDED_ERROR_PAGE, params, url));
 
         } catch (InvalidPostParametersException e) {
+            failure = e;
             String requestUrl = req.getRequestURL().toString();
             log.info(e.getMessage());
             cleanUpStatusMessageInSession(req);
@@ -145,6 +161,7 @@ public class ControllerServlet extends HttpServlet {
                 resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ERROR_PAGE, params, url));
             }
         } catch (Throwable t) {
+            failure = t;
             /* Log only stack trace to prevent delay in termination of request
              * which can result in GAE shutting down the instance.
              * Note that severe logs are sent by email automatically in the cron job auto/compileLogs.
@@ -153,10 +170,36 @@ public class ControllerServlet extends HttpServlet {
                         + TeammatesException.toStringWithStackTrace(t));
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ERROR_PAGE, params, url));
+        } finally {
+            recordRequestMetrics(logEntry, url, params, userType, failure, startTime, countingResp);
         }
 
     }
 
+    private ActivityLogEntry logActionFailure(String url, Map<String, String[]> params, Exception e,
+            UserType userType) {
+        ActivityLogEntry logEntry = new LogMessageGenerator().generateActionFailureLogEntry(url, params, e, userType);
+        log.warning(logEntry.generateLogMessage());
+        new Logic().recordActivityLog(ActivityLogAttributes.builder(logEntry).build());
+        return logEntry;
+    }
+
+    /**
+     * Records the metrics of the request, whether it succeeded or failed.
+     * Requests which failed before their log entry was generated are recorded against the action name in the URL.
+     */
+    private void recordRequestMetrics(ActivityLogEntry logEntry, String url, Map<String, String[]> params,
+            UserType userType, Throwable failure, long startTime, SizeCountingResponseWrapper countingResp) {
+        long timeTaken = System.currentTimeMillis() - startTime;
+        ActivityLogEntry metricsLogEntry = logEntry == null
+                ? new LogMessageGenerator().generateBasicActivityLogEntry(url, params, "", userType)
+                : logEntry;
+        String status = failure == null ? RequestMetrics.STATUS_OK : failure.getClass().getSimpleName();
+        RequestMetricsAggregator.inst().record(new RequestMetrics(metricsLogEntry.getActionName(),
+                metricsLogEntry.getUserRole(), timeTaken, DatastoreOperationCounter.getReads(),
+                DatastoreOperationCounter.getWrites(), countingResp.getResponseSize(), status));
+    }
+
     private void cleanUpStatusMessageInSession(HttpServletRequest req) {
         req.getSession().removeAttribute(Const.ParamsNames.STATUS_MESSAGES_LIST);
     }
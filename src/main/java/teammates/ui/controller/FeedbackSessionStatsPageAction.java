@@ -25,7 +25,7 @@ public class FeedbackSessionStatsPageAction extends Action {
 
         gateKeeper.verifyAccessible(instructor, fsa, false);
 
-        data.sessionDetails = logic.getFeedbackSessionDetails(feedbackSessionName, courseId);
+        data.sessionDetails = logic.getFeedbackSessionDetails(fsa);
 
         return createAjaxResult(data);
     }
@@ -12,17 +12,44 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.StatusMessage;
 
 public class ImageResult extends ActionResult {
 
+    /**
+     * Cache-Control for images requested by their blob key, which are cached by the browser only.
+     * A re-uploaded image gets a new blob key and thus a new URL, so the image at a URL never changes.
+     */
+    public static final String CACHE_CONTROL_IMMUTABLE = "private, max-age=31536000, immutable";
+
+    /**
+     * Cache-Control for images requested by their blob key which anyone can view.
+     */
+    public static final String CACHE_CONTROL_PUBLIC_IMMUTABLE = "public, max-age=31536000, immutable";
+
+    /**
+     * Cache-Control for images whose URL may serve another blob later, e.g. the current profile picture of a student.
+     * The browser revalidates its copy with the ETag on every use.
+     */
+    public static final String CACHE_CONTROL_REVALIDATE = "private, no-cache";
+
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
+    /** The Cache-Control header sent with the image. */
+    public String cacheControl;
+
     public ImageResult(String destination, String blobKey, AccountAttributes account,
             List<StatusMessage> status) {
+        this(destination, blobKey, CACHE_CONTROL_REVALIDATE, account, status);
+    }
+
+    public ImageResult(String destination, String blobKey, String cacheControl, AccountAttributes account,
+            List<StatusMessage> status) {
         super(destination, account, status);
         this.blobKey = blobKey;
+        this.cacheControl = cacheControl;
     }
 
     @Override
@@ -31,10 +58,29 @@ public class ImageResult extends ActionResult {
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
         } else {
-            resp.setContentType("image/png");
-            BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-            blobstoreService.serve(new BlobKey(blobKey), resp);
+            serveImage(blobKey, cacheControl, req, resp);
+        }
+    }
+
+    /**
+     * Serves the image with the blob key, or responds with 304 Not Modified without reading the blob
+     * if the copy cached by the browser is current.
+     * The ETag of an image is its blob key, as the content of a blob never changes.
+     */
+    public static void serveImage(String blobKey, String cacheControl, HttpServletRequest req,
+            HttpServletResponse resp) throws IOException {
+        String eTag = "\"" + blobKey + "\"";
+        resp.setHeader("ETag", eTag);
+        resp.setHeader("Cache-Control", cacheControl);
+
+        if (HttpRequestHelper.isETagMatched(req.getHeader("If-None-Match"), eTag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
         }
+
+        resp.setContentType("image/png");
+        BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
+        blobstoreService.serve(new BlobKey(blobKey), resp);
     }
 
 }
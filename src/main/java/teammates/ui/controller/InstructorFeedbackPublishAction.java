@@ -31,6 +31,8 @@ public class InstructorFeedbackPublishAction extends Action {
             if (session.isPublishedEmailEnabled()) {
                 taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourseId(), session.getFeedbackSessionName());
             }
+            taskQueuer.scheduleFeedbackSessionResultsSummaryBuilding(logic.getOrCreateFeedbackSessionResultsSummary(
+                    session.getCourseId(), session.getFeedbackSessionName()));
 
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_PUBLISHED, StatusMessageColor.SUCCESS));
             statusToAdmin = "Feedback Session <span class=\"bold\">(" + feedbackSessionName + ")</span> "
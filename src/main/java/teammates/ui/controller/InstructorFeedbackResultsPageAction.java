@@ -17,6 +17,7 @@ public class InstructorFeedbackResultsPageAction extends Action {
 
     private static final String ALL_SECTION_OPTION = "All";
     private static final int DEFAULT_SECTION_QUERY_RANGE = 2500;
+    private static final int SECTION_RESPONSES_PAGE_SIZE = 2500;
 
     @Override
     protected ActionResult execute() throws EntityDoesNotExistException {
@@ -78,6 +79,7 @@ public class InstructorFeedbackResultsPageAction extends Action {
 
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String isTestingAjax = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_NEED_AJAX);
+        String pageToken = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN);
 
         if (ALL_SECTION_OPTION.equals(selectedSection) && questionId == null
                 && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
@@ -92,18 +94,20 @@ public class InstructorFeedbackResultsPageAction extends Action {
                                                     selectedSection, sortType, questionId));
         } else if (Const.FeedbackSessionResults.GQR_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.GRQ_SORT_TYPE.equals(sortType)) {
+            data.setResponsesPageToken(pageToken);
             data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorFromSectionWithinRange(feedbackSessionName, courseId,
-                                                                                  instructor.email,
-                                                                                  selectedSection,
-                                                                                  DEFAULT_SECTION_QUERY_RANGE));
+                    .getFeedbackSessionResultsForInstructorFromSectionPage(feedbackSessionName, courseId,
+                                                                           instructor.email,
+                                                                           selectedSection, pageToken,
+                                                                           SECTION_RESPONSES_PAGE_SIZE));
         } else if (Const.FeedbackSessionResults.RQG_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.RGQ_SORT_TYPE.equals(sortType)) {
+            data.setResponsesPageToken(pageToken);
             data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorToSectionWithinRange(feedbackSessionName, courseId,
-                                                                                instructor.email,
-                                                                                selectedSection,
-                                                                                DEFAULT_SECTION_QUERY_RANGE));
+                    .getFeedbackSessionResultsForInstructorToSectionPage(feedbackSessionName, courseId,
+                                                                         instructor.email,
+                                                                         selectedSection, pageToken,
+                                                                         SECTION_RESPONSES_PAGE_SIZE));
         }
 
         if (data.getBundle() == null) {
@@ -111,6 +115,11 @@ public class InstructorFeedbackResultsPageAction extends Action {
                                                   + " does not exist in " + courseId + ".");
         }
 
+        if (data.getBundle().isResultsSummaryMissing()) {
+            // the task is named after the generation of the summary, so it is only added once per change
+            taskQueuer.scheduleFeedbackSessionResultsSummaryBuilding(data.getBundle().getResultsSummaryToBuild());
+        }
+
         // Warning for section wise viewing in case of many responses.
         boolean isShowSectionWarningForQuestionView = data.isLargeNumberOfRespondents()
                                                    && Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType);
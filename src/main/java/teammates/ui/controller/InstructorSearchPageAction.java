@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
@@ -61,15 +62,17 @@ public class InstructorSearchPageAction extends Action {
         } else {
             //Start searching
             List<InstructorAttributes> instructors = logic.getInstructorsForGoogleId(account.googleId);
+            // the course filter is shared by the student and team searches
+            InstructorCourseFilter courseFilter = new InstructorCourseFilter(instructors);
             if (isSearchFeedbackSessionData) {
                 frCommentSearchResults = logic.searchFeedbackResponseComments(searchKey, instructors);
             }
             if (isSearchForStudents) {
-                studentSearchResults = logic.searchStudents(searchKey, instructors);
+                studentSearchResults = logic.searchStudents(searchKey, courseFilter);
             }
 
             if (isSearchForTeams) {
-                teamsSearchResults = logic.searchTeams(searchKey, instructors);
+                teamsSearchResults = logic.searchTeams(searchKey, courseFilter);
             }
 
 
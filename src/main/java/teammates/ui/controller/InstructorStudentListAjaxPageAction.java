@@ -42,7 +42,7 @@ public class InstructorStudentListAjaxPageAction extends Action {
         for (SectionDetailsBundle sectionDetails : courseSectionDetails) {
             for (TeamDetailsBundle teamDetails : sectionDetails.teams) {
                 for (StudentAttributes student : teamDetails.students) {
-                    String studentPhotoUrl = student.getPublicProfilePictureUrl();
+                    String studentPhotoUrl = student.getPublicProfilePictureThumbnailUrl();
                     studentPhotoUrl = Url.addParamToUrl(studentPhotoUrl,
                                                     Const.ParamsNames.USER_ID, account.googleId);
                     emailPhotoUrlMapping.put(student.email, studentPhotoUrl);
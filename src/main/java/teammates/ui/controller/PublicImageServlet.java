@@ -7,10 +7,6 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.blobstore.BlobstoreService;
-import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
-
 import teammates.common.datatransfer.UserType;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
@@ -51,17 +47,11 @@ public class PublicImageServlet extends HttpServlet {
                 log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
                 resp.sendError(1, "No image found");
             } else {
-                resp.setContentType("image/png");
-                BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-                blobstoreService.serve(new BlobKey(blobKey), resp);
+                ImageResult.serveImage(blobKey, ImageResult.CACHE_CONTROL_PUBLIC_IMMUTABLE, req, resp);
                 // TODO : restrict image request to those "public" files only
 
-                String message = "Public image request with URL: <br>"
-                               + "<a href=\"" + url + "\" target=\"_blank\" rel=\"noopener noreferrer\" >"
-                               + url + "</a>";
-
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
-                log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
+                log.fineSampled("Public image request with URL: " + url,
+                                Const.SystemParams.IMAGE_REQUEST_LOG_SAMPLING_RATE);
             }
         } catch (IOException ioe) {
             Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
@@ -0,0 +1,83 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Keeps track of the size of the response sent through it.
+ * <br> Characters written through {@link #getWriter()} are counted as they are written;
+ * for binary responses the declared content length is used instead.
+ */
+public class SizeCountingResponseWrapper extends HttpServletResponseWrapper {
+
+    private long charactersWritten;
+    private long declaredContentLength;
+    private PrintWriter writer;
+
+    public SizeCountingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new CountingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        super.setContentLength(length);
+        declaredContentLength = length;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Returns the size of the response sent so far.
+     */
+    public long getResponseSize() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return Math.max(charactersWritten, declaredContentLength);
+    }
+
+    /**
+     * Counts the characters passed on to the writer of the response.
+     */
+    private class CountingWriter extends Writer {
+        private final Writer out;
+
+        CountingWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            charactersWritten += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -40,8 +40,9 @@ public class StudentProfilePictureAction extends Action {
 
     private ActionResult handleRequestWithBlobKey() {
         String blobKey = getBlobKeyFromRequest();
-        log.info("blob-key given: " + blobKey);
-        return createImageResult(blobKey);
+        log.fineSampled("blob-key given: " + blobKey, Const.SystemParams.IMAGE_REQUEST_LOG_SAMPLING_RATE);
+        // the picture of a blob key never changes, as a re-uploaded picture gets a new blob key
+        return createImageResult(blobKey, ImageResult.CACHE_CONTROL_IMMUTABLE);
     }
 
     private ActionResult handleRequestWithEmailAndCourse()
@@ -56,12 +57,13 @@ public class StudentProfilePictureAction extends Action {
             throw new EntityDoesNotExistException(e);
         }
 
-        log.info("email: " + email + ", course: " + courseId);
+        log.fineSampled("email: " + email + ", course: " + courseId, Const.SystemParams.IMAGE_REQUEST_LOG_SAMPLING_RATE);
 
         StudentAttributes student = getStudentForGivenParameters(courseId, email);
         gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(account, courseId, student.section, email);
 
-        return createImageResult(getPictureKeyForStudent(student));
+        // the student may upload another picture later, so the browser revalidates its copy with the ETag
+        return createImageResult(getPictureKeyForStudent(student), ImageResult.CACHE_CONTROL_REVALIDATE);
     }
 
     private StudentAttributes getStudentForGivenParameters(String courseId, String email)
@@ -100,7 +102,9 @@ public class StudentProfilePictureAction extends Action {
 
             // TODO: remove the null check once all legacy data has been ported
             if (profile != null) {
-                return profile.pictureKey;
+                boolean isThumbnailRequested =
+                        Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL));
+                return isThumbnailRequested ? profile.getThumbnailKeyOrPictureKey() : profile.pictureKey;
             }
         }
         return "";
@@ -10,6 +10,7 @@ import com.google.appengine.api.images.ImagesServiceFactory;
 import com.google.appengine.api.images.OutputSettings;
 import com.google.appengine.api.images.Transform;
 
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
@@ -32,7 +33,7 @@ public class StudentProfilePictureEditAction extends Action {
     private String rotateString;
 
     @Override
-    protected ActionResult execute() {
+    protected ActionResult execute() throws EntityDoesNotExistException {
         gateKeeper.verifyLoggedInUserPrivileges();
         readAllPostParameterValuesToFields();
         if (!validatePostParameters()) {
@@ -43,7 +44,11 @@ public class StudentProfilePictureEditAction extends Action {
             byte[] transformedImage = this.transformImage();
             if (!isError) {
                 // this branch is covered in UiTests (look at todo in transformImage())
-                GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, transformedImage);
+                // the edited picture replaces the original, which is deleted with its thumbnail
+                String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, transformedImage);
+                String thumbnailKey = GoogleCloudStorageHelper.writeThumbnailDataToGcs(account.googleId,
+                                                                                       transformedImage);
+                logic.updateStudentProfilePicture(account.googleId, pictureKey, thumbnailKey);
             }
         } catch (IOException e) {
             // Happens when GCS Service is down
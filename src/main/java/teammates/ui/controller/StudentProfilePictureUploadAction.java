@@ -34,6 +34,7 @@ public class StudentProfilePictureUploadAction extends Action {
         gateKeeper.verifyLoggedInUserPrivileges();
 
         String pictureKey = "";
+        String thumbnailKey = "";
         BlobKey blobKey = new BlobKey("");
         RedirectResult r = createRedirectResult(Const.ActionURIs.STUDENT_PROFILE_PAGE);
 
@@ -41,8 +42,11 @@ public class StudentProfilePictureUploadAction extends Action {
             BlobInfo blobInfo = extractProfilePictureKey();
             if (!isError) {
                 blobKey = blobInfo.getBlobKey();
-                pictureKey = renameFileToGoogleId(blobInfo);
-                logic.updateStudentProfilePicture(account.googleId, pictureKey);
+                byte[] imageData = readImageData(blobInfo);
+                deletePicture(blobKey);
+                pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+                thumbnailKey = GoogleCloudStorageHelper.writeThumbnailDataToGcs(account.googleId, imageData);
+                logic.updateStudentProfilePicture(account.googleId, pictureKey, thumbnailKey);
                 statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENT_PROFILE_PICTURE_SAVED,
                                                    StatusMessageColor.SUCCESS));
                 r.addResponseParam(Const.ParamsNames.STUDENT_PROFILE_PHOTOEDIT, "true");
@@ -57,6 +61,7 @@ public class StudentProfilePictureUploadAction extends Action {
              * that occur rarely and are handled higher up.
              */
             deletePicture(new BlobKey(pictureKey));
+            deletePicture(new BlobKey(thumbnailKey));
             statusToUser.clear();
             throw e;
         }
@@ -64,17 +69,14 @@ public class StudentProfilePictureUploadAction extends Action {
         return r;
     }
 
-    private String renameFileToGoogleId(BlobInfo blobInfo) throws IOException {
+    private byte[] readImageData(BlobInfo blobInfo) throws IOException {
         Assumption.assertNotNull(blobInfo);
 
-        BlobKey blobKey = blobInfo.getBlobKey();
         byte[] imageData = new byte[(int) blobInfo.getSize()];
-        try (InputStream blobStream = new BlobstoreInputStream(blobKey)) {
+        try (InputStream blobStream = new BlobstoreInputStream(blobInfo.getBlobKey())) {
             blobStream.read(imageData);
         }
-
-        deletePicture(blobKey);
-        return GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+        return imageData;
     }
 
     private BlobInfo extractProfilePictureKey() {
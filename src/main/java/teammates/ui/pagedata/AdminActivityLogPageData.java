@@ -12,6 +12,7 @@ import java.util.List;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
@@ -158,6 +159,28 @@ public class AdminActivityLogPageData extends PageData {
         }
     }
 
+    /**
+     * Adds the filters of the parsed query which are answered by the activity log index to {@code query},
+     * i.e. the request, response and role filters. The remaining filters, including the person filter
+     * which matches any part of a name, Google ID or email, are applied by {@link #filterLog(ActivityLogEntry)}.
+     */
+    public void addIndexedFiltersTo(ActivityLogQuery query) {
+        query.setTestingDataIncluded(shouldShowTestData);
+        if (q == null) {
+            return;
+        }
+
+        if (q.isRequestInQuery) {
+            query.addTerms(ActivityLogQuery.LABEL_REQUEST, q.requestValues);
+        }
+        if (q.isResponseInQuery) {
+            query.addTerms(ActivityLogQuery.LABEL_RESPONSE, q.responseValues);
+        }
+        if (q.isRoleInQuery) {
+            query.addTerms(ActivityLogQuery.LABEL_ROLE, q.roleValues);
+        }
+    }
+
     /**
      * Returns true if the current log entry should be included.
      */
@@ -258,7 +281,7 @@ public class AdminActivityLogPageData extends PageData {
             }
 
             if ("version".equals(label)) {
-                //version is specified in com.google.appengine.api.log.LogQuery,
+                //version is specified in teammates.common.util.ActivityLogQuery,
                 //it does not belong to the internal class "QueryParameters"
                 //so need to store here for future use
                 for (String value : values) {
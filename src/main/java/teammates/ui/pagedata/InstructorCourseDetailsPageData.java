@@ -55,7 +55,7 @@ public class InstructorCourseDetailsPageData extends PageData {
             Map<String, String> emailPhotoUrlMapping = new HashMap<>();
             for (TeamDetailsBundle teamDetails : section.teams) {
                 for (StudentAttributes student : teamDetails.students) {
-                    String studentPhotoUrl = student.getPublicProfilePictureUrl();
+                    String studentPhotoUrl = student.getPublicProfilePictureThumbnailUrl();
                     studentPhotoUrl = Url.addParamToUrl(studentPhotoUrl,
                                                     Const.ParamsNames.USER_ID, account.googleId);
                     emailPhotoUrlMapping.put(student.email, studentPhotoUrl);
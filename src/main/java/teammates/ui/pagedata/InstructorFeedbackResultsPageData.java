@@ -67,6 +67,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
     private String showStats;
     private boolean isMissingResponsesShown;
     private int startIndex = -1;
+    // the token of the page of responses being loaded, for a selected section in the participant views
+    private String responsesPageToken;
 
     private FieldValidator validator = new FieldValidator();
     private String feedbackSessionName;
@@ -597,7 +599,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
         case GIVER_QUESTION_RECIPIENT:
         case RECIPIENT_QUESTION_GIVER:
             prepareHeadersForTeamPanelsInSectionPanel(sectionPanel);
-            if (!responsesGroupedByTeam.isEmpty()) {
+            if (!responsesGroupedByTeam.isEmpty() && !isPartialResponsesPage()) {
                 buildTeamsStatisticsTableForSectionPanel(sectionPanel, responsesGroupedByTeam,
                                                          teamsWithResponses);
             }
@@ -606,7 +608,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
             for (String team : teamsWithResponses) {
                 // teamsWithResponses can include teams of anonymous student ("Anonymous student #'s Team")
                 // and "-"
-                isTeamDisplayingStatistics.put(team, isTeamVisible(team));
+                isTeamDisplayingStatistics.put(team, isTeamVisible(team) && !isPartialResponsesPage());
             }
             sectionPanel.setDisplayingTeamStatistics(isTeamDisplayingStatistics);
             sectionPanel.setSectionName(sectionName);
@@ -626,6 +628,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
             Assumption.fail();
             break;
         }
+        sectionPanel.setPartialResponses(isPartialResponsesPage());
+        sectionPanel.setNextResponsesPageToken(bundle.nextResponsesPageToken);
     }
 
     private boolean isTeamVisible(String team) {
@@ -635,6 +639,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
     private void buildMissingTeamAndParticipantPanelsForSection(
                                     InstructorFeedbackResultsSectionPanel sectionPanel, String sectionName,
                                     Set<String> teamWithResponses) {
+        if (isPartialResponsesPage()) {
+            // the teams without responses in this page may have responses in the other pages
+            return;
+        }
 
         // update the teams for the previous section
         Set<String> teamsInSection = bundle.getTeamsInSectionFromRoster(sectionName);
@@ -673,6 +681,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
     private void buildMissingParticipantPanelsForTeam(
                                     InstructorFeedbackResultsSectionPanel sectionPanel, String teamName,
                                     Set<String> teamMembersWithResponses) {
+        if (isPartialResponsesPage()) {
+            // the team members without responses in this page may have responses in the other pages
+            return;
+        }
 
         Set<String> teamMembersEmail = new HashSet<>();
         teamMembersEmail.addAll(bundle.getTeamMembersFromRoster(teamName));
@@ -921,9 +933,15 @@ public class InstructorFeedbackResultsPageData extends PageData {
 
         }
 
-        String studentEmail = student == null ? null : student.email;
-        String statisticsTable = questionDetails.getQuestionResultStatisticsHtml(responses, question, studentEmail,
-                                                                                 bundle, viewType.toString());
+        // the stored statistics are those of the question view
+        String statisticsTable = viewType == InstructorFeedbackResultsPageViewType.QUESTION
+                                 ? bundle.getStoredStatisticsHtml(question, responses)
+                                 : null;
+        if (statisticsTable == null) {
+            String studentEmail = student == null ? null : student.email;
+            statisticsTable = questionDetails.getQuestionResultStatisticsHtml(responses, question, studentEmail,
+                                                                              bundle, viewType.toString());
+        }
 
         String questionText = questionDetails.getQuestionText();
         String additionalInfoText = questionDetails.getQuestionAdditionalInfoHtml(question.questionNumber, additionalInfoId);
@@ -1786,6 +1804,18 @@ public class InstructorFeedbackResultsPageData extends PageData {
         this.startIndex = startIndex;
     }
 
+    public void setResponsesPageToken(String responsesPageToken) {
+        this.responsesPageToken = responsesPageToken;
+    }
+
+    /**
+     * Returns true if the responses of the selected section do not fit in one page, in which case
+     * they are loaded page by page without statistics and participants without responses.
+     */
+    public boolean isPartialResponsesPage() {
+        return responsesPageToken != null || bundle.nextResponsesPageToken != null;
+    }
+
     public void setAjaxStatus(String ajaxStatus) {
         this.ajaxStatus = ajaxStatus;
     }
@@ -237,7 +237,7 @@ public class InstructorSearchPageData extends PageData {
         for (StudentAttributes student : studentsInCourse) {
             String teamName = student.team;
             String sectionName = student.section;
-            String viewPhotoLink = addUserIdToUrl(student.getPublicProfilePictureUrl());
+            String viewPhotoLink = addUserIdToUrl(student.getPublicProfilePictureThumbnailUrl());
             emailToPhotoUrlMap.put(student.email, viewPhotoLink);
 
             teamNameToStudentsMap.computeIfAbsent(teamName, key -> new ArrayList<>())
@@ -8,6 +8,7 @@ public class AdminAccountDetailsInstructorCourseListTableRow {
     private String instructorId;
     private CourseDetailsBundle courseDetails;
     private ElementTag removeFromCourseButton;
+    private ElementTag rebuildSearchIndexButton;
     private String sessionToken;
 
     public AdminAccountDetailsInstructorCourseListTableRow(String instructorId, CourseDetailsBundle courseDetails,
@@ -16,6 +17,7 @@ public class AdminAccountDetailsInstructorCourseListTableRow {
         this.courseDetails = courseDetails;
         this.sessionToken = sessionToken;
         this.removeFromCourseButton = createRemoveButton();
+        this.rebuildSearchIndexButton = createRebuildSearchIndexButton();
     }
 
     public CourseDetailsBundle getCourseDetails() {
@@ -26,6 +28,10 @@ public class AdminAccountDetailsInstructorCourseListTableRow {
         return this.removeFromCourseButton;
     }
 
+    public ElementTag getRebuildSearchIndexButton() {
+        return this.rebuildSearchIndexButton;
+    }
+
     private ElementTag createRemoveButton() {
         String content = "<span class=\"glyphicon glyphicon-trash\"></span>Remove From Course";
         String href = getAdminDeleteInstructorFromCourseLink();
@@ -41,4 +47,20 @@ public class AdminAccountDetailsInstructorCourseListTableRow {
 
         return link;
     }
+
+    private ElementTag createRebuildSearchIndexButton() {
+        String content = "<span class=\"glyphicon glyphicon-refresh\"></span>Rebuild Search Index";
+        String href = getAdminRebuildSearchIndexOfCourseLink();
+        return new ElementTag(content, "id", "rebuildsearchindex_" + courseDetails.course.getId(), "class",
+                              "btn btn-default btn-sm", "href", href);
+    }
+
+    private String getAdminRebuildSearchIndexOfCourseLink() {
+        String link = Const.ActionURIs.ADMIN_SEARCH_INDEX_REBUILD;
+        link = Url.addParamToUrl(link, Const.ParamsNames.INSTRUCTOR_ID, instructorId);
+        link = Url.addParamToUrl(link, Const.ParamsNames.COURSE_ID, courseDetails.course.getId());
+        link = Url.addParamToUrl(link, Const.ParamsNames.SESSION_TOKEN, sessionToken);
+
+        return link;
+    }
 }
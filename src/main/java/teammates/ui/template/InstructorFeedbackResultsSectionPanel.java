@@ -27,6 +27,10 @@ public class InstructorFeedbackResultsSectionPanel {
     private Map<String, List<InstructorFeedbackResultsQuestionTable>> teamStatisticsTable;
     private Map<String, Boolean> isTeamWithResponses;
 
+    // for responses loaded page by page
+    private boolean isPartialResponses;
+    private String nextResponsesPageToken;
+
     public InstructorFeedbackResultsSectionPanel() {
         panelClass = "panel-success";
         isDisplayingMissingParticipants = true;
@@ -161,6 +165,22 @@ public class InstructorFeedbackResultsSectionPanel {
         this.isAbleToLoadResponses = isUnableToLoadResponses;
     }
 
+    public boolean isPartialResponses() {
+        return isPartialResponses;
+    }
+
+    public void setPartialResponses(boolean isPartialResponses) {
+        this.isPartialResponses = isPartialResponses;
+    }
+
+    public String getNextResponsesPageToken() {
+        return nextResponsesPageToken;
+    }
+
+    public void setNextResponsesPageToken(String nextResponsesPageToken) {
+        this.nextResponsesPageToken = nextResponsesPageToken;
+    }
+
     public List<InstructorFeedbackResultsParticipantPanel> getParticipantPanelsInSortedOrder() {
         List<InstructorFeedbackResultsParticipantPanel> sortedPanels = new ArrayList<>();
         for (Collection<InstructorFeedbackResultsParticipantPanel> participantsPanels : participantPanels.values()) {
@@ -280,6 +280,66 @@ function toggleNoResponsePanel(e) {
     }
 }
 
+/**
+ * Moves the participant panels of each new team panel into the existing panel of the same team, if any,
+ * as the members of a team may have their responses in several pages.
+ */
+function mergeTeamPanels($existingTeamPanels, $newTeamPanels) {
+    $newTeamPanels.each((index, teamPanel) => {
+        const $teamPanel = $(teamPanel);
+        const teamName = $teamPanel.find('> .panel-heading .panel-heading-text').text().trim();
+        const $existingTeamPanel = $existingTeamPanels.filter((i, existingPanel) =>
+                $(existingPanel).find('> .panel-heading .panel-heading-text').text().trim() === teamName);
+        if ($existingTeamPanel.length === 0) {
+            return;
+        }
+        $existingTeamPanel.first().find('> .panel-collapse > .panel-body')
+                .append($teamPanel.find('> .panel-collapse > .panel-body > div.panel'));
+        $teamPanel.remove();
+    });
+}
+
+/**
+ * Loads the next page of the responses of a section, and appends its panels to the section.
+ */
+function loadMoreSectionResponses(e) {
+    const $button = $(e.currentTarget);
+    const $loadMore = $button.closest('.load-more-responses');
+    const $form = $loadMore.children('form');
+    const $sectionBody = $loadMore.closest('[id^="sectionBody-"]');
+    const numPanels = $sectionBody.find('div.panel').length;
+    const $existingTeamPanels = $sectionBody.children('div.panel.panel-warning');
+    // the indexes of the participants in the next page continue after the panels already in the section
+    $form.children('.load-more-main-index').val(numPanels);
+    $.ajax({
+        type: 'POST',
+        cache: false,
+        url: `${$form.attr('action')}?${$form.serialize()}`,
+        beforeSend() {
+            $button.prop('disabled', true);
+            $button.html('<img height="15" width="15" src="/images/ajax-preload.gif">');
+        },
+        error() {
+            $button.prop('disabled', false);
+            $button.text('Failed to load more responses. Click here to retry.');
+        },
+        success(data) {
+            const $page = $(data).find('#sectionBody-0');
+            $page.children('.partial-responses').remove();
+            const $pageContent = $page.children();
+            $loadMore.replaceWith($pageContent);
+
+            // bind the show picture onclick events
+            bindStudentPhotoLink($pageContent.find('.profile-pic-icon-click > .student-profile-pic-view-link'));
+            // bind the show picture onhover events
+            bindStudentPhotoHoverLink($pageContent.find('.profile-pic-icon-hover'));
+            bindCollapseEvents($pageContent.filter('div.panel').add($pageContent.find('div.panel')), numPanels);
+            mergeTeamPanels($existingTeamPanels, $pageContent.filter('div.panel.panel-warning'));
+            showHideStats();
+        },
+    });
+}
+
 function prepareInstructorFeedbackResultsPage() {
     const participantPanelType = 'div.panel.panel-primary,div.panel.panel-default';
 
@@ -314,6 +374,8 @@ function prepareInstructorFeedbackResultsPage() {
     const panels = $('div.panel');
     bindCollapseEvents(panels, 0);
 
+    $('#mainContent').on('click', '.load-more-responses button', loadMoreSectionResponses);
+
     bindPublishButtons();
     bindUnpublishButtons();
 
@@ -8,6 +8,8 @@ import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.*;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Const;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.backdoor.BackDoorLogic;
 import teammates.test.driver.FileHelper;
@@ -46,6 +48,19 @@ public class BaseComponentTestCase extends BaseTestCaseWithDatastoreAccess {
         return GoogleCloudStorageHelper.doesFileExistInGcs(fileKey);
     }
 
+    /**
+     * Verifies that at most {@code maxOperations} of the given kinds of operations were made
+     * since the last {@link DatastoreOperationCounter#reset()}.
+     */
+    protected static void verifyDatastoreOperationBudget(int maxOperations, Operation... operations) {
+        int numberOfOperations = 0;
+        for (Operation operation : operations) {
+            numberOfOperations += DatastoreOperationCounter.getOperationCount(operation);
+        }
+        assertTrue("Expected at most " + maxOperations + " operations but " + numberOfOperations
+                + " were made: " + DatastoreOperationCounter.toCompactJson(), numberOfOperations <= maxOperations);
+    }
+
     @Override
     protected AccountAttributes getAccount(AccountAttributes account) {
         return backDoorLogic.getAccount(account.googleId);
@@ -1,12 +1,15 @@
 package teammates.test.cases.action;
 
+import com.google.appengine.api.log.AppLogLine;
 import com.google.gson.reflect.TypeToken;
 import org.testng.annotations.BeforeGroups;
 import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
 import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
 import teammates.test.driver.FileHelper;
 import teammates.test.driver.TestProperties;
 import teammates.test.driver.TimeHelperExtension;
@@ -28,10 +31,10 @@ import java.util.List;
 /**
  * SUT: {@link AdminActivityLogPageAction}.
  *
- * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation} and
+ * <p>The test will save predefined activity logs to the local Datastore and
  * then test the correct execution of the action.
  *
- * <p>Logs will be injected to GAE with time relative to now. Typically, NOW, YESTERDAY
+ * <p>Logs will be saved with time relative to now. Typically, NOW, YESTERDAY
  * and two days ago are the time. It is possible that when the test is run at
  * midnight(around 12:00 PM) in UTC, some logs that belong to NOW will become
  * YESTERDAY's logs as each log occupies a period of time. However, this situation
@@ -57,6 +60,8 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
 
     private List<List<String>> logMessages;
 
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
     @Override
     protected String getActionUri() {
         return Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE;
@@ -103,7 +108,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("typicalActivityLogs")
     public void removeAndRestoreLogMessage() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_TWO_DAYS_AGO), TWO_DAYS_AGO.toEpochMilli());
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_YESTERDAY), YESTERDAY.toEpochMilli());
@@ -272,14 +277,14 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // test statusMessage for default search
         AdminActivityLogPageAction action = getAction();
         String statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 5, YESTERDAY);
+        verifyStatusMessage(statusMessage, 8, 5, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, Const.SystemParams.ADMIN_TIME_ZONE);
 
-        // test statusMessage with filterQuery
+        // test statusMessage with filterQuery, which matches part of a person and is not answered by the index
         String query = "person:idOfInstructor1OfCourse1";
         action = getAction("filterQuery", query);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 1, YESTERDAY);
+        verifyStatusMessage(statusMessage, 8, 1, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, ZoneId.of("Africa/Johannesburg"));
 
         // test statusMessage with `to`
@@ -287,7 +292,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-2);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 6, 3, toDate);
+        verifyStatusMessage(statusMessage, 4, 3, toDate);
         verifyLocalTimeInStatusMessage(statusMessage, toDate, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with `from`
@@ -295,7 +300,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant fromDate = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 17, 8, fromDate);
+        verifyStatusMessage(statusMessage, 12, 8, fromDate);
         verifyLocalTimeInStatusMessage(statusMessage, fromDate, Const.SystemParams.ADMIN_TIME_ZONE);
     }
 
@@ -338,7 +343,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // default continue search
         int[][] expected = new int[][] { {}, {0, 1, 2} };
         String[] params = new String[] {"searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli())};
-        verifyContinueSearch(params, expected, 6, 3, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 4, 3, TWO_DAYS_AGO);
 
         // continue search and no more logs
         expected = new int[][] {};
@@ -351,7 +356,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli()),
                 "filterQuery", "info:keyword1", "testdata", "true"
         };
-        verifyContinueSearch(params, expected, 6, 2, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 2, TWO_DAYS_AGO);
 
         // when `from` is present, will not do continue search
         expected = new int[][] { {0, 1, 3, 4, 5}, {0, 1, 2} };
@@ -360,7 +365,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "filterQuery", String.format("from:%s", formatAdminDate(YESTERDAY))
         };
         Instant yesterdayBegin = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
-        verifyContinueSearch(params, expected, 17, 8, yesterdayBegin);
+        verifyContinueSearch(params, expected, 12, 8, yesterdayBegin);
 
         // `to` present, search with 1 day interval
         expected = new int[][] { {}, {}, {0, 1} };
@@ -370,14 +375,14 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "filterQuery", String.format("to:%s", formatAdminDate(YESTERDAY))
         };
         toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-3);
-        verifyContinueSearch(params, expected, 4, 2, toDate);
+        verifyContinueSearch(params, expected, 3, 2, toDate);
 
     }
 
     @BeforeGroups("manyActivityLogs")
     public void removeAndRestoreManyLogs() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
                 Instant.now().toEpochMilli(), LOG_MESSAGE_INTERVAL_MANY_LOGS);
@@ -419,7 +424,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", "request:testdata1", "searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
         earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(95, 55, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+        verifyManyLogs(6, 55, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
     }
 
     private void verifyContinueSearch(String[] params, int[][] expected, int totalLogs,
@@ -524,22 +529,28 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     }
 
     private void insertLogMessageAtTimeWithInterval(List<String> msgList, long timeMillis, int intervalInSecond) {
-        int levelInfo = 1;
+        String defaultVersion = "1";
         long logTimeInMillis = timeMillis - msgList.size() * intervalInSecond * 1000;
+        List<ActivityLogAttributes> logs = new ArrayList<>();
         for (int i = msgList.size() - 1; i >= 0; i--) {
-            createTestDataRequestInfoAtTime(logTimeInMillis);
-            gaeSimulation.addAppLogLine(String.valueOf(logTimeInMillis), logTimeInMillis * 1000,
-                    levelInfo, msgList.get(i));
+            // only messages in the activity log format are saved as activity logs
+            if (msgList.get(i).startsWith(Const.ActivityLog.TEAMMATESLOG)) {
+                AppLogLine appLogLine = new AppLogLine();
+                appLogLine.setLogMessage(msgList.get(i));
+                appLogLine.setTimeUsec(logTimeInMillis * 1000);
+                ActivityLogEntry logEntry = ActivityLogEntry.buildFromAppLog(appLogLine);
+                logs.add(ActivityLogAttributes.builder(logEntry).withVersion(defaultVersion).build());
+            }
             logTimeInMillis += intervalInSecond * 1000;
         }
+        activityLogsDb.createActivityLogs(logs);
     }
 
-    private void createTestDataRequestInfoAtTime(long timeMillis) {
-        String testStr = "TEST";
-        String defaultVersion = "1";
-        gaeSimulation.addLogRequestInfo(testStr, defaultVersion, String.valueOf(timeMillis), testStr,
-                testStr, timeMillis * 1000, timeMillis * 1000, testStr, testStr, testStr, testStr,
-                true, 200, testStr);
+    private void clearLogs() {
+        String cursor = null;
+        do {
+            cursor = activityLogsDb.deleteActivityLogsBefore(TimeHelper.getInstantDaysOffsetFromNow(1), cursor);
+        } while (cursor != null);
     }
 
     @Override
@@ -0,0 +1,68 @@
+package teammates.test.cases.action;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.ui.controller.AdminSearchIndexRebuildAction;
+import teammates.ui.controller.RedirectResult;
+
+/**
+ * SUT: {@link AdminSearchIndexRebuildAction}.
+ */
+public class AdminSearchIndexRebuildActionTest extends BaseActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.ADMIN_SEARCH_INDEX_REBUILD;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+
+        final String adminUserId = "admin.user";
+        gaeSimulation.loginAsAdmin(adminUserId);
+
+        ______TS("failure: missing parameters");
+
+        verifyAssumptionFailure();
+        verifyAssumptionFailure(ParamsNames.INSTRUCTOR_ID, instructor1OfCourse1.googleId);
+
+        ______TS("success: rebuild of the course is scheduled from the student index");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.INSTRUCTOR_ID, instructor1OfCourse1.googleId,
+                ParamsNames.COURSE_ID, instructor1OfCourse1.courseId
+        };
+
+        AdminSearchIndexRebuildAction action = getAction(submissionParams);
+        RedirectResult result = getRedirectResult(action);
+
+        assertEquals(Const.StatusMessages.SEARCH_INDEX_REBUILD_SCHEDULED, result.getStatusMessage());
+        assertEquals(
+                getPageResultDestination(Const.ActionURIs.ADMIN_ACCOUNT_DETAILS_PAGE + "?instructorid="
+                        + instructor1OfCourse1.googleId, false, adminUserId),
+                result.getDestinationWithParams());
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals(instructor1OfCourse1.courseId, task.getParamMap().get(ParamsNames.COURSE_ID)[0]);
+        assertEquals(Const.SearchIndex.STUDENT, task.getParamMap().get(ParamsNames.SEARCH_INDEX_NAME)[0]);
+        assertNotNull(task.getTaskName());
+    }
+
+    @Override
+    protected AdminSearchIndexRebuildAction getAction(String... params) {
+        return (AdminSearchIndexRebuildAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {};
+        verifyOnlyAdminsCanAccess(submissionParams);
+    }
+}
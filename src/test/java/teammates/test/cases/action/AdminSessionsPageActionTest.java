@@ -0,0 +1,99 @@
+package teammates.test.cases.action;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.ui.controller.AdminSessionsPageAction;
+import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.AdminSessionsPageData;
+import teammates.ui.template.InstitutionPanel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SUT: {@link AdminSessionsPageAction}.
+ */
+public class AdminSessionsPageActionTest extends BaseActionTest {
+
+    // the start times of "empty.session" and "archiveCourse.session1" are the only ones in this range
+    private static final String[] SUBMISSION_PARAMS = new String[] {
+            Const.ParamsNames.FEEDBACK_SESSION_STARTDATE, "Fri, 01 Feb, 2013",
+            Const.ParamsNames.FEEDBACK_SESSION_STARTHOUR, "0",
+            Const.ParamsNames.FEEDBACK_SESSION_STARTMINUTE, "0",
+            Const.ParamsNames.FEEDBACK_SESSION_ENDDATE, "Thu, 28 Feb, 2013",
+            Const.ParamsNames.FEEDBACK_SESSION_ENDHOUR, "23",
+            Const.ParamsNames.FEEDBACK_SESSION_ENDMINUTE, "59",
+            Const.ParamsNames.FEEDBACK_SESSION_TIMEZONE, "UTC"
+    };
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.ADMIN_SESSIONS_PAGE;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() throws Exception {
+        final String adminUserId = "admin.user";
+        gaeSimulation.loginAsAdmin(adminUserId);
+
+        ______TS("sessions grouped by the institute kept on each session");
+
+        AdminSessionsPageAction action = getAction(SUBMISSION_PARAMS);
+        ShowPageResult result = getShowPageResult(action);
+
+        assertEquals(
+                getPageResultDestination(Const.ViewURIs.ADMIN_SESSIONS, false, adminUserId),
+                result.getDestinationWithParams());
+        assertFalse(result.isError);
+
+        AdminSessionsPageData data = (AdminSessionsPageData) result.data;
+        assertEquals(2, data.getTotalOngoingSessions());
+        assertEquals(2, data.getTotalInstitutes());
+        Map<String, Integer> sessionCountsByInstitute = getSessionCountsByInstitute(data);
+        assertEquals(2, sessionCountsByInstitute.size());
+        assertEquals(1, (int) sessionCountsByInstitute.get("TEAMMATES Test Institute 1"));
+        assertEquals(1, (int) sessionCountsByInstitute.get("TEAMMATES Test Institute 5"));
+
+        ______TS("session without an institute grouped under unknown");
+
+        FeedbackSessionAttributes archivedCourseSession = typicalBundle.feedbackSessions.get("archiveCourse.session1");
+        new FeedbackSessionsDb().updateInstitute(archivedCourseSession, null);
+
+        action = getAction(SUBMISSION_PARAMS);
+        result = getShowPageResult(action);
+
+        data = (AdminSessionsPageData) result.data;
+        assertEquals(2, data.getTotalOngoingSessions());
+        assertEquals(1, data.getTotalInstitutes());
+        sessionCountsByInstitute = getSessionCountsByInstitute(data);
+        assertEquals(2, sessionCountsByInstitute.size());
+        assertEquals(1, (int) sessionCountsByInstitute.get("TEAMMATES Test Institute 1"));
+        assertEquals(1, (int) sessionCountsByInstitute.get("Unknown"));
+
+        new FeedbackSessionsDb().updateInstitute(archivedCourseSession, "TEAMMATES Test Institute 5");
+    }
+
+    private Map<String, Integer> getSessionCountsByInstitute(AdminSessionsPageData data) {
+        Map<String, Integer> sessionCountsByInstitute = new HashMap<>();
+        for (InstitutionPanel panel : data.getInstitutionPanels()) {
+            sessionCountsByInstitute.put(panel.getInstitutionName(), panel.getFeedbackSessionRows().size());
+        }
+        return sessionCountsByInstitute;
+    }
+
+    @Override
+    protected AdminSessionsPageAction getAction(String... params) {
+        return (AdminSessionsPageAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {};
+        verifyOnlyAdminsCanAccess(submissionParams);
+    }
+
+}
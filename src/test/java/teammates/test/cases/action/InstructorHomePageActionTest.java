@@ -2,6 +2,8 @@ package teammates.test.cases.action;
 
 import org.testng.annotations.Test;
 import teammates.common.util.Const;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
 import teammates.logic.api.Logic;
 import teammates.logic.core.CoursesLogic;
 import teammates.test.driver.AssertHelper;
@@ -152,9 +154,15 @@ public class InstructorHomePageActionTest extends BaseActionTest {
                 Const.ParamsNames.COURSE_SORTING_CRITERIA, Const.SORT_BY_COURSE_CREATION_DATE
         };
 
+        DatastoreOperationCounter.reset();
         a = getAction(addUserIdToParams(instructorWithMultipleCourses, submissionParams));
         r = getShowPageResult(a);
 
+        // Datastore RPCs, including those made to look up the account and instructors of the user;
+        // the courses of the instructor are fetched in a batch, so the budget does not grow with their number
+        verifyDatastoreOperationBudget(12, Operation.GET, Operation.QUERY);
+        verifyDatastoreOperationBudget(0, Operation.SEARCH_QUERY);
+
         assertEquals(
                 getPageResultDestination(Const.ViewURIs.INSTRUCTOR_HOME, false, instructorWithMultipleCourses),
                 r.getDestinationWithParams());
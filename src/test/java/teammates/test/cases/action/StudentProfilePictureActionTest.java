@@ -82,6 +82,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals(account.studentProfile.pictureKey, result.blobKey);
+        assertEquals(ImageResult.CACHE_CONTROL_IMMUTABLE, result.cacheControl);
         verifyLogMessageForActionWithBlobKey(false, action.getLogMessage());
     }
 
@@ -129,7 +130,22 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals("asdf34&hfn3!@", result.blobKey);
+        assertEquals(ImageResult.CACHE_CONTROL_REVALIDATE, result.cacheControl);
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
+
+        ______TS("Typical case: thumbnail requested for picture without thumbnail, picture is served");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt(student.email),
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student.course),
+                Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL, "true"
+        };
+
+        action = getAction(submissionParams);
+        result = getImageResult(action);
+
+        assertFalse(result.isError);
+        assertEquals("asdf34&hfn3!@", result.blobKey);
     }
 
     private void testActionWithEmailAndCourseNoStudent() {
@@ -0,0 +1,45 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TimeHelper;
+import teammates.ui.automated.ActivityLogsCleanupAction;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * SUT: {@link ActivityLogsCleanupAction}.
+ */
+public class ActivityLogsCleanupActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_ACTIVITY_LOGS_CLEANUP;
+    }
+
+    @Test
+    public void allTests() {
+        ______TS("deletion of logs older than the retention period is scheduled");
+
+        Instant earliestCutoffTime =
+                TimeHelper.getInstantDaysOffsetFromNow(-Const.SystemParams.ACTIVITY_LOG_RETENTION_DAYS);
+        ActivityLogsCleanupAction action = getAction();
+        action.execute();
+        Instant latestCutoffTime =
+                TimeHelper.getInstantDaysOffsetFromNow(-Const.SystemParams.ACTIVITY_LOG_RETENTION_DAYS);
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.ACTIVITY_LOGS_CLEANUP_QUEUE_NAME, 1);
+        Map<String, String[]> paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        long cutoffTime = Long.parseLong(paramMap.get(ParamsNames.ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME)[0]);
+        assertTrue(cutoffTime >= earliestCutoffTime.toEpochMilli() && cutoffTime <= latestCutoffTime.toEpochMilli());
+        assertFalse(paramMap.containsKey(ParamsNames.ACTIVITY_LOGS_CLEANUP_CURSOR));
+    }
+
+    @Override
+    protected ActivityLogsCleanupAction getAction(String... params) {
+        return (ActivityLogsCleanupAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
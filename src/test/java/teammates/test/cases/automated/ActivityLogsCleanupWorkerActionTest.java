@@ -0,0 +1,72 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.ui.automated.ActivityLogsCleanupWorkerAction;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SUT: {@link ActivityLogsCleanupWorkerAction}.
+ */
+public class ActivityLogsCleanupWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ACTIVITY_LOGS_CLEANUP_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        int retentionDays = Const.SystemParams.ACTIVITY_LOG_RETENTION_DAYS;
+        Instant cutoffTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionDays);
+        Instant oldLogTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionDays - 1);
+        Instant recentLogTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionDays + 1);
+        activityLogsDb.createActivityLogs(Arrays.asList(
+                createLog("ALCWAT.oldLog", oldLogTime), createLog("ALCWAT.recentLog", recentLogTime)));
+
+        ______TS("logs before the cutoff time are deleted and no further batch is scheduled");
+
+        ActivityLogsCleanupWorkerAction action = getAction(
+                ParamsNames.ACTIVITY_LOGS_CLEANUP_CUTOFF_TIME, String.valueOf(cutoffTime.toEpochMilli()));
+        action.execute();
+
+        ActivityLogQuery query = new ActivityLogQuery(Arrays.asList("1"), oldLogTime.toEpochMilli(),
+                recentLogTime.toEpochMilli());
+        List<ActivityLogAttributes> logs = activityLogsDb.getActivityLogs(query);
+        assertEquals(1, logs.size());
+        assertEquals("ALCWAT.recentLog", logs.get(0).getLogEntry().getLogId());
+
+        verifyNoTasksAdded(action);
+
+        activityLogsDb.deleteActivityLogsBefore(Instant.now(), null);
+    }
+
+    private ActivityLogAttributes createLog(String logId, Instant logTime) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder("studentHomePage", "/page/studentHomePage",
+                logTime.toEpochMilli())
+                .withLogId(logId)
+                .withUserRole("Student")
+                .withUserGoogleId("ALCWAT.alice")
+                .withUserEmail("alice@gmail.com")
+                .withUserName("Alice")
+                .build();
+        return ActivityLogAttributes.builder(logEntry).withVersion("1").build();
+    }
+
+    @Override
+    protected ActivityLogsCleanupWorkerAction getAction(String... params) {
+        return (ActivityLogsCleanupWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,140 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSummaryAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionResultsSummariesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackSessionResultsSummariesDb;
+import teammates.ui.automated.FeedbackSessionResultsSummaryWorkerAction;
+
+import java.util.Collections;
+
+/**
+ * SUT: {@link FeedbackSessionResultsSummaryWorkerAction}.
+ */
+public class FeedbackSessionResultsSummaryWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionResultsSummariesLogic fsrsLogic = FeedbackSessionResultsSummariesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionResultsSummariesDb fsrsDb = new FeedbackSessionResultsSummariesDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SUMMARY_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws EntityDoesNotExistException, InvalidParametersException {
+        FeedbackSessionAttributes session = fsLogic.getFeedbackSession(
+                dataBundle.feedbackSessions.get("session1InCourse1").getFeedbackSessionName(),
+                dataBundle.feedbackSessions.get("session1InCourse1").getCourseId());
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, sessionName
+        };
+
+        ______TS("session not published: summary is not built");
+
+        assertFalse(session.isPublished());
+
+        FeedbackSessionResultsSummaryWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        assertNull(fsrsLogic.getSummary(courseId, sessionName));
+
+        ______TS("typical case: summary is built for published session");
+
+        fsLogic.publishFeedbackSession(session);
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        FeedbackSessionResultsSummaryAttributes summary = fsrsLogic.getSummary(courseId, sessionName);
+        assertNotNull(summary);
+        assertTrue(summary.isBuilt());
+        assertEquals(2, getNumOfResponses(summary, question));
+
+        ______TS("response deleted: generation of summary is incremented");
+
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(question.getId(),
+                dataBundle.students.get("student1InCourse1").email, dataBundle.students.get("student1InCourse1").email);
+        frLogic.deleteFeedbackResponseAndCascade(response);
+
+        FeedbackSessionResultsSummaryAttributes invalidatedSummary = fsrsLogic.getSummary(courseId, sessionName);
+        assertEquals(summary.getGeneration() + 1, invalidatedSummary.getGeneration());
+        assertFalse(invalidatedSummary.isBuilt());
+        assertTrue(fsrsLogic.getQuestionStatistics(invalidatedSummary, Collections.singleton(question.getId()))
+                .isEmpty());
+
+        // the results viewed meanwhile hold the summary to build for its new generation
+        String instructorEmail = dataBundle.instructors.get("instructor1OfCourse1").email;
+        FeedbackSessionResultsBundle results =
+                fsLogic.getFeedbackSessionResultsForInstructor(sessionName, courseId, instructorEmail);
+        assertTrue(results.isResultsSummaryMissing());
+        assertEquals(invalidatedSummary.getGeneration(), results.getResultsSummaryToBuild().getGeneration());
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        summary = fsrsLogic.getSummary(courseId, sessionName);
+        assertTrue(summary.isBuilt());
+        assertEquals(1, getNumOfResponses(summary, question));
+        assertFalse(fsLogic.getFeedbackSessionResultsForInstructor(sessionName, courseId, instructorEmail)
+                .isResultsSummaryMissing());
+
+        ______TS("results changed while building: summary is not marked as built");
+
+        FeedbackSessionResultsSummaryAttributes summaryReadBeforeChange = fsrsLogic.getSummary(courseId, sessionName);
+        fsrsLogic.invalidateSummary(courseId, sessionName);
+
+        assertFalse(fsrsDb.markSummaryBuiltIfUnchanged(summaryReadBeforeChange));
+        assertFalse(fsrsLogic.getSummary(courseId, sessionName).isBuilt());
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        assertTrue(fsrsLogic.getSummary(courseId, sessionName).isBuilt());
+
+        ______TS("session unpublished: summary is no longer built");
+
+        fsLogic.unpublishFeedbackSession(fsLogic.getFeedbackSession(sessionName, courseId));
+
+        assertFalse(fsrsLogic.getSummary(courseId, sessionName).isBuilt());
+
+        ______TS("session deleted: summary is deleted");
+
+        fsLogic.deleteFeedbackSessionCascade(sessionName, courseId);
+
+        assertNull(fsrsLogic.getSummary(courseId, sessionName));
+    }
+
+    private int getNumOfResponses(FeedbackSessionResultsSummaryAttributes summary,
+                                  FeedbackQuestionAttributes question) {
+        return fsrsLogic.getQuestionStatistics(summary, Collections.singleton(question.getId()))
+                .get(question.getId()).getNumOfResponses();
+    }
+
+    @Override
+    protected FeedbackSessionResultsSummaryWorkerAction getAction(String... params) {
+        return (FeedbackSessionResultsSummaryWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
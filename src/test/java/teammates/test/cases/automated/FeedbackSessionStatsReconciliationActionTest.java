@@ -0,0 +1,65 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.ui.automated.FeedbackSessionStatsReconciliationAction;
+
+import java.time.ZoneId;
+
+/**
+ * SUT: {@link FeedbackSessionStatsReconciliationAction}.
+ */
+public class FeedbackSessionStatsReconciliationActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_FEEDBACK_STATS_RECONCILIATION;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        session.setTimeZone(ZoneId.of("UTC"));
+        session.setStartTime(TimeHelper.getInstantDaysOffsetFromNow(-1));
+        session.setEndTime(TimeHelper.getInstantDaysOffsetFromNow(1));
+        fsLogic.updateFeedbackSession(session);
+
+        int expectedTotal = fsLogic.getFeedbackSessionDetails(
+                fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId())).stats.expectedTotal;
+
+        ______TS("outdated expected total of an open session is corrected");
+
+        fsDb.updateExpectedRespondentsTotal(session, expectedTotal + 10);
+
+        FeedbackSessionStatsReconciliationAction action = getAction();
+        action.execute();
+
+        assertEquals(Integer.valueOf(expectedTotal), fsLogic.getFeedbackSession(
+                session.getFeedbackSessionName(), session.getCourseId()).getExpectedRespondentsTotal());
+
+        ______TS("missing expected total of an open session is filled in");
+
+        fsDb.updateExpectedRespondentsTotal(session, null);
+
+        action = getAction();
+        action.execute();
+
+        assertEquals(Integer.valueOf(expectedTotal), fsLogic.getFeedbackSession(
+                session.getFeedbackSessionName(), session.getCourseId()).getExpectedRespondentsTotal());
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected FeedbackSessionStatsReconciliationAction getAction(String... params) {
+        return (FeedbackSessionStatsReconciliationAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
@@ -0,0 +1,173 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.StudentsDb;
+import teammates.storage.search.InMemorySearchBackend;
+import teammates.storage.search.SearchBackend;
+import teammates.storage.search.SearchManager;
+import teammates.ui.automated.SearchIndexRebuildWorkerAction;
+
+import java.util.Map;
+
+/**
+ * SUT: {@link SearchIndexRebuildWorkerAction}.
+ */
+public class SearchIndexRebuildWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final StudentsDb studentsDb = new StudentsDb();
+    private static final String REBUILD_ID = "1";
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_INDEX_REBUILD_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        String courseId = student.course;
+
+        ______TS("student index: documents are rebuilt and the instructor index is scheduled next");
+
+        studentsLogic.deleteDocument(student);
+        assertEquals(0, studentsLogic.searchStudentsInWholeSystem(student.email).numberOfResults);
+
+        SearchIndexRebuildWorkerAction action = getAction(
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT);
+        action.execute();
+
+        assertEquals(1, studentsLogic.searchStudentsInWholeSystem(student.email).numberOfResults);
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+        Map<String, String[]> paramMap = task.getParamMap();
+        assertEquals(courseId, paramMap.get(ParamsNames.COURSE_ID)[0]);
+        assertEquals(REBUILD_ID, paramMap.get(ParamsNames.SEARCH_INDEX_REBUILD_ID)[0]);
+        assertEquals(Const.SearchIndex.INSTRUCTOR, paramMap.get(ParamsNames.SEARCH_INDEX_NAME)[0]);
+        assertFalse(paramMap.containsKey(ParamsNames.SEARCH_INDEX_CURSOR));
+
+        ______TS("instructor index: response comment index is scheduled next");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.INSTRUCTOR);
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+        paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        assertEquals(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, paramMap.get(ParamsNames.SEARCH_INDEX_NAME)[0]);
+
+        ______TS("response comment index: rebuild is complete and no task is scheduled");
+
+        action = getAction(
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    @Test
+    public void testExecute_moreEntitiesThanBatch_continuesFromCursor() throws Exception {
+        String courseId = dataBundle.students.get("student1InCourse1").course;
+        SearchBackend originalBackend = SearchManager.getBackend();
+        InMemorySearchBackend searchBackend = new InMemorySearchBackend();
+        SearchManager.setBackend(searchBackend);
+
+        try {
+            createStudentsWithoutDocuments(courseId, SearchManager.MAX_DOCUMENTS_PER_PUT);
+            int numberOfStudents = studentsLogic.getStudentsForCourse(courseId).size();
+
+            ______TS("first batch: documents of one batch are put and the rest is scheduled with a cursor");
+
+            SearchIndexRebuildWorkerAction action = getAction(
+                    ParamsNames.COURSE_ID, courseId,
+                    ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                    ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT);
+            action.execute();
+
+            assertEquals(SearchManager.MAX_DOCUMENTS_PER_PUT,
+                    searchBackend.getNumberOfDocuments(Const.SearchIndex.STUDENT));
+
+            verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+            TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+            Map<String, String[]> paramMap = task.getParamMap();
+            assertEquals(Const.SearchIndex.STUDENT, paramMap.get(ParamsNames.SEARCH_INDEX_NAME)[0]);
+            assertEquals(REBUILD_ID, paramMap.get(ParamsNames.SEARCH_INDEX_REBUILD_ID)[0]);
+            String cursor = paramMap.get(ParamsNames.SEARCH_INDEX_CURSOR)[0];
+            assertNotNull(cursor);
+
+            ______TS("retried batch: the task scheduled for the same checkpoint has the same name");
+
+            action = getAction(
+                    ParamsNames.COURSE_ID, courseId,
+                    ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                    ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT);
+            action.execute();
+
+            assertEquals(task.getTaskName(), action.getTaskQueuer().getTasksAdded().get(0).getTaskName());
+
+            ______TS("next batch: documents are put from the cursor and the next index is scheduled");
+
+            action = getAction(
+                    ParamsNames.COURSE_ID, courseId,
+                    ParamsNames.SEARCH_INDEX_REBUILD_ID, REBUILD_ID,
+                    ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                    ParamsNames.SEARCH_INDEX_CURSOR, cursor);
+            action.execute();
+
+            assertEquals(numberOfStudents, searchBackend.getNumberOfDocuments(Const.SearchIndex.STUDENT));
+
+            verifySpecifiedTasksAdded(action, Const.TaskQueue.SEARCH_INDEX_REBUILD_QUEUE_NAME, 1);
+            TaskWrapper nextTask = action.getTaskQueuer().getTasksAdded().get(0);
+            paramMap = nextTask.getParamMap();
+            assertEquals(Const.SearchIndex.INSTRUCTOR, paramMap.get(ParamsNames.SEARCH_INDEX_NAME)[0]);
+            assertFalse(paramMap.containsKey(ParamsNames.SEARCH_INDEX_CURSOR));
+            assertFalse(task.getTaskName().equals(nextTask.getTaskName()));
+        } finally {
+            SearchManager.setBackend(originalBackend);
+            deleteStudentsWithoutDocuments(courseId, SearchManager.MAX_DOCUMENTS_PER_PUT);
+        }
+    }
+
+    private void createStudentsWithoutDocuments(String courseId, int numberOfStudents)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        for (int i = 0; i < numberOfStudents; i++) {
+            StudentAttributes student = StudentAttributes
+                    .builder(courseId, "Rebuild Student " + i, getRebuildStudentEmail(i))
+                    .withSection("None")
+                    .withTeam("Rebuild Team")
+                    .withComments("")
+                    .build();
+            studentsDb.createStudentWithoutDocument(student);
+        }
+    }
+
+    private void deleteStudentsWithoutDocuments(String courseId, int numberOfStudents) {
+        for (int i = 0; i < numberOfStudents; i++) {
+            studentsDb.deleteStudentWithoutDocument(courseId, getRebuildStudentEmail(i));
+        }
+    }
+
+    private String getRebuildStudentEmail(int index) {
+        return "rebuild.student" + index + "@gmail.tmt";
+    }
+
+    @Override
+    protected SearchIndexRebuildWorkerAction getAction(String... params) {
+        return (SearchIndexRebuildWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -4,6 +4,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 import java.util.ArrayList;
@@ -74,6 +75,15 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(roster.getInstructorForEmail("ins2@email.com").email, "ins2@email.com");
         assertEquals(roster.getInstructorForEmail("ins2@email.com").name, "Jean");
 
+        assertEquals(2, roster.getTeamNames().size());
+        assertTrue(roster.getTeamNames().contains("team 1"));
+        assertTrue(roster.getTeamNames().contains("team 2"));
+        assertEquals(2, roster.getStudentsForTeam("team 1").size());
+        assertEquals("s3@gmail.com", roster.getStudentsForTeam("team 2").get(0).email);
+        assertTrue(roster.getStudentsForTeam("non-existent team").isEmpty());
+        assertEquals(roster.getStudentForEmail("s3@gmail.com").section, roster.getSectionForTeam("team 2"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+
     }
 
     private List<StudentAttributes> createStudentList(String... studentData) {
@@ -1,13 +1,20 @@
 package teammates.test.cases.datatransfer;
 
 import org.testng.annotations.Test;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackMsqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SUT: {@link FeedbackMsqQuestionDetails}.
@@ -410,4 +417,75 @@ public class FeedbackMsqQuestionDetailsTest extends BaseTestCase {
         assertTrue(msqDetails.getMsqWeights().isEmpty());
         assertEquals(0.0, msqDetails.getMsqOtherWeight());
     }
+
+    @Test
+    public void testGetQuestionResultStatisticsCsv_weightsAndOtherEnabled_otherAndNoneOfTheAboveCountedOnce() {
+        FeedbackMsqQuestionDetails msqDetails = new FeedbackMsqQuestionDetails();
+        HashMap<String, String[]> requestParams = new HashMap<>();
+
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TYPE, new String[] { "MSQ" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TEXT, new String[] { "msq question text" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_GENERATED_OPTIONS, new String[] { "NONE" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_NUMBEROFCHOICECREATED, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQCHOICE + "-0", new String[] { "Choice 1" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQCHOICE + "-1", new String[] { "Choice 2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_HAS_WEIGHTS_ASSIGNED, new String[] { "on" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_WEIGHT + "-0", new String[] { "1" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_WEIGHT + "-1", new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQOTHEROPTIONFLAG, new String[] { "on" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_OTHER_WEIGHT, new String[] { "3" });
+        assertTrue(msqDetails.extractQuestionDetails(requestParams, FeedbackQuestionType.MSQ));
+
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getMsqResponse(msqDetails, "alice@example.tmt", "bob@example.tmt", false, "Choice 1", "Choice 2"),
+                getMsqResponse(msqDetails, "bob@example.tmt", "alice@example.tmt", true, "Choice 2", "Something else"),
+                // 'None of the above'
+                getMsqResponse(msqDetails, "bob@example.tmt", "bob@example.tmt", false, ""));
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("alice@example.tmt", "Alice");
+        emailNameTable.put("bob@example.tmt", "Bob");
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        emailTeamNameTable.put("alice@example.tmt", "Team B");
+        emailTeamNameTable.put("bob@example.tmt", "Team A");
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(null, new ArrayList<>(),
+                new HashMap<>(), emailNameTable, new HashMap<>(), emailTeamNameTable, new HashMap<>(),
+                new HashMap<>(), null, new CourseRoster(new ArrayList<>(), new ArrayList<>()), null);
+
+        String[] expected = {
+                "Choice, Weight, Response Count, Percentage (%), Weighted Percentage (%)",
+                "\"Choice 1\",\"1\",1,25,12.5",
+                "\"Choice 2\",\"2\",2,50,50",
+                "\"Other\",\"3\",1,25,37.5",
+                "",
+                "Per Recipient Statistics",
+                "Team, Recipient Name,\"Choice 1 [1]\",\"Choice 2 [2]\",\"Other [3]\",Total, Average",
+                "Team A, Bob, 1, 1, 0, 3.00, 1.50",
+                "Team B, Alice, 0, 1, 1, 5.00, 2.50",
+                "",
+        };
+        assertEquals(String.join(System.lineSeparator(), expected),
+                msqDetails.getQuestionResultStatisticsCsv(responses, null, bundle));
+
+        ______TS("only 'None of the above' selected: no statistics");
+
+        assertEquals("", msqDetails.getQuestionResultStatisticsCsv(
+                Arrays.asList(responses.get(2)), null, bundle));
+    }
+
+    private FeedbackResponseAttributes getMsqResponse(FeedbackMsqQuestionDetails msqDetails,
+            String giver, String recipient, boolean isOtherOptionAnswer, String... answers) {
+        Map<String, String[]> requestParams = new HashMap<>();
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_MSQ_ISOTHEROPTIONANSWER + "-1-0",
+                new String[] { isOtherOptionAnswer ? "1" : "0" });
+        FeedbackMsqResponseDetails responseDetails = new FeedbackMsqResponseDetails();
+        responseDetails.extractResponseDetails(FeedbackQuestionType.MSQ, msqDetails, answers, requestParams, 1, 0);
+
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes();
+        response.feedbackQuestionType = FeedbackQuestionType.MSQ;
+        response.giver = giver;
+        response.recipient = recipient;
+        response.setResponseDetails(responseDetails);
+        return response;
+    }
 }
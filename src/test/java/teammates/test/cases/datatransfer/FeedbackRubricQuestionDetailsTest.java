@@ -0,0 +1,168 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SUT: {@link FeedbackRubricQuestionDetails}.
+ */
+public class FeedbackRubricQuestionDetailsTest extends BaseTestCase {
+
+    private static final String ALICE = "alice@example.tmt";
+    private static final String BOB = "bob@example.tmt";
+
+    @Test
+    public void testGetQuestionResultStatisticsCsv_weightedQuestion_summaryAndPerRecipientStatistics() {
+        FeedbackRubricQuestionDetails rubricDetails = getWeightedRubricQuestionDetails();
+        FeedbackQuestionAttributes question = getQuestion(rubricDetails);
+
+        String csv = rubricDetails.getQuestionResultStatisticsCsv(
+                getResponses(rubricDetails), question, getResultsBundle(question));
+
+        String[] expected = {
+                ",\"Yes (Weight: 2)\",\"No (Weight: 0.5)\",Average",
+                "\"a) Sub 1\",67% (2),33% (1),1.50",
+                "\"b) Sub 2\",0% (0),100% (2),0.50",
+                "",
+                "Team,Recipient Name,Recipient's Email,Sub Question,\"Yes (Weight: 2)\",\"No (Weight: 0.5)\",Total,Average",
+                "Team A,Alice,alice@example.tmt,\"a) Sub 1\",1,1,2.50,1.25",
+                "Team A,Alice,alice@example.tmt,\"b) Sub 2\",0,2,1.00,0.50",
+                "Team A,Bob,bob@example.tmt,\"a) Sub 1\",1,0,2.00,2.00",
+                "Team A,Bob,bob@example.tmt,\"b) Sub 2\",0,0,0.00,0.00",
+                "",
+        };
+        assertEquals(String.join(System.lineSeparator(), expected), csv);
+
+        ______TS("no responses");
+
+        assertEquals("", rubricDetails.getQuestionResultStatisticsCsv(
+                new ArrayList<>(), question, getResultsBundle(question)));
+    }
+
+    @Test
+    public void testGetQuestionResultStatisticsHtml_studentView_onlyReceivedResponsesSummarised() {
+        FeedbackRubricQuestionDetails rubricDetails = getWeightedRubricQuestionDetails();
+        FeedbackQuestionAttributes question = getQuestion(rubricDetails);
+        FeedbackSessionResultsBundle bundle = getResultsBundle(question);
+
+        ______TS("instructor view: all responses are summarised");
+
+        String html = rubricDetails.getQuestionResultStatisticsHtml(
+                getResponses(rubricDetails), question, ALICE, bundle, "instructor");
+
+        assertTrue(html.contains("Response Summary"));
+        assertFalse(html.contains("Response Summary (of"));
+        assertTrue(html.contains("67% (2)"));
+        assertTrue(html.contains("33% (1)"));
+        assertTrue(html.contains("1.50"));
+        // excluding self leaves one response for each sub-question
+        assertTrue(html.contains("50% (1)"));
+        // per-recipient statistics
+        assertTrue(html.contains("2.50"));
+        assertTrue(html.contains("1.25"));
+
+        ______TS("student view: only responses received by the student are summarised");
+
+        html = rubricDetails.getQuestionResultStatisticsHtml(
+                getResponses(rubricDetails), question, BOB, bundle, "student");
+
+        assertTrue(html.contains("Response Summary (of received responses)"));
+        assertTrue(html.contains("100% (1)"));
+        assertFalse(html.contains("67% (2)"));
+        // per-recipient statistics still cover all responses
+        assertTrue(html.contains("2.50"));
+    }
+
+    private FeedbackRubricQuestionDetails getWeightedRubricQuestionDetails() {
+        FeedbackRubricQuestionDetails rubricDetails = new FeedbackRubricQuestionDetails();
+        Map<String, String[]> requestParams = new HashMap<>();
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_COLS, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_ROWS, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHTS_ASSIGNED, new String[] { "on" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-0", new String[] { "Yes" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-1", new String[] { "No" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0", new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1", new String[] { "0.5" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-0", new String[] { "Sub 1" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-1", new String[] { "Sub 2" });
+
+        assertTrue(rubricDetails.extractQuestionDetails(requestParams, FeedbackQuestionType.RUBRIC));
+        return rubricDetails;
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackRubricQuestionDetails rubricDetails) {
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackQuestionId("rubricQuestion")
+                .withFeedbackSessionName("Rubric Session")
+                .withCourseId("FRQDT.course")
+                .withCreatorEmail("instructor@example.tmt")
+                .withQuestionMetaData(rubricDetails)
+                .withQuestionNumber(1)
+                .withQuestionType(FeedbackQuestionType.RUBRIC)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                .withNumOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponseTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build();
+    }
+
+    /**
+     * Returns a self-evaluation by Alice, a response from Bob to Alice and a response from Alice to Bob
+     * that only answers the first sub-question.
+     */
+    private List<FeedbackResponseAttributes> getResponses(FeedbackRubricQuestionDetails rubricDetails) {
+        return Arrays.asList(
+                getResponse(rubricDetails, ALICE, ALICE, "0-0,1-1"),
+                getResponse(rubricDetails, BOB, ALICE, "0-1,1-1"),
+                getResponse(rubricDetails, ALICE, BOB, "0-0"));
+    }
+
+    private FeedbackResponseAttributes getResponse(FeedbackRubricQuestionDetails rubricDetails,
+            String giver, String recipient, String answer) {
+        FeedbackRubricResponseDetails responseDetails = new FeedbackRubricResponseDetails();
+        responseDetails.extractResponseDetails(FeedbackQuestionType.RUBRIC, rubricDetails, new String[] { answer });
+
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes();
+        response.feedbackQuestionId = "rubricQuestion";
+        response.feedbackQuestionType = FeedbackQuestionType.RUBRIC;
+        response.giver = giver;
+        response.recipient = recipient;
+        response.setResponseDetails(responseDetails);
+        return response;
+    }
+
+    private FeedbackSessionResultsBundle getResultsBundle(FeedbackQuestionAttributes question) {
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        questions.put(question.getId(), question);
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put(ALICE, "Alice");
+        emailNameTable.put(BOB, "Bob");
+
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        emailTeamNameTable.put(ALICE, "Team A");
+        emailTeamNameTable.put(BOB, "Team A");
+
+        return new FeedbackSessionResultsBundle(null, new ArrayList<>(), questions, emailNameTable,
+                new HashMap<>(), emailTeamNameTable, new HashMap<>(), new HashMap<>(), null,
+                new CourseRoster(new ArrayList<>(), new ArrayList<>()), null);
+    }
+
+}
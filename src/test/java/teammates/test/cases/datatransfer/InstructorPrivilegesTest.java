@@ -3,6 +3,7 @@ package teammates.test.cases.datatransfer;
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 
 import java.util.LinkedHashMap;
@@ -378,6 +379,68 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAnySection() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        String sessionId = "sessionId";
+
+        ______TS("no sections: always false");
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("section-level settings apply to sessions without their own settings");
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        privileges.updatePrivilege("section2", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("session-level settings override section-level settings");
+        privileges.updatePrivilege(
+                "section2", sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                "otherSession", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("removing settings is reflected");
+        privileges.removeSessionPrivileges("section2", sessionId);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        privileges.removeSectionLevelPrivileges("section2");
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
+    @Test
+    public void testCopyAndJsonRoundTrip() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_MANAGER);
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS, false);
+        privileges.updatePrivilege(
+                "section1", "session1", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, false);
+
+        // evaluate once so that the compiled form exists before copying and serializing
+        assertFalse(privileges.isAllowedForPrivilege(
+                "section1", "session1", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        String json = JsonUtils.toJson(privileges, InstructorPrivileges.class);
+        assertFalse(json.contains("compiled"));
+        assertEquals(privileges, JsonUtils.fromJson(json, InstructorPrivileges.class));
+
+        ______TS("copy is independent of the original");
+        InstructorPrivileges copy = new InstructorPrivileges(privileges);
+        assertEquals(privileges, copy);
+        copy.updatePrivilege(
+                "section1", "session1", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        assertTrue(copy.isAllowedForPrivilege(
+                "section1", "session1", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilege(
+                "section1", "session1", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
@@ -0,0 +1,44 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.NumericalResponseStatistics;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link NumericalResponseStatistics}.
+ */
+public class NumericalResponseStatisticsTest extends BaseTestCase {
+
+    @Test
+    public void testAdd() {
+        NumericalResponseStatistics statistics = new NumericalResponseStatistics();
+
+        ______TS("only self answers: no average excluding self");
+
+        statistics.add(3.5, true);
+
+        assertEquals(1, statistics.getCount());
+        assertEquals(0, statistics.getCountExcludingSelf());
+        assertEquals(3.5, statistics.getAverage(), 0.0);
+        assertEquals(3.5, statistics.getMin(), 0.0);
+        assertEquals(3.5, statistics.getMax(), 0.0);
+        assertNull(statistics.getAverageExcludingSelf());
+
+        ______TS("self and other answers");
+
+        statistics.add(1, false);
+        statistics.add(5, false);
+        statistics.add(2, false);
+
+        assertEquals(4, statistics.getCount());
+        assertEquals(3, statistics.getCountExcludingSelf());
+        assertEquals(11.5, statistics.getTotal(), 0.0);
+        assertEquals(8, statistics.getTotalExcludingSelf(), 0.0);
+        assertEquals(11.5 / 4, statistics.getAverage(), 0.0);
+        assertEquals(8.0 / 3, statistics.getAverageExcludingSelf(), 0.0);
+        assertEquals(1, statistics.getMin(), 0.0);
+        assertEquals(5, statistics.getMax(), 0.0);
+    }
+
+}
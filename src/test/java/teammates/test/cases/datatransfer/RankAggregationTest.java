@@ -0,0 +1,69 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.RankAggregation;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * SUT: {@link RankAggregation}.
+ */
+public class RankAggregationTest extends BaseTestCase {
+
+    @Test
+    public void testNormaliseRanks() {
+        ______TS("no ties");
+
+        assertTrue(Arrays.equals(new int[] {2, 1, 3}, RankAggregation.normaliseRanks(new int[] {2, 1, 3})));
+
+        ______TS("ties are given the minimum rank of the tied positions");
+
+        assertTrue(Arrays.equals(new int[] {1, 3, 1, 3}, RankAggregation.normaliseRanks(new int[] {1, 4, 1, 4})));
+        assertTrue(Arrays.equals(new int[] {1, 2, 2, 4}, RankAggregation.normaliseRanks(new int[] {3, 5, 5, 6})));
+
+        ______TS("ranks not submitted are left out");
+
+        int notSubmitted = Const.POINTS_NOT_SUBMITTED;
+        assertTrue(Arrays.equals(new int[] {notSubmitted, 2, 1, notSubmitted},
+                RankAggregation.normaliseRanks(new int[] {notSubmitted, 4, 2, notSubmitted})));
+        assertTrue(Arrays.equals(new int[] {}, RankAggregation.normaliseRanks(new int[] {})));
+    }
+
+    @Test
+    public void testGetOverallRanks() {
+        RankAggregation aggregation = new RankAggregation();
+
+        ______TS("targets with the same average rank have the same overall rank");
+
+        aggregation.addRank("A", 1);
+        aggregation.addRank("A", 2);
+        aggregation.addRank("B", 2);
+        aggregation.addRank("B", 1);
+        aggregation.addRank("C", 1);
+        aggregation.addRank("C", 2);
+        aggregation.addRank("C", 3);
+
+        Map<String, Integer> overallRanks = aggregation.getOverallRanks();
+        assertEquals(3, overallRanks.size());
+        assertEquals(1, overallRanks.get("A").intValue());
+        assertEquals(1, overallRanks.get("B").intValue());
+        assertEquals(3, overallRanks.get("C").intValue());
+        assertEquals(Arrays.asList(2, 1), aggregation.getRanksReceived("B"));
+        assertNull(aggregation.getRanksReceived("D"));
+
+        ______TS("overall ranks are recomputed after a rank is added");
+
+        aggregation.addRank("D", 1);
+
+        overallRanks = aggregation.getOverallRanks();
+        assertEquals(1, overallRanks.get("D").intValue());
+        assertEquals(2, overallRanks.get("A").intValue());
+        assertEquals(2, overallRanks.get("B").intValue());
+        assertEquals(4, overallRanks.get("C").intValue());
+    }
+
+}
@@ -462,6 +462,8 @@ public class StudentAttributesTest extends BaseTestCaseWithMinimalGaeEnvironment
                                        .withCourseId(StringHelper.encrypt("course1"))
                                        .toString();
         assertEquals(profilePicUrl, studentAttributes.getPublicProfilePictureUrl());
+        assertEquals(profilePicUrl + "&" + Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL + "=true",
+                     studentAttributes.getPublicProfilePictureThumbnailUrl());
     }
 
     @Test
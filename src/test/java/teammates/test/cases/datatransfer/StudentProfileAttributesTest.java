@@ -110,6 +110,7 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
                      + "\n  \"nationality\": \"Lebanese\",\n  \"gender\": \"female\","
                      + "\n  \"moreInfo\": \"moreInfo can have a lot more than this...\","
                      + "\n  \"pictureKey\": \"profile Pic Key\","
+                     + "\n  \"thumbnailKey\": \"\","
                      + "\n  \"modifiedDate\": \"2015-05-21T08:34:00Z\"\n}",
                      spa.getJsonString());
     }
@@ -0,0 +1,142 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ContributionQuestionResults;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.TeamContributionSummaryAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.storage.entity.TeamContributionSummary;
+import teammates.test.cases.BaseTestCase;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * SUT: {@link TeamContributionSummaryAttributes}.
+ */
+public class TeamContributionSummaryAttributesTest extends BaseTestCase {
+
+    private static final String QUESTION_ID = "contribQuestion";
+    private static final String COURSE_ID = "TCSAT.course";
+    private static final String TEAM = "Team 1";
+
+    @Test
+    public void testWithSubmission_randomSubmissions_sameResultsAsFullRecomputation() {
+        Random random = new Random(2017);
+
+        for (int round = 0; round < 20; round++) {
+            int teamSize = 1 + random.nextInt(6);
+            List<String> memberEmails = new ArrayList<>();
+            for (int i = 0; i < teamSize; i++) {
+                memberEmails.add("member" + i + "@example.tmt");
+            }
+
+            // key is giver%recipient, so that a resubmission replaces the previous response
+            Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+            TeamContributionSummaryAttributes summary = TeamContributionSummaryAttributes.builder(QUESTION_ID,
+                    COURSE_ID, TEAM, ContributionQuestionResults.computeTeamResult(memberEmails, responses.values()))
+                    .build();
+
+            for (int step = 0; step < 30; step++) {
+                String giver = memberEmails.get(random.nextInt(teamSize));
+                String recipient = memberEmails.get(random.nextInt(teamSize));
+                int points = getRandomPoints(random);
+
+                if (points == Const.POINTS_NOT_SUBMITTED) {
+                    responses.remove(giver + "%" + recipient);
+                } else {
+                    responses.put(giver + "%" + recipient, getResponse(giver, recipient, points));
+                }
+                summary = summary.withSubmission(giver, recipient, points);
+
+                TeamEvalResult expected = ContributionQuestionResults.computeTeamResult(memberEmails, responses.values());
+                assertSameResults(expected, summary.getTeamEvalResult());
+            }
+        }
+    }
+
+    @Test
+    public void testWithSubmission_nonMember_returnsNull() {
+        List<String> memberEmails = Arrays.asList("alice@example.tmt", "bob@example.tmt");
+        TeamContributionSummaryAttributes summary = TeamContributionSummaryAttributes.builder(QUESTION_ID,
+                COURSE_ID, TEAM, ContributionQuestionResults.computeTeamResult(memberEmails, new ArrayList<>()))
+                .build();
+
+        assertNull(summary.withSubmission("alice@example.tmt", "charlie@example.tmt", 100));
+        assertNull(summary.withSubmission("charlie@example.tmt", "alice@example.tmt", 100));
+
+        ______TS("original summary is not modified");
+
+        TeamContributionSummaryAttributes updatedSummary =
+                summary.withSubmission("alice@example.tmt", "bob@example.tmt", 110);
+
+        assertEquals(110, updatedSummary.getTeamEvalResult().claimed[0][1]);
+        assertEquals(Const.POINTS_NOT_SUBMITTED, summary.getTeamEvalResult().claimed[0][1]);
+        assertTrue(updatedSummary.hasMembers(memberEmails));
+    }
+
+    @Test
+    public void testToEntityAndValueOf_sameResults() {
+        List<String> memberEmails = Arrays.asList("alice@example.tmt", "bob@example.tmt");
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getResponse("alice@example.tmt", "alice@example.tmt", 110),
+                getResponse("alice@example.tmt", "bob@example.tmt", 90),
+                getResponse("bob@example.tmt", "alice@example.tmt", Const.POINTS_NOT_SURE));
+        TeamContributionSummaryAttributes summary = TeamContributionSummaryAttributes.builder(QUESTION_ID,
+                COURSE_ID, TEAM, ContributionQuestionResults.computeTeamResult(memberEmails, responses))
+                .withUpdatedAt(Instant.parse("2017-05-01T10:00:00Z"))
+                .build();
+
+        TeamContributionSummary entity = summary.toEntity();
+        assertEquals(QUESTION_ID + "%" + TEAM, entity.getId());
+
+        TeamContributionSummaryAttributes restored = TeamContributionSummaryAttributes.valueOf(entity);
+        assertEquals(QUESTION_ID, restored.getFeedbackQuestionId());
+        assertEquals(COURSE_ID, restored.getCourseId());
+        assertEquals(TEAM, restored.getTeamName());
+        assertEquals(summary.getUpdatedAt(), restored.getUpdatedAt());
+        assertTrue(restored.hasMembers(memberEmails));
+        assertSameResults(summary.getTeamEvalResult(), restored.getTeamEvalResult());
+    }
+
+    private int getRandomPoints(Random random) {
+        int choice = random.nextInt(10);
+        if (choice == 0) {
+            return Const.POINTS_NOT_SUBMITTED;
+        }
+        if (choice == 1) {
+            return Const.POINTS_NOT_SURE;
+        }
+        return 10 * random.nextInt(21);
+    }
+
+    private FeedbackResponseAttributes getResponse(String giver, String recipient, int points) {
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes();
+        response.feedbackQuestionId = QUESTION_ID;
+        response.feedbackQuestionType = FeedbackQuestionType.CONTRIB;
+        response.giver = giver;
+        response.recipient = recipient;
+        response.setResponseDetails(new FeedbackContributionResponseDetails(points));
+        return response;
+    }
+
+    private void assertSameResults(TeamEvalResult expected, TeamEvalResult actual) {
+        assertEquals(expected.studentEmails, actual.studentEmails);
+        assertTrue(Arrays.deepEquals(expected.claimed, actual.claimed));
+        assertTrue(Arrays.deepEquals(expected.normalizedClaimed, actual.normalizedClaimed));
+        assertTrue(Arrays.equals(expected.normalizedAveragePerceived, actual.normalizedAveragePerceived));
+        assertTrue(Arrays.deepEquals(expected.denormalizedAveragePerceived, actual.denormalizedAveragePerceived));
+        assertTrue(Arrays.deepEquals(expected.normalizedPeerContributionRatio,
+                actual.normalizedPeerContributionRatio));
+    }
+
+}
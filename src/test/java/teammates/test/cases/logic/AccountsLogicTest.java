@@ -2,6 +2,7 @@ package teammates.test.cases.logic;
 
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -14,9 +15,11 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.StringHelper;
 import teammates.logic.api.Logic;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.FeedbackSessionsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.Priority;
 
@@ -28,6 +31,7 @@ import java.util.List;
 public class AccountsLogicTest extends BaseLogicTest {
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
     private static final Logic logic = new Logic();
@@ -166,6 +170,21 @@ public class AccountsLogicTest extends BaseLogicTest {
             AssertHelper.assertContains(AccountsDb.ERROR_UPDATE_NON_EXISTENT_ACCOUNT, edne.getMessage());
         }
 
+        ______TS("test updateAccount updates the institute of the sessions of the instructor's courses");
+
+        FeedbackSessionAttributes archivedCourseSession = dataBundle.feedbackSessions.get("archiveCourse.session1");
+        AccountAttributes instructorAccount = accountsLogic.getAccount("idOfInstructorOfArchivedCourse");
+        String originalInstitute = instructorAccount.institute;
+        instructorAccount.institute = "New Institute";
+        accountsLogic.updateAccount(instructorAccount);
+        assertEquals("New Institute", fsLogic.getFeedbackSession(archivedCourseSession.getFeedbackSessionName(),
+                archivedCourseSession.getCourseId()).getInstitute());
+
+        instructorAccount.institute = originalInstitute;
+        accountsLogic.updateAccount(instructorAccount);
+        assertEquals(originalInstitute, fsLogic.getFeedbackSession(archivedCourseSession.getFeedbackSessionName(),
+                archivedCourseSession.getCourseId()).getInstitute());
+
         ______TS("test downgradeInstructorToStudentCascade");
 
         accountsLogic.downgradeInstructorToStudentCascade("idOfInstructor2OfCourse1");
@@ -446,6 +465,26 @@ public class AccountsLogicTest extends BaseLogicTest {
 
         accountsLogic.deleteAccountCascade(nonInstrAccount.googleId);
 
+        ______TS("success: instructor joined and institute of the sessions of the course updated");
+
+        // the session may have been created before any instructor of the course had joined
+        FeedbackSessionAttributes archivedCourseSession = dataBundle.feedbackSessions.get("archiveCourse.session1");
+        new FeedbackSessionsDb().updateInstitute(archivedCourseSession, null);
+
+        instructor = dataBundle.instructors.get("instructorOfArchivedCourse");
+        newIns = InstructorAttributes
+                .builder(null, instructor.courseId, "anotherInstructor", "anotherInstructor@gmail.tmt")
+                .build();
+        instructorsLogic.createInstructor(newIns);
+        encryptedKey = instructorsLogic.getEncryptedKeyForInstructor(instructor.courseId, newIns.email);
+
+        accountsLogic.joinCourseForInstructor(encryptedKey, "AccLogicT.anotherInstr.id");
+
+        assertEquals("TEAMMATES Test Institute 5", fsLogic.getFeedbackSession(
+                archivedCourseSession.getFeedbackSessionName(), archivedCourseSession.getCourseId()).getInstitute());
+
+        accountsLogic.deleteAccountCascade("AccLogicT.anotherInstr.id");
+
         ______TS("failure: instructor already joined");
 
         nonInstrAccount = dataBundle.accounts.get("student1InCourse1");
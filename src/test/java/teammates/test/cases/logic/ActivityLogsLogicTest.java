@@ -0,0 +1,61 @@
+package teammates.test.cases.logic;
+
+import com.googlecode.objectify.ObjectifyFilter;
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
+import teammates.logic.core.ActivityLogsLogic;
+import teammates.storage.entity.ActivityLog;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * SUT: {@link ActivityLogsLogic}.
+ */
+public class ActivityLogsLogicTest extends BaseLogicTest {
+
+    private static final long BASE_TIME = 2000 * ActivityLog.TIME_BUCKET_LENGTH_MILLIS;
+
+    private static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used for this test
+    }
+
+    @Test
+    public void testRecordActivityLog() {
+        ActivityLogQuery query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME,
+                BASE_TIME + ActivityLog.TIME_BUCKET_LENGTH_MILLIS - 1);
+
+        ______TS("recorded logs are saved by the end of the request");
+
+        activityLogsLogic.recordActivityLog(createLog(0));
+        activityLogsLogic.recordActivityLog(createLog(1));
+        // done by the ObjectifyFilter at the end of every request
+        ObjectifyFilter.complete();
+
+        assertEquals(2, activityLogsLogic.getActivityLogs(query).size());
+
+        ______TS("logs before the given time are deleted");
+
+        activityLogsLogic.deleteActivityLogsBefore(
+                Instant.ofEpochMilli(BASE_TIME + ActivityLog.TIME_BUCKET_LENGTH_MILLIS), null);
+        assertEquals(0, activityLogsLogic.getActivityLogs(query).size());
+    }
+
+    private ActivityLogAttributes createLog(int index) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder("studentHomePage", "/page/studentHomePage",
+                BASE_TIME + index)
+                .withLogId("ALLT.log" + index)
+                .withUserRole("Student")
+                .withUserGoogleId("ALLT.alice")
+                .withUserEmail("alice@gmail.com")
+                .withUserName("Alice")
+                .build();
+        return ActivityLogAttributes.builder(logEntry).withVersion("1").build();
+    }
+
+}
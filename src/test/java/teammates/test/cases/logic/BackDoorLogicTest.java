@@ -3,6 +3,7 @@ package teammates.test.cases.logic;
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
@@ -31,6 +32,15 @@ public class BackDoorLogicTest extends BaseLogicTest {
         backDoorLogic.persistDataBundle(dataBundle);
         verifyPresentInDatastore(dataBundle);
 
+        ______TS("institute of the sessions taken from the instructors of their course");
+
+        FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        assertEquals("TEAMMATES Test Institute 1", backDoorLogic.getFeedbackSession(
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId()).getInstitute());
+        FeedbackSessionAttributes archivedCourseSession = dataBundle.feedbackSessions.get("archiveCourse.session1");
+        assertEquals("TEAMMATES Test Institute 5", backDoorLogic.getFeedbackSession(
+                archivedCourseSession.getFeedbackSessionName(), archivedCourseSession.getCourseId()).getInstitute());
+
         ______TS("try to persist while entities exist");
 
         backDoorLogic.persistDataBundle(loadDataBundle("/FeedbackSessionResultsTest.json"));
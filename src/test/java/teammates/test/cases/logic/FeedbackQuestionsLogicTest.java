@@ -2,9 +2,11 @@ package teammates.test.cases.logic;
 
 import com.google.appengine.api.datastore.Text;
 import org.testng.annotations.Test;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -13,8 +15,10 @@ import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.StudentsLogic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +34,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     @Test
     public void allTests() throws Exception {
         testGetRecipientsForQuestion();
+        testGetRecipientsForQuestionWithRoster();
         testGetFeedbackQuestionsForInstructor();
         testGetFeedbackQuestionsForStudents();
         testIsQuestionHasResponses();
@@ -112,6 +117,44 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
 
     }
 
+    private void testGetRecipientsForQuestionWithRoster() throws Exception {
+        ______TS("recipients from a preloaded roster match recipients loaded per question");
+
+        String[] questionKeys = {
+                "qn1InSession1InCourse1", "qn2InSession1InCourse1", "qn3InSession1InCourse1",
+                "team.feedback", "team.members.feedback", "graceperiod.session.feedbackFromTeamToSelf",
+        };
+        String[] giverKeys = { "student1InCourse1", "student2InCourse1", "student5InCourse1" };
+
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (String questionKey : questionKeys) {
+            questions.add(getQuestionFromDatastore(questionKey));
+        }
+        CourseRoster roster = fqLogic.getRosterForRecipients(questions.get(0).courseId, questions);
+
+        for (String giverKey : giverKeys) {
+            StudentAttributes giver = StudentsLogic.inst().getStudentForEmail(
+                    questions.get(0).courseId, dataBundle.students.get(giverKey).email);
+            for (FeedbackQuestionAttributes question : questions) {
+                assertEquals(fqLogic.getRecipientsForQuestion(question, giver.email, null, giver),
+                        fqLogic.getRecipientsForQuestion(question, giver.email, null, giver, roster));
+            }
+        }
+
+        InstructorAttributes instructorGiver = dataBundle.instructors.get("instructor1OfCourse1");
+        FeedbackQuestionAttributes questionToStudents = getQuestionFromDatastore("qn2InSession1InCourse1");
+        assertEquals(fqLogic.getRecipientsForQuestion(questionToStudents, instructorGiver.email, instructorGiver, null),
+                fqLogic.getRecipientsForQuestion(
+                        questionToStudents, instructorGiver.email, instructorGiver, null, roster));
+
+        ______TS("roster only loads the parts needed by the questions");
+
+        roster = fqLogic.getRosterForRecipients(questions.get(0).courseId,
+                Arrays.asList(getQuestionFromDatastore("qn3InSession1InCourse1")));
+        assertTrue(roster.getStudents().isEmpty());
+        assertTrue(roster.getInstructors().isEmpty());
+    }
+
     private void testUpdateQuestionNumber() throws Exception {
         ______TS("shift question up");
         List<FeedbackQuestionAttributes> expectedList = new ArrayList<>();
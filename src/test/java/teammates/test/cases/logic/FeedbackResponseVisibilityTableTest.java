@@ -0,0 +1,185 @@
+package teammates.test.cases.logic;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackResponseVisibilityTable;
+import teammates.test.cases.BaseTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SUT: {@link FeedbackResponseVisibilityTable}.
+ */
+public class FeedbackResponseVisibilityTableTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "idOfCourse";
+    private static final String SESSION_NAME = "First Session";
+    private static final String VIEWER_EMAIL = "viewer@example.com";
+    private static final String TEAMMATE_EMAIL = "teammate@example.com";
+    private static final String OTHER_EMAIL = "other@example.com";
+    private static final String VIEWER_TEAM = "Team 1";
+    private static final String OTHER_TEAM = "Team 2";
+    private static final String VISIBLE_SECTION = "Section 1";
+    private static final String HIDDEN_SECTION = "Section 2";
+
+    private static final List<FeedbackParticipantType> VIEWER_TYPES = Arrays.asList(
+            FeedbackParticipantType.RECEIVER, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+            FeedbackParticipantType.RECEIVER_TEAM_MEMBERS, FeedbackParticipantType.STUDENTS,
+            FeedbackParticipantType.INSTRUCTORS);
+
+    private static final List<String> PARTICIPANTS = Arrays.asList(
+            VIEWER_EMAIL, TEAMMATE_EMAIL, OTHER_EMAIL, VIEWER_TEAM, OTHER_TEAM, Const.GENERAL_QUESTION);
+
+    private static final List<String> SECTIONS = Arrays.asList(VISIBLE_SECTION, HIDDEN_SECTION);
+
+    @Test
+    public void testIsResponseVisible_allParticipantTypeCombinations_matchesPerResponseEvaluation() {
+        StudentAttributes student = StudentAttributes.builder(COURSE_ID, "Viewer", VIEWER_EMAIL)
+                .withTeam(VIEWER_TEAM).withSection(VISIBLE_SECTION).build();
+        Set<String> teamEmails = new HashSet<>(Arrays.asList(VIEWER_EMAIL, TEAMMATE_EMAIL));
+
+        InstructorAttributes instructor = InstructorAttributes
+                .builder("viewerId", COURSE_ID, "Viewer", VIEWER_EMAIL)
+                .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM)
+                .withPrivileges((String) null)
+                .build();
+        instructor.privileges.updatePrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        instructor.privileges.updatePrivilege(
+                HIDDEN_SECTION, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+
+        ______TS("student with team members");
+        verifyMatchesReference(VIEWER_EMAIL, UserRole.STUDENT, student, teamEmails, null);
+
+        ______TS("student without team information");
+        verifyMatchesReference(VIEWER_EMAIL, UserRole.STUDENT, null, null, null);
+
+        ______TS("instructor with section restrictions");
+        verifyMatchesReference(VIEWER_EMAIL, UserRole.INSTRUCTOR, null, null, instructor);
+
+        ______TS("instructor without section restrictions");
+        verifyMatchesReference(VIEWER_EMAIL, UserRole.INSTRUCTOR, null, new HashSet<>(), null);
+    }
+
+    private void verifyMatchesReference(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, InstructorAttributes instructor) {
+        FeedbackResponseVisibilityTable table =
+                new FeedbackResponseVisibilityTable(userEmail, role, student, studentsEmailInTeam, instructor);
+        List<FeedbackQuestionAttributes> questions = getQuestionsForAllCombinations();
+
+        // every response is checked twice, so that both computed and memoized decisions are compared
+        for (int round = 0; round < 2; round++) {
+            for (FeedbackQuestionAttributes question : questions) {
+                for (FeedbackResponseAttributes response : getResponsesForAllRelationships(question)) {
+                    boolean expected = isResponseVisibleReference(
+                            userEmail, role, student, studentsEmailInTeam, response, question, instructor);
+                    assertEquals("Mismatch for question " + question.getId() + ", giver " + response.giver
+                                    + " (" + response.giverSection + "), recipient " + response.recipient
+                                    + " (" + response.recipientSection + ")",
+                            expected, table.isResponseVisible(response, question));
+                }
+            }
+        }
+    }
+
+    private List<FeedbackQuestionAttributes> getQuestionsForAllCombinations() {
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (FeedbackParticipantType giverType : FeedbackParticipantType.GIVERS) {
+            for (FeedbackParticipantType recipientType : FeedbackParticipantType.RECIPIENTS) {
+                for (int mask = 0; mask < 1 << VIEWER_TYPES.size(); mask++) {
+                    List<FeedbackParticipantType> showResponsesTo = new ArrayList<>();
+                    for (int i = 0; i < VIEWER_TYPES.size(); i++) {
+                        if ((mask & 1 << i) != 0) {
+                            showResponsesTo.add(VIEWER_TYPES.get(i));
+                        }
+                    }
+                    questions.add(FeedbackQuestionAttributes.builder()
+                            .withFeedbackSessionName(SESSION_NAME)
+                            .withCourseId(COURSE_ID)
+                            .withQuestionType(FeedbackQuestionType.TEXT)
+                            .withGiverType(giverType)
+                            .withRecipientType(recipientType)
+                            .withShowResponseTo(showResponsesTo)
+                            .withShowGiverNameTo(new ArrayList<>())
+                            .withShowRecipientNameTo(new ArrayList<>())
+                            .withFeedbackQuestionId(giverType + "-" + recipientType + "-" + mask)
+                            .build());
+                }
+            }
+        }
+        return questions;
+    }
+
+    private List<FeedbackResponseAttributes> getResponsesForAllRelationships(FeedbackQuestionAttributes question) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (String giver : PARTICIPANTS) {
+            for (String recipient : PARTICIPANTS) {
+                for (String giverSection : SECTIONS) {
+                    for (String recipientSection : SECTIONS) {
+                        responses.add(new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID, question.getId(),
+                                question.questionType, giver, giverSection, recipient, recipientSection, null));
+                    }
+                }
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Evaluates visibility of a single response without any memoization.
+     */
+    private boolean isResponseVisibleReference(String userEmail, UserRole role, StudentAttributes student,
+            Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
+        boolean isInstructor = role == UserRole.INSTRUCTOR;
+        boolean isStudent = role == UserRole.STUDENT;
+
+        boolean isVisibleResponse = false;
+        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || response.recipient.equals(userEmail)
+                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || response.giver.equals(userEmail)
+                || isStudent && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            isVisibleResponse = true;
+        } else if (studentsEmailInTeam != null && isStudent) {
+            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
+                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    && student != null && response.recipient.equals(student.team)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
+                       && studentsEmailInTeam.contains(response.giver)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                       && studentsEmailInTeam.contains(response.giver)) {
+                isVisibleResponse = true;
+            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                       && studentsEmailInTeam.contains(response.recipient)) {
+                isVisibleResponse = true;
+            }
+        }
+        if (isVisibleResponse && instructor != null) {
+            boolean isGiverSectionRestricted =
+                    !instructor.isAllowedForPrivilege(response.giverSection, response.feedbackSessionName,
+                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            boolean isRecipientSectionRestricted =
+                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
+                    && !instructor.isAllowedForPrivilege(response.recipientSection, response.feedbackSessionName,
+                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            if (isGiverSectionRestricted || isRecipientSectionRestricted) {
+                isVisibleResponse = false;
+            }
+        }
+        return isVisibleResponse;
+    }
+
+}
@@ -5,17 +5,22 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.*;
 import teammates.common.datatransfer.attributes.*;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.logic.core.*;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.StudentsDb;
 import teammates.test.driver.AssertHelper;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * SUT: {@link FeedbackResponsesLogic}.
@@ -26,6 +31,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static TeamContributionSummariesLogic tcsLogic = TeamContributionSummariesLogic.inst();
     private static DataBundle specialCharBundle = loadDataBundle("/SpecialCharacterTest.json");
     private static DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
 
@@ -39,8 +45,10 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     @Test
     public void allTests() throws Exception {
         testIsNameVisibleTo();
+        testGetViewableResponsesForStudentForSession();
         testGetViewableResponsesForQuestionInSection();
         testUpdateFeedbackResponse();
+        testContributionResponses_updateTeamContributionSummary();
         testUpdateFeedbackResponsesForChangingTeam();
         testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
         testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
@@ -93,6 +101,102 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     }
 
+    private void testContributionResponses_updateTeamContributionSummary() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore(questionTypeBundle, "qn1InSession5InCourse1");
+        String team = questionTypeBundle.students.get("student1InCourse1").team;
+
+        ______TS("no summary until a response of the team is submitted");
+
+        assertNull(tcsLogic.getSummary(question.getId(), team));
+
+        ______TS("summary is built from the responses of the team on first submission");
+
+        FeedbackResponseAttributes responseToUpdate = getResponseFromDatastore(questionTypeBundle, "response2ForQ1S5C1");
+        responseToUpdate.setResponseDetails(new FeedbackContributionResponseDetails(90));
+        frLogic.updateFeedbackResponse(responseToUpdate);
+
+        TeamContributionSummaryAttributes summary = tcsLogic.getSummary(question.getId(), team);
+        int giverIndex = summary.getMemberIndex("student1InCourse1@gmail.tmt");
+        int recipientIndex = summary.getMemberIndex("student2InCourse1@gmail.tmt");
+        assertEquals(100, summary.getTeamEvalResult().claimed[giverIndex][giverIndex]);
+        assertEquals(90, summary.getTeamEvalResult().claimed[giverIndex][recipientIndex]);
+        verifySummaryMatchesResponses(summary);
+
+        ______TS("summary is updated for a new response");
+
+        FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(
+                responseToUpdate.feedbackSessionName, responseToUpdate.courseId, question.getId(),
+                FeedbackQuestionType.CONTRIB, "student2InCourse1@gmail.tmt", responseToUpdate.recipientSection,
+                "student1InCourse1@gmail.tmt", responseToUpdate.giverSection, null);
+        newResponse.setResponseDetails(new FeedbackContributionResponseDetails(120));
+        frLogic.createFeedbackResponse(newResponse);
+
+        summary = tcsLogic.getSummary(question.getId(), team);
+        assertEquals(120, summary.getTeamEvalResult().claimed[recipientIndex][giverIndex]);
+        verifySummaryMatchesResponses(summary);
+
+        ______TS("summary is updated for a deleted response");
+
+        frLogic.deleteFeedbackResponseAndCascade(frLogic.getFeedbackResponse(
+                question.getId(), "student2InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt"));
+
+        summary = tcsLogic.getSummary(question.getId(), team);
+        assertEquals(Const.POINTS_NOT_SUBMITTED, summary.getTeamEvalResult().claimed[recipientIndex][giverIndex]);
+        verifySummaryMatchesResponses(summary);
+
+        // restore the original response
+        responseToUpdate.setResponseDetails(new FeedbackContributionResponseDetails(80));
+        frLogic.updateFeedbackResponse(responseToUpdate);
+        summary = tcsLogic.getSummary(question.getId(), team);
+        verifySummaryMatchesResponses(summary);
+
+        ______TS("stored results are read for the given teams only");
+
+        Map<String, Map<String, TeamEvalResult>> storedResults = tcsLogic.getTeamResultsForQuestions(
+                Arrays.asList(question.getId()), Arrays.asList(team, "Team without summary"));
+        assertEquals(1, storedResults.size());
+        assertEquals(1, storedResults.get(question.getId()).size());
+        assertTrue(Arrays.deepEquals(summary.getTeamEvalResult().claimed,
+                storedResults.get(question.getId()).get(team).claimed));
+
+        ______TS("stored results are used only by viewers who can see every response of the team");
+
+        // the responses to the question are visible to instructors only, apart from the giver
+        FeedbackResponseAttributes hiddenResponse = new FeedbackResponseAttributes(
+                responseToUpdate.feedbackSessionName, responseToUpdate.courseId, question.getId(),
+                FeedbackQuestionType.CONTRIB, "student2InCourse1@gmail.tmt", responseToUpdate.recipientSection,
+                "student1InCourse1@gmail.tmt", responseToUpdate.giverSection, null);
+        hiddenResponse.setResponseDetails(new FeedbackContributionResponseDetails(120));
+        frLogic.createFeedbackResponse(hiddenResponse);
+        assertEquals(120, tcsLogic.getSummary(question.getId(), team)
+                .getTeamEvalResult().claimed[recipientIndex][giverIndex]);
+
+        FeedbackSessionResultsBundle studentBundle = fsLogic.getFeedbackSessionResultsForStudent(
+                question.feedbackSessionName, question.courseId, "student1InCourse1@gmail.tmt");
+        TeamEvalResult studentResult = studentBundle.getContributionQuestionResults(question).getTeamResult(team);
+        assertEquals(80, studentResult.claimed[giverIndex][recipientIndex]);
+        assertEquals(Const.POINTS_NOT_SUBMITTED, studentResult.claimed[recipientIndex][giverIndex]);
+
+        FeedbackSessionResultsBundle instructorBundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                question.feedbackSessionName, question.courseId, "instructor1@course1.tmt");
+        TeamEvalResult instructorResult =
+                instructorBundle.getContributionQuestionResults(question).getTeamResult(team);
+        assertEquals(120, instructorResult.claimed[recipientIndex][giverIndex]);
+
+        frLogic.deleteFeedbackResponseAndCascade(frLogic.getFeedbackResponse(
+                question.getId(), "student2InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt"));
+    }
+
+    private void verifySummaryMatchesResponses(TeamContributionSummaryAttributes summary) {
+        TeamEvalResult expected = ContributionQuestionResults.computeTeamResult(
+                summary.getTeamEvalResult().studentEmails,
+                frLogic.getFeedbackResponsesForQuestion(summary.getFeedbackQuestionId()));
+        assertTrue(Arrays.deepEquals(expected.claimed, summary.getTeamEvalResult().claimed));
+        assertTrue(Arrays.deepEquals(expected.normalizedClaimed, summary.getTeamEvalResult().normalizedClaimed));
+        assertTrue(Arrays.equals(expected.normalizedAveragePerceived,
+                summary.getTeamEvalResult().normalizedAveragePerceived));
+    }
+
     private void testUpdateFeedbackResponse() throws Exception {
 
         ______TS("success: standard update with carried params ");
@@ -408,6 +512,41 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 studentToUpdate.course, "new@email.tmt", studentToUpdate.email);
     }
 
+    private void testGetViewableResponsesForStudentForSession() throws Exception {
+
+        ______TS("success: same responses as viewable responses of each question - typical course");
+
+        verifyViewableResponsesForStudentsForSession("First feedback session", "idOfTypicalCourse1");
+
+        ______TS("success: same responses as viewable responses of each question - team questions");
+
+        verifyViewableResponsesForStudentsForSession("First Session", "FQLogicPCT.CS2104");
+    }
+
+    private void verifyViewableResponsesForStudentsForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        for (StudentAttributes student : StudentsLogic.inst().getStudentsForCourse(courseId)) {
+            Map<String, List<FeedbackResponseAttributes>> viewableResponses =
+                    frLogic.getViewableFeedbackResponsesForStudentForSession(
+                            questions, student, feedbackSessionName, courseId);
+
+            assertEquals(questions.size(), viewableResponses.size());
+            for (FeedbackQuestionAttributes question : questions) {
+                List<FeedbackResponseAttributes> expectedResponses =
+                        frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                                question, student.email, UserRole.STUDENT, null);
+                assertEquals(getResponseIds(expectedResponses), getResponseIds(viewableResponses.get(question.getId())));
+            }
+        }
+    }
+
+    private List<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        return responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList());
+    }
+
     private void testGetViewableResponsesForQuestionInSection() throws Exception {
 
         ______TS("success: GetViewableResponsesForQuestion - instructor");
@@ -16,6 +16,8 @@ import teammates.common.util.TimeHelper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.FeedbackSessionsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -62,6 +64,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionCompletionMatrix();
 
         testDeleteFeedbackSessionsForCourse();
     }
@@ -227,6 +230,17 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         FeedbackSessionAttributes fs = getNewFeedbackSession();
         fsLogic.createFeedbackSession(fs);
         verifyPresentInDatastore(fs);
+        assertNull(fsLogic.getFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId()).getInstitute());
+
+        ______TS("test create, institute taken from the instructors of the course");
+
+        FeedbackSessionAttributes fsInArchivedCourse = getNewFeedbackSession();
+        fsInArchivedCourse.setCourseId("idOfArchivedCourse");
+        fsLogic.createFeedbackSession(fsInArchivedCourse);
+        assertEquals("TEAMMATES Test Institute 5",
+                fsLogic.getFeedbackSession(fsInArchivedCourse.getFeedbackSessionName(), "idOfArchivedCourse")
+                        .getInstitute());
+        fsLogic.deleteFeedbackSessionCascade(fsInArchivedCourse.getFeedbackSessionName(), "idOfArchivedCourse");
 
         ______TS("test create with invalid session name");
         fs.setFeedbackSessionName("test & test");
@@ -313,6 +327,19 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
         assertEquals(0, copiedSession.getRespondingInstructorList().size());
         assertEquals(0, copiedSession.getRespondingStudentList().size());
+        assertEquals("TEAMMATES Test Institute 1",
+                fsLogic.getFeedbackSession("Copied Session", typicalCourse2.getId()).getInstitute());
+
+        ______TS("Test copy to a course of another institute");
+
+        FeedbackSessionAttributes sessionCopiedToArchivedCourse = fsLogic.copyFeedbackSession(
+                "Copied Session", "idOfArchivedCourse", typicalCourse2.getTimeZone(),
+                session1InCourse1.getFeedbackSessionName(),
+                session1InCourse1.getCourseId(), instructor2OfCourse1.email);
+        assertEquals("TEAMMATES Test Institute 5",
+                fsLogic.getFeedbackSession("Copied Session", "idOfArchivedCourse").getInstitute());
+        fsLogic.deleteFeedbackSessionCascade(sessionCopiedToArchivedCourse.getFeedbackSessionName(),
+                sessionCopiedToArchivedCourse.getCourseId());
 
         ______TS("Failure case: duplicate session");
 
@@ -387,6 +414,49 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         // no responses
         assertEquals(0, stats.submittedTotal);
 
+        ______TS("expected total is stored and cleared when the course roster changes");
+
+        FeedbackSessionAttributes standardSession = newDataBundle.feedbackSessions.get("standard.session");
+        String standardSessionName = standardSession.getFeedbackSessionName();
+        String standardCourseId = standardSession.getCourseId();
+        assertEquals(Integer.valueOf(8),
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId).getExpectedRespondentsTotal());
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(standardCourseId, "New Student", "new.student@fsdtest.tmt")
+                .withSection("None")
+                .withTeam("Team New")
+                .withComments("")
+                .build();
+        StudentsLogic.inst().createStudentCascadeWithoutDocument(newStudent);
+        assertNull(fsLogic.getFeedbackSession(standardSessionName, standardCourseId).getExpectedRespondentsTotal());
+        FeedbackSessionAttributes sessionReadBeforeChange =
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId);
+        assertEquals(9, fsLogic.getFeedbackSessionDetails(
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId)).stats.expectedTotal);
+
+        StudentsLogic.inst().deleteStudentCascadeWithoutDocument(standardCourseId, newStudent.email);
+
+        ______TS("expected total computed from a session read before the roster changed is not stored");
+
+        fsLogic.getFeedbackSessionDetails(sessionReadBeforeChange);
+        assertNull(fsLogic.getFeedbackSession(standardSessionName, standardCourseId).getExpectedRespondentsTotal());
+
+        assertEquals(8, fsLogic.getFeedbackSessionDetails(
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId)).stats.expectedTotal);
+        assertEquals(Integer.valueOf(8),
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId).getExpectedRespondentsTotal());
+
+        ______TS("expected total is corrected by reconciliation");
+
+        new FeedbackSessionsDb().updateExpectedRespondentsTotal(standardSession, 100);
+        assertTrue(fsLogic.reconcileExpectedRespondentsTotal(
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId)));
+        assertFalse(fsLogic.reconcileExpectedRespondentsTotal(
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId)));
+        assertEquals(Integer.valueOf(8),
+                fsLogic.getFeedbackSession(standardSessionName, standardCourseId).getExpectedRespondentsTotal());
+
         ______TS("instructor does not exist");
 
         assertTrue(fsLogic.getFeedbackSessionDetailsForInstructor("non-existent.google.id").isEmpty());
@@ -1454,6 +1524,34 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         assertEquals(StringUtils.join(expected, System.lineSeparator()), export);
 
+        ______TS("CONTRIB results are computed once per results bundle");
+
+        FeedbackSessionResultsBundle contribResultsBundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        FeedbackQuestionAttributes contribQuestion =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        ContributionQuestionResults contribResults =
+                contribResultsBundle.getContributionQuestionResults(contribQuestion);
+        assertSame(contribResults, contribResultsBundle.getContributionQuestionResults(contribQuestion));
+
+        StudentAttributes contribStudent1 = newDataBundle.students.get("student1InCourse1");
+        StudentAttributes contribStudent2 = newDataBundle.students.get("student2InCourse1");
+        StudentAttributes contribStudent5 = newDataBundle.students.get("student5InCourse1");
+        assertEquals(Collections.singletonList(contribStudent1.team), contribResults.getTeamsWithResponses());
+        assertFalse(contribResults.hasResponsesFromTeam(contribStudent5.team));
+
+        TeamEvalResult contribTeamResult = contribResults.getTeamResult(contribStudent1.team);
+        for (int i = 0; i < contribTeamResult.studentEmails.size(); i++) {
+            assertEquals(i, contribResults.getMemberIndex(contribStudent1.team, contribTeamResult.studentEmails.get(i)));
+        }
+        assertEquals(-1, contribResults.getMemberIndex(contribStudent1.team, contribStudent5.email));
+
+        Map<String, StudentResultSummary> contribStudentResults =
+                contribResults.getStudentResults(contribResults.getTeamsWithResponses());
+        assertEquals(95, contribStudentResults.get(contribStudent1.email).claimedToInstructor);
+        assertEquals(75, contribStudentResults.get(contribStudent2.email).perceivedToInstructor);
+        assertNull(contribStudentResults.get(contribStudent5.email));
+
         ______TS("CONTRIB summary visibility variations");
 
         // instructor not allowed to see student
@@ -1885,6 +1983,34 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionCompletionMatrix() throws Exception {
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionCompletionMatrix studentCompletion = fsLogic.getFeedbackSessionCompletionMatrix(fs);
+
+        ______TS("students: same result as checking each student separately");
+
+        for (StudentAttributes student : StudentsLogic.inst().getStudentsForCourse(fs.getCourseId())) {
+            assertEquals(fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                                 fs.getFeedbackSessionName(), fs.getCourseId(), student.email),
+                         studentCompletion.isSessionFullyAnsweredByGiver(student.email));
+        }
+
+        ______TS("givers outside the course have nothing to answer");
+
+        assertTrue(studentCompletion.isSessionFullyAnsweredByGiver("random.student@email"));
+
+        ______TS("failure: non-existent feedback session");
+
+        FeedbackSessionAttributes nonExistentSession = getNewFeedbackSession();
+        try {
+            fsLogic.getFeedbackSessionCompletionMatrix(nonExistentSession);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to get questions for a feedback session that does not exist.", edne.getMessage());
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(Instant.now())
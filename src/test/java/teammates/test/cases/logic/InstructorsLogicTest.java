@@ -3,6 +3,7 @@ package teammates.test.cases.logic;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -10,6 +11,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.storage.api.InstructorsDb;
 import teammates.test.driver.AssertHelper;
@@ -26,6 +28,7 @@ public class InstructorsLogicTest extends BaseLogicTest {
     private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static InstructorsDb instructorsDb = new InstructorsDb();
     private static CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
 
     @BeforeClass
     public void classSetup() {
@@ -564,6 +567,23 @@ public class InstructorsLogicTest extends BaseLogicTest {
         InstructorAttributes instructorUpdated = instructorsLogic.getInstructorForEmail(courseId, email);
         verifySameInstructor(instructorToBeUpdated, instructorUpdated);
 
+        ______TS("typical case: institute of the sessions updated when the Google ID changes");
+
+        InstructorAttributes archivedCourseInstructor = dataBundle.instructors.get("instructorOfArchivedCourse");
+        FeedbackSessionAttributes archivedCourseSession = dataBundle.feedbackSessions.get("archiveCourse.session1");
+        InstructorAttributes instructorWithNewGoogleId = instructorsLogic.getInstructorForEmail(
+                archivedCourseInstructor.courseId, archivedCourseInstructor.email);
+        instructorWithNewGoogleId.googleId = "idOfInstructorWithOnlyOneSampleCourse";
+
+        instructorsLogic.updateInstructorByEmail(archivedCourseInstructor.email, instructorWithNewGoogleId);
+
+        assertEquals("TEAMMATES Test Institute 7", getInstituteOfSession(archivedCourseSession));
+
+        instructorWithNewGoogleId.googleId = archivedCourseInstructor.googleId;
+        instructorsLogic.updateInstructorByEmail(archivedCourseInstructor.email, instructorWithNewGoogleId);
+
+        assertEquals("TEAMMATES Test Institute 5", getInstituteOfSession(archivedCourseSession));
+
         ______TS("failure: instructor doesn't belong to course");
 
         instructorsLogic.deleteInstructorCascade(courseId, instructorToBeUpdated.email);
@@ -611,6 +631,21 @@ public class InstructorsLogicTest extends BaseLogicTest {
 
         verifyAbsentInDatastore(instructorDeleted);
 
+        ______TS("typical case: institute of the sessions updated when the only registered instructor is deleted");
+
+        InstructorAttributes archivedCourseInstructor = dataBundle.instructors.get("instructorOfArchivedCourse");
+        FeedbackSessionAttributes archivedCourseSession = dataBundle.feedbackSessions.get("archiveCourse.session1");
+        InstructorAttributes archivedCourseInstructorDeleted = instructorsLogic.getInstructorForEmail(
+                archivedCourseInstructor.courseId, archivedCourseInstructor.email);
+
+        instructorsLogic.deleteInstructorCascade(archivedCourseInstructor.courseId, archivedCourseInstructor.email);
+
+        assertNull(getInstituteOfSession(archivedCourseSession));
+
+        instructorsLogic.createInstructor(archivedCourseInstructorDeleted);
+        fsLogic.updateInstituteOfFeedbackSessionsForCourse(archivedCourseInstructor.courseId);
+        assertEquals("TEAMMATES Test Institute 5", getInstituteOfSession(archivedCourseSession));
+
         ______TS("typical case: delete a non-existent instructor");
 
         instructorsLogic.deleteInstructorCascade(courseId, "non-existent@course1.tmt");
@@ -635,6 +670,10 @@ public class InstructorsLogicTest extends BaseLogicTest {
         instructorsLogic.createInstructor(instructorDeleted);
     }
 
+    private String getInstituteOfSession(FeedbackSessionAttributes session) {
+        return fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId()).getInstitute();
+    }
+
     private void testDeleteInstructorsForGoogleId() throws Exception {
         ______TS("typical case: delete all instructors for a given googleId");
 
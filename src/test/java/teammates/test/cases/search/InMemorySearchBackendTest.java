@@ -0,0 +1,141 @@
+package teammates.test.cases.search;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.Query;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.storage.search.InMemorySearchBackend;
+import teammates.storage.search.StudentSearchQuery;
+import teammates.test.cases.BaseTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SUT: {@link InMemorySearchBackend}.
+ */
+public class InMemorySearchBackendTest extends BaseTestCase {
+
+    private static final String INDEX = Const.SearchIndex.STUDENT;
+
+    private InMemorySearchBackend backend;
+
+    @BeforeMethod
+    public void setUp() {
+        backend = new InMemorySearchBackend();
+        backend.putDocuments(INDEX, Arrays.asList(
+                makeDocument("alice1", "course1", "Alice Tan alice@example.com Team 1", 4),
+                makeDocument("bob1", "course1", "Bob Lee bob@example.com Team 1", 3),
+                makeDocument("alice2", "course2", "Tan Alice alice@example.com Team 2", 2),
+                makeDocument("charlie3", "course3", "Charlie Alice charlie@example.com Team 3", 1)));
+    }
+
+    @Test
+    public void testSearchDocuments() {
+
+        ______TS("query string does not match any document");
+
+        assertEquals(Collections.emptyList(), search(new StudentSearchQuery("dave")));
+
+        ______TS("query string matches documents in all courses");
+
+        assertEquals(Arrays.asList("alice1", "alice2", "charlie3"), search(new StudentSearchQuery("ALICE")));
+
+        ______TS("query string matches documents restricted to the courses of the instructors");
+
+        List<InstructorAttributes> instructors = Arrays.asList(
+                InstructorAttributes.builder("instr", "course1", "Instructor", "instr@example.com").build(),
+                InstructorAttributes.builder("instr", "course2", "Instructor", "instr@example.com").build());
+
+        assertEquals(Arrays.asList("alice1", "alice2"), search(new StudentSearchQuery(instructors, "alice")));
+
+        ______TS("any of the keywords matches");
+
+        assertEquals(Arrays.asList("alice1", "bob1", "charlie3"),
+                     search(new StudentSearchQuery("bob charlie \"team 1\"")));
+
+        ______TS("quoted keywords match consecutive words only");
+
+        assertEquals(Arrays.asList("alice1"), search(new StudentSearchQuery("\"alice tan\"")));
+
+        ______TS("words of email addresses match");
+
+        assertEquals(Arrays.asList("bob1"), search(new StudentSearchQuery("bob@example.com")));
+
+        ______TS("NOT excludes matching documents");
+
+        assertEquals(Arrays.asList("alice1", "charlie3"), search(Query.newBuilder().build(
+                Const.SearchDocumentField.SEARCHABLE_TEXT + ":alice NOT " + Const.SearchDocumentField.COURSE_ID
+                + ":course2")));
+    }
+
+    @Test
+    public void testPutAndDeleteDocuments() {
+
+        ______TS("updated document is matched by its new fields only");
+
+        backend.putDocuments(INDEX, Arrays.asList(makeDocument("bob1", "course1", "Robert Lee", 3)));
+
+        assertEquals(Collections.emptyList(), search(new StudentSearchQuery("bob")));
+        assertEquals(Arrays.asList("bob1"), search(new StudentSearchQuery("robert")));
+        assertEquals(4, backend.getNumberOfDocuments(INDEX));
+
+        ______TS("deleted document is not matched");
+
+        backend.deleteDocument(INDEX, "alice1");
+
+        assertEquals(Arrays.asList("alice2", "charlie3"), search(new StudentSearchQuery("alice")));
+        assertEquals(3, backend.getNumberOfDocuments(INDEX));
+
+        ______TS("deleting non-existent document does nothing");
+
+        backend.deleteDocument(INDEX, "non-existent");
+
+        assertEquals(3, backend.getNumberOfDocuments(INDEX));
+    }
+
+    @Test
+    public void testSearchDocuments_moreMatchesThanLimit_returnsHighestRankedDocuments() {
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            documents.add(makeDocument("student" + i, "course4", "Student of course4", i));
+        }
+        backend.putDocuments(INDEX, documents);
+
+        Results<ScoredDocument> results = backend.searchDocuments(INDEX, new StudentSearchQuery("course4").toQuery());
+
+        assertEquals(25, results.getNumberFound());
+        assertEquals(20, results.getNumberReturned());
+        assertEquals("student24", results.getResults().iterator().next().getId());
+    }
+
+    private List<String> search(StudentSearchQuery query) {
+        return search(query.toQuery());
+    }
+
+    private List<String> search(Query query) {
+        List<String> ids = new ArrayList<>();
+        for (ScoredDocument document : backend.searchDocuments(INDEX, query)) {
+            ids.add(document.getId());
+        }
+        return ids;
+    }
+
+    private static Document makeDocument(String id, String courseId, String searchableText, int rank) {
+        return Document.newBuilder()
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID).setText(courseId))
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
+                                            .setText(searchableText))
+                .setId(id)
+                .setRank(rank)
+                .build();
+    }
+
+}
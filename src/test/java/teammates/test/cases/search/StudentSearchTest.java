@@ -1,6 +1,7 @@
 package teammates.test.cases.search;
 
 import org.testng.annotations.Test;
+import teammates.common.datatransfer.InstructorCourseFilter;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -74,6 +75,22 @@ public class StudentSearchTest extends BaseSearchTest {
         assertEquals(1, bundle.numberOfResults);
         AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu1InCourse2), bundle.studentList);
 
+        ______TS("success: search for students; course filter reused for several searches");
+
+        InstructorCourseFilter courseFilter = new InstructorCourseFilter(Arrays.asList(
+                dataBundle.instructors.get("instructor1OfCourse1"), dataBundle.instructors.get("instructor1OfCourse2")));
+
+        bundle = studentsDb.search("student1", courseFilter);
+
+        assertEquals(2, bundle.numberOfResults);
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu1InCourse1, stu1InCourse2), bundle.studentList);
+        assertEquals(courseFilter.getCourseIdInstructorMap(), bundle.courseIdInstructorMap);
+
+        bundle = studentsDb.search("student2", courseFilter);
+
+        assertEquals(2, bundle.numberOfResults);
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu2InCourse1, stu2InCourse2), bundle.studentList);
+
         ______TS("success: search for students; deleted student no longer searchable");
 
         studentsDb.deleteStudent(stu1InCourse1.course, stu1InCourse1.email);
@@ -0,0 +1,121 @@
+package teammates.test.cases.storage;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.ActivityLogAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.ActivityLogQuery;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.entity.ActivityLog;
+import teammates.test.cases.BaseComponentTestCase;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SUT: {@link ActivityLogsDb}.
+ */
+public class ActivityLogsDbTest extends BaseComponentTestCase {
+
+    private static final long BASE_TIME = 1000 * ActivityLog.TIME_BUCKET_LENGTH_MILLIS;
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @Test
+    public void testGetActivityLogs() {
+        activityLogsDb.createActivityLogs(Arrays.asList(
+                createLog("ALDbT.log0", BASE_TIME - 1, "studentHomePage", "Student", "ALDbT.alice", "alice@gmail.com"),
+                createLog("ALDbT.log1", BASE_TIME, "studentHomePage", "Student", "ALDbT.alice", "alice@gmail.com"),
+                createLog("ALDbT.log2", BASE_TIME + 10, "instructorHomePage", "Instructor", "ALDbT.bob",
+                        "bob@gmail.com"),
+                createLog("ALDbT.log3", BASE_TIME + 20, "instructorHomePage", "Instructor", "ALDbT.carol",
+                        "carol@gmail.tmt"),
+                createLog("ALDbT.log4", BASE_TIME + 30, "studentProfilePage", "Student", "ALDbT.alice",
+                        "alice@gmail.com")));
+
+        ______TS("typical case: all logs in the time period, latest first");
+
+        ActivityLogQuery query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME, BASE_TIME + 30);
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log4", "ALDbT.log2", "ALDbT.log1");
+
+        ______TS("time period spanning two time buckets");
+
+        query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME - 1, BASE_TIME + 10);
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log2", "ALDbT.log1", "ALDbT.log0");
+
+        ______TS("time period spanning time buckets without logs");
+
+        query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME - 1 - 5 * ActivityLog.TIME_BUCKET_LENGTH_MILLIS,
+                BASE_TIME + 5 * ActivityLog.TIME_BUCKET_LENGTH_MILLIS);
+        verifyLogIds(activityLogsDb.getActivityLogs(query),
+                "ALDbT.log4", "ALDbT.log2", "ALDbT.log1", "ALDbT.log0");
+
+        ______TS("testing data included");
+
+        query.setTimePeriod(BASE_TIME, BASE_TIME + 30);
+        query.setTestingDataIncluded(true);
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log4", "ALDbT.log3", "ALDbT.log2", "ALDbT.log1");
+
+        ______TS("terms of a group are matched case-insensitively, any of them");
+
+        query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME, BASE_TIME + 30);
+        query.addTerms(ActivityLogQuery.LABEL_REQUEST, "STUDENTHOMEPAGE", "instructorhomepage");
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log2", "ALDbT.log1");
+
+        ______TS("all term groups are matched");
+
+        query.addTerms(ActivityLogQuery.LABEL_ROLE, "student");
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log1");
+
+        ______TS("groups of several terms are matched together with a group of a single term");
+
+        query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME, BASE_TIME + 30);
+        query.addTerms(ActivityLogQuery.LABEL_REQUEST, "studentHomePage", "studentProfilePage", "instructorHomePage");
+        query.addTerms(ActivityLogQuery.LABEL_ROLE, "Student", "Admin");
+        query.addTerms(ActivityLogQuery.LABEL_RESPONSE, "studentProfilePage");
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log4");
+
+        ______TS("logs of other versions are not returned");
+
+        query = new ActivityLogQuery(Arrays.asList("2"), BASE_TIME, BASE_TIME + 30);
+        verifyLogIds(activityLogsDb.getActivityLogs(query));
+
+        ______TS("too many terms to be filtered by the index");
+
+        List<String> versions = new ArrayList<>();
+        for (int i = 1; i <= 31; i++) {
+            versions.add(String.valueOf(i));
+        }
+        query = new ActivityLogQuery(versions, BASE_TIME, BASE_TIME + 30);
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log4", "ALDbT.log2", "ALDbT.log1");
+
+        query.addTerms(ActivityLogQuery.LABEL_ROLE, "Instructor", "Admin");
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log2");
+
+        ______TS("logs of earlier time buckets deleted");
+
+        assertNull(activityLogsDb.deleteActivityLogsBefore(Instant.ofEpochMilli(BASE_TIME + 30), null));
+        query = new ActivityLogQuery(Arrays.asList("1"), BASE_TIME - 1, BASE_TIME + 30);
+        verifyLogIds(activityLogsDb.getActivityLogs(query), "ALDbT.log4", "ALDbT.log2", "ALDbT.log1");
+    }
+
+    private ActivityLogAttributes createLog(String logId, long logTime, String actionName, String userRole,
+            String googleId, String email) {
+        ActivityLogEntry logEntry = new ActivityLogEntry.Builder(actionName, "/page/" + actionName, logTime)
+                .withLogId(logId)
+                .withUserRole(userRole)
+                .withUserGoogleId(googleId)
+                .withUserEmail(email)
+                .withUserName("Name of " + googleId)
+                .build();
+        return ActivityLogAttributes.builder(logEntry).withVersion("1").build();
+    }
+
+    private void verifyLogIds(List<ActivityLogAttributes> actualLogs, String... expectedLogIds) {
+        assertEquals(expectedLogIds.length, actualLogs.size());
+        for (int i = 0; i < expectedLogIds.length; i++) {
+            assertEquals(expectedLogIds[i], actualLogs.get(i).getLogEntry().getLogId());
+        }
+    }
+}
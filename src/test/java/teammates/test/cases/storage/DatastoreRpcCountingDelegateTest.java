@@ -0,0 +1,63 @@
+package teammates.test.cases.storage;
+
+import org.testng.annotations.Test;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.DatastoreRpcCountingDelegate;
+import teammates.test.cases.BaseComponentTestCase;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SUT: {@link DatastoreRpcCountingDelegate}.
+ */
+public class DatastoreRpcCountingDelegateTest extends BaseComponentTestCase {
+
+    private CoursesDb coursesDb = new CoursesDb();
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testCountRpcs() throws Exception {
+        ______TS("lookup of several keys, none of which exist");
+
+        DatastoreOperationCounter.reset();
+        coursesDb.getCourses(Arrays.asList("DRCDT.nonExistentCourse1", "DRCDT.nonExistentCourse2"));
+
+        assertEquals(1, DatastoreOperationCounter.getOperationCount(Operation.GET));
+        assertEquals(2, DatastoreOperationCounter.getEntityCount(Operation.GET));
+
+        ______TS("save without existence check");
+
+        CourseAttributes course = CourseAttributes
+                .builder("DRCDT.course", "Counting Course", ZoneId.of("UTC"))
+                .build();
+        DatastoreOperationCounter.reset();
+        coursesDb.createEntityWithoutExistenceCheck(course);
+
+        assertEquals(0, DatastoreOperationCounter.getReads());
+        assertEquals(1, DatastoreOperationCounter.getOperationCount(Operation.PUT));
+        assertEquals(1, DatastoreOperationCounter.getEntityCount(Operation.PUT));
+
+        ______TS("query, counting every batch of results");
+
+        DatastoreOperationCounter.reset();
+        List<CourseAttributes> courses = coursesDb.getAllCourses();
+
+        assertTrue(DatastoreOperationCounter.getOperationCount(Operation.QUERY) >= 1);
+        assertEquals(courses.size(), DatastoreOperationCounter.getEntityCount(Operation.QUERY));
+
+        ______TS("delete, counting the keys-only query made to find the key");
+
+        DatastoreOperationCounter.reset();
+        coursesDb.deleteCourse(course.getId());
+
+        assertEquals(1, DatastoreOperationCounter.getOperationCount(Operation.QUERY));
+        assertEquals(1, DatastoreOperationCounter.getOperationCount(Operation.DELETE));
+        assertEquals(1, DatastoreOperationCounter.getEntityCount(Operation.DELETE));
+    }
+
+}
@@ -17,7 +17,9 @@ import teammates.test.driver.AssertHelper;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * SUT: {@link FeedbackResponseCommentsDb}.
@@ -59,6 +61,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackResponseCommentForResponse();
 
+        testGetFeedbackResponseCommentsBySection();
+
         testUpdateFeedbackResponseComment();
 
         testGetFeedbackResponseCommentsForSession();
@@ -207,6 +211,77 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         verifyListsContainSameResponseCommentAttributes(new ArrayList<>(frcasExpected), frcas);
     }
 
+    private void testGetFeedbackResponseCommentsBySection() throws Exception {
+        FeedbackResponseCommentAttributes frcaInSections =
+                FeedbackResponseCommentAttributes.builder(frcaData.courseId, frcaData.feedbackSessionName,
+                        frcaData.giverEmail, new Text("comment across sections"))
+                .withFeedbackResponseId(anotherFrcaData.feedbackResponseId)
+                .withFeedbackQuestionId(anotherFrcaData.feedbackQuestionId)
+                .withCreatedAt(Instant.now())
+                .withGiverSection("Section A")
+                .withReceiverSection("Section B")
+                .build();
+        frcDb.createEntity(frcaInSections);
+        frcaInSections = frcDb.getFeedbackResponseComment(frcaInSections.feedbackResponseId,
+                frcaInSections.giverEmail, frcaInSections.createdAt);
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.getFeedbackResponseCommentsForSessionFromSection(frcaData.courseId, frcaData.feedbackSessionName, null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        try {
+            frcDb.getFeedbackResponseCommentsForQuestionInSection(null, Const.DEFAULT_SECTION);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        ______TS("typical success case: comments from section");
+
+        assertEquals(getIds(frcaInSections), getIds(frcDb.getFeedbackResponseCommentsForSessionFromSection(
+                frcaData.courseId, frcaData.feedbackSessionName, "Section A")));
+        assertEquals(getIds(frcaData, anotherFrcaData), getIds(frcDb.getFeedbackResponseCommentsForSessionFromSection(
+                frcaData.courseId, frcaData.feedbackSessionName, Const.DEFAULT_SECTION)));
+        assertTrue(frcDb.getFeedbackResponseCommentsForSessionFromSection(
+                frcaData.courseId, frcaData.feedbackSessionName, "Section B").isEmpty());
+
+        ______TS("typical success case: comments to section");
+
+        assertEquals(getIds(frcaInSections), getIds(frcDb.getFeedbackResponseCommentsForSessionToSection(
+                frcaData.courseId, frcaData.feedbackSessionName, "Section B")));
+        assertTrue(frcDb.getFeedbackResponseCommentsForSessionToSection(
+                frcaData.courseId, frcaData.feedbackSessionName, "Section A").isEmpty());
+
+        ______TS("typical success case: comments for question");
+
+        assertEquals(getIds(anotherFrcaData, frcaInSections),
+                getIds(frcDb.getFeedbackResponseCommentsForQuestion(anotherFrcaData.feedbackQuestionId)));
+        assertEquals(getIds(frcaInSections), getIds(frcDb.getFeedbackResponseCommentsForQuestionInSection(
+                anotherFrcaData.feedbackQuestionId, "Section A")));
+        assertEquals(getIds(frcaInSections), getIds(frcDb.getFeedbackResponseCommentsForQuestionInSection(
+                anotherFrcaData.feedbackQuestionId, "Section B")));
+        assertEquals(getIds(anotherFrcaData), getIds(frcDb.getFeedbackResponseCommentsForQuestionInSection(
+                anotherFrcaData.feedbackQuestionId, Const.DEFAULT_SECTION)));
+
+        frcDb.deleteEntity(frcaInSections);
+    }
+
+    private List<Long> getIds(FeedbackResponseCommentAttributes... frcas) {
+        return getIds(Arrays.asList(frcas));
+    }
+
+    private List<Long> getIds(List<FeedbackResponseCommentAttributes> frcas) {
+        return frcas.stream()
+                .map(FeedbackResponseCommentAttributes::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
     private void testUpdateFeedbackResponseComment() throws Exception {
 
         ______TS("null parameter");
@@ -4,6 +4,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -11,13 +12,18 @@ import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.InvalidPostParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.FeedbackResponsesDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -207,6 +213,24 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         actual = frDb.getFeedbackResponse("non-existent id");
 
         assertNull(actual);
+
+        ______TS("get by ids");
+
+        FeedbackResponseAttributes other = getResponseAttributes("response2ForQ1S1C1");
+        String otherId = frDb.getFeedbackResponse(other.feedbackQuestionId, other.giver, other.recipient).getId();
+        String expectedId = frDb.getFeedbackResponse(expected.feedbackQuestionId, expected.giver, expected.recipient)
+                .getId();
+
+        Map<String, FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponses(Arrays.asList(expectedId, otherId, "non-existent id"));
+
+        assertEquals(2, responses.size());
+        assertEquals(expected.toString(), responses.get(expectedId).toString());
+        assertEquals(other.toString(), responses.get(otherId).toString());
+
+        ______TS("get by empty ids");
+
+        assertTrue(frDb.getFeedbackResponses(new ArrayList<String>()).isEmpty());
     }
 
     @Test
@@ -270,6 +294,95 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertTrue(frDb.getFeedbackResponsesForQuestionInSection("non-existent fq id", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionFromAndToSectionPage() {
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        ______TS("from section: the responses of a giver are in exactly one page");
+
+        List<List<FeedbackResponseAttributes>> pages =
+                getAllPagesOfResponsesForSessionInSection(feedbackSessionName, courseId, "Section 1", true, 1);
+        assertTrue(pages.size() > 1);
+
+        List<FeedbackResponseAttributes> pagedResponses = new ArrayList<>();
+        Set<String> giversOfEarlierPages = new HashSet<>();
+        for (List<FeedbackResponseAttributes> page : pages) {
+            Set<String> giversOfPage = new HashSet<>();
+            for (FeedbackResponseAttributes response : page) {
+                giversOfPage.add(response.giver);
+            }
+            assertEquals(1, giversOfPage.size());
+            assertTrue(Collections.disjoint(giversOfEarlierPages, giversOfPage));
+            giversOfEarlierPages.addAll(giversOfPage);
+            pagedResponses.addAll(page);
+        }
+
+        assertEquals(getResponseIds(frDb.getFeedbackResponsesForSessionFromSection(
+                feedbackSessionName, courseId, "Section 1")), getResponseIds(pagedResponses));
+        assertEquals(pagedResponses.size(), getResponseIds(pagedResponses).size());
+
+        ______TS("to section: a large page holds all the responses");
+
+        pages = getAllPagesOfResponsesForSessionInSection(feedbackSessionName, courseId, "Section 1", false, 1000);
+
+        assertEquals(1, pages.size());
+        assertEquals(getResponseIds(frDb.getFeedbackResponsesForSessionToSection(
+                feedbackSessionName, courseId, "Section 1")), getResponseIds(pages.get(0)));
+
+        ______TS("no responses in section");
+
+        FeedbackResponsesPage page = frDb.getFeedbackResponsesForSessionFromSectionPage(
+                feedbackSessionName, courseId, "Section 3", null, 1);
+
+        assertTrue(page.getResponses().isEmpty());
+        assertNull(page.getNextPageToken());
+
+        ______TS("malformed page token");
+
+        try {
+            frDb.getFeedbackResponsesForSessionFromSectionPage(
+                    feedbackSessionName, courseId, "Section 1", "____", 1);
+            signalFailureToDetectException();
+        } catch (InvalidPostParametersException e) {
+            AssertHelper.assertContains("Invalid page token", e.getMessage());
+        }
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesForSessionToSectionPage(null, courseId, "Section 1", null, 1);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+    }
+
+    private List<List<FeedbackResponseAttributes>> getAllPagesOfResponsesForSessionInSection(
+            String feedbackSessionName, String courseId, String section, boolean isFromSection, int pageSize) {
+        List<List<FeedbackResponseAttributes>> pages = new ArrayList<>();
+        String pageToken = null;
+        do {
+            FeedbackResponsesPage page = isFromSection
+                    ? frDb.getFeedbackResponsesForSessionFromSectionPage(
+                            feedbackSessionName, courseId, section, pageToken, pageSize)
+                    : frDb.getFeedbackResponsesForSessionToSectionPage(
+                            feedbackSessionName, courseId, section, pageToken, pageSize);
+            pages.add(page.getResponses());
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        return pages;
+    }
+
+    private Set<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseIds.add(response.getId());
+        }
+        return responseIds;
+    }
+
     @Test
     public void testGetFeedbackResponsesForSession() {
 
@@ -277,6 +277,113 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testGetAllOpenFeedbackSessions() throws Exception {
+        FeedbackSessionAttributes firstSession = getNewFeedbackSession("fsTimeBucketTest1",
+                Instant.parse("2090-01-01T10:30:00Z"), Instant.parse("2090-01-02T10:30:00Z"));
+        FeedbackSessionAttributes secondSession = getNewFeedbackSession("fsTimeBucketTest2",
+                Instant.parse("2090-01-05T00:00:00Z"), Instant.parse("2090-01-06T00:00:00Z"));
+        fsDb.createEntity(firstSession);
+        fsDb.createEntity(secondSession);
+
+        ______TS("start time within range");
+
+        List<FeedbackSessionAttributes> sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-01T10:00:00Z"), Instant.parse("2090-01-01T11:00:00Z"));
+        assertEquals(1, sessions.size());
+        assertEquals(firstSession.getFeedbackSessionName(), sessions.get(0).getFeedbackSessionName());
+
+        ______TS("same time bucket as the start time, but after it");
+
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-01T10:45:00Z"), Instant.parse("2090-01-01T11:00:00Z"));
+        assertTrue(sessions.isEmpty());
+
+        ______TS("end time of one session and start time of another within range");
+
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-02T00:00:00Z"), Instant.parse("2090-01-05T12:00:00Z"));
+        assertEquals(2, sessions.size());
+
+        ______TS("start and end times of both sessions within range, each session returned once");
+
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-01T00:00:00Z"), Instant.parse("2090-01-07T00:00:00Z"));
+        assertEquals(2, sessions.size());
+
+        ______TS("session spanning the whole range is not returned");
+
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-01T12:00:00Z"), Instant.parse("2090-01-02T00:00:00Z"));
+        assertTrue(sessions.isEmpty());
+
+        ______TS("time buckets follow the updated times");
+
+        firstSession.setStartTime(Instant.parse("2090-01-03T10:30:00Z"));
+        firstSession.setEndTime(Instant.parse("2090-01-04T10:30:00Z"));
+        firstSession.setResultsVisibleFromTime(firstSession.getEndTime());
+        fsDb.updateFeedbackSession(firstSession);
+
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-01T00:00:00Z"), Instant.parse("2090-01-02T12:00:00Z"));
+        assertTrue(sessions.isEmpty());
+        sessions = fsDb.getAllOpenFeedbackSessions(
+                Instant.parse("2090-01-03T00:00:00Z"), Instant.parse("2090-01-03T12:00:00Z"));
+        assertEquals(1, sessions.size());
+
+        fsDb.deleteEntity(firstSession);
+        fsDb.deleteEntity(secondSession);
+    }
+
+    @Test
+    public void testUpdateInstitute() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession("fsInstituteTest",
+                Instant.parse("2090-01-01T10:30:00Z"), Instant.parse("2090-01-02T10:30:00Z"));
+        fsDb.createEntity(session);
+
+        ______TS("typical case");
+
+        assertNull(fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName()).getInstitute());
+        fsDb.updateInstitute(session, "Test Institute");
+        FeedbackSessionAttributes updatedSession =
+                fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertEquals("Test Institute", updatedSession.getInstitute());
+        assertEquals(session.getInstructions(), updatedSession.getInstructions());
+
+        ______TS("non-existent session");
+
+        FeedbackSessionAttributes nonExistentSession = getNewFeedbackSession("fsInstituteTestNonExistent",
+                Instant.parse("2090-01-01T10:30:00Z"), Instant.parse("2090-01-02T10:30:00Z"));
+        try {
+            fsDb.updateInstitute(nonExistentSession, "Test Institute");
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, e.getLocalizedMessage());
+        }
+
+        ______TS("null parameter");
+
+        try {
+            fsDb.updateInstitute(null, "Test Institute");
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        fsDb.deleteEntity(session);
+    }
+
+    private FeedbackSessionAttributes getNewFeedbackSession(String feedbackSessionName, Instant startTime, Instant endTime) {
+        return FeedbackSessionAttributes.builder(feedbackSessionName, "testCourse", "valid@email.com")
+                .withCreatedTime(Instant.now())
+                .withStartTime(startTime)
+                .withEndTime(endTime)
+                .withSessionVisibleFromTime(startTime)
+                .withResultsVisibleFromTime(endTime)
+                .withInstructions(new Text("Give feedback."))
+                .build();
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
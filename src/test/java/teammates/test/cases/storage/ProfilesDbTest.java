@@ -147,6 +147,7 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         // success test cases
         testUpdateProfilePictureSuccessInitiallyEmpty(a);
         testUpdateProfilePictureSuccessSamePictureKey(a);
+        testUpdateProfilePictureSuccessWithThumbnail(a);
     }
 
     private void testUpdateProfilePictureWithNullParameters()
@@ -221,6 +222,37 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
     }
 
+    private void testUpdateProfilePictureSuccessWithThumbnail(AccountAttributes a)
+            throws IOException, EntityDoesNotExistException {
+        ______TS("update picture key with thumbnail - old picture is deleted");
+
+        String oldPictureKey = a.studentProfile.pictureKey;
+        a.studentProfile.pictureKey = uploadDefaultPictureForProfile(a.googleId);
+        a.studentProfile.thumbnailKey = uploadDefaultPictureForProfile(a.googleId);
+        profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey, a.studentProfile.thumbnailKey);
+
+        StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+
+        assertEquals(a.studentProfile.pictureKey, updatedProfile.pictureKey);
+        assertEquals(a.studentProfile.thumbnailKey, updatedProfile.thumbnailKey);
+        assertFalse(doesFileExistInGcs(new BlobKey(oldPictureKey)));
+
+        ______TS("update picture key without thumbnail - old picture and thumbnail are deleted");
+
+        String oldThumbnailKey = a.studentProfile.thumbnailKey;
+        oldPictureKey = a.studentProfile.pictureKey;
+        a.studentProfile.pictureKey = uploadDefaultPictureForProfile(a.googleId);
+        profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
+
+        updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+
+        assertEquals(a.studentProfile.pictureKey, updatedProfile.pictureKey);
+        assertEquals("", updatedProfile.thumbnailKey);
+        assertEquals(a.studentProfile.pictureKey, updatedProfile.getThumbnailKeyOrPictureKey());
+        assertFalse(doesFileExistInGcs(new BlobKey(oldPictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(oldThumbnailKey)));
+    }
+
     @Test
     public void testDeleteProfilePicture() throws Exception {
         AccountAttributes a = createNewAccount();
@@ -12,6 +12,10 @@ import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
@@ -136,6 +140,15 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
         assertNull(studentsDb.getStudentForRegistrationKey(StringHelper.encrypt("notExistingKey")));
 
+        ______TS("typical success case for getRegistrationKeysOfExistingStudents");
+
+        StudentAttributes nonExistentStudent = StudentAttributes
+                .builder("valid-course", "non-existent student", "non-existent@email.com")
+                .build();
+        assertEquals(Collections.singleton(retrieved.key),
+                     studentsDb.getRegistrationKeysOfExistingStudents(Arrays.asList(retrieved, nonExistentStudent)));
+        assertTrue(studentsDb.getRegistrationKeysOfExistingStudents(new ArrayList<StudentAttributes>()).isEmpty());
+
         ______TS("non existant student case");
 
         retrieved = studentsDb.getStudentForEmail("any-course-id", "non-existent@email.com");
@@ -0,0 +1,53 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+import teammates.common.util.DatastoreOperationCounter;
+import teammates.common.util.DatastoreOperationCounter.Operation;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link DatastoreOperationCounter}.
+ */
+public class DatastoreOperationCounterTest extends BaseTestCase {
+
+    @Test
+    public void testCount() {
+        DatastoreOperationCounter.reset();
+
+        ______TS("no operations made");
+
+        assertEquals(0, DatastoreOperationCounter.getOperationCount(Operation.GET));
+        assertEquals(0, DatastoreOperationCounter.getReads());
+        assertEquals(0, DatastoreOperationCounter.getWrites());
+        assertEquals("{}", DatastoreOperationCounter.toCompactJson());
+
+        ______TS("operations of several kinds");
+
+        DatastoreOperationCounter.count(Operation.GET, 1, 2_000_000);
+        DatastoreOperationCounter.count(Operation.GET, 0, 1_000_000);
+        DatastoreOperationCounter.count(Operation.QUERY, 5, 0);
+        DatastoreOperationCounter.count(Operation.PUT, 3, 0);
+        DatastoreOperationCounter.count(Operation.DELETE, 1, 0);
+        DatastoreOperationCounter.count(Operation.SEARCH_QUERY, 10, 0);
+
+        assertEquals(2, DatastoreOperationCounter.getOperationCount(Operation.GET));
+        assertEquals(1, DatastoreOperationCounter.getEntityCount(Operation.GET));
+        assertEquals(3, DatastoreOperationCounter.getElapsedMillis(Operation.GET));
+        assertEquals(1, DatastoreOperationCounter.getOperationCount(Operation.QUERY));
+        assertEquals(6, DatastoreOperationCounter.getReads());
+        assertEquals(4, DatastoreOperationCounter.getWrites());
+        assertEquals("{\"GET\":{\"operations\":2,\"entities\":1,\"elapsedMillis\":3},"
+                + "\"QUERY\":{\"operations\":1,\"entities\":5,\"elapsedMillis\":0},"
+                + "\"PUT\":{\"operations\":1,\"entities\":3,\"elapsedMillis\":0},"
+                + "\"DELETE\":{\"operations\":1,\"entities\":1,\"elapsedMillis\":0},"
+                + "\"SEARCH_QUERY\":{\"operations\":1,\"entities\":10,\"elapsedMillis\":0}}",
+                DatastoreOperationCounter.toCompactJson());
+
+        ______TS("counts are reset");
+
+        DatastoreOperationCounter.reset();
+        assertEquals(0, DatastoreOperationCounter.getOperationCount(Operation.GET));
+        assertEquals(0, DatastoreOperationCounter.getReads());
+    }
+
+}
@@ -0,0 +1,39 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+import teammates.common.util.HttpRequestHelper;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link HttpRequestHelper}.
+ */
+public class HttpRequestHelperTest extends BaseTestCase {
+
+    @Test
+    public void testIsETagMatched() {
+        String eTag = "\"blobKey1\"";
+
+        ______TS("no If-None-Match header");
+
+        assertFalse(HttpRequestHelper.isETagMatched(null, eTag));
+
+        ______TS("same entity tag");
+
+        assertTrue(HttpRequestHelper.isETagMatched("\"blobKey1\"", eTag));
+        assertTrue(HttpRequestHelper.isETagMatched("W/\"blobKey1\"", eTag));
+
+        ______TS("entity tag in a list");
+
+        assertTrue(HttpRequestHelper.isETagMatched("\"blobKey0\", \"blobKey1\"", eTag));
+
+        ______TS("wildcard");
+
+        assertTrue(HttpRequestHelper.isETagMatched("*", eTag));
+
+        ______TS("different entity tag");
+
+        assertFalse(HttpRequestHelper.isETagMatched("\"blobKey2\"", eTag));
+        assertFalse(HttpRequestHelper.isETagMatched("blobKey1", eTag));
+    }
+
+}
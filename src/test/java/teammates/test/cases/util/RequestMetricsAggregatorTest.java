@@ -0,0 +1,76 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetricsAggregator;
+import teammates.common.util.RequestMetricsAggregator.Summary;
+import teammates.test.cases.BaseTestCase;
+
+import java.util.List;
+
+/**
+ * SUT: {@link RequestMetricsAggregator}.
+ */
+public class RequestMetricsAggregatorTest extends BaseTestCase {
+
+    @Test
+    public void testFlush() {
+        RequestMetricsAggregator aggregator = new RequestMetricsAggregator(Long.MAX_VALUE);
+
+        ______TS("no requests recorded");
+
+        assertTrue(aggregator.flush().isEmpty());
+
+        ______TS("requests of several actions");
+
+        for (int latency = 1; latency <= 100; latency++) {
+            aggregator.record(new RequestMetrics("instructorHomePage", "Instructor", latency, 10, 2, 1000,
+                    RequestMetrics.STATUS_OK));
+        }
+        aggregator.record(new RequestMetrics("adminHomePage", "Admin", 30, 4, 0, 200, RequestMetrics.STATUS_OK));
+        aggregator.record(new RequestMetrics("adminHomePage", "Admin", 10, 2, 1, 100, "EntityNotFoundException"));
+
+        List<Summary> summaries = aggregator.flush();
+        assertEquals(2, summaries.size());
+
+        Summary adminSummary = summaries.get(0);
+        assertEquals("adminHomePage", adminSummary.getActionName());
+        assertEquals(2, adminSummary.getCount());
+        assertEquals(1, adminSummary.getFailureCount());
+        assertEquals(10, adminSummary.getLatencyP50());
+        assertEquals(30, adminSummary.getLatencyP90());
+        assertEquals(30, adminSummary.getLatencyMax());
+        assertEquals(3, adminSummary.getAverageDatastoreReads());
+        assertEquals(0, adminSummary.getAverageDatastoreWrites());
+        assertEquals(150, adminSummary.getAverageResponseSize());
+
+        Summary instructorSummary = summaries.get(1);
+        assertEquals("instructorHomePage", instructorSummary.getActionName());
+        assertEquals(100, instructorSummary.getCount());
+        assertEquals(0, instructorSummary.getFailureCount());
+        assertEquals(50, instructorSummary.getLatencyP50());
+        assertEquals(90, instructorSummary.getLatencyP90());
+        assertEquals(99, instructorSummary.getLatencyP99());
+        assertEquals(100, instructorSummary.getLatencyMax());
+        assertEquals(10, instructorSummary.getAverageDatastoreReads());
+        assertEquals(2, instructorSummary.getAverageDatastoreWrites());
+        assertEquals(1000, instructorSummary.getAverageResponseSize());
+
+        ______TS("aggregates are reset after a flush");
+
+        assertTrue(aggregator.flush().isEmpty());
+    }
+
+    @Test
+    public void testToCompactJson() {
+        RequestMetrics metrics = new RequestMetrics("studentHomePage", "Student", 25, 3, 1, 512, RequestMetrics.STATUS_OK);
+        String json = metrics.toCompactJson();
+
+        assertFalse(json.contains("\n"));
+        assertTrue(json.contains("\"actionName\":\"studentHomePage\""));
+        assertTrue(json.contains("\"latencyMillis\":25"));
+        assertTrue(json.contains("\"responseSize\":512"));
+        assertTrue(json.contains("\"status\":\"OK\""));
+    }
+
+}
@@ -10,6 +10,7 @@ import com.meterware.servletunit.ServletUnitClient;
 import teammates.common.util.Const;
 import teammates.common.util.CryptoHelper;
 import teammates.logic.api.GateKeeper;
+import teammates.storage.api.DatastoreRpcCountingDelegate;
 import teammates.ui.automated.AutomatedAction;
 import teammates.ui.automated.AutomatedActionFactory;
 import teammates.ui.controller.Action;
@@ -75,6 +76,7 @@ public class GaeSimulation {
 
         helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
         helper.setUp();
+        DatastoreRpcCountingDelegate.install();
 
         sc = new ServletRunner().newClient();
         localLogService = LocalLogServiceTestConfig.getLocalLogService();
@@ -33,6 +33,14 @@ public class MockTaskQueuer extends TaskQueuer {
         addTask(queueName, workerUrl, paramMap);
     }
 
+    @Override
+    protected void addNamedTask(String queueName, String workerUrl, String taskName, Map<String, String> paramMap) {
+        Map<String, String[]> multisetParamMap = new HashMap<>();
+        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap, taskName);
+        tasksAdded.add(task);
+    }
+
     @Override
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);